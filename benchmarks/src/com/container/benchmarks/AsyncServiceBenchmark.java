@@ -0,0 +1,131 @@
+package com.container.benchmarks;
+
+import com.container.AsyncContainerService;
+import com.container.ObjectContainer;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Нагрузка от многих клиентов: каждый поток выдает пачку из inFlight
+ * запросов (contains и, с долей writePercent, добавление в конец) и ждет их.
+ * Сравнивается ObjectContainer под общей блокировкой с AsyncContainerService,
+ * который объединяет запросы клиентов в пакеты.
+ * <p>
+ * Средний размер пакета и 99-й перцентиль ожидания в очереди печатаются
+ * после каждой итерации.
+ *
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(16)
+@Fork(1)
+public class AsyncServiceBenchmark {
+
+    /**
+     * Начальное количество элементов
+     */
+    @Param({"1000", "100000"})
+    public int size;
+
+    /**
+     * Количество одновременно ожидаемых запросов одного клиента
+     */
+    @Param({"1", "32"})
+    public int inFlight;
+
+    /**
+     * Доля добавлений в процентах
+     */
+    @Param({"20"})
+    public int writePercent;
+
+    private ObjectContainer<Integer> locked;
+
+    private AsyncContainerService<Integer> service;
+
+    /**
+     * Создает контейнеры и сервис перед каждой итерацией, чтобы размер
+     * не рос от итерации к итерации.
+     */
+    @Setup(Level.Iteration)
+    public void setUp() {
+        locked = new ObjectContainer<>(size);
+        ObjectContainer<Integer> owned = new ObjectContainer<>(size);
+        for (int i = 0; i < size; i++) {
+            locked.add(i);
+            owned.add(i);
+        }
+        service = new AsyncContainerService<>(owned);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        service.close();
+        System.out.printf("%nсредний пакет: %.1f, ожидание p99: %d мкс%n",
+            service.getAverageBatchSize(), service.queueLatencies().percentile(99));
+    }
+
+    /**
+     * Генератор запросов, свой у каждого клиента.
+     */
+    @State(Scope.Thread)
+    public static class Client {
+        final SplittableRandom random = new SplittableRandom();
+        final CompletableFuture<?>[] pending = new CompletableFuture<?>[64];
+    }
+
+    @Benchmark
+    public int lockedContainer(Client client) {
+        int found = 0;
+        for (int i = 0; i < inFlight; i++) {
+            int key = client.random.nextInt(size * 2);
+            synchronized (locked) {
+                if (client.random.nextInt(100) < writePercent) {
+                    locked.add(key);
+                } else if (locked.contains(key)) {
+                    found++;
+                }
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int batchingService(Client client) {
+        CompletableFuture<?>[] pending = client.pending;
+        for (int i = 0; i < inFlight; i++) {
+            int key = client.random.nextInt(size * 2);
+            pending[i] = client.random.nextInt(100) < writePercent
+                ? service.add(key)
+                : service.contains(key);
+        }
+        int found = 0;
+        for (int i = 0; i < inFlight; i++) {
+            if (Boolean.TRUE.equals(pending[i].join())) {
+                found++;
+            }
+            pending[i] = null;
+        }
+        return found;
+    }
+}
@@ -0,0 +1,88 @@
+package com.container.benchmarks;
+
+import com.container.ObjectContainer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Удаление k разбросанных элементов: последовательные remove(int)
+ * (O(k·n) сдвигов) против пакета изменений с одним уплотнением.
+ *
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(1)
+public class BatchRemoveBenchmark {
+
+    /**
+     * Количество элементов в контейнере
+     */
+    @Param({"100000"})
+    public int size;
+
+    /**
+     * Доля удаляемых элементов в процентах
+     */
+    @Param({"1", "10", "50"})
+    public int percent;
+
+    private ObjectContainer<Object> container;
+
+    /**
+     * Отметки удаляемых позиций
+     */
+    private boolean[] stale;
+
+    /**
+     * Заполняет контейнер и выбирает удаляемые позиции перед каждым замером.
+     */
+    @Setup(Level.Invocation)
+    public void fill() {
+        Random random = new Random(17);
+        container = new ObjectContainer<>(size);
+        stale = new boolean[size];
+        for (int i = 0; i < size; i++) {
+            container.add(i);
+            stale[i] = random.nextInt(100) < percent;
+        }
+    }
+
+    @Benchmark
+    public int removeOneByOne() {
+        for (int i = size - 1; i >= 0; i--) {
+            if (stale[i]) {
+                container.remove(i);
+            }
+        }
+        return container.size();
+    }
+
+    @Benchmark
+    public int removeBatch() {
+        ObjectContainer<Object>.Batch batch = container.batch();
+        for (int i = 0; i < size; i++) {
+            if (stale[i]) {
+                batch.remove(i);
+            }
+        }
+        batch.apply();
+        return container.size();
+    }
+}
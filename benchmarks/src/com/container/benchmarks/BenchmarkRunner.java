@@ -0,0 +1,42 @@
+package com.container.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Точка входа для запуска бенчмарков.
+ * Принимает стандартные аргументы командной строки JMH, всегда подключает
+ * профилировщик GC и сохраняет результаты (включая скорость аллокаций
+ * gc.alloc.rate.norm) в JSON, чтобы их можно было сравнивать между релизами.
+ *
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+public class BenchmarkRunner {
+
+    /**
+     * Путь к файлу результатов по умолчанию
+     */
+    private static final String DEFAULT_RESULT_FILE = "target/jmh-result.json";
+
+    /**
+     * Запускает бенчмарки.
+     * Путь к JSON-файлу можно переопределить системным свойством jmh.result.
+     *
+     * @param args аргументы командной строки JMH (например, регулярное выражение для отбора бенчмарков)
+     * @throws Exception если JMH не удалось разобрать аргументы или выполнить запуск
+     */
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+            .parent(new CommandLineOptions(args))
+            .addProfiler(GCProfiler.class)
+            .resultFormat(ResultFormatType.JSON)
+            .result(System.getProperty("jmh.result", DEFAULT_RESULT_FILE))
+            .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,126 @@
+package com.container.benchmarks;
+
+import com.container.ObjectContainer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Бенчмарки массовых операций ObjectContainer (addAll, insertAll, removeRange)
+ * в сравнении с эквивалентными циклами из одиночных add и remove.
+ * Каждая пара вставка/удаление возвращает контейнер к исходному размеру.
+ *
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BulkOperationsBenchmark {
+
+    /**
+     * Количество элементов в контейнере перед каждым замером
+     */
+    @Param({"10", "10000", "1000000"})
+    public int size;
+
+    /**
+     * Количество элементов, вставляемых или удаляемых за одну операцию
+     * (ограничивается размером контейнера)
+     */
+    @Param({"100"})
+    public int batch;
+
+    private Integer[] values;
+    private Object[] chunk;
+    private ObjectContainer<Object> container;
+
+    /**
+     * Заранее создает упакованные значения, чтобы упаковка не попадала в замер.
+     */
+    @Setup(Level.Trial)
+    public void createValues() {
+        values = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = i;
+        }
+        chunk = new Object[Math.min(batch, size)];
+        for (int i = 0; i < chunk.length; i++) {
+            chunk[i] = -i;
+        }
+    }
+
+    /**
+     * Заполняет контейнер исходными элементами.
+     */
+    @Setup(Level.Iteration)
+    public void fill() {
+        container = new ObjectContainer<>();
+        container.addAll(values);
+    }
+
+    @Benchmark
+    public Object addAllBulk() {
+        ObjectContainer<Object> result = new ObjectContainer<>();
+        result.addAll(values);
+        return result;
+    }
+
+    @Benchmark
+    public Object addAllLoop() {
+        ObjectContainer<Object> result = new ObjectContainer<>();
+        for (Integer value : values) {
+            result.add(value);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Object insertHeadBulk() {
+        container.insertAll(0, chunk);
+        container.removeRange(container.size() - chunk.length, container.size());
+        return container;
+    }
+
+    @Benchmark
+    public Object insertHeadLoop() {
+        for (int i = chunk.length - 1; i >= 0; i--) {
+            container.add(0, chunk[i]);
+        }
+        for (int i = 0; i < chunk.length; i++) {
+            container.remove(container.size() - 1);
+        }
+        return container;
+    }
+
+    @Benchmark
+    public Object removeHeadBulk() {
+        container.removeRange(0, chunk.length);
+        container.addAll(chunk);
+        return container;
+    }
+
+    @Benchmark
+    public Object removeHeadLoop() {
+        for (int i = 0; i < chunk.length; i++) {
+            container.remove(0);
+        }
+        for (int i = 0; i < chunk.length; i++) {
+            container.add(chunk[i]);
+        }
+        return container;
+    }
+}
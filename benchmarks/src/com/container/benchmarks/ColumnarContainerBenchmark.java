@@ -0,0 +1,117 @@
+package com.container.benchmarks;
+
+import com.container.ColumnarContainer;
+import com.container.ObjectContainer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Сравнение ObjectContainer и ColumnarContainer на записях как в Main:
+ * имя (String), возраст (Integer), группа (String), оценка (Double).
+ * Объем памяти на запись удобно сравнивать по gc.alloc.rate.norm
+ * методов fill* с профилем GC (-prof gc).
+ *
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ColumnarContainerBenchmark {
+
+    /**
+     * Количество записей по четыре элемента
+     */
+    @Param({"100000"})
+    public int records;
+
+    private ObjectContainer<Object> objects;
+
+    private ColumnarContainer columns;
+
+    private String[] names;
+
+    /**
+     * Заполняет оба контейнера одинаковыми записями.
+     */
+    @Setup
+    public void setUp() {
+        names = new String[records];
+        for (int i = 0; i < records; i++) {
+            names[i] = "Студент " + i;
+        }
+        objects = fillObjects();
+        columns = fillColumns();
+    }
+
+    @Benchmark
+    public ObjectContainer<Object> fillObjects() {
+        ObjectContainer<Object> container = new ObjectContainer<>();
+        for (int i = 0; i < records; i++) {
+            container.add(names[i]);
+            container.add(18 + i % 10);
+            container.add("Группа " + i % 8);
+            container.add(2.0 + i % 31 / 10.0);
+        }
+        return container;
+    }
+
+    @Benchmark
+    public ColumnarContainer fillColumns() {
+        ColumnarContainer container = new ColumnarContainer();
+        for (int i = 0; i < records; i++) {
+            container.add(names[i]);
+            container.addInt(18 + i % 10);
+            container.add("Группа " + i % 8);
+            container.addDouble(2.0 + i % 31 / 10.0);
+        }
+        return container;
+    }
+
+    @Benchmark
+    public int countGradesObjects() {
+        int matches = 0;
+        for (int i = 0; i < objects.size(); i++) {
+            Object element = objects.get(i);
+            if (element instanceof Double && (Double) element > 4.0) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public int countGradesColumns() {
+        return columns.countDoubles(value -> value > 4.0);
+    }
+
+    @Benchmark
+    public long sumAgesObjects() {
+        long sum = 0;
+        for (int i = 0; i < objects.size(); i++) {
+            Object element = objects.get(i);
+            if (element instanceof Integer) {
+                sum += (Integer) element;
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long sumAgesColumns() {
+        return columns.sumInts();
+    }
+}
@@ -0,0 +1,191 @@
+package com.container.benchmarks;
+
+import com.container.ConcurrentObjectContainer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Многопоточное сравнение ConcurrentObjectContainer с Collections.synchronizedList
+ * и CopyOnWriteArrayList.
+ * <ul>
+ *     <li>readMostly - один писатель и семь читателей get(int);</li>
+ *     <li>appendRemove - все потоки добавляют элемент в конец и удаляют последний.</li>
+ * </ul>
+ * Каждый поток удаляет только после собственного добавления, поэтому размер
+ * контейнера не опускается ниже начального.
+ *
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrentContainerBenchmark {
+
+    /**
+     * Начальное количество элементов
+     */
+    @Param({"1000", "100000"})
+    public int size;
+
+    /**
+     * Проверяемая реализация
+     */
+    @Param({"concurrent", "synchronizedList", "copyOnWrite"})
+    public String impl;
+
+    private SharedList list;
+
+    /**
+     * Общий интерфейс сравниваемых реализаций.
+     */
+    private interface SharedList {
+        void add(Object element);
+
+        Object get(int index);
+
+        void removeLast();
+    }
+
+    /**
+     * Создает и заполняет реализацию перед каждой итерацией.
+     */
+    @Setup(Level.Iteration)
+    public void fill() {
+        list = create(impl);
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+    }
+
+    private static SharedList create(String impl) {
+        switch (impl) {
+            case "concurrent":
+                ConcurrentObjectContainer container = new ConcurrentObjectContainer();
+                return new SharedList() {
+                    @Override
+                    public void add(Object element) {
+                        container.add(element);
+                    }
+
+                    @Override
+                    public Object get(int index) {
+                        return container.get(index);
+                    }
+
+                    @Override
+                    public void removeLast() {
+                        container.removeLast();
+                    }
+                };
+            case "synchronizedList":
+                List<Object> synchronizedList = Collections.synchronizedList(new ArrayList<>());
+                return new SharedList() {
+                    @Override
+                    public void add(Object element) {
+                        synchronizedList.add(element);
+                    }
+
+                    @Override
+                    public Object get(int index) {
+                        return synchronizedList.get(index);
+                    }
+
+                    @Override
+                    public void removeLast() {
+                        synchronized (synchronizedList) {
+                            synchronizedList.remove(synchronizedList.size() - 1);
+                        }
+                    }
+                };
+            case "copyOnWrite":
+                CopyOnWriteArrayList<Object> copyOnWrite = new CopyOnWriteArrayList<>();
+                return new SharedList() {
+                    @Override
+                    public void add(Object element) {
+                        copyOnWrite.add(element);
+                    }
+
+                    @Override
+                    public Object get(int index) {
+                        return copyOnWrite.get(index);
+                    }
+
+                    @Override
+                    public void removeLast() {
+                        // У CopyOnWriteArrayList нет атомарного удаления последнего элемента:
+                        // повторяем, если другой поток успел изменить размер
+                        while (true) {
+                            try {
+                                copyOnWrite.remove(copyOnWrite.size() - 1);
+                                return;
+                            } catch (IndexOutOfBoundsException e) {
+                                // размер изменился между size() и remove()
+                            }
+                        }
+                    }
+                };
+            default:
+                throw new IllegalArgumentException("Неизвестная реализация: " + impl);
+        }
+    }
+
+    /**
+     * Счетчик позиций чтения, свой у каждого потока.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+
+        int nextIndex(int bound) {
+            next += 7919;
+            if (next >= bound) {
+                next %= bound;
+            }
+            return next;
+        }
+    }
+
+    @Benchmark
+    @Group("readMostly")
+    @GroupThreads(1)
+    public void readMostlyWriter() {
+        list.add(-1);
+        list.removeLast();
+    }
+
+    @Benchmark
+    @Group("readMostly")
+    @GroupThreads(7)
+    public Object readMostlyReader(Cursor cursor) {
+        return list.get(cursor.nextIndex(size));
+    }
+
+    @Benchmark
+    @Group("appendRemove")
+    @GroupThreads(8)
+    public void appendRemove() {
+        list.add(-1);
+        list.removeLast();
+    }
+}
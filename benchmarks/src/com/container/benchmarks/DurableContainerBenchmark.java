@@ -0,0 +1,175 @@
+package com.container.benchmarks;
+
+import com.container.codec.CodecRegistry;
+import com.container.io.DurableContainer;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Контейнер с журналом изменений: устойчивая пропускная способность
+ * дописывания от многих потоков и время восстановления после перезапуска.
+ * <p>
+ * Append сравнивает fsync на каждое изменение (потоки объединяются групповой
+ * фиксацией) с fsync раз в 64 и 1024 записи; количество fsync печатается
+ * после каждой итерации. Recovery открывает каталог с журналом из records
+ * изменений - без снимка или после сжатия в снимок.
+ * <p>
+ * Файлы создаются во временном каталоге или в каталоге из свойства
+ * -Dbench.dir: результаты fsync сильно зависят от диска, tmpfs их не покажет.
+ *
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+public class DurableContainerBenchmark {
+
+    private static final CodecRegistry REGISTRY = CodecRegistry.standard();
+
+    private static Path createDirectory() throws IOException {
+        String parent = System.getProperty("bench.dir");
+        return parent == null
+            ? Files.createTempDirectory("durable")
+            : Files.createTempDirectory(Files.createDirectories(Path.of(parent)), "durable");
+    }
+
+    private static void deleteDirectory(Path directory) throws IOException {
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(directory)) {
+            files = walk.sorted(Comparator.reverseOrder()).collect(Collectors.toList());
+        }
+        for (Path file : files) {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static Object element(int i) {
+        switch (i % 3) {
+            case 0:
+                return "Студент " + i;
+            case 1:
+                return i;
+            default:
+                return i * 0.5;
+        }
+    }
+
+    @State(Scope.Benchmark)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 3, time = 2)
+    @Measurement(iterations = 5, time = 2)
+    @Threads(8)
+    @Fork(1)
+    public static class Append {
+
+        /**
+         * Через сколько записей выполняется fsync
+         */
+        @Param({"1", "64", "1024"})
+        public int syncEveryRecords;
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        private Path directory;
+
+        private DurableContainer container;
+
+        @Setup(Level.Iteration)
+        public void open() throws IOException {
+            directory = createDirectory();
+            container = DurableContainer.open(directory, REGISTRY, syncEveryRecords, 0);
+        }
+
+        @TearDown(Level.Iteration)
+        public void close() throws IOException {
+            container.close();
+            System.out.printf("%nизменений: %d, fsync: %d, поколение: %d%n",
+                counter.get(), container.getSyncs(), container.getGeneration());
+            counter.set(0);
+            deleteDirectory(directory);
+        }
+
+        @Benchmark
+        public boolean add() {
+            return container.add(element(counter.getAndIncrement()));
+        }
+    }
+
+    @State(Scope.Benchmark)
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 3)
+    @Measurement(iterations = 5)
+    @Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+    public static class Recovery {
+
+        /**
+         * Количество изменений в каталоге
+         */
+        @Param({"100000", "1000000"})
+        public int records;
+
+        /**
+         * Сжат ли журнал в снимок перед перезапуском
+         */
+        @Param({"false", "true"})
+        public boolean compacted;
+
+        private Path directory;
+
+        /**
+         * Записывает изменения: каждое десятое - удаление, остальные - добавления.
+         *
+         * @throws IOException если не удалось создать каталог
+         */
+        @Setup(Level.Trial)
+        public void prepare() throws IOException {
+            directory = createDirectory();
+            try (DurableContainer container = DurableContainer.open(directory, REGISTRY, 4096, 0)) {
+                container.setCompactionThreshold(Integer.MAX_VALUE);
+                for (int i = 0; i < records; i++) {
+                    if (i % 10 == 9) {
+                        container.remove(container.size() - 1);
+                    } else {
+                        container.add(element(i));
+                    }
+                }
+                if (compacted) {
+                    container.compact();
+                }
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void delete() throws IOException {
+            deleteDirectory(directory);
+        }
+
+        @Benchmark
+        public int recover() {
+            try (DurableContainer container = DurableContainer.open(directory, REGISTRY)) {
+                return container.size();
+            }
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.container.benchmarks;
+
+import com.container.GapContainer;
+import com.container.ObjectContainer;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Нагрузка в стиле текстового редактора: курсор медленно перемещается
+ * по середине контейнера, у курсора вставляется элемент и удаляется
+ * предыдущий (набор и Backspace). Размер контейнера при этом не меняется.
+ * Сравниваются GapContainer, ObjectContainer и ArrayList.
+ *
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EditorWorkloadBenchmark {
+
+    /**
+     * Количество элементов в контейнере
+     */
+    @Param({"10000", "1000000"})
+    public int size;
+
+    private GapContainer gapContainer;
+    private ObjectContainer<Object> objectContainer;
+    private ArrayList<Object> arrayList;
+    private int cursor;
+    private int step;
+
+    /**
+     * Заполняет контейнеры и ставит курсор в середину.
+     */
+    @Setup(Level.Iteration)
+    public void fill() {
+        gapContainer = new GapContainer();
+        objectContainer = new ObjectContainer<>();
+        arrayList = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            gapContainer.add(i);
+            objectContainer.add(i);
+            arrayList.add(i);
+        }
+        cursor = size / 2;
+        step = 0;
+    }
+
+    /**
+     * Смещает курсор на одну позицию вперед или назад, оставаясь около середины.
+     *
+     * @return новая позиция курсора
+     */
+    private int moveCursor() {
+        step++;
+        cursor += (step & 64) == 0 ? 1 : -1;
+        return cursor;
+    }
+
+    @Benchmark
+    public Object typeAndDeleteGapContainer() {
+        int position = moveCursor();
+        gapContainer.add(position, step);
+        return gapContainer.remove(position - 1);
+    }
+
+    @Benchmark
+    public Object typeAndDeleteObjectContainer() {
+        int position = moveCursor();
+        objectContainer.add(position, step);
+        return objectContainer.remove(position - 1);
+    }
+
+    @Benchmark
+    public Object typeAndDeleteArrayList() {
+        int position = moveCursor();
+        arrayList.add(position, step);
+        return arrayList.remove(position - 1);
+    }
+
+    @Benchmark
+    public Object readAtCursorGapContainer() {
+        return gapContainer.get(moveCursor());
+    }
+
+    @Benchmark
+    public Object readAtCursorObjectContainer() {
+        return objectContainer.get(moveCursor());
+    }
+}
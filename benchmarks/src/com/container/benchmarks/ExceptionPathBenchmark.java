@@ -0,0 +1,98 @@
+package com.container.benchmarks;
+
+import com.container.ObjectContainer;
+import com.container.exceptions.ContainerException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Стоимость промаха по индексу: get с перехватом исключения
+ * (со стеком и без него) против getOrDefault, tryRemove и indexOf.
+ *
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class ExceptionPathBenchmark {
+
+    /**
+     * Захватывать ли стек для исключений о недопустимом индексе
+     */
+    @Param({"true", "false"})
+    public boolean stackTrace;
+
+    private ObjectContainer<Integer> container;
+
+    private int missIndex;
+
+    /**
+     * Заполняет контейнер и задает режим исключений.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        ContainerException.setStackTraceEnabled(stackTrace);
+        container = new ObjectContainer<>(1000);
+        for (int i = 0; i < 1000; i++) {
+            container.add(i);
+        }
+        missIndex = container.size() + 1;
+    }
+
+    /**
+     * Восстанавливает режим по умолчанию.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ContainerException.setStackTraceEnabled(true);
+    }
+
+    @Benchmark
+    public Integer getMissCatch() {
+        try {
+            return container.get(missIndex);
+        } catch (ContainerException e) {
+            return null;
+        }
+    }
+
+    @Benchmark
+    public String getMissMessage() {
+        try {
+            return String.valueOf(container.get(missIndex));
+        } catch (ContainerException e) {
+            return e.getMessage();
+        }
+    }
+
+    @Benchmark
+    public Integer getOrDefaultMiss() {
+        return container.getOrDefault(missIndex, null);
+    }
+
+    @Benchmark
+    public boolean tryRemoveMiss() {
+        return container.tryRemove(missIndex);
+    }
+
+    @Benchmark
+    public boolean indexOfMiss() {
+        return container.indexOf(-1).isPresent();
+    }
+}
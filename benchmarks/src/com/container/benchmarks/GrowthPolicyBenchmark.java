@@ -0,0 +1,98 @@
+package com.container.benchmarks;
+
+import com.container.GrowthPolicies;
+import com.container.GrowthPolicy;
+import com.container.ObjectContainer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Заполнение ObjectContainer при разных политиках расширения.
+ * Время показывает стоимость копирований при росте, а gc.alloc.rate.norm -
+ * сколько памяти выделено на промежуточные массивы. fillPresized задает
+ * нижнюю границу: емкость выделена заранее через ensureCapacity.
+ *
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GrowthPolicyBenchmark {
+
+    /**
+     * Количество добавляемых элементов
+     */
+    @Param({"10", "10000", "1000000"})
+    public int size;
+
+    /**
+     * Политика расширения
+     */
+    @Param({"geometric1.5", "geometric2", "additive4096", "powerOfTwo", "cappedGeometric2"})
+    public String policy;
+
+    private GrowthPolicy growthPolicy;
+    private Integer value;
+
+    /**
+     * Создает политику по имени параметра.
+     */
+    @Setup(Level.Trial)
+    public void createPolicy() {
+        value = 42;
+        switch (policy) {
+            case "geometric1.5":
+                growthPolicy = GrowthPolicies.geometric(1.5);
+                break;
+            case "geometric2":
+                growthPolicy = GrowthPolicies.geometric(2.0);
+                break;
+            case "additive4096":
+                growthPolicy = GrowthPolicies.additive(4096);
+                break;
+            case "powerOfTwo":
+                growthPolicy = GrowthPolicies.powerOfTwo();
+                break;
+            case "cappedGeometric2":
+                growthPolicy = GrowthPolicies.capped(GrowthPolicies.geometric(2.0), 65536);
+                break;
+            default:
+                throw new IllegalArgumentException("Неизвестная политика: " + policy);
+        }
+    }
+
+    @Benchmark
+    public ObjectContainer<Object> fill() {
+        ObjectContainer<Object> container = new ObjectContainer<>();
+        container.setGrowthPolicy(growthPolicy);
+        for (int i = 0; i < size; i++) {
+            container.add(value);
+        }
+        return container;
+    }
+
+    @Benchmark
+    public ObjectContainer<Object> fillPresized() {
+        ObjectContainer<Object> container = new ObjectContainer<>();
+        container.ensureCapacity(size);
+        for (int i = 0; i < size; i++) {
+            container.add(value);
+        }
+        return container;
+    }
+}
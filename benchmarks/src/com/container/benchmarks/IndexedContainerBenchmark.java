@@ -0,0 +1,112 @@
+package com.container.benchmarks;
+
+import com.container.ObjectContainer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Сравнение индексированного режима ObjectContainer с линейным поиском.
+ * Набор размеров подобран так, чтобы по результатам findIndex* и contains*
+ * можно было найти точку окупаемости индекса, а по append* и insertHead* -
+ * цену поддержки индекса при изменениях. Расход памяти индекса можно
+ * сравнить с самим контейнером по gc.alloc.rate.norm бенчмарка build.
+ *
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IndexedContainerBenchmark {
+
+    /**
+     * Количество различных элементов в контейнере
+     */
+    @Param({"4", "16", "64", "256", "10000", "1000000"})
+    public int size;
+
+    /**
+     * Включен ли хеш-индекс
+     */
+    @Param({"false", "true"})
+    public boolean indexed;
+
+    private Integer[] values;
+    private Integer lastValue;
+    private Integer missingValue;
+    private ObjectContainer<Object> container;
+
+    /**
+     * Заранее создает упакованные значения, чтобы упаковка не попадала в замер.
+     */
+    @Setup(Level.Trial)
+    public void createValues() {
+        values = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = i;
+        }
+        lastValue = values[size - 1];
+        missingValue = -1;
+    }
+
+    /**
+     * Заполняет контейнер и при необходимости включает индекс.
+     */
+    @Setup(Level.Iteration)
+    public void fill() {
+        container = build();
+    }
+
+    @Benchmark
+    public ObjectContainer<Object> build() {
+        ObjectContainer<Object> result = new ObjectContainer<>(size);
+        if (indexed) {
+            result.enableIndex();
+        }
+        result.addAll(values);
+        return result;
+    }
+
+    @Benchmark
+    public int findIndexLast() {
+        return container.findIndex(lastValue);
+    }
+
+    @Benchmark
+    public boolean containsMissing() {
+        return container.contains(missingValue);
+    }
+
+    @Benchmark
+    public boolean removeValueLast() {
+        boolean removed = container.remove(lastValue);
+        container.add(lastValue);
+        return removed;
+    }
+
+    @Benchmark
+    public Object appendRemoveLast() {
+        container.add(missingValue);
+        return container.remove(container.size() - 1);
+    }
+
+    @Benchmark
+    public Object insertHeadRemoveLast() {
+        container.add(0, missingValue);
+        return container.remove(container.size() - 1);
+    }
+}
@@ -0,0 +1,88 @@
+package com.container.benchmarks;
+
+import com.container.ObjectContainer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Способы полного обхода ObjectContainer: цикл по get(i), копия через toArray,
+ * итератор (for-each), forEach(Consumer), последовательный и параллельный поток.
+ *
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IterationBenchmark {
+
+    /**
+     * Количество элементов в контейнере
+     */
+    @Param({"10", "10000", "1000000"})
+    public int size;
+
+    private ObjectContainer<Object> container;
+
+    /**
+     * Заполняет контейнер.
+     */
+    @Setup(Level.Trial)
+    public void fill() {
+        container = new ObjectContainer<>(size);
+        for (int i = 0; i < size; i++) {
+            container.add(i);
+        }
+    }
+
+    @Benchmark
+    public void getLoop(Blackhole blackhole) {
+        for (int i = 0; i < container.size(); i++) {
+            blackhole.consume(container.get(i));
+        }
+    }
+
+    @Benchmark
+    public void toArrayLoop(Blackhole blackhole) {
+        for (Object element : container.toArray()) {
+            blackhole.consume(element);
+        }
+    }
+
+    @Benchmark
+    public void iterator(Blackhole blackhole) {
+        for (Object element : container) {
+            blackhole.consume(element);
+        }
+    }
+
+    @Benchmark
+    public void forEach(Blackhole blackhole) {
+        container.forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public long stream() {
+        return container.stream().mapToLong(element -> (Integer) element).sum();
+    }
+
+    @Benchmark
+    public long parallelStream() {
+        return container.parallelStream().mapToLong(element -> (Integer) element).sum();
+    }
+}
@@ -0,0 +1,120 @@
+package com.container.benchmarks;
+
+import com.container.ObjectContainer;
+import com.container.metrics.ContainerMetrics;
+import com.container.metrics.RecordingMetrics;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Стоимость метрик ObjectContainer:
+ * <ul>
+ *     <li>off - приемник не подключен, остается только проверка поля на null;</li>
+ *     <li>noop - пустой приемник, стоимость самих вызовов;</li>
+ *     <li>recording - RecordingMetrics со счетчиками и гистограммами
+ *     (события JFR без запущенной записи не фиксируются).</li>
+ * </ul>
+ * Режим off должен совпадать с контейнером без метрик в пределах погрешности.
+ *
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetricsOverheadBenchmark {
+
+    /**
+     * Количество элементов в контейнере
+     */
+    @Param({"1000"})
+    public int size;
+
+    /**
+     * Режим сбора метрик
+     */
+    @Param({"off", "noop", "recording"})
+    public String mode;
+
+    private ObjectContainer<Object> container;
+
+    private Integer middle;
+
+    /**
+     * Создает и заполняет контейнер перед каждой итерацией.
+     */
+    @Setup(Level.Iteration)
+    public void fill() {
+        container = new ObjectContainer<>(size + 1);
+        for (int i = 0; i < size; i++) {
+            container.add(i);
+        }
+        middle = size / 2;
+        container.setMetrics(create(mode));
+    }
+
+    private static ContainerMetrics create(String mode) {
+        switch (mode) {
+            case "off":
+                return null;
+            case "noop":
+                return new ContainerMetrics() {
+                    @Override
+                    public void inserted(int count, int shifted) {
+                    }
+
+                    @Override
+                    public void removed(int count, int shifted) {
+                    }
+
+                    @Override
+                    public void resized(int oldCapacity, int newCapacity, int copied) {
+                    }
+
+                    @Override
+                    public void scanned(int length, boolean found) {
+                    }
+                };
+            case "recording":
+                return new RecordingMetrics("benchmark");
+            default:
+                throw new IllegalArgumentException("Неизвестный режим: " + mode);
+        }
+    }
+
+    @Benchmark
+    public Object appendRemoveLast() {
+        container.add(middle);
+        return container.remove(container.size() - 1);
+    }
+
+    @Benchmark
+    public Object insertRemoveMiddle() {
+        container.add(size / 2, middle);
+        return container.remove(size / 2);
+    }
+
+    @Benchmark
+    public Object get() {
+        return container.get(size / 2);
+    }
+
+    @Benchmark
+    public int findIndex() {
+        return container.findIndex(middle);
+    }
+}
@@ -0,0 +1,273 @@
+package com.container.benchmarks;
+
+import com.container.ObjectContainer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Бенчмарки основных операций ObjectContainer в сравнении
+ * с java.util.ArrayList и java.util.ArrayDeque.
+ * Операции, изменяющие контейнер, выполняются парами (например, вставка в начало
+ * и удаление с конца), чтобы размер оставался равным size на протяжении всего замера.
+ * ArrayDeque не поддерживает доступ по индексу, поэтому для него измеряются только
+ * аналогичные операции с концов очереди.
+ *
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ObjectContainerBenchmark {
+
+    /**
+     * Количество элементов в контейнере перед каждым замером
+     */
+    @Param({"10", "10000", "1000000"})
+    public int size;
+
+    private Integer[] values;
+    private Integer extra;
+    private Integer middleValue;
+    private Integer lastValue;
+
+    private ObjectContainer<Object> container;
+    private ArrayList<Object> arrayList;
+    private ArrayDeque<Object> arrayDeque;
+
+    /**
+     * Заранее создает упакованные значения, чтобы упаковка не попадала в замер.
+     */
+    @Setup(Level.Trial)
+    public void createValues() {
+        values = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = i;
+        }
+        extra = -1;
+        middleValue = values[size / 2];
+        lastValue = values[size - 1];
+    }
+
+    /**
+     * Заполняет все три контейнера одинаковыми элементами.
+     */
+    @Setup(Level.Iteration)
+    public void fill() {
+        container = new ObjectContainer<>();
+        arrayList = new ArrayList<>();
+        arrayDeque = new ArrayDeque<>();
+        for (Integer value : values) {
+            container.add(value);
+            arrayList.add(value);
+            arrayDeque.add(value);
+        }
+    }
+
+    // add(Object): добавление в конец и удаление последнего элемента
+
+    @Benchmark
+    public Object appendObjectContainer() {
+        container.add(extra);
+        return container.remove(container.size() - 1);
+    }
+
+    @Benchmark
+    public Object appendArrayList() {
+        arrayList.add(extra);
+        return arrayList.remove(arrayList.size() - 1);
+    }
+
+    @Benchmark
+    public Object appendArrayDeque() {
+        arrayDeque.addLast(extra);
+        return arrayDeque.pollLast();
+    }
+
+    // add(Object) с нуля: заполнение пустого контейнера, включая все расширения массива
+
+    @Benchmark
+    public Object fillObjectContainer() {
+        ObjectContainer<Object> result = new ObjectContainer<>();
+        for (Integer value : values) {
+            result.add(value);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Object fillArrayList() {
+        ArrayList<Object> result = new ArrayList<>();
+        for (Integer value : values) {
+            result.add(value);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Object fillArrayDeque() {
+        ArrayDeque<Object> result = new ArrayDeque<>();
+        for (Integer value : values) {
+            result.add(value);
+        }
+        return result;
+    }
+
+    // add(int, Object): вставка в начало и удаление последнего элемента
+
+    @Benchmark
+    public Object insertHeadObjectContainer() {
+        container.add(0, extra);
+        return container.remove(container.size() - 1);
+    }
+
+    @Benchmark
+    public Object insertHeadArrayList() {
+        arrayList.add(0, extra);
+        return arrayList.remove(arrayList.size() - 1);
+    }
+
+    @Benchmark
+    public Object insertHeadArrayDeque() {
+        arrayDeque.addFirst(extra);
+        return arrayDeque.pollLast();
+    }
+
+    // get(int): чтение элемента из середины
+
+    @Benchmark
+    public Object getObjectContainer() {
+        return container.get(size / 2);
+    }
+
+    @Benchmark
+    public Object getArrayList() {
+        return arrayList.get(size / 2);
+    }
+
+    // remove(int): удаление из начала и добавление в конец
+
+    @Benchmark
+    public Object removeHeadObjectContainer() {
+        Object removed = container.remove(0);
+        container.add(removed);
+        return removed;
+    }
+
+    @Benchmark
+    public Object removeHeadArrayList() {
+        Object removed = arrayList.remove(0);
+        arrayList.add(removed);
+        return removed;
+    }
+
+    @Benchmark
+    public Object removeHeadArrayDeque() {
+        Object removed = arrayDeque.pollFirst();
+        arrayDeque.addLast(removed);
+        return removed;
+    }
+
+    // remove(Object): после первого вызова искомый элемент стоит в конце,
+    // поэтому замер отражает полный просмотр и дешевое удаление с конца
+
+    @Benchmark
+    public boolean removeValueObjectContainer() {
+        boolean removed = container.remove(lastValue);
+        container.add(lastValue);
+        return removed;
+    }
+
+    @Benchmark
+    public boolean removeValueArrayList() {
+        boolean removed = arrayList.remove(lastValue);
+        arrayList.add(lastValue);
+        return removed;
+    }
+
+    @Benchmark
+    public boolean removeValueArrayDeque() {
+        boolean removed = arrayDeque.remove(lastValue);
+        arrayDeque.addLast(lastValue);
+        return removed;
+    }
+
+    // findIndex: поиск элемента из середины
+
+    @Benchmark
+    public int findIndexObjectContainer() {
+        return container.findIndex(middleValue);
+    }
+
+    @Benchmark
+    public int findIndexArrayList() {
+        return arrayList.indexOf(middleValue);
+    }
+
+    // contains: поиск элемента из середины
+
+    @Benchmark
+    public boolean containsObjectContainer() {
+        return container.contains(middleValue);
+    }
+
+    @Benchmark
+    public boolean containsArrayList() {
+        return arrayList.contains(middleValue);
+    }
+
+    @Benchmark
+    public boolean containsArrayDeque() {
+        return arrayDeque.contains(middleValue);
+    }
+
+    // toArray
+
+    @Benchmark
+    public Object[] toArrayObjectContainer() {
+        return container.toArray();
+    }
+
+    @Benchmark
+    public Object[] toArrayArrayList() {
+        return arrayList.toArray();
+    }
+
+    @Benchmark
+    public Object[] toArrayArrayDeque() {
+        return arrayDeque.toArray();
+    }
+
+    // toString
+
+    @Benchmark
+    public String toStringObjectContainer() {
+        return container.toString();
+    }
+
+    @Benchmark
+    public String toStringArrayList() {
+        return arrayList.toString();
+    }
+
+    @Benchmark
+    public String toStringArrayDeque() {
+        return arrayDeque.toString();
+    }
+}
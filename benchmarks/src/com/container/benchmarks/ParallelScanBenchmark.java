@@ -0,0 +1,105 @@
+package com.container.benchmarks;
+
+import com.container.ObjectContainer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Кривая ускорения параллельных операций ObjectContainer по числу ядер.
+ * Размер общего пула ForkJoinPool задается только при запуске JVM, поэтому
+ * каждое вложенное подмножество (Cores1 ... Cores16) запускается в отдельной
+ * JVM со своим java.util.concurrent.ForkJoinPool.common.parallelism.
+ * Последовательный findIndex служит базой для сравнения.
+ * <p>
+ * Искомый элемент стоит в конце, поэтому поиск просматривает весь массив.
+ * Запуск всей кривой: java -jar target/benchmarks.jar ParallelScanBenchmark
+ *
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public abstract class ParallelScanBenchmark {
+
+    /**
+     * Количество элементов в контейнере
+     */
+    @Param({"1000000", "10000000"})
+    public int size;
+
+    private ObjectContainer<Object> container;
+
+    private Integer last;
+
+    /**
+     * Заполняет контейнер различными значениями.
+     */
+    @Setup(Level.Trial)
+    public void fill() {
+        container = new ObjectContainer<>(size);
+        for (int i = 0; i < size; i++) {
+            container.add(i);
+        }
+        last = size - 1;
+    }
+
+    @Benchmark
+    public int sequentialFindIndex() {
+        return container.findIndex(last);
+    }
+
+    @Benchmark
+    public int parallelFindIndex() {
+        return container.parallelFindIndex(last);
+    }
+
+    @Benchmark
+    public int countMatching() {
+        return container.countMatching(element -> (Integer) element % 3 == 0);
+    }
+
+    @Benchmark
+    public ObjectContainer<Object> filter() {
+        return container.filter(element -> (Integer) element % 3 == 0);
+    }
+
+    @Benchmark
+    public ObjectContainer<Object> replaceAll() {
+        container.replaceAll(element -> element);
+        return container;
+    }
+
+    @Fork(value = 1, jvmArgsAppend = "-Djava.util.concurrent.ForkJoinPool.common.parallelism=1")
+    public static class Cores1 extends ParallelScanBenchmark {
+    }
+
+    @Fork(value = 1, jvmArgsAppend = "-Djava.util.concurrent.ForkJoinPool.common.parallelism=2")
+    public static class Cores2 extends ParallelScanBenchmark {
+    }
+
+    @Fork(value = 1, jvmArgsAppend = "-Djava.util.concurrent.ForkJoinPool.common.parallelism=4")
+    public static class Cores4 extends ParallelScanBenchmark {
+    }
+
+    @Fork(value = 1, jvmArgsAppend = "-Djava.util.concurrent.ForkJoinPool.common.parallelism=8")
+    public static class Cores8 extends ParallelScanBenchmark {
+    }
+
+    @Fork(value = 1, jvmArgsAppend = "-Djava.util.concurrent.ForkJoinPool.common.parallelism=16")
+    public static class Cores16 extends ParallelScanBenchmark {
+    }
+}
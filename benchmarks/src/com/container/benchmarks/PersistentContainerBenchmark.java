@@ -0,0 +1,102 @@
+package com.container.benchmarks;
+
+import com.container.ObjectContainer;
+import com.container.PersistentContainer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Снимок для читателей: копия toArray() у ObjectContainer против
+ * snapshot() построителя PersistentContainer, а также стоимость get,
+ * добавления новыми версиями и построения через Builder.
+ *
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PersistentContainerBenchmark {
+
+    /**
+     * Количество элементов
+     */
+    @Param({"1000", "1000000"})
+    public int size;
+
+    private ObjectContainer<Object> container;
+
+    private PersistentContainer.Builder builder;
+
+    private PersistentContainer version;
+
+    private int cursor;
+
+    /**
+     * Заполняет контейнеры одинаковыми элементами.
+     */
+    @Setup
+    public void setUp() {
+        container = new ObjectContainer<>(size);
+        builder = PersistentContainer.builder();
+        for (int i = 0; i < size; i++) {
+            container.add(i);
+            builder.add(i);
+        }
+        version = builder.snapshot();
+    }
+
+    @Benchmark
+    public Object[] snapshotToArray() {
+        return container.toArray();
+    }
+
+    @Benchmark
+    public PersistentContainer snapshotPersistent() {
+        builder.set(cursor, cursor);
+        cursor = (cursor + 1) % size;
+        return builder.snapshot();
+    }
+
+    @Benchmark
+    public Object getObjectContainer() {
+        cursor = (cursor + 7919) % size;
+        return container.get(cursor);
+    }
+
+    @Benchmark
+    public Object getPersistent() {
+        cursor = (cursor + 7919) % size;
+        return version.get(cursor);
+    }
+
+    @Benchmark
+    public PersistentContainer addVersion() {
+        return version.add(cursor);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Measurement(iterations = 10)
+    public PersistentContainer buildWithBuilder() {
+        PersistentContainer.Builder fresh = PersistentContainer.builder();
+        for (int i = 0; i < size; i++) {
+            fresh.add(i);
+        }
+        return fresh.snapshot();
+    }
+}
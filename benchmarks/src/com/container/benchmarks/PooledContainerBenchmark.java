@@ -0,0 +1,75 @@
+package com.container.benchmarks;
+
+import com.container.ArrayPool;
+import com.container.ObjectContainer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Короткоживущие контейнеры обработчиков запросов: создание, заполнение
+ * с несколькими расширениями и выброс. Сравнивает обычный конструктор
+ * с контейнером на ArrayPool; разницу в выделении памяти показывает
+ * gc.alloc.rate.norm при запуске с профилем GC (-prof gc).
+ * Замер выполняется в четырех потоках, чтобы задействовать и кэши потоков.
+ *
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class PooledContainerBenchmark {
+
+    /**
+     * Количество элементов в одном контейнере
+     */
+    @Param({"16", "200", "5000"})
+    public int elements;
+
+    private ArrayPool pool;
+
+    private Integer value;
+
+    /**
+     * Создает пул, общий для всех потоков замера.
+     */
+    @Setup
+    public void setUp() {
+        pool = new ArrayPool();
+        value = 42;
+    }
+
+    @Benchmark
+    public int plainConstructor() {
+        ObjectContainer<Object> container = new ObjectContainer<>();
+        for (int i = 0; i < elements; i++) {
+            container.add(value);
+        }
+        return container.size();
+    }
+
+    @Benchmark
+    public int pooled() {
+        try (ObjectContainer<Object> container = new ObjectContainer<>(10, pool)) {
+            for (int i = 0; i < elements; i++) {
+                container.add(value);
+            }
+            return container.size();
+        }
+    }
+}
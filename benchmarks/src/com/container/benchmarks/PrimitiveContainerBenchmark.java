@@ -0,0 +1,163 @@
+package com.container.benchmarks;
+
+import com.container.DoubleContainer;
+import com.container.IntContainer;
+import com.container.ObjectContainer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Сравнение примитивных контейнеров IntContainer и DoubleContainer
+ * с ObjectContainer, хранящим упакованные значения.
+ * Разница в памяти видна по метрике gc.alloc.rate.norm профилировщика GC:
+ * fill* показывают байты на построение контейнера из size элементов,
+ * включая упаковку для ObjectContainer.
+ *
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimitiveContainerBenchmark {
+
+    /**
+     * Количество элементов в контейнере
+     */
+    @Param({"10", "10000", "1000000"})
+    public int size;
+
+    private IntContainer ints;
+    private DoubleContainer doubles;
+    private ObjectContainer<Object> boxedInts;
+    private ObjectContainer<Object> boxedDoubles;
+
+    /**
+     * Заполняет контейнеры одинаковыми значениями.
+     */
+    @Setup(Level.Trial)
+    public void fill() {
+        ints = new IntContainer();
+        doubles = new DoubleContainer();
+        boxedInts = new ObjectContainer<>();
+        boxedDoubles = new ObjectContainer<>();
+        for (int i = 0; i < size; i++) {
+            ints.add(i);
+            doubles.add(i * 0.5);
+            boxedInts.add(i);
+            boxedDoubles.add(i * 0.5);
+        }
+    }
+
+    // Построение контейнера: время и объем аллокаций
+
+    @Benchmark
+    public Object fillIntContainer() {
+        IntContainer result = new IntContainer();
+        for (int i = 0; i < size; i++) {
+            result.add(i);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Object fillBoxedInts() {
+        ObjectContainer<Object> result = new ObjectContainer<>();
+        for (int i = 0; i < size; i++) {
+            result.add(i);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Object fillDoubleContainer() {
+        DoubleContainer result = new DoubleContainer();
+        for (int i = 0; i < size; i++) {
+            result.add(i * 0.5);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Object fillBoxedDoubles() {
+        ObjectContainer<Object> result = new ObjectContainer<>();
+        for (int i = 0; i < size; i++) {
+            result.add(i * 0.5);
+        }
+        return result;
+    }
+
+    // Полный проход через get(int)
+
+    @Benchmark
+    public long sumIntContainer() {
+        long sum = 0;
+        for (int i = 0; i < ints.size(); i++) {
+            sum += ints.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long sumBoxedInts() {
+        long sum = 0;
+        for (int i = 0; i < boxedInts.size(); i++) {
+            sum += (Integer) boxedInts.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double sumDoubleContainer() {
+        double sum = 0;
+        for (int i = 0; i < doubles.size(); i++) {
+            sum += doubles.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double sumBoxedDoubles() {
+        double sum = 0;
+        for (int i = 0; i < boxedDoubles.size(); i++) {
+            sum += (Double) boxedDoubles.get(i);
+        }
+        return sum;
+    }
+
+    // Поиск отсутствующего значения: полный просмотр
+
+    @Benchmark
+    public boolean containsIntContainer() {
+        return ints.contains(-1);
+    }
+
+    @Benchmark
+    public boolean containsBoxedInts() {
+        return boxedInts.contains(-1);
+    }
+
+    @Benchmark
+    public boolean containsDoubleContainer() {
+        return doubles.contains(-1.0);
+    }
+
+    @Benchmark
+    public boolean containsBoxedDoubles() {
+        return boxedDoubles.contains(-1.0);
+    }
+}
@@ -0,0 +1,109 @@
+package com.container.benchmarks;
+
+import com.container.ObjectContainer;
+import com.container.RingContainer;
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Очередь задач: добавление в конец и извлечение из начала.
+ * <ul>
+ *     <li>steady* - очередь постоянной длины size: одно добавление и одно извлечение;</li>
+ *     <li>burst* - заполнение пустой очереди size элементами и полное опустошение.</li>
+ * </ul>
+ * Сравниваются RingContainer, ObjectContainer (remove(0)) и ArrayDeque.
+ *
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueueWorkloadBenchmark {
+
+    /**
+     * Длина очереди
+     */
+    @Param({"10", "10000", "1000000"})
+    public int size;
+
+    private Integer task;
+    private RingContainer ring;
+    private ObjectContainer<Object> container;
+    private ArrayDeque<Object> deque;
+
+    /**
+     * Заполняет очереди до длины size.
+     */
+    @Setup(Level.Iteration)
+    public void fill() {
+        task = 42;
+        ring = new RingContainer();
+        container = new ObjectContainer<>();
+        deque = new ArrayDeque<>();
+        for (int i = 0; i < size; i++) {
+            ring.add(task);
+            container.add(task);
+            deque.add(task);
+        }
+    }
+
+    @Benchmark
+    public Object steadyRingContainer() {
+        ring.addLast(task);
+        return ring.removeFirst();
+    }
+
+    @Benchmark
+    public Object steadyObjectContainer() {
+        container.add(task);
+        return container.remove(0);
+    }
+
+    @Benchmark
+    public Object steadyArrayDeque() {
+        deque.addLast(task);
+        return deque.pollFirst();
+    }
+
+    @Benchmark
+    public Object burstRingContainer() {
+        RingContainer queue = new RingContainer();
+        for (int i = 0; i < size; i++) {
+            queue.addLast(task);
+        }
+        Object last = null;
+        while (!queue.isEmpty()) {
+            last = queue.removeFirst();
+        }
+        return last;
+    }
+
+    @Benchmark
+    public Object burstArrayDeque() {
+        ArrayDeque<Object> queue = new ArrayDeque<>();
+        for (int i = 0; i < size; i++) {
+            queue.addLast(task);
+        }
+        Object last = null;
+        while (!queue.isEmpty()) {
+            last = queue.pollFirst();
+        }
+        return last;
+    }
+}
@@ -0,0 +1,115 @@
+package com.container.benchmarks;
+
+import com.container.ObjectContainer;
+import com.container.codec.CodecRegistry;
+import com.container.io.ContainerSnapshot;
+import com.container.io.MappedSnapshot;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Восстановление контейнера после перезапуска: заполнение заново через add
+ * против загрузки двоичного снимка (сразу и с ленивым декодированием).
+ * Элементы - смесь String, Integer и Double, как в Main.
+ * Снимок пишется во временный файл на локальном диске.
+ *
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+public class SnapshotBenchmark {
+
+    /**
+     * Количество элементов в контейнере
+     */
+    @Param({"1000000", "10000000"})
+    public int size;
+
+    private final CodecRegistry registry = CodecRegistry.standard();
+
+    private ObjectContainer<Object> container;
+
+    private Path file;
+
+    /**
+     * Заполняет контейнер и сохраняет его снимок.
+     *
+     * @throws IOException если не удалось создать временный файл
+     */
+    @Setup(Level.Trial)
+    public void fill() throws IOException {
+        container = rebuildWithAdd();
+        file = Files.createTempFile("container", ".snapshot");
+        ContainerSnapshot.write(container, file, registry);
+    }
+
+    /**
+     * Удаляет файл снимка.
+     *
+     * @throws IOException если не удалось удалить файл
+     */
+    @TearDown(Level.Trial)
+    public void delete() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public ObjectContainer<Object> rebuildWithAdd() {
+        ObjectContainer<Object> rebuilt = new ObjectContainer<>();
+        for (int i = 0; i < size; i++) {
+            switch (i % 3) {
+                case 0:
+                    rebuilt.add("Студент " + i);
+                    break;
+                case 1:
+                    rebuilt.add(i);
+                    break;
+                default:
+                    rebuilt.add(i * 0.5);
+            }
+        }
+        return rebuilt;
+    }
+
+    @Benchmark
+    public void writeSnapshot() {
+        ContainerSnapshot.write(container, file, registry);
+    }
+
+    @Benchmark
+    public ObjectContainer<Object> readSnapshot() {
+        return ContainerSnapshot.read(file, registry);
+    }
+
+    @Benchmark
+    public Object openLazy() {
+        MappedSnapshot snapshot = ContainerSnapshot.open(file, registry, false);
+        return snapshot.get(snapshot.size() / 2);
+    }
+
+    @Benchmark
+    public Object openLazyVerified() {
+        MappedSnapshot snapshot = ContainerSnapshot.open(file, registry);
+        return snapshot.get(snapshot.size() / 2);
+    }
+}
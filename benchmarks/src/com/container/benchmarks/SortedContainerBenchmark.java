@@ -0,0 +1,104 @@
+package com.container.benchmarks;
+
+import com.container.ObjectContainer;
+import com.container.SortedContainer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Поиск в ObjectContainer (линейный) против SortedContainer (двоичный)
+ * и стоимость загрузки: вставка по одному против addAll с одной сортировкой.
+ *
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SortedContainerBenchmark {
+
+    /**
+     * Количество элементов
+     */
+    @Param({"1000", "100000"})
+    public int size;
+
+    private Integer[] values;
+
+    private ObjectContainer<Integer> plain;
+
+    private SortedContainer<Integer> sorted;
+
+    private int cursor;
+
+    /**
+     * Заполняет контейнеры одинаковыми случайными значениями.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        values = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = random.nextInt(size * 4);
+        }
+        plain = new ObjectContainer<>(size);
+        plain.addAll(values);
+        sorted = new SortedContainer<>();
+        sorted.addAll(values);
+    }
+
+    @Benchmark
+    public int findIndexLinear() {
+        cursor = (cursor + 7919) % size;
+        return plain.findIndex(values[cursor]);
+    }
+
+    @Benchmark
+    public int findIndexBinary() {
+        cursor = (cursor + 7919) % size;
+        return sorted.findIndex(values[cursor]);
+    }
+
+    @Benchmark
+    public Object rangeQuery() {
+        cursor = (cursor + 7919) % size;
+        int from = values[cursor];
+        return sorted.rangeQuery(from, from + 64);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Measurement(iterations = 10)
+    public Object loadOneByOne() {
+        SortedContainer<Integer> result = new SortedContainer<>();
+        for (Integer value : values) {
+            result.add(value);
+        }
+        return result;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Measurement(iterations = 10)
+    public Object loadBulk() {
+        SortedContainer<Integer> result = new SortedContainer<>();
+        result.addAll(values);
+        return result;
+    }
+}
@@ -0,0 +1,124 @@
+package com.container.benchmarks;
+
+import com.container.ObjectContainer;
+import com.container.TieredContainer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Стоимость доступа к TieredContainer по сравнению с ObjectContainer
+ * на данных вида "журнал": строки из небольшого набора и растущие числа.
+ * <ul>
+ *     <li>getTail - чтение горячего хвоста;</li>
+ *     <li>getColdSequential - чтение подряд по холодным сегментам (попадания в кэш);</li>
+ *     <li>getColdRandom - случайные чтения по всему контейнеру (промахи кэша);</li>
+ *     <li>findString - поиск строки, которой нет в старых сегментах.</li>
+ * </ul>
+ * Объем кучи, занятый каждым контейнером вместе с элементами, печатается при подготовке.
+ *
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+public class TieredContainerBenchmark {
+
+    /**
+     * Количество элементов
+     */
+    @Param({"1000000"})
+    public int size;
+
+    /**
+     * Реализация: tiered или plain (ObjectContainer)
+     */
+    @Param({"tiered", "plain"})
+    public String impl;
+
+    private TieredContainer tiered;
+    private ObjectContainer<Object> plain;
+
+    private int cursor;
+    private int random = 17;
+
+    @Setup(Level.Trial)
+    public void fill() {
+        long before = usedHeap();
+        if ("tiered".equals(impl)) {
+            tiered = new TieredContainer();
+            for (int i = 0; i < size; i++) {
+                tiered.add(value(i));
+            }
+        } else {
+            plain = new ObjectContainer<>(size);
+            for (int i = 0; i < size; i++) {
+                plain.add(value(i));
+            }
+        }
+        System.out.printf("%n%s: занято в куче %d КБ%n", impl, (usedHeap() - before) / 1024);
+    }
+
+    private static Object value(int i) {
+        switch (i % 4) {
+            case 0:
+                return "уровень-" + (i % 5);
+            case 1:
+                return 1_000_000 + i;
+            case 2:
+                return (double) (i / 4);
+            default:
+                return "источник-" + (i % 50);
+        }
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private Object get(int index) {
+        return tiered != null ? tiered.get(index) : plain.get(index);
+    }
+
+    @Benchmark
+    public Object getTail() {
+        cursor = (cursor + 1) & 1023;
+        return get(size - 1 - cursor);
+    }
+
+    @Benchmark
+    public Object getColdSequential() {
+        cursor = cursor + 1 < size / 2 ? cursor + 1 : 0;
+        return get(cursor);
+    }
+
+    @Benchmark
+    public Object getColdRandom() {
+        random = random * 1103515245 + 12345;
+        return get((random >>> 1) % size);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int findString() {
+        return tiered != null ? tiered.findIndex("источник-50") : plain.findIndex("источник-50");
+    }
+}
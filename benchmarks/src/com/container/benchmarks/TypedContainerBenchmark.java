@@ -0,0 +1,79 @@
+package com.container.benchmarks;
+
+import com.container.ObjectContainer;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Типизированный ObjectContainer&lt;String&gt;: получение String[] через
+ * toArray() с повторным копированием против toArray(IntFunction),
+ * и замена элемента через remove + add против set.
+ *
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TypedContainerBenchmark {
+
+    /**
+     * Количество элементов
+     */
+    @Param({"1000", "100000"})
+    public int size;
+
+    private ObjectContainer<String> container;
+
+    private int cursor;
+
+    /**
+     * Заполняет контейнер строками.
+     */
+    @Setup
+    public void setUp() {
+        container = new ObjectContainer<>(size);
+        for (int i = 0; i < size; i++) {
+            container.add("элемент " + i);
+        }
+    }
+
+    @Benchmark
+    public String[] toArrayThenCopy() {
+        Object[] plain = container.toArray();
+        return Arrays.copyOf(plain, plain.length, String[].class);
+    }
+
+    @Benchmark
+    public String[] toArrayTyped() {
+        return container.toArray(String[]::new);
+    }
+
+    @Benchmark
+    public String replaceRemoveAdd() {
+        cursor = (cursor + 7919) % size;
+        String previous = container.remove(cursor);
+        container.add(cursor, previous);
+        return previous;
+    }
+
+    @Benchmark
+    public String replaceSet() {
+        cursor = (cursor + 7919) % size;
+        return container.set(cursor, container.get(cursor));
+    }
+}
@@ -0,0 +1,91 @@
+package com.container.benchmarks;
+
+import com.container.ObjectContainer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Постраничная выборка и проекция: копия через toArray и повторные add
+ * против ленивых представлений subList, filterView и mapView.
+ *
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class ViewBenchmark {
+
+    /**
+     * Количество элементов в контейнере
+     */
+    @Param({"10000", "1000000"})
+    public int size;
+
+    /**
+     * Размер страницы
+     */
+    @Param({"50"})
+    public int pageSize;
+
+    private ObjectContainer<Integer> container;
+
+    private int pageStart;
+
+    @Setup(Level.Trial)
+    public void fill() {
+        container = new ObjectContainer<>(size);
+        for (int i = 0; i < size; i++) {
+            container.add(i);
+        }
+        pageStart = size / 2;
+    }
+
+    @Benchmark
+    public ObjectContainer<String> pageByCopy() {
+        Object[] all = container.toArray();
+        ObjectContainer<String> page = new ObjectContainer<>();
+        for (int i = pageStart; i < pageStart + pageSize; i++) {
+            page.add("#" + all[i]);
+        }
+        return page;
+    }
+
+    @Benchmark
+    public ObjectContainer<String> pageByView() {
+        return container.subList(pageStart, pageStart + pageSize)
+            .mapView(n -> "#" + n)
+            .materialize();
+    }
+
+    @Benchmark
+    public ObjectContainer<Long> projectByCopy() {
+        ObjectContainer<Integer> even = container.filter(n -> (n & 1) == 0);
+        ObjectContainer<Long> result = new ObjectContainer<>();
+        for (Integer n : even) {
+            result.add(n * 3L);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public ObjectContainer<Long> projectByView() {
+        return container.filterView(n -> (n & 1) == 0)
+            .mapView(n -> n * 3L)
+            .materialize();
+    }
+}
@@ -0,0 +1,321 @@
+package com.container;
+
+import com.container.exceptions.ContainerException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Пул массивов Object[] для короткоживущих контейнеров.
+ * Массивы делятся на классы по размеру - степени двойки от MIN_POOLED_LENGTH
+ * до MAX_POOLED_LENGTH; запрос округляется вверх до ближайшего класса.
+ * Каждый поток держит небольшой собственный кэш массивов малых классов
+ * (до THREAD_CACHE_MAX_LENGTH), который обслуживается без синхронизации;
+ * остальные массивы хранятся в общем пуле, суммарный размер которого ограничен.
+ * Массивы длиннее MAX_POOLED_LENGTH не кэшируются.
+ * <p>
+ * Возвращаемый массив очищается в пределах занятой части, поэтому пул
+ * не удерживает элементы. Массив, возвращенный в пул, нельзя использовать дальше.
+ *
+ * <pre>
+ * try (ObjectContainer&lt;Object&gt; request = new ObjectContainer&lt;&gt;(16, ArrayPool.common())) {
+ *     ...
+ * } // массив вернулся в пул
+ * </pre>
+ *
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+public final class ArrayPool {
+
+    /**
+     * Длина массивов наименьшего класса
+     */
+    public static final int MIN_POOLED_LENGTH = 1 << 4;
+
+    /**
+     * Длина массивов наибольшего класса
+     */
+    public static final int MAX_POOLED_LENGTH = 1 << 20;
+
+    /**
+     * Длина массивов наибольшего класса, который кэшируется в потоке
+     */
+    public static final int THREAD_CACHE_MAX_LENGTH = 1 << 12;
+
+    private static final int MIN_SHIFT = Integer.numberOfTrailingZeros(MIN_POOLED_LENGTH);
+    private static final int CLASS_COUNT = Integer.numberOfTrailingZeros(MAX_POOLED_LENGTH) - MIN_SHIFT + 1;
+    private static final int THREAD_CLASS_COUNT = Integer.numberOfTrailingZeros(THREAD_CACHE_MAX_LENGTH) - MIN_SHIFT + 1;
+
+    /**
+     * Массивов одного класса в кэше потока по умолчанию
+     */
+    private static final int DEFAULT_THREAD_CACHE_DEPTH = 4;
+
+    /**
+     * Ограничение общего пула по умолчанию: 4 млн ссылок (16 МБ при сжатых указателях)
+     */
+    private static final long DEFAULT_MAX_POOLED_ELEMENTS = 1L << 22;
+
+    private static final ArrayPool COMMON = new ArrayPool();
+
+    private final long maxPooledElements;
+
+    /**
+     * Общий пул: стек массивов на каждый класс
+     */
+    private final ArrayDeque<Object[]>[] shared;
+
+    /**
+     * Суммарная длина массивов в общем пуле
+     */
+    private final AtomicLong pooledElements = new AtomicLong();
+
+    private final ThreadLocal<ThreadCache> threadCache;
+
+    private final LongAdder threadCacheHits = new LongAdder();
+    private final LongAdder sharedHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder unpooled = new LongAdder();
+    private final LongAdder returns = new LongAdder();
+    private final LongAdder discards = new LongAdder();
+
+    /**
+     * Создает пул с ограничениями по умолчанию.
+     */
+    public ArrayPool() {
+        this(DEFAULT_THREAD_CACHE_DEPTH, DEFAULT_MAX_POOLED_ELEMENTS);
+    }
+
+    /**
+     * Создает пул с указанными ограничениями.
+     *
+     * @param threadCacheDepth сколько массивов одного класса хранит кэш потока; 0 выключает кэш
+     * @param maxPooledElements наибольшая суммарная длина массивов в общем пуле
+     * @throws ContainerException если ограничение отрицательно
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public ArrayPool(int threadCacheDepth, long maxPooledElements) {
+        if (threadCacheDepth < 0 || maxPooledElements < 0) {
+            throw new ContainerException(
+                "Ограничения пула не могут быть отрицательными: " + threadCacheDepth + ", " + maxPooledElements
+            );
+        }
+        this.maxPooledElements = maxPooledElements;
+        this.shared = new ArrayDeque[CLASS_COUNT];
+        for (int i = 0; i < CLASS_COUNT; i++) {
+            shared[i] = new ArrayDeque<>();
+        }
+        this.threadCache = ThreadLocal.withInitial(() -> new ThreadCache(threadCacheDepth));
+    }
+
+    /**
+     * Возвращает общий для приложения пул с ограничениями по умолчанию.
+     *
+     * @return общий пул
+     */
+    public static ArrayPool common() {
+        return COMMON;
+    }
+
+    /**
+     * Возвращает длину массива, который будет выдан на запрос minLength.
+     *
+     * @param minLength требуемая длина
+     * @return длина класса или minLength, если он больше MAX_POOLED_LENGTH
+     */
+    public static int capacityFor(int minLength) {
+        if (minLength > MAX_POOLED_LENGTH) {
+            return minLength;
+        }
+        return MIN_POOLED_LENGTH << sizeClass(minLength);
+    }
+
+    /**
+     * Выдает пустой массив длиной не меньше minLength: из кэша потока,
+     * из общего пула или, если там нет массивов этого класса, новый.
+     *
+     * @param minLength требуемая длина
+     * @return массив длиной capacityFor(minLength), заполненный null
+     * @throws ContainerException если minLength отрицательно
+     */
+    public Object[] acquire(int minLength) {
+        if (minLength < 0) {
+            throw new ContainerException("Длина массива не может быть отрицательной: " + minLength);
+        }
+        if (minLength > MAX_POOLED_LENGTH) {
+            unpooled.increment();
+            return new Object[minLength];
+        }
+        int sizeClass = sizeClass(minLength);
+        if (sizeClass < THREAD_CLASS_COUNT) {
+            Object[] cached = threadCache.get().poll(sizeClass);
+            if (cached != null) {
+                threadCacheHits.increment();
+                return cached;
+            }
+        }
+        Object[] pooled;
+        ArrayDeque<Object[]> bucket = shared[sizeClass];
+        synchronized (bucket) {
+            pooled = bucket.pollLast();
+        }
+        if (pooled != null) {
+            pooledElements.addAndGet(-pooled.length);
+            sharedHits.increment();
+            return pooled;
+        }
+        misses.increment();
+        return new Object[MIN_POOLED_LENGTH << sizeClass];
+    }
+
+    /**
+     * Очищает массив целиком и возвращает его в пул.
+     *
+     * @param array массив, полученный из acquire
+     */
+    public void release(Object[] array) {
+        if (array != null) {
+            release(array, array.length);
+        }
+    }
+
+    /**
+     * Очищает первые used ячеек массива и возвращает его в пул.
+     * Остальные ячейки должны уже быть равны null. Пустые массивы игнорируются;
+     * массивы, длина которых не совпадает ни с одним классом, и массивы сверх
+     * ограничения общего пула отбрасываются.
+     *
+     * @param array массив, полученный из acquire
+     * @param used количество ячеек, которые могли быть заняты
+     */
+    public void release(Object[] array, int used) {
+        if (array == null || array.length == 0) {
+            return;
+        }
+        int length = array.length;
+        if (length < MIN_POOLED_LENGTH || length > MAX_POOLED_LENGTH || Integer.bitCount(length) != 1) {
+            discards.increment();
+            return;
+        }
+        Arrays.fill(array, 0, Math.min(used, length), null);
+        returns.increment();
+        int sizeClass = sizeClass(length);
+        if (sizeClass < THREAD_CLASS_COUNT && threadCache.get().offer(sizeClass, array)) {
+            return;
+        }
+        if (pooledElements.addAndGet(length) > maxPooledElements) {
+            pooledElements.addAndGet(-length);
+            discards.increment();
+            return;
+        }
+        ArrayDeque<Object[]> bucket = shared[sizeClass];
+        synchronized (bucket) {
+            bucket.addLast(array);
+        }
+    }
+
+    /**
+     * @return количество запросов, обслуженных кэшем потока
+     */
+    public long getThreadCacheHits() {
+        return threadCacheHits.sum();
+    }
+
+    /**
+     * @return количество запросов, обслуженных общим пулом
+     */
+    public long getSharedHits() {
+        return sharedHits.sum();
+    }
+
+    /**
+     * @return количество запросов, для которых создан новый массив пулируемого класса
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return количество запросов длиннее MAX_POOLED_LENGTH
+     */
+    public long getUnpooled() {
+        return unpooled.sum();
+    }
+
+    /**
+     * @return количество массивов, принятых обратно
+     */
+    public long getReturns() {
+        return returns.sum();
+    }
+
+    /**
+     * @return количество отброшенных массивов: чужой длины или сверх ограничения
+     */
+    public long getDiscards() {
+        return discards.sum();
+    }
+
+    /**
+     * @return суммарная длина массивов в общем пуле
+     */
+    public long getPooledElements() {
+        return pooledElements.get();
+    }
+
+    /**
+     * Доля запросов, обслуженных без создания массива.
+     *
+     * @return значение от 0 до 1 или 0, если запросов не было
+     */
+    public double hitRate() {
+        long hits = threadCacheHits.sum() + sharedHits.sum();
+        long total = hits + misses.sum() + unpooled.sum();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    /**
+     * Номер класса для длины от 0 до MAX_POOLED_LENGTH.
+     */
+    private static int sizeClass(int length) {
+        if (length <= MIN_POOLED_LENGTH) {
+            return 0;
+        }
+        return 32 - Integer.numberOfLeadingZeros(length - 1) - MIN_SHIFT;
+    }
+
+    /**
+     * Кэш массивов малых классов одного потока.
+     */
+    private static final class ThreadCache {
+        private final Object[][][] arrays;
+        private final int[] counts = new int[THREAD_CLASS_COUNT];
+
+        ThreadCache(int depth) {
+            arrays = new Object[THREAD_CLASS_COUNT][depth][];
+        }
+
+        Object[] poll(int sizeClass) {
+            int count = counts[sizeClass];
+            if (count == 0) {
+                return null;
+            }
+            Object[] array = arrays[sizeClass][--count];
+            arrays[sizeClass][count] = null;
+            counts[sizeClass] = count;
+            return array;
+        }
+
+        boolean offer(int sizeClass, Object[] array) {
+            int count = counts[sizeClass];
+            if (count == arrays[sizeClass].length) {
+                return false;
+            }
+            arrays[sizeClass][count] = array;
+            counts[sizeClass] = count + 1;
+            return true;
+        }
+    }
+}
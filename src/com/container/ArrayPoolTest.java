@@ -0,0 +1,191 @@
+package com.container;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Тесты для класса ArrayPool и контейнеров с пулом без использования JUnit
+ *
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+public class ArrayPoolTest {
+
+    private int testCount = 0;
+    private int passedTests = 0;
+    private List<String> failedTests = new ArrayList<>();
+
+    /**
+     * Запуск всех тестов
+     */
+    public static void main(String[] args) throws InterruptedException {
+        ArrayPoolTest tester = new ArrayPoolTest();
+        tester.runAllTests();
+    }
+
+    /**
+     * Запускает все тесты и выводит результаты
+     */
+    public void runAllTests() throws InterruptedException {
+        System.out.println("=== Запуск тестов ArrayPool ===\n");
+
+        testSizeClasses();
+        testThreadCacheAndSharedPool();
+        testBoundedSharedPool();
+        testPooledContainer();
+        testInvalidArguments();
+
+        System.out.println("\n=== Результаты тестов ===");
+        System.out.println("Пройдено: " + passedTests + " из " + testCount + " тестов");
+
+        if (passedTests == testCount) {
+            System.out.println(" Все тесты прошли успешно!");
+        } else {
+            System.out.println(" Не все тесты прошли");
+            System.out.println("\n=== Проваленные тесты ===");
+            for (String failedTest : failedTests) {
+                System.out.println(" " + failedTest);
+            }
+        }
+    }
+
+    private void assertTrue(boolean condition, String message) {
+        testCount++;
+        if (condition) {
+            passedTests++;
+            System.out.println("прошли " + message);
+        } else {
+            failedTests.add(message);
+            System.out.println("не прошли " + message);
+        }
+    }
+
+    private void assertFalse(boolean condition, String message) {
+        assertTrue(!condition, message);
+    }
+
+    private void assertEquals(Object expected, Object actual, String message) {
+        testCount++;
+        boolean isEqual = (expected == null) ? actual == null : expected.equals(actual);
+        if (isEqual) {
+            passedTests++;
+            System.out.println("прошли " + message);
+        } else {
+            failedTests.add(message + " (ожидалось: " + expected + ", получено: " + actual + ")");
+            System.out.println("не прошли " + message + " (ожидалось: " + expected + ", получено: " + actual + ")");
+        }
+    }
+
+    private void assertThrows(Runnable code, String expectedMessage, String testName) {
+        testCount++;
+        try {
+            code.run();
+            failedTests.add(testName + " (ожидалось исключение)");
+            System.out.println("не прошли " + testName + " (ожидалось исключение)");
+        } catch (Exception e) {
+            if (e.getMessage().contains(expectedMessage)) {
+                passedTests++;
+                System.out.println("прошли " + testName);
+            } else {
+                failedTests.add(testName + " (неверное сообщение исключения: " + e.getMessage() + ")");
+                System.out.println("не прошли " + testName + " (неверное сообщение исключения: " + e.getMessage() + ")");
+            }
+        }
+    }
+
+    public void testSizeClasses() {
+        assertEquals(16, ArrayPool.capacityFor(0), "testSizeClasses - наименьший класс");
+        assertEquals(16, ArrayPool.capacityFor(16), "testSizeClasses - точное совпадение");
+        assertEquals(32, ArrayPool.capacityFor(17), "testSizeClasses - округление вверх");
+        assertEquals(ArrayPool.MAX_POOLED_LENGTH, ArrayPool.capacityFor(ArrayPool.MAX_POOLED_LENGTH),
+            "testSizeClasses - наибольший класс");
+        assertEquals(ArrayPool.MAX_POOLED_LENGTH + 1, ArrayPool.capacityFor(ArrayPool.MAX_POOLED_LENGTH + 1),
+            "testSizeClasses - без округления сверх наибольшего");
+    }
+
+    public void testThreadCacheAndSharedPool() throws InterruptedException {
+        ArrayPool pool = new ArrayPool(1, 1 << 16);
+        Object[] first = pool.acquire(100);
+        assertEquals(128, first.length, "testThreadCache - длина класса");
+        assertEquals(1L, pool.getMisses(), "testThreadCache - первый запрос - промах");
+
+        first[0] = "элемент";
+        pool.release(first, 1);
+        assertEquals(null, first[0], "testThreadCache - массив очищен при возврате");
+        assertTrue(pool.acquire(120) == first, "testThreadCache - повторная выдача из кэша потока");
+        assertEquals(1L, pool.getThreadCacheHits(), "testThreadCache - попадание в кэш потока");
+
+        Object[] second = pool.acquire(128);
+        pool.release(first);
+        pool.release(second);
+        assertEquals(128L, pool.getPooledElements(), "testThreadCache - лишний массив ушел в общий пул");
+
+        AtomicReference<Object[]> fromOtherThread = new AtomicReference<>();
+        Thread other = new Thread(() -> fromOtherThread.set(pool.acquire(128)));
+        other.start();
+        other.join();
+        assertTrue(fromOtherThread.get() == second, "testThreadCache - другой поток берет из общего пула");
+        assertEquals(1L, pool.getSharedHits(), "testThreadCache - попадание в общий пул");
+        assertEquals(0.5, pool.hitRate(), "testThreadCache - доля попаданий");
+    }
+
+    public void testBoundedSharedPool() {
+        ArrayPool pool = new ArrayPool(0, 1 << 14);
+        pool.release(new Object[1 << 13]);
+        pool.release(new Object[1 << 13]);
+        pool.release(new Object[1 << 13]);
+        assertEquals((long) (1 << 14), pool.getPooledElements(), "testBoundedSharedPool - ограничение общего пула");
+        assertEquals(1L, pool.getDiscards(), "testBoundedSharedPool - лишний массив отброшен");
+
+        pool.release(new Object[100]);
+        assertEquals(2L, pool.getDiscards(), "testBoundedSharedPool - массив чужой длины отброшен");
+        Object[] huge = pool.acquire(ArrayPool.MAX_POOLED_LENGTH + 1);
+        assertEquals(ArrayPool.MAX_POOLED_LENGTH + 1, huge.length, "testBoundedSharedPool - большой массив");
+        assertEquals(1L, pool.getUnpooled(), "testBoundedSharedPool - большой массив не из пула");
+    }
+
+    public void testPooledContainer() {
+        ArrayPool pool = new ArrayPool();
+        Object[] array;
+        try (ObjectContainer<Object> container = new ObjectContainer<>(10, pool)) {
+            assertEquals(16, container.capacity(), "testPooledContainer - емкость округлена до класса");
+            for (int i = 0; i < 40; i++) {
+                container.add(i);
+            }
+            assertEquals(64, container.capacity(), "testPooledContainer - расширение через пул");
+            assertEquals(2L, pool.getReturns(), "testPooledContainer - прежние массивы возвращены");
+            assertEquals(39, container.get(39), "testPooledContainer - элементы перенесены");
+            assertTrue(container.getArrayPool() == pool, "testPooledContainer - пул контейнера");
+        }
+        assertEquals(3L, pool.getReturns(), "testPooledContainer - close возвращает массив");
+
+        ObjectContainer<Object> reused = new ObjectContainer<>(50, pool);
+        assertEquals(1L, pool.getThreadCacheHits(), "testPooledContainer - новый контейнер получил массив из пула");
+        reused.add("а");
+        reused.close();
+        assertTrue(reused.isEmpty(), "testPooledContainer - пуст после close");
+        reused.add("б");
+        assertEquals("[б]", reused.toString(), "testPooledContainer - работает после close");
+        reused.close();
+        reused.close();
+        assertEquals(0L, pool.getDiscards(), "testPooledContainer - повторный close ничего не отбрасывает");
+
+        ObjectContainer<Object> plain = new ObjectContainer<>();
+        plain.add("а");
+        plain.close();
+        assertTrue(plain.isEmpty() && plain.getArrayPool() == null, "testPooledContainer - close без пула");
+    }
+
+    public void testInvalidArguments() {
+        assertThrows(() -> new ArrayPool(-1, 0), "не могут быть отрицательными", "testInvalidArguments - глубина кэша");
+        assertThrows(() -> ArrayPool.common().acquire(-1), "не может быть отрицательной", "testInvalidArguments - длина");
+        assertThrows(() -> new ObjectContainer<>(0, ArrayPool.common()), "положительным числом",
+            "testInvalidArguments - емкость 0");
+    }
+
+    @FunctionalInterface
+    private interface Runnable {
+        void run();
+    }
+}
@@ -0,0 +1,452 @@
+package com.container;
+
+import com.container.exceptions.ContainerException;
+import com.container.metrics.LengthHistogram;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Асинхронный фасад ObjectContainer для большого количества мелких запросов
+ * из многих потоков. Вызовы add, get, contains и size не блокируют вызывающий
+ * поток: запрос ставится в очередь и возвращает CompletableFuture. Единственный
+ * поток-владелец забирает из очереди все накопившиеся запросы (не больше
+ * maxBatchSize) и применяет их к контейнеру как один пакет, поэтому потоки
+ * не выстраиваются в очередь за блокировкой контейнера.
+ * <p>
+ * Запросы выполняются в порядке постановки в очередь. Внутри пакета подряд
+ * идущие добавления объединяются: позиции всех вставок вычисляются заранее,
+ * и массив сдвигается одним проходом (см. ObjectContainer.insertAtPositions).
+ * Подряд идущие contains без хеш-индекса обслуживаются одним просмотром
+ * контейнера для всех искомых значений.
+ * <p>
+ * Future завершаются в потоке-владельце, поэтому тяжелые продолжения следует
+ * выполнять асинхронно (thenApplyAsync и т. п.). Пока сервис открыт, к контейнеру
+ * нельзя обращаться напрямую; после close контейнер снова принадлежит вызывающему.
+ *
+ * <pre>
+ * try (AsyncContainerService&lt;String&gt; service = new AsyncContainerService&lt;&gt;(new ObjectContainer&lt;&gt;())) {
+ *     service.add("А");
+ *     boolean found = service.contains("А").join();
+ * }
+ * </pre>
+ *
+ * @param <T> тип элементов
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+public class AsyncContainerService<T> implements AutoCloseable {
+
+    /**
+     * Наибольший размер пакета по умолчанию
+     */
+    public static final int DEFAULT_MAX_BATCH_SIZE = 1024;
+
+    private static final byte ADD = 0;
+    private static final byte INSERT = 1;
+    private static final byte GET = 2;
+    private static final byte CONTAINS = 3;
+    private static final byte SIZE = 4;
+    private static final byte STOP = 5;
+
+    private static final AtomicInteger THREAD_NUMBER = new AtomicInteger();
+
+    private final ObjectContainer<T> container;
+    private final int maxBatchSize;
+    private final LinkedBlockingQueue<Request> queue = new LinkedBlockingQueue<>();
+    private final Thread owner;
+
+    /**
+     * Закрыт ли сервис для новых запросов
+     */
+    private volatile boolean closed;
+
+    /**
+     * Завершил ли поток-владелец обработку очереди
+     */
+    private volatile boolean terminated;
+
+    /**
+     * Позиции и значения вставок текущего пакета; используются только владельцем
+     */
+    private final int[] insertPositions;
+    private final Object[] insertValues;
+
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder requests = new LongAdder();
+    private final LengthHistogram batchSizes = new LengthHistogram();
+    private final LengthHistogram queueLatencies = new LengthHistogram();
+
+    /**
+     * Создает сервис с наибольшим размером пакета по умолчанию.
+     *
+     * @param container обслуживаемый контейнер
+     * @throws ContainerException если container равен null
+     */
+    public AsyncContainerService(ObjectContainer<T> container) {
+        this(container, DEFAULT_MAX_BATCH_SIZE);
+    }
+
+    /**
+     * Создает сервис и запускает поток-владелец.
+     *
+     * @param container обслуживаемый контейнер
+     * @param maxBatchSize наибольшее количество запросов в одном пакете
+     * @throws ContainerException если container равен null или maxBatchSize меньше 1
+     */
+    public AsyncContainerService(ObjectContainer<T> container, int maxBatchSize) {
+        if (container == null) {
+            throw new ContainerException("Контейнер не может быть null");
+        }
+        if (maxBatchSize < 1) {
+            throw new ContainerException("Размер пакета должен быть положительным: " + maxBatchSize);
+        }
+        this.container = container;
+        this.maxBatchSize = maxBatchSize;
+        this.insertPositions = new int[maxBatchSize];
+        this.insertValues = new Object[maxBatchSize];
+        this.owner = new Thread(this::run, "container-service-" + THREAD_NUMBER.incrementAndGet());
+        owner.setDaemon(true);
+        owner.start();
+    }
+
+    /**
+     * Добавляет элемент в конец контейнера.
+     *
+     * @param element элемент для добавления
+     * @return future, завершаемый значением true после добавления
+     */
+    public CompletableFuture<Boolean> add(T element) {
+        return submit(ADD, 0, element);
+    }
+
+    /**
+     * Вставляет элемент в указанную позицию.
+     * Позиция относится к состоянию контейнера после всех ранее поставленных запросов.
+     *
+     * @param index позиция для вставки
+     * @param element элемент для вставки
+     * @return future, завершаемый после вставки или с ContainerException,
+     *         если индекс недопустим
+     */
+    public CompletableFuture<Void> add(int index, T element) {
+        return submit(INSERT, index, element);
+    }
+
+    /**
+     * Возвращает элемент по индексу.
+     *
+     * @param index индекс элемента
+     * @return future с элементом или с ContainerException, если индекс недопустим
+     */
+    public CompletableFuture<T> get(int index) {
+        return submit(GET, index, null);
+    }
+
+    /**
+     * Проверяет наличие элемента в контейнере.
+     *
+     * @param element искомый элемент
+     * @return future с результатом проверки
+     */
+    public CompletableFuture<Boolean> contains(Object element) {
+        return submit(CONTAINS, 0, element);
+    }
+
+    /**
+     * Возвращает количество элементов после всех ранее поставленных запросов.
+     *
+     * @return future с количеством элементов
+     */
+    public CompletableFuture<Integer> size() {
+        return submit(SIZE, 0, null);
+    }
+
+    /**
+     * Закрывает сервис: новые запросы завершаются с ContainerException, уже
+     * поставленные выполняются. Возвращает управление после остановки потока-владельца.
+     *
+     * @throws ContainerException если поток прерван во время ожидания
+     */
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            queue.add(new Request(STOP, 0, null));
+        }
+        try {
+            owner.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ContainerException("Прервано ожидание остановки сервиса", e);
+        }
+    }
+
+    /**
+     * @return true если сервис закрыт для новых запросов
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * @return количество обработанных пакетов
+     */
+    public long getBatches() {
+        return batches.sum();
+    }
+
+    /**
+     * @return количество обработанных запросов
+     */
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    /**
+     * @return средний размер пакета или 0, если пакетов не было
+     */
+    public double getAverageBatchSize() {
+        long count = batches.sum();
+        return count == 0 ? 0 : (double) requests.sum() / count;
+    }
+
+    /**
+     * @return количество запросов, ожидающих в очереди
+     */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * Возвращает гистограмму размеров пакетов.
+     *
+     * @return гистограмма количества запросов в пакете
+     */
+    public LengthHistogram batchSizes() {
+        return batchSizes;
+    }
+
+    /**
+     * Возвращает гистограмму времени ожидания запросов в очереди
+     * от постановки до начала обработки пакета.
+     *
+     * @return гистограмма в микросекундах
+     */
+    public LengthHistogram queueLatencies() {
+        return queueLatencies;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <R> CompletableFuture<R> submit(byte kind, int index, Object element) {
+        Request request = new Request(kind, index, element);
+        if (closed) {
+            request.future.completeExceptionally(closedException());
+        } else {
+            queue.add(request);
+            // владелец мог завершить последний разбор очереди до постановки запроса
+            if (terminated && queue.remove(request)) {
+                request.future.completeExceptionally(closedException());
+            }
+        }
+        return (CompletableFuture<R>) request.future;
+    }
+
+    /**
+     * Цикл потока-владельца: забирает накопившиеся запросы и применяет их пакетом.
+     */
+    private void run() {
+        List<Request> batch = new ArrayList<>(maxBatchSize);
+        boolean stopped = false;
+        try {
+            while (!stopped) {
+                batch.add(queue.take());
+                queue.drainTo(batch, maxBatchSize - 1);
+                stopped = process(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            closed = true;
+        } finally {
+            terminated = true;
+            for (Request request : batch) {
+                request.future.completeExceptionally(closedException());
+            }
+            Request request;
+            while ((request = queue.poll()) != null) {
+                request.future.completeExceptionally(closedException());
+            }
+        }
+    }
+
+    /**
+     * Применяет пакет запросов по порядку, объединяя подряд идущие
+     * добавления и подряд идущие чтения.
+     *
+     * @param batch запросы в порядке постановки
+     * @return true если в пакете встретился запрос остановки
+     */
+    private boolean process(List<Request> batch) {
+        long now = System.nanoTime();
+        int count = batch.size();
+        int stop = count;
+        for (int i = 0; i < count; i++) {
+            Request request = batch.get(i);
+            if (request.kind == STOP) {
+                stop = i;
+                break;
+            }
+            long micros = TimeUnit.NANOSECONDS.toMicros(now - request.enqueuedAt);
+            queueLatencies.record((int) Math.min(micros, Integer.MAX_VALUE));
+        }
+        if (stop > 0) {
+            batches.increment();
+            requests.add(stop);
+            batchSizes.record(stop);
+        }
+        int start = 0;
+        while (start < stop) {
+            boolean write = isWrite(batch.get(start));
+            int end = start + 1;
+            while (end < stop && isWrite(batch.get(end)) == write) {
+                end++;
+            }
+            try {
+                if (write) {
+                    applyWrites(batch, start, end);
+                } else {
+                    applyReads(batch, start, end);
+                }
+            } catch (RuntimeException e) {
+                // например, исключение из equals или hashCode элемента
+                for (int i = start; i < end; i++) {
+                    batch.get(i).future.completeExceptionally(e);
+                }
+            }
+            start = end;
+        }
+        // запросы после остановки поставлены после close и не выполняются
+        for (int i = stop + 1; i < count; i++) {
+            batch.get(i).future.completeExceptionally(closedException());
+        }
+        return stop < count;
+    }
+
+    /**
+     * Применяет подряд идущие добавления одной вставкой со сдвигом за один проход.
+     * Позиции вставок хранятся в порядке возрастания: новая вставка на позицию p
+     * сдвигает на единицу все ранее вставленные элементы с позицией не меньше p.
+     */
+    private void applyWrites(List<Request> batch, int start, int end) {
+        int virtualSize = container.size();
+        int count = 0;
+        for (int i = start; i < end; i++) {
+            Request request = batch.get(i);
+            int position = request.kind == ADD ? virtualSize : request.index;
+            if (position < 0 || position > virtualSize) {
+                request.future.completeExceptionally(ContainerException.invalidInsertIndex(position, virtualSize));
+                continue;
+            }
+            int slot = count;
+            while (slot > 0 && insertPositions[slot - 1] >= position) {
+                insertPositions[slot] = insertPositions[slot - 1] + 1;
+                insertValues[slot] = insertValues[slot - 1];
+                slot--;
+            }
+            insertPositions[slot] = position;
+            insertValues[slot] = request.element;
+            count++;
+            virtualSize++;
+        }
+        try {
+            container.insertAtPositions(insertPositions, insertValues, count);
+        } finally {
+            Arrays.fill(insertValues, 0, count, null);
+        }
+        for (int i = start; i < end; i++) {
+            Request request = batch.get(i);
+            request.future.complete(request.kind == ADD ? Boolean.TRUE : null);
+        }
+    }
+
+    /**
+     * Выполняет подряд идущие чтения. Если искомых значений для contains
+     * несколько, а хеш-индекса нет, все они ищутся за один просмотр контейнера.
+     */
+    private void applyReads(List<Request> batch, int start, int end) {
+        int size = container.size();
+        Map<Object, Boolean> lookups = null;
+        for (int i = start; i < end; i++) {
+            Request request = batch.get(i);
+            if (request.kind == GET) {
+                if (request.index < 0 || request.index >= size) {
+                    request.future.completeExceptionally(ContainerException.indexOutOfRange(request.index, size));
+                } else {
+                    request.future.complete(container.get(request.index));
+                }
+            } else if (request.kind == SIZE) {
+                request.future.complete(size);
+            } else {
+                if (lookups == null) {
+                    lookups = new HashMap<>();
+                }
+                lookups.put(request.element, Boolean.FALSE);
+            }
+        }
+        if (lookups == null) {
+            return;
+        }
+        if (lookups.size() == 1 || container.isIndexed()) {
+            for (Map.Entry<Object, Boolean> lookup : lookups.entrySet()) {
+                lookup.setValue(container.contains(lookup.getKey()));
+            }
+        } else {
+            int remaining = lookups.size();
+            for (int i = 0; i < size && remaining > 0; i++) {
+                Object element = container.get(i);
+                if (Boolean.FALSE.equals(lookups.get(element))) {
+                    lookups.put(element, Boolean.TRUE);
+                    remaining--;
+                }
+            }
+        }
+        for (int i = start; i < end; i++) {
+            Request request = batch.get(i);
+            if (request.kind == CONTAINS) {
+                request.future.complete(lookups.get(request.element));
+            }
+        }
+    }
+
+    private static boolean isWrite(Request request) {
+        return request.kind == ADD || request.kind == INSERT;
+    }
+
+    private static ContainerException closedException() {
+        return new ContainerException("Сервис контейнера закрыт");
+    }
+
+    /**
+     * Запрос в очереди.
+     */
+    private static final class Request {
+        final byte kind;
+        final int index;
+        final Object element;
+        final long enqueuedAt = System.nanoTime();
+        final CompletableFuture<Object> future = new CompletableFuture<>();
+
+        Request(byte kind, int index, Object element) {
+            this.kind = kind;
+            this.index = index;
+            this.element = element;
+        }
+    }
+}
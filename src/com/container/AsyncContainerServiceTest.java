@@ -0,0 +1,223 @@
+package com.container;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Тесты для класса AsyncContainerService без использования JUnit
+ *
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+public class AsyncContainerServiceTest {
+
+    private int testCount = 0;
+    private int passedTests = 0;
+    private List<String> failedTests = new ArrayList<>();
+
+    /**
+     * Запуск всех тестов
+     */
+    public static void main(String[] args) throws InterruptedException {
+        AsyncContainerServiceTest tester = new AsyncContainerServiceTest();
+        tester.runAllTests();
+    }
+
+    /**
+     * Запускает все тесты и выводит результаты
+     */
+    public void runAllTests() throws InterruptedException {
+        System.out.println("=== Запуск тестов AsyncContainerService ===\n");
+
+        testBasicRequests();
+        testBatchedInsertsMatchSequential();
+        testBatchedContains();
+        testInvalidRequests();
+        testConcurrentClients();
+        testClose();
+
+        System.out.println("\n=== Результаты тестов ===");
+        System.out.println("Пройдено: " + passedTests + " из " + testCount + " тестов");
+
+        if (passedTests == testCount) {
+            System.out.println(" Все тесты прошли успешно!");
+        } else {
+            System.out.println(" Не все тесты прошли");
+            System.out.println("\n=== Проваленные тесты ===");
+            for (String failedTest : failedTests) {
+                System.out.println(" " + failedTest);
+            }
+        }
+    }
+
+    private void assertTrue(boolean condition, String message) {
+        testCount++;
+        if (condition) {
+            passedTests++;
+            System.out.println("прошли " + message);
+        } else {
+            failedTests.add(message);
+            System.out.println("не прошли " + message);
+        }
+    }
+
+    private void assertFalse(boolean condition, String message) {
+        assertTrue(!condition, message);
+    }
+
+    private void assertEquals(Object expected, Object actual, String message) {
+        testCount++;
+        boolean isEqual = (expected == null) ? actual == null : expected.equals(actual);
+        if (isEqual) {
+            passedTests++;
+            System.out.println("прошли " + message);
+        } else {
+            failedTests.add(message + " (ожидалось: " + expected + ", получено: " + actual + ")");
+            System.out.println("не прошли " + message + " (ожидалось: " + expected + ", получено: " + actual + ")");
+        }
+    }
+
+    private void assertThrows(Runnable code, String expectedMessage, String testName) {
+        testCount++;
+        try {
+            code.run();
+            failedTests.add(testName + " (ожидалось исключение)");
+            System.out.println("не прошли " + testName + " (ожидалось исключение)");
+        } catch (Exception e) {
+            if (e.getMessage().contains(expectedMessage)) {
+                passedTests++;
+                System.out.println("прошли " + testName);
+            } else {
+                failedTests.add(testName + " (неверное сообщение исключения: " + e.getMessage() + ")");
+                System.out.println("не прошли " + testName + " (неверное сообщение исключения: " + e.getMessage() + ")");
+            }
+        }
+    }
+
+    public void testBasicRequests() {
+        ObjectContainer<String> container = new ObjectContainer<>();
+        try (AsyncContainerService<String> service = new AsyncContainerService<>(container)) {
+            service.add("А");
+            service.add("В");
+            service.add(1, "Б");
+            assertEquals("Б", service.get(1).join(), "testBasicRequests - get после вставки");
+            assertEquals(3, service.size().join(), "testBasicRequests - size");
+            assertTrue(service.contains("В").join(), "testBasicRequests - contains");
+            assertFalse(service.contains("Г").join(), "testBasicRequests - contains отсутствующего");
+            assertTrue(service.getRequests() >= 7, "testBasicRequests - счетчик запросов");
+            assertTrue(service.getBatches() >= 1 && service.getBatches() <= service.getRequests(),
+                "testBasicRequests - счетчик пакетов");
+            assertEquals(service.getBatches(), service.batchSizes().count(), "testBasicRequests - гистограмма пакетов");
+            assertEquals(service.getRequests(), service.queueLatencies().count(), "testBasicRequests - гистограмма ожидания");
+        }
+        assertEquals("[А, Б, В]", container.toString(), "testBasicRequests - контейнер после close");
+    }
+
+    public void testBatchedInsertsMatchSequential() {
+        Random random = new Random(5);
+        ObjectContainer<Integer> expected = new ObjectContainer<>();
+        ObjectContainer<Integer> container = new ObjectContainer<>();
+        List<CompletableFuture<?>> pending = new ArrayList<>();
+        try (AsyncContainerService<Integer> service = new AsyncContainerService<>(container, 64)) {
+            for (int i = 0; i < 2000; i++) {
+                if (random.nextBoolean()) {
+                    int index = random.nextInt(expected.size() + 1);
+                    expected.add(index, i);
+                    pending.add(service.add(index, i));
+                } else {
+                    expected.add(i);
+                    pending.add(service.add(i));
+                }
+            }
+            CompletableFuture.allOf(pending.toArray(new CompletableFuture<?>[0])).join();
+            assertTrue(service.getAverageBatchSize() >= 1, "testBatchedInserts - средний размер пакета");
+            assertTrue(service.batchSizes().percentile(100) <= 127, "testBatchedInserts - пакет не больше наибольшего");
+        }
+        assertEquals(expected.toString(), container.toString(), "testBatchedInserts - совпадает с последовательными вставками");
+    }
+
+    public void testBatchedContains() {
+        ObjectContainer<Object> container = new ObjectContainer<>();
+        try (AsyncContainerService<Object> service = new AsyncContainerService<>(container)) {
+            for (int i = 0; i < 100; i++) {
+                service.add(i);
+            }
+            service.add(null);
+            List<CompletableFuture<Boolean>> found = new ArrayList<>();
+            for (int i = 0; i < 200; i += 10) {
+                found.add(service.contains(i));
+            }
+            CompletableFuture<Boolean> nullFound = service.contains(null);
+            CompletableFuture<Boolean> duplicate = service.contains(50);
+            for (int i = 0; i < found.size(); i++) {
+                assertEquals(i * 10 < 100, found.get(i).join(), "testBatchedContains - значение " + i * 10);
+            }
+            assertTrue(nullFound.join(), "testBatchedContains - null");
+            assertTrue(duplicate.join(), "testBatchedContains - повторный ключ");
+        }
+    }
+
+    public void testInvalidRequests() {
+        try (AsyncContainerService<String> service = new AsyncContainerService<>(new ObjectContainer<>())) {
+            service.add("А");
+            CompletableFuture<Void> invalid = service.add(5, "Б");
+            CompletableFuture<Boolean> valid = service.add("В");
+            assertThrows(invalid::join, "Недопустимый индекс для вставки: 5. Допустимый диапазон: 0 - 1",
+                "testInvalidRequests - недопустимая вставка");
+            assertTrue(valid.join(), "testInvalidRequests - следующий запрос выполнен");
+            assertThrows(() -> service.get(2).join(), "Индекс за пределами диапазона: 2. Размер контейнера: 2",
+                "testInvalidRequests - get за границей");
+        }
+        assertThrows(() -> new AsyncContainerService<>(null), "Контейнер не может быть null",
+            "testInvalidRequests - null контейнер");
+        assertThrows(() -> new AsyncContainerService<>(new ObjectContainer<>(), 0), "Размер пакета должен быть положительным",
+            "testInvalidRequests - нулевой размер пакета");
+    }
+
+    public void testConcurrentClients() throws InterruptedException {
+        ObjectContainer<Integer> container = new ObjectContainer<>();
+        try (AsyncContainerService<Integer> service = new AsyncContainerService<>(container)) {
+            Thread[] clients = new Thread[8];
+            for (int t = 0; t < clients.length; t++) {
+                final int base = t * 1000;
+                clients[t] = new Thread(() -> {
+                    List<CompletableFuture<Boolean>> pending = new ArrayList<>();
+                    for (int i = 0; i < 1000; i++) {
+                        pending.add(service.add(base + i));
+                    }
+                    pending.forEach(CompletableFuture::join);
+                });
+                clients[t].start();
+            }
+            for (Thread client : clients) {
+                client.join();
+            }
+            assertEquals(8000, service.size().join(), "testConcurrentClients - все добавления выполнены");
+            assertTrue(service.getBatches() < service.getRequests(), "testConcurrentClients - запросы объединялись в пакеты");
+        }
+        long sum = 0;
+        for (Integer value : container) {
+            sum += value;
+        }
+        assertEquals(7999L * 8000 / 2, sum, "testConcurrentClients - каждый элемент добавлен один раз");
+    }
+
+    public void testClose() {
+        ObjectContainer<String> container = new ObjectContainer<>();
+        AsyncContainerService<String> service = new AsyncContainerService<>(container);
+        CompletableFuture<Boolean> beforeClose = service.add("А");
+        service.close();
+        assertTrue(beforeClose.isDone() && beforeClose.join(), "testClose - запрос до close выполнен");
+        assertTrue(service.isClosed(), "testClose - isClosed");
+        assertThrows(() -> service.add("Б").join(), "Сервис контейнера закрыт", "testClose - запрос после close");
+        service.close();
+        assertEquals(1, container.size(), "testClose - повторный close");
+    }
+
+    @FunctionalInterface
+    private interface Runnable {
+        void run();
+    }
+}
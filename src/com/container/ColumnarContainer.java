@@ -0,0 +1,891 @@
+package com.container;
+
+import com.container.exceptions.ContainerException;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.DoublePredicate;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+
+/**
+ * Контейнер для элементов разных типов с хранением по колонкам.
+ * Каждый тип хранится в своей колонке: Integer и Double - в массивах int[]
+ * и double[] без упаковки, String - в отдельном массиве строк, остальные
+ * объекты - в общей колонке. Для каждой позиции хранятся однобайтовый тег
+ * типа и номер записи в колонке; колонка дополнительно помнит позицию
+ * каждой своей записи, поэтому записи колонки идут в порядке позиций.
+ * <p>
+ * Методы addInt и addDouble добавляют число без упаковки, add(Object)
+ * сохраняет тип аргумента так же, как ObjectContainer: Long, Float,
+ * Character и прочие обертки попадают в общую колонку. Типизированные
+ * методы getInt, getDouble и getString читают значение
+ * без упаковки и приведения типа. Поиск по типу (findDoubles, countDoubles,
+ * sumInts и т.п.) просматривает только одну колонку. Добавление в конец
+ * выполняется за амортизированное O(1), вставка и удаление в середине - за O(n),
+ * как в ObjectContainer.
+ *
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+public class ColumnarContainer {
+
+    /**
+     * Тег null
+     */
+    public static final byte NULL = 0;
+
+    /**
+     * Тег Integer (колонка int[])
+     */
+    public static final byte INT = 1;
+
+    /**
+     * Тег Double (колонка double[])
+     */
+    public static final byte DOUBLE = 2;
+
+    /**
+     * Тег String
+     */
+    public static final byte STRING = 3;
+
+    /**
+     * Тег прочих объектов
+     */
+    public static final byte OBJECT = 4;
+
+    /**
+     * Начальная емкость по умолчанию
+     */
+    private static final int DEFAULT_CAPACITY = 10;
+
+    /**
+     * Коэффициент увеличения размера
+     */
+    private static final double GROW_FACTOR = 1.5;
+
+    /**
+     * Размер ссылки в байтах: 4 при сжатых указателях (куча меньше 32 ГБ), иначе 8
+     */
+    private static final int REFERENCE_BYTES = Runtime.getRuntime().maxMemory() < (32L << 30) ? 4 : 8;
+
+    /**
+     * Теги типов по позициям
+     */
+    private byte[] tags;
+
+    /**
+     * Номер записи в колонке по позициям, -1 для null
+     */
+    private int[] positions;
+
+    /**
+     * Текущее количество элементов
+     */
+    private int size;
+
+    private final IntColumn ints = new IntColumn();
+    private final DoubleColumn doubles = new DoubleColumn();
+    private final ReferenceColumn strings = new ReferenceColumn();
+    private final ReferenceColumn objects = new ReferenceColumn();
+
+    /**
+     * Создает контейнер с емкостью по умолчанию.
+     */
+    public ColumnarContainer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Создает контейнер с указанной начальной емкостью.
+     * Емкость колонок растет отдельно по мере добавления элементов своего типа.
+     *
+     * @param initialCapacity начальная емкость контейнера
+     * @throws ContainerException если initialCapacity меньше или равно 0
+     */
+    public ColumnarContainer(int initialCapacity) {
+        if (initialCapacity <= 0) {
+            throw new ContainerException(
+                "Начальная емкость должна быть положительным числом: " + initialCapacity
+            );
+        }
+        this.tags = new byte[initialCapacity];
+        this.positions = new int[initialCapacity];
+        this.size = 0;
+    }
+
+    /**
+     * Добавляет целое число в конец контейнера без упаковки.
+     *
+     * @param value значение
+     * @return true если элемент успешно добавлен
+     */
+    public boolean addInt(int value) {
+        int position = insertSlot(size, INT);
+        ints.values[position] = value;
+        return true;
+    }
+
+    /**
+     * Добавляет вещественное число в конец контейнера без упаковки.
+     *
+     * @param value значение
+     * @return true если элемент успешно добавлен
+     */
+    public boolean addDouble(double value) {
+        int position = insertSlot(size, DOUBLE);
+        doubles.values[position] = value;
+        return true;
+    }
+
+    /**
+     * Добавляет строку в конец контейнера.
+     *
+     * @param value строка или null
+     * @return true если элемент успешно добавлен
+     */
+    public boolean add(String value) {
+        add(size, (Object) value);
+        return true;
+    }
+
+    /**
+     * Добавляет элемент в конец контейнера.
+     * Integer и Double распаковываются в свои колонки.
+     *
+     * @param element элемент для добавления
+     * @return true если элемент успешно добавлен
+     */
+    public boolean add(Object element) {
+        add(size, element);
+        return true;
+    }
+
+    /**
+     * Вставляет элемент в указанную позицию.
+     *
+     * @param index позиция для вставки
+     * @param element элемент для вставки
+     * @throws ContainerException если индекс недопустим
+     */
+    public void add(int index, Object element) {
+        checkIndexForAdd(index);
+        byte tag = tagOf(element);
+        int position = insertSlot(index, tag);
+        switch (tag) {
+            case INT:
+                ints.values[position] = (Integer) element;
+                break;
+            case DOUBLE:
+                doubles.values[position] = (Double) element;
+                break;
+            case STRING:
+                strings.values[position] = element;
+                break;
+            case OBJECT:
+                objects.values[position] = element;
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Возвращает элемент по указанному индексу.
+     * Числа упаковываются при каждом вызове; для чтения без упаковки
+     * используйте getInt и getDouble.
+     *
+     * @param index индекс элемента
+     * @return элемент по указанному индексу
+     * @throws ContainerException если индекс недопустим
+     */
+    public Object get(int index) {
+        checkIndex(index);
+        int position = positions[index];
+        switch (tags[index]) {
+            case INT:
+                return ints.values[position];
+            case DOUBLE:
+                return doubles.values[position];
+            case STRING:
+                return strings.values[position];
+            case OBJECT:
+                return objects.values[position];
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Возвращает целое число по индексу без упаковки.
+     *
+     * @param index индекс элемента
+     * @return значение
+     * @throws ContainerException если индекс недопустим или элемент не Integer
+     */
+    public int getInt(int index) {
+        checkType(index, INT);
+        return ints.values[positions[index]];
+    }
+
+    /**
+     * Возвращает вещественное число по индексу без упаковки.
+     *
+     * @param index индекс элемента
+     * @return значение
+     * @throws ContainerException если индекс недопустим или элемент не Double
+     */
+    public double getDouble(int index) {
+        checkType(index, DOUBLE);
+        return doubles.values[positions[index]];
+    }
+
+    /**
+     * Возвращает строку по индексу без приведения типа.
+     *
+     * @param index индекс элемента
+     * @return строка
+     * @throws ContainerException если индекс недопустим или элемент не String
+     */
+    public String getString(int index) {
+        checkType(index, STRING);
+        return (String) strings.values[positions[index]];
+    }
+
+    /**
+     * Возвращает тег типа элемента: NULL, INT, DOUBLE, STRING или OBJECT.
+     *
+     * @param index индекс элемента
+     * @return тег типа
+     * @throws ContainerException если индекс недопустим
+     */
+    public byte typeAt(int index) {
+        checkIndex(index);
+        return tags[index];
+    }
+
+    /**
+     * Удаляет элемент по указанному индексу.
+     *
+     * @param index индекс удаляемого элемента
+     * @return удаленный элемент
+     * @throws ContainerException если индекс недопустим
+     */
+    public Object remove(int index) {
+        Object removed = get(index);
+        byte tag = tags[index];
+        if (tag != NULL) {
+            Column column = column(tag);
+            int position = positions[index];
+            column.close(position);
+            for (int k = position; k < column.count; k++) {
+                positions[column.slots[k]] = k;
+            }
+        }
+        System.arraycopy(tags, index + 1, tags, index, size - index - 1);
+        System.arraycopy(positions, index + 1, positions, index, size - index - 1);
+        size--;
+        if (index < size) {
+            shiftSlots(index + 1, -1);
+        }
+        return removed;
+    }
+
+    /**
+     * Удаляет первое вхождение указанного элемента.
+     *
+     * @param element элемент для удаления
+     * @return true если элемент был найден и удален
+     */
+    public boolean remove(Object element) {
+        int index = findIndex(element);
+        if (index != -1) {
+            remove(index);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Проверяет наличие элемента в контейнере.
+     *
+     * @param element искомый элемент
+     * @return true если элемент найден
+     */
+    public boolean contains(Object element) {
+        return findIndex(element) != -1;
+    }
+
+    /**
+     * Ищет индекс первого вхождения элемента.
+     * Просматривается только колонка типа искомого элемента.
+     *
+     * @param element искомый элемент
+     * @return индекс элемента или -1 если не найден
+     */
+    public int findIndex(Object element) {
+        switch (tagOf(element)) {
+            case INT: {
+                int value = (Integer) element;
+                for (int k = 0; k < ints.count; k++) {
+                    if (ints.values[k] == value) {
+                        return ints.slots[k];
+                    }
+                }
+                return -1;
+            }
+            case DOUBLE: {
+                long bits = Double.doubleToLongBits((Double) element);
+                for (int k = 0; k < doubles.count; k++) {
+                    if (Double.doubleToLongBits(doubles.values[k]) == bits) {
+                        return doubles.slots[k];
+                    }
+                }
+                return -1;
+            }
+            case STRING:
+                return strings.find(element);
+            case OBJECT:
+                return objects.find(element);
+            default:
+                for (int i = 0; i < size; i++) {
+                    if (tags[i] == NULL) {
+                        return i;
+                    }
+                }
+                return -1;
+        }
+    }
+
+    /**
+     * Возвращает индексы всех целых чисел, удовлетворяющих условию, по возрастанию.
+     * Просматривается только колонка int[].
+     *
+     * @param predicate условие
+     * @return индексы элементов
+     */
+    public int[] findInts(IntPredicate predicate) {
+        Objects.requireNonNull(predicate);
+        int[] result = new int[ints.count];
+        int found = 0;
+        for (int k = 0; k < ints.count; k++) {
+            if (predicate.test(ints.values[k])) {
+                result[found++] = ints.slots[k];
+            }
+        }
+        return Arrays.copyOf(result, found);
+    }
+
+    /**
+     * Возвращает индексы всех вещественных чисел, удовлетворяющих условию, по возрастанию.
+     * Просматривается только колонка double[].
+     *
+     * @param predicate условие, например {@code value -> value > 4.0}
+     * @return индексы элементов
+     */
+    public int[] findDoubles(DoublePredicate predicate) {
+        Objects.requireNonNull(predicate);
+        int[] result = new int[doubles.count];
+        int found = 0;
+        for (int k = 0; k < doubles.count; k++) {
+            if (predicate.test(doubles.values[k])) {
+                result[found++] = doubles.slots[k];
+            }
+        }
+        return Arrays.copyOf(result, found);
+    }
+
+    /**
+     * Возвращает индексы всех строк, удовлетворяющих условию, по возрастанию.
+     * Просматривается только колонка строк.
+     *
+     * @param predicate условие
+     * @return индексы элементов
+     */
+    public int[] findStrings(Predicate<String> predicate) {
+        Objects.requireNonNull(predicate);
+        int[] result = new int[strings.count];
+        int found = 0;
+        for (int k = 0; k < strings.count; k++) {
+            if (predicate.test((String) strings.values[k])) {
+                result[found++] = strings.slots[k];
+            }
+        }
+        return Arrays.copyOf(result, found);
+    }
+
+    /**
+     * Подсчитывает вещественные числа, удовлетворяющие условию.
+     * Просматривается только колонка double[].
+     *
+     * @param predicate условие
+     * @return количество подходящих элементов
+     */
+    public int countDoubles(DoublePredicate predicate) {
+        Objects.requireNonNull(predicate);
+        int matches = 0;
+        for (int k = 0; k < doubles.count; k++) {
+            if (predicate.test(doubles.values[k])) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Возвращает сумму всех целых чисел контейнера.
+     *
+     * @return сумма
+     */
+    public long sumInts() {
+        long sum = 0;
+        for (int k = 0; k < ints.count; k++) {
+            sum += ints.values[k];
+        }
+        return sum;
+    }
+
+    /**
+     * Возвращает сумму всех вещественных чисел контейнера.
+     *
+     * @return сумма
+     */
+    public double sumDoubles() {
+        double sum = 0;
+        for (int k = 0; k < doubles.count; k++) {
+            sum += doubles.values[k];
+        }
+        return sum;
+    }
+
+    /**
+     * Возвращает количество элементов указанного типа.
+     *
+     * @param type тег типа: NULL, INT, DOUBLE, STRING или OBJECT
+     * @return количество элементов
+     * @throws ContainerException если тег неизвестен
+     */
+    public int countOf(byte type) {
+        if (type == NULL) {
+            return size - ints.count - doubles.count - strings.count - objects.count;
+        }
+        return column(type).count;
+    }
+
+    /**
+     * Возвращает текущее количество элементов.
+     *
+     * @return количество элементов
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Проверяет, пуст ли контейнер.
+     *
+     * @return true если контейнер пуст
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Очищает контейнер, удаляя все элементы.
+     */
+    public void clear() {
+        size = 0;
+        ints.clear();
+        doubles.clear();
+        strings.clear();
+        objects.clear();
+    }
+
+    /**
+     * Возвращает массив со всеми элементами контейнера.
+     * Числа упаковываются.
+     *
+     * @return массив элементов
+     */
+    public Object[] toArray() {
+        Object[] result = new Object[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = get(i);
+        }
+        return result;
+    }
+
+    /**
+     * Оценивает объем памяти, удерживаемый контейнером: массивы тегов
+     * и номеров записей и все колонки. В отличие от ObjectContainer,
+     * числа хранятся в самих колонках, поэтому для Integer и Double оценка
+     * учитывает и значения; строки и прочие объекты учитываются только ссылками.
+     *
+     * @return оценка в байтах
+     */
+    public long estimatedRetainedBytes() {
+        long bytes = alignTo8(16 + 6L * REFERENCE_BYTES + Integer.BYTES);
+        bytes += alignTo8(16 + (long) tags.length);
+        bytes += alignTo8(16 + (long) positions.length * Integer.BYTES);
+        bytes += ints.estimatedBytes(Integer.BYTES);
+        bytes += doubles.estimatedBytes(Double.BYTES);
+        bytes += strings.estimatedBytes(REFERENCE_BYTES);
+        bytes += objects.estimatedBytes(REFERENCE_BYTES);
+        return bytes;
+    }
+
+    /**
+     * Занимает позицию index под элемент с указанным тегом и, если тег не NULL,
+     * запись в его колонке. Последующие позиции и записи колонок сдвигаются.
+     *
+     * @param index позиция нового элемента
+     * @param tag тег типа
+     * @return номер записи в колонке или -1 для null
+     */
+    private int insertSlot(int index, byte tag) {
+        ensureCapacity(size + 1);
+        System.arraycopy(tags, index, tags, index + 1, size - index);
+        System.arraycopy(positions, index, positions, index + 1, size - index);
+        size++;
+        boolean append = index == size - 1;
+        if (!append) {
+            shiftSlots(index, 1);
+        }
+        tags[index] = tag;
+        if (tag == NULL) {
+            positions[index] = -1;
+            return -1;
+        }
+        Column column = column(tag);
+        int position = append ? column.count : column.lowerBound(index);
+        column.open(position);
+        column.slots[position] = index;
+        positions[index] = position;
+        for (int k = position + 1; k < column.count; k++) {
+            positions[column.slots[k]] = k;
+        }
+        return position;
+    }
+
+    /**
+     * Сдвигает позиции элементов во всех колонках, начиная с позиции from.
+     *
+     * @param from наименьшая сдвигаемая позиция
+     * @param delta величина сдвига
+     */
+    private void shiftSlots(int from, int delta) {
+        ints.shiftSlots(from, delta);
+        doubles.shiftSlots(from, delta);
+        strings.shiftSlots(from, delta);
+        objects.shiftSlots(from, delta);
+    }
+
+    /**
+     * Гарантирует достаточную емкость массивов тегов и номеров записей.
+     *
+     * @param minCapacity минимальная требуемая емкость
+     */
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > tags.length) {
+            int newCapacity = (int) (tags.length * GROW_FACTOR);
+            if (newCapacity < minCapacity) {
+                newCapacity = minCapacity;
+            }
+            tags = Arrays.copyOf(tags, newCapacity);
+            positions = Arrays.copyOf(positions, newCapacity);
+        }
+    }
+
+    private Column column(byte tag) {
+        switch (tag) {
+            case INT:
+                return ints;
+            case DOUBLE:
+                return doubles;
+            case STRING:
+                return strings;
+            case OBJECT:
+                return objects;
+            default:
+                throw new ContainerException("Неизвестный тег типа: " + tag);
+        }
+    }
+
+    private static byte tagOf(Object element) {
+        if (element == null) {
+            return NULL;
+        }
+        Class<?> type = element.getClass();
+        if (type == Integer.class) {
+            return INT;
+        }
+        if (type == Double.class) {
+            return DOUBLE;
+        }
+        if (type == String.class) {
+            return STRING;
+        }
+        return OBJECT;
+    }
+
+    private static String typeName(byte tag) {
+        switch (tag) {
+            case INT:
+                return "Integer";
+            case DOUBLE:
+                return "Double";
+            case STRING:
+                return "String";
+            case OBJECT:
+                return "Object";
+            default:
+                return "null";
+        }
+    }
+
+    private static long alignTo8(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+
+    /**
+     * Проверяет индекс и тип элемента для типизированного чтения.
+     *
+     * @param index индекс элемента
+     * @param expected ожидаемый тег
+     * @throws ContainerException если индекс недопустим или тип не совпадает
+     */
+    private void checkType(int index, byte expected) {
+        checkIndex(index);
+        if (tags[index] != expected) {
+            throw new ContainerException(
+                "Элемент " + index + " имеет тип " + typeName(tags[index]) + ", ожидался " + typeName(expected)
+            );
+        }
+    }
+
+    /**
+     * Проверяет корректность индекса для операций get и remove.
+     *
+     * @param index проверяемый индекс
+     * @throws ContainerException если индекс невалиден
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw ContainerException.indexOutOfRange(index, size);
+        }
+    }
+
+    /**
+     * Проверяет корректность индекса для операции add.
+     *
+     * @param index проверяемый индекс
+     * @throws ContainerException если индекс невалиден
+     */
+    private void checkIndexForAdd(int index) {
+        if (index < 0 || index > size) {
+            throw ContainerException.invalidInsertIndex(index, size);
+        }
+    }
+
+    /**
+     * Возвращает строковое представление контейнера.
+     *
+     * @return строковое представление в формате [элемент1, элемент2, ...]
+     */
+    @Override
+    public String toString() {
+        if (size == 0) {
+            return "[]";
+        }
+
+        StringBuilder result = new StringBuilder();
+        result.append("[");
+        for (int i = 0; i < size; i++) {
+            result.append(get(i));
+            if (i < size - 1) {
+                result.append(", ");
+            }
+        }
+        result.append("]");
+        return result.toString();
+    }
+
+    /**
+     * Колонка значений одного типа с позициями их элементов в контейнере.
+     * Записи упорядочены по позициям, поэтому массив slots возрастает.
+     */
+    private abstract static class Column {
+
+        /**
+         * Позиция элемента в контейнере для каждой записи
+         */
+        int[] slots = new int[0];
+
+        /**
+         * Количество записей
+         */
+        int count;
+
+        /**
+         * Ищет первую запись с позицией не меньше slot.
+         *
+         * @param slot позиция в контейнере
+         * @return номер записи или count
+         */
+        int lowerBound(int slot) {
+            int low = 0;
+            int high = count;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (slots[middle] < slot) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * Освобождает место под запись с номером position, сдвигая последующие вправо.
+         *
+         * @param position номер новой записи
+         */
+        void open(int position) {
+            if (count == slots.length) {
+                int newCapacity = Math.max((int) (slots.length * GROW_FACTOR), count + 1);
+                slots = Arrays.copyOf(slots, newCapacity);
+                resizeValues(newCapacity);
+            }
+            System.arraycopy(slots, position, slots, position + 1, count - position);
+            moveValues(position, position + 1, count - position);
+            count++;
+        }
+
+        /**
+         * Удаляет запись с номером position, сдвигая последующие влево.
+         *
+         * @param position номер удаляемой записи
+         */
+        void close(int position) {
+            System.arraycopy(slots, position + 1, slots, position, count - position - 1);
+            moveValues(position + 1, position, count - position - 1);
+            count--;
+            clearValue(count);
+        }
+
+        /**
+         * Сдвигает позиции записей, начиная с позиции from.
+         *
+         * @param from наименьшая сдвигаемая позиция
+         * @param delta величина сдвига
+         */
+        void shiftSlots(int from, int delta) {
+            for (int k = lowerBound(from); k < count; k++) {
+                slots[k] += delta;
+            }
+        }
+
+        /**
+         * Удаляет все записи.
+         */
+        void clear() {
+            count = 0;
+        }
+
+        /**
+         * Оценивает объем памяти колонки.
+         *
+         * @param valueBytes размер одного значения
+         * @return оценка в байтах
+         */
+        long estimatedBytes(int valueBytes) {
+            return alignTo8(16 + (long) slots.length * Integer.BYTES)
+                + alignTo8(16 + (long) slots.length * valueBytes);
+        }
+
+        abstract void resizeValues(int capacity);
+
+        abstract void moveValues(int from, int to, int length);
+
+        void clearValue(int position) {
+        }
+    }
+
+    /**
+     * Колонка значений int.
+     */
+    private static final class IntColumn extends Column {
+        int[] values = new int[0];
+
+        @Override
+        void resizeValues(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        void moveValues(int from, int to, int length) {
+            System.arraycopy(values, from, values, to, length);
+        }
+    }
+
+    /**
+     * Колонка значений double.
+     */
+    private static final class DoubleColumn extends Column {
+        double[] values = new double[0];
+
+        @Override
+        void resizeValues(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        void moveValues(int from, int to, int length) {
+            System.arraycopy(values, from, values, to, length);
+        }
+    }
+
+    /**
+     * Колонка ссылок на объекты.
+     */
+    private static final class ReferenceColumn extends Column {
+        Object[] values = new Object[0];
+
+        @Override
+        void resizeValues(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        void moveValues(int from, int to, int length) {
+            System.arraycopy(values, from, values, to, length);
+        }
+
+        @Override
+        void clearValue(int position) {
+            values[position] = null;
+        }
+
+        @Override
+        void clear() {
+            Arrays.fill(values, 0, count, null);
+            super.clear();
+        }
+
+        /**
+         * Ищет первую запись, равную элементу.
+         *
+         * @param element искомый элемент
+         * @return позиция элемента в контейнере или -1
+         */
+        int find(Object element) {
+            for (int k = 0; k < count; k++) {
+                if (element.equals(values[k])) {
+                    return slots[k];
+                }
+            }
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package com.container;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Тесты для класса ColumnarContainer без использования JUnit
+ *
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+public class ColumnarContainerTest {
+
+    private int testCount = 0;
+    private int passedTests = 0;
+    private List<String> failedTests = new ArrayList<>();
+
+    /**
+     * Запуск всех тестов
+     */
+    public static void main(String[] args) {
+        ColumnarContainerTest tester = new ColumnarContainerTest();
+        tester.runAllTests();
+    }
+
+    /**
+     * Запускает все тесты и выводит результаты
+     */
+    public void runAllTests() {
+        System.out.println("=== Запуск тестов ColumnarContainer ===\n");
+
+        testMixedRecords();
+        testTypedAccessors();
+        testColumnScans();
+        testInsertAndRemoveKeepColumnsInOrder();
+        testFindIndex();
+        testInvalidIndex();
+        testMatchesObjectContainer();
+
+        System.out.println("\n=== Результаты тестов ===");
+        System.out.println("Пройдено: " + passedTests + " из " + testCount + " тестов");
+
+        if (passedTests == testCount) {
+            System.out.println(" Все тесты прошли успешно!");
+        } else {
+            System.out.println(" Не все тесты прошли");
+            System.out.println("\n=== Проваленные тесты ===");
+            for (String failedTest : failedTests) {
+                System.out.println(" " + failedTest);
+            }
+        }
+    }
+
+    private void assertTrue(boolean condition, String message) {
+        testCount++;
+        if (condition) {
+            passedTests++;
+            System.out.println("прошли " + message);
+        } else {
+            failedTests.add(message);
+            System.out.println("не прошли " + message);
+        }
+    }
+
+    private void assertFalse(boolean condition, String message) {
+        assertTrue(!condition, message);
+    }
+
+    private void assertEquals(Object expected, Object actual, String message) {
+        testCount++;
+        boolean isEqual = (expected == null) ? actual == null : expected.equals(actual);
+        if (isEqual) {
+            passedTests++;
+            System.out.println("прошли " + message);
+        } else {
+            failedTests.add(message + " (ожидалось: " + expected + ", получено: " + actual + ")");
+            System.out.println("не прошли " + message + " (ожидалось: " + expected + ", получено: " + actual + ")");
+        }
+    }
+
+    private void assertThrows(Runnable code, String expectedMessage, String testName) {
+        testCount++;
+        try {
+            code.run();
+            failedTests.add(testName + " (ожидалось исключение)");
+            System.out.println("не прошли " + testName + " (ожидалось исключение)");
+        } catch (Exception e) {
+            if (e.getMessage().contains(expectedMessage)) {
+                passedTests++;
+                System.out.println("прошли " + testName);
+            } else {
+                failedTests.add(testName + " (неверное сообщение исключения: " + e.getMessage() + ")");
+                System.out.println("не прошли " + testName + " (неверное сообщение исключения: " + e.getMessage() + ")");
+            }
+        }
+    }
+
+    public void testMixedRecords() {
+        ColumnarContainer container = new ColumnarContainer(2);
+        container.add("Иван");
+        container.addInt(25);
+        container.add("Группа 101");
+        container.addDouble(4.5);
+        container.add((Object) null);
+
+        assertEquals("[Иван, 25, Группа 101, 4.5, null]", container.toString(), "testMixedRecords - порядок элементов");
+        assertEquals(5, container.size(), "testMixedRecords - размер 5");
+        assertEquals(25, container.get(1), "testMixedRecords - get возвращает Integer");
+        assertEquals(4.5, container.get(3), "testMixedRecords - get возвращает Double");
+        assertEquals(ColumnarContainer.STRING, container.typeAt(2), "testMixedRecords - тег строки");
+        assertEquals(ColumnarContainer.NULL, container.typeAt(4), "testMixedRecords - тег null");
+        assertEquals(2, container.countOf(ColumnarContainer.STRING), "testMixedRecords - две строки");
+        assertEquals(1, container.countOf(ColumnarContainer.NULL), "testMixedRecords - один null");
+
+        container.clear();
+        assertTrue(container.isEmpty(), "testMixedRecords - clear");
+        assertEquals(0, container.countOf(ColumnarContainer.INT), "testMixedRecords - колонка очищена");
+    }
+
+    public void testTypedAccessors() {
+        ColumnarContainer container = new ColumnarContainer();
+        container.addInt(7);
+        container.addDouble(2.25);
+        container.add("строка");
+        container.add(new StringBuilder("sb"));
+
+        assertEquals(7, container.getInt(0), "testTypedAccessors - getInt");
+        assertEquals(2.25, container.getDouble(1), "testTypedAccessors - getDouble");
+        assertEquals("строка", container.getString(2), "testTypedAccessors - getString");
+        assertEquals(ColumnarContainer.OBJECT, container.typeAt(3), "testTypedAccessors - прочий объект");
+        assertThrows(() -> container.getInt(1),
+            "имеет тип Double, ожидался Integer", "testTypedAccessors - getInt для Double");
+        assertThrows(() -> container.getString(0),
+            "имеет тип Integer, ожидался String", "testTypedAccessors - getString для Integer");
+
+        container.add(Integer.valueOf(8));
+        container.add(Double.valueOf(0.5));
+        container.add(123456789012345678L);
+        container.add('x');
+        container.add(1.5f);
+        container.add((short) 3);
+        assertEquals(8, container.getInt(4), "testTypedAccessors - Integer распакован в колонку int");
+        assertEquals(0.5, container.getDouble(5), "testTypedAccessors - Double распакован в колонку double");
+        assertEquals(123456789012345678L, container.get(6), "testTypedAccessors - long сохранен как Long");
+        assertEquals('x', container.get(7), "testTypedAccessors - char сохранен как Character");
+        assertEquals(1.5f, container.get(8), "testTypedAccessors - float сохранен как Float");
+        assertEquals((short) 3, container.get(9), "testTypedAccessors - short сохранен как Short");
+        assertEquals(5, container.countOf(ColumnarContainer.OBJECT), "testTypedAccessors - прочие обертки в общей колонке");
+        assertEquals(6, container.findIndex(Long.valueOf(123456789012345678L)),
+            "testTypedAccessors - поиск Long");
+    }
+
+    public void testColumnScans() {
+        ColumnarContainer container = new ColumnarContainer();
+        for (int i = 0; i < 10; i++) {
+            container.add("Студент " + i);
+            container.addInt(18 + i);
+            container.addDouble(i * 0.5);
+        }
+
+        assertEquals("[23, 26, 29]", Arrays.toString(container.findDoubles(value -> value > 3.0)),
+            "testColumnScans - индексы оценок больше 3.0");
+        assertEquals(3, container.countDoubles(value -> value > 3.0), "testColumnScans - countDoubles");
+        assertEquals("[1, 4]", Arrays.toString(container.findInts(value -> value < 20)),
+            "testColumnScans - findInts");
+        assertEquals("[27]", Arrays.toString(container.findStrings(value -> value.endsWith("9"))),
+            "testColumnScans - findStrings");
+        assertEquals(225L, container.sumInts(), "testColumnScans - sumInts");
+        assertEquals(22.5, container.sumDoubles(), "testColumnScans - sumDoubles");
+    }
+
+    public void testInsertAndRemoveKeepColumnsInOrder() {
+        ColumnarContainer container = new ColumnarContainer();
+        container.addInt(1);
+        container.addInt(3);
+        container.add(1, 2.0);
+        container.add(1, 2);
+        container.add(0, "начало");
+
+        assertEquals("[начало, 1, 2, 2.0, 3]", container.toString(), "testInsertAndRemove - вставки в середину");
+        assertEquals("[1, 2, 4]", Arrays.toString(container.findInts(value -> true)),
+            "testInsertAndRemove - позиции колонки int после вставок");
+        assertEquals(3, container.getInt(4), "testInsertAndRemove - getInt после сдвига");
+
+        assertEquals(2, container.remove(2), "testInsertAndRemove - удаление из середины");
+        assertEquals("[1, 3]", Arrays.toString(container.findInts(value -> true)),
+            "testInsertAndRemove - позиции колонки int после удаления");
+        assertEquals(2.0, container.getDouble(2), "testInsertAndRemove - getDouble после удаления");
+        assertTrue(container.remove("начало"), "testInsertAndRemove - удаление по значению");
+        assertEquals("[1, 2.0, 3]", container.toString(), "testInsertAndRemove - итог");
+    }
+
+    public void testFindIndex() {
+        ColumnarContainer container = new ColumnarContainer();
+        container.add(1);
+        container.add(1.0);
+        container.add("1");
+        container.add((Object) null);
+        container.add(Double.NaN);
+
+        assertEquals(1, container.findIndex(1.0), "testFindIndex - Double не путается с Integer");
+        assertEquals(0, container.findIndex(1), "testFindIndex - Integer");
+        assertEquals(2, container.findIndex("1"), "testFindIndex - String");
+        assertEquals(3, container.findIndex(null), "testFindIndex - null");
+        assertEquals(4, container.findIndex(Double.NaN), "testFindIndex - NaN как Double.equals");
+        assertEquals(-1, container.findIndex(1L), "testFindIndex - Long не найден");
+        assertFalse(container.contains(2), "testFindIndex - contains");
+    }
+
+    public void testInvalidIndex() {
+        ColumnarContainer container = new ColumnarContainer();
+        assertThrows(() -> container.get(0),
+            "Индекс за пределами диапазона", "testInvalidIndex - пустой контейнер");
+        assertThrows(() -> container.getDouble(-1),
+            "Индекс за пределами диапазона", "testInvalidIndex - отрицательный индекс");
+        assertThrows(() -> container.add(1, "Элемент"),
+            "индекс для вставки", "testInvalidIndex - индекс 1");
+        assertThrows(() -> new ColumnarContainer(0),
+            "положительным числом", "testInvalidIndex - емкость 0");
+    }
+
+    public void testMatchesObjectContainer() {
+        ColumnarContainer columnar = new ColumnarContainer(3);
+        ObjectContainer<Object> plain = new ObjectContainer<>();
+        Random random = new Random(11);
+        for (int step = 0; step < 5000; step++) {
+            Object value;
+            switch (random.nextInt(4)) {
+                case 0:
+                    value = step;
+                    break;
+                case 1:
+                    value = step / 2.0;
+                    break;
+                case 2:
+                    value = "s" + step;
+                    break;
+                default:
+                    value = null;
+                    break;
+            }
+            if (random.nextInt(3) > 0 || plain.isEmpty()) {
+                int index = random.nextInt(plain.size() + 1);
+                columnar.add(index, value);
+                plain.add(index, value);
+            } else {
+                int index = random.nextInt(plain.size());
+                columnar.remove(index);
+                plain.remove(index);
+            }
+        }
+        assertEquals(plain.toString(), columnar.toString(), "testMatchesObjectContainer - совпадает с ObjectContainer");
+        boolean typed = true;
+        for (int i = 0; i < plain.size(); i++) {
+            Object expected = plain.get(i);
+            if (expected instanceof Integer) {
+                typed &= columnar.getInt(i) == (Integer) expected;
+            } else if (expected instanceof Double) {
+                typed &= columnar.getDouble(i) == (Double) expected;
+            }
+        }
+        assertTrue(typed, "testMatchesObjectContainer - типизированное чтение");
+    }
+
+    @FunctionalInterface
+    private interface Runnable {
+        void run();
+    }
+}
@@ -0,0 +1,556 @@
+package com.container;
+
+import com.container.exceptions.ContainerException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Потокобезопасный контейнер для хранения объектов разных типов.
+ * <p>
+ * Элементы хранятся в наборе блоков (bucket), размер которых удваивается:
+ * блок 0 вмещает 16 элементов, блок 1 - 32 и так далее. При росте добавляется
+ * новый блок, а уже записанные элементы не копируются, поэтому расширение
+ * безопасно при одновременных добавлениях и не требует блокировки.
+ * <p>
+ * Синхронизация построена на StampedLock:
+ * <ul>
+ *     <li>чтение (get, size, contains, findIndex) выполняется оптимистично без блокировки
+ *         и повторяется под разделяемой блокировкой, только если во время чтения
+ *         произошло структурное изменение;</li>
+ *     <li>добавление в конец резервирует позицию атомарным счетчиком и выполняется
+ *         под разделяемой блокировкой, поэтому потоки-писатели не ждут друг друга;</li>
+ *     <li>операции со сдвигом элементов (вставка и удаление по индексу, clear)
+ *         выполняются под эксклюзивной блокировкой.</li>
+ * </ul>
+ * size() учитывает позиции, зарезервированные добавлениями, которые еще выполняются;
+ * get для такой позиции дожидается записи элемента.
+ *
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+public class ConcurrentObjectContainer {
+
+    /**
+     * Логарифм размера первого блока
+     */
+    private static final int FIRST_BUCKET_BITS = 4;
+
+    /**
+     * Размер первого блока
+     */
+    private static final int FIRST_BUCKET_SIZE = 1 << FIRST_BUCKET_BITS;
+
+    /**
+     * Количество блоков, достаточное для максимального размера контейнера
+     */
+    private static final int BUCKET_COUNT = 31 - FIRST_BUCKET_BITS;
+
+    /**
+     * Максимальное количество элементов
+     */
+    private static final int MAX_SIZE = Integer.MAX_VALUE - FIRST_BUCKET_SIZE;
+
+    /**
+     * Маркер для хранения null: пустая ячейка (null) означает, что элемент еще не записан
+     */
+    private static final Object NULL_ELEMENT = new Object();
+
+    /**
+     * Доступ к ячейкам блоков с семантикой acquire/release
+     */
+    private static final VarHandle SLOT = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    /**
+     * Блоки с элементами; создаются лениво
+     */
+    private final AtomicReferenceArray<Object[]> buckets = new AtomicReferenceArray<>(BUCKET_COUNT);
+
+    /**
+     * Количество зарезервированных позиций
+     */
+    private final AtomicInteger size = new AtomicInteger();
+
+    /**
+     * Блокировка, разделяющая добавления и структурные изменения
+     */
+    private final StampedLock lock = new StampedLock();
+
+    /**
+     * Добавляет элемент в конец контейнера.
+     * Одновременные добавления из разных потоков не блокируют друг друга.
+     *
+     * @param element элемент для добавления
+     * @return true если элемент успешно добавлен
+     * @throws ContainerException если достигнут максимальный размер
+     */
+    public boolean add(Object element) {
+        long stamp = lock.readLock();
+        try {
+            int index = size.getAndIncrement();
+            if (index >= MAX_SIZE || index < 0) {
+                size.getAndDecrement();
+                throw new ContainerException("Достигнут максимальный размер контейнера: " + MAX_SIZE);
+            }
+            SLOT.setRelease(bucketFor(index), offset(index), mask(element));
+            return true;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Вставляет элемент в указанную позицию.
+     *
+     * @param index позиция для вставки
+     * @param element элемент для вставки
+     * @throws ContainerException если индекс недопустим
+     */
+    public void add(int index, Object element) {
+        long stamp = lock.writeLock();
+        try {
+            int count = size.get();
+            checkIndexForAdd(index, count);
+            if (count >= MAX_SIZE) {
+                throw new ContainerException("Достигнут максимальный размер контейнера: " + MAX_SIZE);
+            }
+            bucketFor(count);
+            shiftRight(index, count);
+            SLOT.setRelease(bucket(index), offset(index), mask(element));
+            size.set(count + 1);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Возвращает элемент по указанному индексу без блокировки.
+     *
+     * @param index индекс элемента
+     * @return элемент по указанному индексу
+     * @throws ContainerException если индекс недопустим
+     */
+    public Object get(int index) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            int count = size.get();
+            if (index >= 0 && index < count) {
+                Object value = readSlot(index, stamp);
+                if (value != null && lock.validate(stamp)) {
+                    return unmask(value);
+                }
+            } else if (lock.validate(stamp)) {
+                checkIndex(index, count);
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            checkIndex(index, size.get());
+            return unmask(awaitSlot(index));
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Удаляет элемент по указанному индексу.
+     *
+     * @param index индекс удаляемого элемента
+     * @return удаленный элемент
+     * @throws ContainerException если индекс недопустим
+     */
+    public Object remove(int index) {
+        long stamp = lock.writeLock();
+        try {
+            int count = size.get();
+            checkIndex(index, count);
+            Object removed = unmask(bucket(index)[offset(index)]);
+            shiftLeft(index, count);
+            SLOT.setRelease(bucket(count - 1), offset(count - 1), null);
+            size.set(count - 1);
+            return removed;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Атомарно удаляет последний элемент.
+     *
+     * @return удаленный элемент
+     * @throws ContainerException если контейнер пуст
+     */
+    public Object removeLast() {
+        long stamp = lock.writeLock();
+        try {
+            int count = size.get();
+            if (count == 0) {
+                throw new ContainerException("Контейнер пуст");
+            }
+            Object[] last = bucket(count - 1);
+            int offset = offset(count - 1);
+            Object removed = unmask(last[offset]);
+            SLOT.setRelease(last, offset, null);
+            size.set(count - 1);
+            return removed;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Удаляет первое вхождение указанного элемента.
+     * Поиск и удаление выполняются атомарно.
+     *
+     * @param element элемент для удаления
+     * @return true если элемент был найден и удален
+     */
+    public boolean remove(Object element) {
+        long stamp = lock.writeLock();
+        try {
+            int count = size.get();
+            int index = scan(element, count);
+            if (index == -1) {
+                return false;
+            }
+            shiftLeft(index, count);
+            SLOT.setRelease(bucket(count - 1), offset(count - 1), null);
+            size.set(count - 1);
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Проверяет наличие элемента в контейнере без блокировки.
+     *
+     * @param element искомый элемент
+     * @return true если элемент найден
+     */
+    public boolean contains(Object element) {
+        return findIndex(element) != -1;
+    }
+
+    /**
+     * Ищет индекс первого вхождения элемента без блокировки.
+     * Если во время просмотра произошло структурное изменение,
+     * поиск повторяется под разделяемой блокировкой.
+     *
+     * @param element искомый элемент
+     * @return индекс элемента или -1 если не найден
+     */
+    public int findIndex(Object element) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            int count = size.get();
+            Object target = mask(element);
+            boolean consistent = true;
+            for (int i = 0; i < count; i++) {
+                Object value = readSlot(i, stamp);
+                if (value == null) {
+                    consistent = false;
+                    break;
+                }
+                if (Objects.equals(target, value)) {
+                    if (lock.validate(stamp)) {
+                        return i;
+                    }
+                    consistent = false;
+                    break;
+                }
+            }
+            if (consistent && lock.validate(stamp)) {
+                return -1;
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return scan(element, size.get());
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Возвращает текущее количество элементов без блокировки.
+     *
+     * @return количество элементов
+     */
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * Проверяет, пуст ли контейнер.
+     *
+     * @return true если контейнер пуст
+     */
+    public boolean isEmpty() {
+        return size.get() == 0;
+    }
+
+    /**
+     * Очищает контейнер, удаляя все элементы.
+     * Выделенные блоки сохраняются.
+     */
+    public void clear() {
+        long stamp = lock.writeLock();
+        try {
+            int count = size.get();
+            for (int i = 0; i < count; i++) {
+                SLOT.setRelease(bucket(i), offset(i), null);
+            }
+            size.set(0);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Возвращает согласованный снимок всех элементов контейнера.
+     *
+     * @return массив элементов
+     */
+    public Object[] toArray() {
+        long stamp = lock.readLock();
+        try {
+            int count = size.get();
+            Object[] result = new Object[count];
+            for (int i = 0; i < count; i++) {
+                result[i] = unmask(awaitSlot(i));
+            }
+            return result;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Возвращает блок для позиции, создавая его при необходимости.
+     * Несколько потоков могут одновременно попытаться создать блок;
+     * побеждает первый, остальные используют его блок.
+     *
+     * @param index позиция элемента
+     * @return блок, содержащий позицию
+     */
+    private Object[] bucketFor(int index) {
+        int bucketIndex = bucketIndex(index);
+        Object[] bucket = buckets.get(bucketIndex);
+        if (bucket == null) {
+            Object[] created = new Object[FIRST_BUCKET_SIZE << bucketIndex];
+            if (buckets.compareAndSet(bucketIndex, null, created)) {
+                bucket = created;
+            } else {
+                bucket = buckets.get(bucketIndex);
+            }
+        }
+        return bucket;
+    }
+
+    /**
+     * Возвращает существующий блок для позиции.
+     *
+     * @param index позиция элемента
+     * @return блок или null, если он еще не создан
+     */
+    private Object[] bucket(int index) {
+        return buckets.get(bucketIndex(index));
+    }
+
+    /**
+     * Вычисляет номер блока для позиции.
+     *
+     * @param index позиция элемента
+     * @return номер блока
+     */
+    private static int bucketIndex(int index) {
+        int position = index + FIRST_BUCKET_SIZE;
+        return 31 - Integer.numberOfLeadingZeros(position) - FIRST_BUCKET_BITS;
+    }
+
+    /**
+     * Вычисляет смещение позиции внутри ее блока.
+     *
+     * @param index позиция элемента
+     * @return смещение внутри блока
+     */
+    private static int offset(int index) {
+        int position = index + FIRST_BUCKET_SIZE;
+        return position ^ Integer.highestOneBit(position);
+    }
+
+    /**
+     * Читает ячейку при оптимистичном чтении.
+     * Ожидает завершения добавления, пока отметка блокировки действительна.
+     *
+     * @param index позиция элемента
+     * @param stamp отметка оптимистичного чтения
+     * @return значение ячейки или null, если отметка стала недействительной
+     */
+    private Object readSlot(int index, long stamp) {
+        while (true) {
+            Object[] bucket = bucket(index);
+            Object value = bucket == null ? null : SLOT.getAcquire(bucket, offset(index));
+            if (value != null) {
+                return value;
+            }
+            if (!lock.validate(stamp)) {
+                return null;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Читает ячейку под блокировкой, ожидая завершения добавления в эту позицию.
+     *
+     * @param index позиция элемента
+     * @return значение ячейки
+     */
+    private Object awaitSlot(int index) {
+        while (true) {
+            Object[] bucket = bucket(index);
+            Object value = bucket == null ? null : SLOT.getAcquire(bucket, offset(index));
+            if (value != null) {
+                return value;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Ищет элемент под блокировкой.
+     *
+     * @param element искомый элемент
+     * @param count количество просматриваемых элементов
+     * @return индекс элемента или -1 если не найден
+     */
+    private int scan(Object element, int count) {
+        Object target = mask(element);
+        for (int i = 0; i < count; i++) {
+            if (Objects.equals(target, awaitSlot(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Сдвигает элементы [from + 1, count) на одну позицию влево.
+     * Внутри блока используется блочное копирование. Вызывается под эксклюзивной блокировкой.
+     *
+     * @param from позиция удаляемого элемента
+     * @param count текущее количество элементов
+     */
+    private void shiftLeft(int from, int count) {
+        int index = from;
+        while (index < count - 1) {
+            Object[] current = bucket(index);
+            int offset = offset(index);
+            int end = Math.min(index + current.length - offset, count);
+            System.arraycopy(current, offset + 1, current, offset, end - 1 - index);
+            if (end < count) {
+                current[current.length - 1] = bucket(end)[0];
+            }
+            index = end;
+        }
+    }
+
+    /**
+     * Сдвигает элементы [from, count) на одну позицию вправо.
+     * Блок для позиции count должен существовать. Вызывается под эксклюзивной блокировкой.
+     *
+     * @param from позиция вставки
+     * @param count текущее количество элементов
+     */
+    private void shiftRight(int from, int count) {
+        int index = count;
+        while (index > from) {
+            Object[] current = bucket(index);
+            int bucketStart = index - offset(index);
+            int start = Math.max(bucketStart, from + 1);
+            if (start > bucketStart) {
+                System.arraycopy(current, start - 1 - bucketStart, current, start - bucketStart, index - start + 1);
+            } else {
+                System.arraycopy(current, 0, current, 1, index - bucketStart);
+                Object[] previous = bucket(bucketStart - 1);
+                current[0] = previous[previous.length - 1];
+            }
+            index = start - 1;
+        }
+    }
+
+    /**
+     * Заменяет null маркером для хранения в ячейке.
+     *
+     * @param element элемент
+     * @return значение для ячейки
+     */
+    private static Object mask(Object element) {
+        return element == null ? NULL_ELEMENT : element;
+    }
+
+    /**
+     * Восстанавливает элемент из значения ячейки.
+     *
+     * @param value значение ячейки
+     * @return элемент
+     */
+    private static Object unmask(Object value) {
+        return value == NULL_ELEMENT ? null : value;
+    }
+
+    /**
+     * Проверяет корректность индекса для операций get и remove.
+     *
+     * @param index проверяемый индекс
+     * @param count текущее количество элементов
+     * @throws ContainerException если индекс невалиден
+     */
+    private static void checkIndex(int index, int count) {
+        if (index < 0 || index >= count) {
+            throw ContainerException.indexOutOfRange(index, count);
+        }
+    }
+
+    /**
+     * Проверяет корректность индекса для операции add.
+     *
+     * @param index проверяемый индекс
+     * @param count текущее количество элементов
+     * @throws ContainerException если индекс невалиден
+     */
+    private static void checkIndexForAdd(int index, int count) {
+        if (index < 0 || index > count) {
+            throw ContainerException.invalidInsertIndex(index, count);
+        }
+    }
+
+    /**
+     * Возвращает строковое представление согласованного снимка контейнера.
+     *
+     * @return строковое представление в формате [элемент1, элемент2, ...]
+     */
+    @Override
+    public String toString() {
+        Object[] snapshot = toArray();
+        if (snapshot.length == 0) {
+            return "[]";
+        }
+
+        StringBuilder result = new StringBuilder();
+        result.append("[");
+        for (int i = 0; i < snapshot.length; i++) {
+            result.append(snapshot[i]);
+            if (i < snapshot.length - 1) {
+                result.append(", ");
+            }
+        }
+        result.append("]");
+        return result.toString();
+    }
+}
@@ -0,0 +1,223 @@
+package com.container;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Тесты для класса ConcurrentObjectContainer без использования JUnit
+ *
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+public class ConcurrentObjectContainerTest {
+
+    private int testCount = 0;
+    private int passedTests = 0;
+    private List<String> failedTests = new ArrayList<>();
+
+    /**
+     * Запуск всех тестов
+     */
+    public static void main(String[] args) throws InterruptedException {
+        ConcurrentObjectContainerTest tester = new ConcurrentObjectContainerTest();
+        tester.runAllTests();
+    }
+
+    /**
+     * Запускает все тесты и выводит результаты
+     */
+    public void runAllTests() throws InterruptedException {
+        System.out.println("=== Запуск тестов ConcurrentObjectContainer ===\n");
+
+        testSequentialOperations();
+        testShiftAcrossBuckets();
+        testNullElements();
+        testInvalidIndex();
+        testConcurrentAppends();
+        testReadsDuringWrites();
+
+        System.out.println("\n=== Результаты тестов ===");
+        System.out.println("Пройдено: " + passedTests + " из " + testCount + " тестов");
+
+        if (passedTests == testCount) {
+            System.out.println(" Все тесты прошли успешно!");
+        } else {
+            System.out.println(" Не все тесты прошли");
+            System.out.println("\n=== Проваленные тесты ===");
+            for (String failedTest : failedTests) {
+                System.out.println(" " + failedTest);
+            }
+        }
+    }
+
+    private void assertTrue(boolean condition, String message) {
+        testCount++;
+        if (condition) {
+            passedTests++;
+            System.out.println("прошли " + message);
+        } else {
+            failedTests.add(message);
+            System.out.println("не прошли " + message);
+        }
+    }
+
+    private void assertFalse(boolean condition, String message) {
+        assertTrue(!condition, message);
+    }
+
+    private void assertEquals(Object expected, Object actual, String message) {
+        testCount++;
+        boolean isEqual = (expected == null) ? actual == null : expected.equals(actual);
+        if (isEqual) {
+            passedTests++;
+            System.out.println("прошли " + message);
+        } else {
+            failedTests.add(message + " (ожидалось: " + expected + ", получено: " + actual + ")");
+            System.out.println("не прошли " + message + " (ожидалось: " + expected + ", получено: " + actual + ")");
+        }
+    }
+
+    private void assertThrows(Runnable code, String expectedMessage, String testName) {
+        testCount++;
+        try {
+            code.run();
+            failedTests.add(testName + " (ожидалось исключение)");
+            System.out.println("не прошли " + testName + " (ожидалось исключение)");
+        } catch (Exception e) {
+            if (e.getMessage().contains(expectedMessage)) {
+                passedTests++;
+                System.out.println("прошли " + testName);
+            } else {
+                failedTests.add(testName + " (неверное сообщение исключения: " + e.getMessage() + ")");
+                System.out.println("не прошли " + testName + " (неверное сообщение исключения: " + e.getMessage() + ")");
+            }
+        }
+    }
+
+    public void testSequentialOperations() {
+        ConcurrentObjectContainer container = new ConcurrentObjectContainer();
+        container.add("Иванов Петр");
+        container.add(20);
+        container.add(1, "Программирование");
+
+        assertEquals(3, container.size(), "testSequentialOperations - размер 3");
+        assertEquals("[Иванов Петр, Программирование, 20]", container.toString(),
+            "testSequentialOperations - порядок элементов");
+        assertEquals(2, container.findIndex(20), "testSequentialOperations - поиск");
+        assertTrue(container.remove("Программирование"), "testSequentialOperations - удаление по значению");
+        assertEquals(20, container.removeLast(), "testSequentialOperations - удаление последнего");
+        assertEquals("Иванов Петр", container.remove(0), "testSequentialOperations - удаление по индексу");
+        assertTrue(container.isEmpty(), "testSequentialOperations - контейнер пуст");
+    }
+
+    public void testShiftAcrossBuckets() {
+        ConcurrentObjectContainer container = new ConcurrentObjectContainer();
+        for (int i = 0; i < 100; i++) {
+            container.add(i);
+        }
+        container.add(0, -1);
+        boolean shiftedRight = true;
+        for (int i = 0; i <= 100; i++) {
+            shiftedRight &= container.get(i).equals(i - 1);
+        }
+        assertTrue(shiftedRight, "testShiftAcrossBuckets - сдвиг вправо через границы блоков");
+
+        container.remove(0);
+        container.remove(10);
+        boolean shiftedLeft = container.size() == 99 && container.get(9).equals(9) && container.get(10).equals(11)
+            && container.get(98).equals(99);
+        assertTrue(shiftedLeft, "testShiftAcrossBuckets - сдвиг влево через границы блоков");
+
+        container.clear();
+        assertEquals(0, container.size(), "testShiftAcrossBuckets - очистка");
+    }
+
+    public void testNullElements() {
+        ConcurrentObjectContainer container = new ConcurrentObjectContainer();
+        container.add(null);
+        container.add("Физика");
+
+        assertEquals(null, container.get(0), "testNullElements - элемент null");
+        assertTrue(container.contains(null), "testNullElements - содержит null");
+        assertEquals(1, container.findIndex("Физика"), "testNullElements - поиск после null");
+    }
+
+    public void testInvalidIndex() {
+        ConcurrentObjectContainer container = new ConcurrentObjectContainer();
+        assertThrows(() -> container.get(0),
+            "Индекс за пределами диапазона", "testInvalidIndex - пустой контейнер");
+        assertThrows(() -> container.add(1, "Элемент"),
+            "индекс для вставки", "testInvalidIndex - вставка по индексу 1");
+        assertThrows(() -> container.removeLast(),
+            "Контейнер пуст", "testInvalidIndex - удаление из пустого");
+    }
+
+    public void testConcurrentAppends() throws InterruptedException {
+        ConcurrentObjectContainer container = new ConcurrentObjectContainer();
+        int threads = 8;
+        int perThread = 20000;
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            int base = t * perThread;
+            workers[t] = new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    container.add(base + i);
+                }
+            });
+            workers[t].start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        assertEquals(threads * perThread, container.size(), "testConcurrentAppends - размер");
+        boolean[] seen = new boolean[threads * perThread];
+        for (Object element : container.toArray()) {
+            seen[(Integer) element] = true;
+        }
+        boolean allPresent = true;
+        for (boolean present : seen) {
+            allPresent &= present;
+        }
+        assertTrue(allPresent, "testConcurrentAppends - все элементы на месте");
+    }
+
+    public void testReadsDuringWrites() throws InterruptedException {
+        ConcurrentObjectContainer container = new ConcurrentObjectContainer();
+        for (int i = 0; i < 1000; i++) {
+            container.add("постоянный");
+        }
+        boolean[] failed = new boolean[1];
+        Thread writer = new Thread(() -> {
+            for (int i = 0; i < 5000; i++) {
+                container.add(0, "временный");
+                container.remove(0);
+                container.add("хвост");
+                container.removeLast();
+            }
+        });
+        Thread reader = new Thread(() -> {
+            for (int i = 0; i < 20000; i++) {
+                Object value = container.get(500);
+                if (!"постоянный".equals(value) && !"временный".equals(value)) {
+                    failed[0] = true;
+                }
+                if (container.findIndex("отсутствует") != -1) {
+                    failed[0] = true;
+                }
+            }
+        });
+        writer.start();
+        reader.start();
+        writer.join();
+        reader.join();
+
+        assertFalse(failed[0], "testReadsDuringWrites - чтение без блокировки видит согласованные значения");
+        assertEquals(1000, container.size(), "testReadsDuringWrites - итоговый размер");
+    }
+
+    @FunctionalInterface
+    private interface Runnable {
+        void run();
+    }
+}
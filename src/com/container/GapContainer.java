@@ -0,0 +1,365 @@
+package com.container;
+
+import com.container.exceptions.ContainerException;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Контейнер на основе буфера с разрывом (gap buffer).
+ * Свободное место хранится не в конце массива, а в позиции последнего изменения.
+ * Вставка и удаление рядом с этой позицией сдвигают только элементы между
+ * старым и новым положением разрыва, поэтому серия правок вокруг курсора
+ * выполняется за амортизированное O(1). Доступ по индексу остается O(1).
+ * Набор операций и исключения совпадают с ObjectContainer.
+ *
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+public class GapContainer {
+
+    /**
+     * Внутренний массив: элементы [0, gapStart) и [gapEnd, buffer.length)
+     */
+    private Object[] buffer;
+
+    /**
+     * Начало разрыва (позиция курсора)
+     */
+    private int gapStart;
+
+    /**
+     * Конец разрыва (не включительно)
+     */
+    private int gapEnd;
+
+    /**
+     * Начальная емкость по умолчанию
+     */
+    private static final int DEFAULT_CAPACITY = 10;
+
+    /**
+     * Коэффициент увеличения размера
+     */
+    private static final double GROW_FACTOR = 1.5;
+
+    /**
+     * Создает контейнер с емкостью по умолчанию.
+     */
+    public GapContainer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Создает контейнер с указанной начальной емкостью.
+     *
+     * @param initialCapacity начальная емкость контейнера
+     * @throws ContainerException если initialCapacity меньше или равно 0
+     */
+    public GapContainer(int initialCapacity) {
+        if (initialCapacity <= 0) {
+            throw new ContainerException(
+                "Начальная емкость должна быть положительным числом: " + initialCapacity
+            );
+        }
+        this.buffer = new Object[initialCapacity];
+        this.gapStart = 0;
+        this.gapEnd = initialCapacity;
+    }
+
+    /**
+     * Добавляет элемент в конец контейнера.
+     * Разрыв перемещается в конец, поэтому при чередовании с правками
+     * в середине выгоднее вставлять по индексу рядом с курсором.
+     *
+     * @param element элемент для добавления
+     * @return true если элемент успешно добавлен
+     */
+    public boolean add(Object element) {
+        add(size(), element);
+        return true;
+    }
+
+    /**
+     * Вставляет элемент в указанную позицию и ставит курсор после него.
+     *
+     * @param index позиция для вставки
+     * @param element элемент для вставки
+     * @throws ContainerException если индекс недопустим
+     */
+    public void add(int index, Object element) {
+        checkIndexForAdd(index);
+        ensureGap(1);
+        moveGap(index);
+        buffer[gapStart++] = element;
+    }
+
+    /**
+     * Вставляет все элементы массива начиная с указанной позиции.
+     *
+     * @param index позиция для вставки первого элемента
+     * @param source массив вставляемых элементов
+     * @throws ContainerException если индекс недопустим или source равен null
+     */
+    public void insertAll(int index, Object[] source) {
+        checkIndexForAdd(index);
+        if (source == null) {
+            throw new ContainerException("Источник элементов не может быть null");
+        }
+        ensureGap(source.length);
+        moveGap(index);
+        System.arraycopy(source, 0, buffer, gapStart, source.length);
+        gapStart += source.length;
+    }
+
+    /**
+     * Возвращает элемент по указанному индексу.
+     *
+     * @param index индекс элемента
+     * @return элемент по указанному индексу
+     * @throws ContainerException если индекс недопустим
+     */
+    public Object get(int index) {
+        checkIndex(index);
+        return buffer[physical(index)];
+    }
+
+    /**
+     * Удаляет элемент по указанному индексу и ставит курсор на его место.
+     * Удаление непосредственно перед курсором (как Backspace) не сдвигает элементы.
+     *
+     * @param index индекс удаляемого элемента
+     * @return удаленный элемент
+     * @throws ContainerException если индекс недопустим
+     */
+    public Object remove(int index) {
+        checkIndex(index);
+        Object removed;
+        if (index == gapStart - 1) {
+            gapStart--;
+            removed = buffer[gapStart];
+            buffer[gapStart] = null;
+        } else {
+            moveGap(index);
+            removed = buffer[gapEnd];
+            buffer[gapEnd++] = null;
+        }
+        return removed;
+    }
+
+    /**
+     * Удаляет элементы в диапазоне [fromIndex, toIndex).
+     *
+     * @param fromIndex индекс первого удаляемого элемента (включительно)
+     * @param toIndex индекс конца диапазона (не включительно)
+     * @throws ContainerException если диапазон недопустим
+     */
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size() || fromIndex > toIndex) {
+            throw new ContainerException(
+                "Недопустимый диапазон: [" + fromIndex + ", " + toIndex + "). Размер контейнера: " + size()
+            );
+        }
+        moveGap(fromIndex);
+        int newGapEnd = gapEnd + (toIndex - fromIndex);
+        Arrays.fill(buffer, gapEnd, newGapEnd, null);
+        gapEnd = newGapEnd;
+    }
+
+    /**
+     * Удаляет первое вхождение указанного элемента.
+     *
+     * @param element элемент для удаления
+     * @return true если элемент был найден и удален
+     */
+    public boolean remove(Object element) {
+        int index = findIndex(element);
+        if (index != -1) {
+            remove(index);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Проверяет наличие элемента в контейнере.
+     *
+     * @param element искомый элемент
+     * @return true если элемент найден
+     */
+    public boolean contains(Object element) {
+        return findIndex(element) != -1;
+    }
+
+    /**
+     * Ищет индекс первого вхождения элемента.
+     *
+     * @param element искомый элемент
+     * @return индекс элемента или -1 если не найден
+     */
+    public int findIndex(Object element) {
+        for (int i = 0; i < gapStart; i++) {
+            if (Objects.equals(element, buffer[i])) {
+                return i;
+            }
+        }
+        int gapLength = gapEnd - gapStart;
+        for (int i = gapEnd; i < buffer.length; i++) {
+            if (Objects.equals(element, buffer[i])) {
+                return i - gapLength;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Возвращает текущую позицию курсора (начало разрыва).
+     *
+     * @return индекс, перед которым вставка выполняется без сдвига элементов
+     */
+    public int cursor() {
+        return gapStart;
+    }
+
+    /**
+     * Возвращает текущее количество элементов.
+     *
+     * @return количество элементов
+     */
+    public int size() {
+        return buffer.length - (gapEnd - gapStart);
+    }
+
+    /**
+     * Проверяет, пуст ли контейнер.
+     *
+     * @return true если контейнер пуст
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Очищает контейнер, удаляя все элементы.
+     */
+    public void clear() {
+        Arrays.fill(buffer, null);
+        gapStart = 0;
+        gapEnd = buffer.length;
+    }
+
+    /**
+     * Возвращает массив со всеми элементами контейнера.
+     *
+     * @return массив элементов
+     */
+    public Object[] toArray() {
+        Object[] result = new Object[size()];
+        System.arraycopy(buffer, 0, result, 0, gapStart);
+        System.arraycopy(buffer, gapEnd, result, gapStart, buffer.length - gapEnd);
+        return result;
+    }
+
+    /**
+     * Переводит логический индекс в позицию во внутреннем массиве.
+     *
+     * @param index логический индекс
+     * @return позиция в buffer
+     */
+    private int physical(int index) {
+        return index < gapStart ? index : index + (gapEnd - gapStart);
+    }
+
+    /**
+     * Перемещает разрыв так, чтобы он начинался с логической позиции index.
+     * Сдвигаются только элементы между старым и новым положением разрыва.
+     *
+     * @param index новая позиция начала разрыва
+     */
+    private void moveGap(int index) {
+        if (index < gapStart) {
+            int count = gapStart - index;
+            System.arraycopy(buffer, index, buffer, gapEnd - count, count);
+            Arrays.fill(buffer, index, Math.min(gapStart, gapEnd - count), null);
+            gapStart = index;
+            gapEnd -= count;
+        } else if (index > gapStart) {
+            int count = index - gapStart;
+            System.arraycopy(buffer, gapEnd, buffer, gapStart, count);
+            Arrays.fill(buffer, Math.max(gapEnd, gapStart + count), gapEnd + count, null);
+            gapStart += count;
+            gapEnd += count;
+        }
+    }
+
+    /**
+     * Гарантирует, что в разрыве помещается required элементов.
+     * При расширении элементы копируются в новый массив двумя блочными операциями,
+     * разрыв сохраняет свое положение.
+     *
+     * @param required требуемый размер разрыва
+     */
+    private void ensureGap(int required) {
+        int gapLength = gapEnd - gapStart;
+        if (gapLength < required) {
+            int size = size();
+            int newCapacity = (int)(buffer.length * GROW_FACTOR);
+            if (newCapacity < size + required) {
+                newCapacity = size + required;
+            }
+            Object[] newBuffer = new Object[newCapacity];
+            int tail = buffer.length - gapEnd;
+            System.arraycopy(buffer, 0, newBuffer, 0, gapStart);
+            System.arraycopy(buffer, gapEnd, newBuffer, newCapacity - tail, tail);
+            buffer = newBuffer;
+            gapEnd = newCapacity - tail;
+        }
+    }
+
+    /**
+     * Проверяет корректность индекса для операций get и remove.
+     *
+     * @param index проверяемый индекс
+     * @throws ContainerException если индекс невалиден
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size()) {
+            throw ContainerException.indexOutOfRange(index, size());
+        }
+    }
+
+    /**
+     * Проверяет корректность индекса для операции add.
+     *
+     * @param index проверяемый индекс
+     * @throws ContainerException если индекс невалиден
+     */
+    private void checkIndexForAdd(int index) {
+        if (index < 0 || index > size()) {
+            throw ContainerException.invalidInsertIndex(index, size());
+        }
+    }
+
+    /**
+     * Возвращает строковое представление контейнера.
+     *
+     * @return строковое представление в формате [элемент1, элемент2, ...]
+     */
+    @Override
+    public String toString() {
+        int size = size();
+        if (size == 0) {
+            return "[]";
+        }
+
+        StringBuilder result = new StringBuilder();
+        result.append("[");
+        for (int i = 0; i < size; i++) {
+            result.append(buffer[physical(i)]);
+            if (i < size - 1) {
+                result.append(", ");
+            }
+        }
+        result.append("]");
+        return result.toString();
+    }
+}
@@ -0,0 +1,185 @@
+package com.container;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Тесты для класса GapContainer без использования JUnit
+ *
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+public class GapContainerTest {
+
+    private int testCount = 0;
+    private int passedTests = 0;
+    private List<String> failedTests = new ArrayList<>();
+
+    /**
+     * Запуск всех тестов
+     */
+    public static void main(String[] args) {
+        GapContainerTest tester = new GapContainerTest();
+        tester.runAllTests();
+    }
+
+    /**
+     * Запускает все тесты и выводит результаты
+     */
+    public void runAllTests() {
+        System.out.println("=== Запуск тестов GapContainer ===\n");
+
+        testCursorEditing();
+        testBackspace();
+        testGrowthKeepsOrder();
+        testInvalidIndex();
+        testMatchesObjectContainer();
+
+        System.out.println("\n=== Результаты тестов ===");
+        System.out.println("Пройдено: " + passedTests + " из " + testCount + " тестов");
+
+        if (passedTests == testCount) {
+            System.out.println(" Все тесты прошли успешно!");
+        } else {
+            System.out.println(" Не все тесты прошли");
+            System.out.println("\n=== Проваленные тесты ===");
+            for (String failedTest : failedTests) {
+                System.out.println(" " + failedTest);
+            }
+        }
+    }
+
+    private void assertTrue(boolean condition, String message) {
+        testCount++;
+        if (condition) {
+            passedTests++;
+            System.out.println("прошли " + message);
+        } else {
+            failedTests.add(message);
+            System.out.println("не прошли " + message);
+        }
+    }
+
+    private void assertFalse(boolean condition, String message) {
+        assertTrue(!condition, message);
+    }
+
+    private void assertEquals(Object expected, Object actual, String message) {
+        testCount++;
+        boolean isEqual = (expected == null) ? actual == null : expected.equals(actual);
+        if (isEqual) {
+            passedTests++;
+            System.out.println("прошли " + message);
+        } else {
+            failedTests.add(message + " (ожидалось: " + expected + ", получено: " + actual + ")");
+            System.out.println("не прошли " + message + " (ожидалось: " + expected + ", получено: " + actual + ")");
+        }
+    }
+
+    private void assertThrows(Runnable code, String expectedMessage, String testName) {
+        testCount++;
+        try {
+            code.run();
+            failedTests.add(testName + " (ожидалось исключение)");
+            System.out.println("не прошли " + testName + " (ожидалось исключение)");
+        } catch (Exception e) {
+            if (e.getMessage().contains(expectedMessage)) {
+                passedTests++;
+                System.out.println("прошли " + testName);
+            } else {
+                failedTests.add(testName + " (неверное сообщение исключения: " + e.getMessage() + ")");
+                System.out.println("не прошли " + testName + " (неверное сообщение исключения: " + e.getMessage() + ")");
+            }
+        }
+    }
+
+    public void testCursorEditing() {
+        GapContainer container = new GapContainer();
+        container.add("а");
+        container.add("г");
+        container.add(1, "б");
+        container.add(2, "в");
+
+        assertEquals("[а, б, в, г]", container.toString(), "testCursorEditing - вставка у курсора");
+        assertEquals(3, container.cursor(), "testCursorEditing - курсор после вставки");
+        assertEquals("в", container.get(2), "testCursorEditing - доступ по индексу");
+        assertEquals(2, container.findIndex("в"), "testCursorEditing - поиск после разрыва");
+    }
+
+    public void testBackspace() {
+        GapContainer container = new GapContainer();
+        container.insertAll(0, new Object[] {"п", "р", "и", "в", "е", "т"});
+        container.remove(5);
+        container.remove(4);
+
+        assertEquals("[п, р, и, в]", container.toString(), "testBackspace - удаление перед курсором");
+        assertEquals(4, container.cursor(), "testBackspace - курсор сдвинут");
+
+        container.removeRange(1, 3);
+        assertEquals("[п, в]", container.toString(), "testBackspace - удаление диапазона");
+        assertTrue(container.remove("п"), "testBackspace - удаление по значению");
+        assertEquals(1, container.size(), "testBackspace - размер 1");
+    }
+
+    public void testGrowthKeepsOrder() {
+        GapContainer container = new GapContainer(2);
+        for (int i = 0; i < 50; i++) {
+            container.add(i / 2, i);
+        }
+        ObjectContainer<Object> expected = new ObjectContainer<>();
+        for (int i = 0; i < 50; i++) {
+            expected.add(i / 2, i);
+        }
+        assertEquals(expected.toString(), container.toString(), "testGrowthKeepsOrder - порядок после расширений");
+    }
+
+    public void testInvalidIndex() {
+        GapContainer container = new GapContainer();
+        assertThrows(() -> container.get(0),
+            "Индекс за пределами диапазона", "testInvalidIndex - пустой контейнер");
+        assertThrows(() -> container.add(1, "Элемент"),
+            "индекс для вставки", "testInvalidIndex - индекс 1");
+        assertThrows(() -> container.removeRange(0, 1),
+            "Недопустимый диапазон", "testInvalidIndex - диапазон");
+        assertThrows(() -> new GapContainer(0),
+            "положительным числом", "testInvalidIndex - емкость 0");
+    }
+
+    public void testMatchesObjectContainer() {
+        GapContainer gap = new GapContainer(3);
+        ObjectContainer<Object> plain = new ObjectContainer<>();
+        Random random = new Random(7);
+        int cursor = 0;
+        for (int step = 0; step < 5000; step++) {
+            int operation = random.nextInt(5);
+            cursor = Math.max(0, Math.min(plain.size(), cursor + random.nextInt(7) - 3));
+            if (operation < 2 || plain.isEmpty()) {
+                gap.add(cursor, step);
+                plain.add(cursor, step);
+            } else if (operation == 2 && cursor < plain.size()) {
+                gap.remove(cursor);
+                plain.remove(cursor);
+            } else if (operation == 3) {
+                gap.add(step);
+                plain.add(step);
+            } else if (cursor > 0) {
+                gap.remove(cursor - 1);
+                plain.remove(cursor - 1);
+            }
+        }
+        boolean same = gap.size() == plain.size();
+        for (int i = 0; same && i < plain.size(); i++) {
+            same = plain.get(i).equals(gap.get(i));
+        }
+        assertTrue(same, "testMatchesObjectContainer - совпадает с ObjectContainer");
+        assertEquals(plain.toString(), Arrays.toString(gap.toArray()),
+            "testMatchesObjectContainer - toArray");
+    }
+
+    @FunctionalInterface
+    private interface Runnable {
+        void run();
+    }
+}
@@ -0,0 +1,98 @@
+package com.container;
+
+import com.container.exceptions.ContainerException;
+
+/**
+ * Встроенные политики расширения для {@link GrowthPolicy}.
+ *
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+public final class GrowthPolicies {
+
+    /**
+     * Наибольший размер массива, который гарантированно можно выделить
+     */
+    static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    private GrowthPolicies() {
+    }
+
+    /**
+     * Геометрический рост: емкость умножается на factor.
+     * Политика по умолчанию для ObjectContainer - geometric(1.5).
+     *
+     * @param factor коэффициент увеличения, больше 1
+     * @return политика расширения
+     * @throws ContainerException если factor не больше 1
+     */
+    public static GrowthPolicy geometric(double factor) {
+        if (!(factor > 1.0)) {
+            throw new ContainerException("Коэффициент увеличения должен быть больше 1: " + factor);
+        }
+        return (currentCapacity, minCapacity) -> clamp((long) (currentCapacity * factor));
+    }
+
+    /**
+     * Аддитивный рост: к емкости прибавляется фиксированное число элементов.
+     * Расходует меньше памяти, но добавление в конец перестает быть амортизированно O(1).
+     *
+     * @param increment прирост емкости
+     * @return политика расширения
+     * @throws ContainerException если increment меньше или равен 0
+     */
+    public static GrowthPolicy additive(int increment) {
+        if (increment <= 0) {
+            throw new ContainerException("Прирост емкости должен быть положительным числом: " + increment);
+        }
+        return (currentCapacity, minCapacity) -> clamp((long) currentCapacity + increment);
+    }
+
+    /**
+     * Рост до ближайшей степени двойки, не меньшей требуемой емкости.
+     *
+     * @return политика расширения
+     */
+    public static GrowthPolicy powerOfTwo() {
+        return (currentCapacity, minCapacity) -> {
+            int target = Math.max(minCapacity, currentCapacity + 1);
+            if (target > (1 << 30)) {
+                return MAX_ARRAY_SIZE;
+            }
+            return target <= 1 ? 1 : Integer.highestOneBit(target - 1) << 1;
+        };
+    }
+
+    /**
+     * Ограничивает прирост емкости за одно расширение.
+     * Полезно для больших контейнеров, где геометрический рост
+     * резервирует слишком много неиспользуемой памяти.
+     *
+     * @param base исходная политика
+     * @param maxIncrement наибольший прирост емкости за одно расширение
+     * @return политика расширения
+     * @throws ContainerException если base равна null или maxIncrement меньше или равен 0
+     */
+    public static GrowthPolicy capped(GrowthPolicy base, int maxIncrement) {
+        if (base == null) {
+            throw new ContainerException("Исходная политика расширения не может быть null");
+        }
+        if (maxIncrement <= 0) {
+            throw new ContainerException("Предельный прирост емкости должен быть положительным числом: " + maxIncrement);
+        }
+        return (currentCapacity, minCapacity) -> Math.min(
+            base.newCapacity(currentCapacity, minCapacity),
+            clamp((long) currentCapacity + maxIncrement)
+        );
+    }
+
+    /**
+     * Ограничивает емкость наибольшим допустимым размером массива.
+     *
+     * @param capacity вычисленная емкость
+     * @return емкость в допустимом диапазоне
+     */
+    private static int clamp(long capacity) {
+        return (int) Math.min(capacity, MAX_ARRAY_SIZE);
+    }
+}
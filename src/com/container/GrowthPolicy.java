@@ -0,0 +1,24 @@
+package com.container;
+
+/**
+ * Политика расширения внутреннего массива контейнера.
+ * Определяет новую емкость, когда текущей недостаточно.
+ * Готовые политики создаются через {@link GrowthPolicies}.
+ *
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface GrowthPolicy {
+
+    /**
+     * Вычисляет новую емкость массива.
+     * Контейнер в любом случае выделит не меньше minCapacity элементов,
+     * поэтому политика может вернуть меньшее значение, если ей нечего предложить.
+     *
+     * @param currentCapacity текущая емкость
+     * @param minCapacity минимальная требуемая емкость
+     * @return предлагаемая новая емкость
+     */
+    int newCapacity(int currentCapacity, int minCapacity);
+}
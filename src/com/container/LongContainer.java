@@ -0,0 +1,328 @@
+package com.container;
+
+import com.container.exceptions.ContainerException;
+import java.util.Arrays;
+
+/**
+ * Контейнер для хранения значений типа long без упаковки.
+ * Реализует динамический массив на основе long[] с тем же набором операций,
+ * что и ObjectContainer. Удаление по значению вынесено в метод removeValue,
+ * так как remove(int) удаляет элемент по индексу.
+ *
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+public class LongContainer {
+
+    /**
+     * Внутренний массив для хранения элементов
+     */
+    private long[] elements;
+
+    /**
+     * Текущее количество элементов
+     */
+    private int size;
+
+    /**
+     * Начальная емкость по умолчанию
+     */
+    private static final int DEFAULT_CAPACITY = 10;
+
+    /**
+     * Коэффициент увеличения размера
+     */
+    private static final double GROW_FACTOR = 1.5;
+
+    /**
+     * Создает контейнер с емкостью по умолчанию.
+     */
+    public LongContainer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Создает контейнер с указанной начальной емкостью.
+     *
+     * @param initialCapacity начальная емкость контейнера
+     * @throws ContainerException если initialCapacity меньше или равно 0
+     */
+    public LongContainer(int initialCapacity) {
+        if (initialCapacity <= 0) {
+            throw new ContainerException(
+                "Начальная емкость должна быть положительным числом: " + initialCapacity
+            );
+        }
+        this.elements = new long[initialCapacity];
+        this.size = 0;
+    }
+
+    /**
+     * Добавляет элемент в конец контейнера.
+     *
+     * @param element элемент для добавления
+     * @return true если элемент успешно добавлен
+     */
+    public boolean add(long element) {
+        ensureCapacity(size + 1);
+        elements[size] = element;
+        size++;
+        return true;
+    }
+
+    /**
+     * Вставляет элемент в указанную позицию.
+     *
+     * @param index позиция для вставки
+     * @param element элемент для вставки
+     * @throws ContainerException если индекс недопустим
+     */
+    public void add(int index, long element) {
+        checkIndexForAdd(index);
+        ensureCapacity(size + 1);
+
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = element;
+        size++;
+    }
+
+    /**
+     * Добавляет все элементы массива в конец контейнера.
+     *
+     * @param source массив добавляемых элементов
+     * @return true если контейнер изменился
+     * @throws ContainerException если source равен null
+     */
+    public boolean addAll(long[] source) {
+        checkSource(source);
+        int count = source.length;
+        ensureCapacity(size + count);
+        System.arraycopy(source, 0, elements, size, count);
+        size += count;
+        return count != 0;
+    }
+
+    /**
+     * Вставляет все элементы массива начиная с указанной позиции.
+     *
+     * @param index позиция для вставки первого элемента
+     * @param source массив вставляемых элементов
+     * @throws ContainerException если индекс недопустим или source равен null
+     */
+    public void insertAll(int index, long[] source) {
+        checkIndexForAdd(index);
+        checkSource(source);
+        int count = source.length;
+        ensureCapacity(size + count);
+
+        System.arraycopy(elements, index, elements, index + count, size - index);
+        System.arraycopy(source, 0, elements, index, count);
+        size += count;
+    }
+
+    /**
+     * Возвращает элемент по указанному индексу.
+     *
+     * @param index индекс элемента
+     * @return элемент по указанному индексу
+     * @throws ContainerException если индекс недопустим
+     */
+    public long get(int index) {
+        checkIndex(index);
+        return elements[index];
+    }
+
+    /**
+     * Удаляет элемент по указанному индексу.
+     *
+     * @param index индекс удаляемого элемента
+     * @return удаленный элемент
+     * @throws ContainerException если индекс недопустим
+     */
+    public long remove(int index) {
+        checkIndex(index);
+
+        long removed = elements[index];
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        size--;
+        return removed;
+    }
+
+    /**
+     * Удаляет элементы в диапазоне [fromIndex, toIndex).
+     *
+     * @param fromIndex индекс первого удаляемого элемента (включительно)
+     * @param toIndex индекс конца диапазона (не включительно)
+     * @throws ContainerException если диапазон недопустим
+     */
+    public void removeRange(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex);
+        System.arraycopy(elements, toIndex, elements, fromIndex, size - toIndex);
+        size -= toIndex - fromIndex;
+    }
+
+    /**
+     * Удаляет первое вхождение указанного значения.
+     *
+     * @param element значение для удаления
+     * @return true если значение было найдено и удалено
+     */
+    public boolean removeValue(long element) {
+        int index = findIndex(element);
+        if (index != -1) {
+            remove(index);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Проверяет наличие значения в контейнере.
+     *
+     * @param element искомое значение
+     * @return true если значение найдено
+     */
+    public boolean contains(long element) {
+        return findIndex(element) != -1;
+    }
+
+    /**
+     * Ищет индекс первого вхождения значения.
+     *
+     * @param element искомое значение
+     * @return индекс значения или -1 если не найдено
+     */
+    public int findIndex(long element) {
+        for (int i = 0; i < size; i++) {
+            if (elements[i] == element) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Возвращает текущее количество элементов.
+     *
+     * @return количество элементов
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Проверяет, пуст ли контейнер.
+     *
+     * @return true если контейнер пуст
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Очищает контейнер, удаляя все элементы.
+     * Примитивные значения не удерживают объекты, поэтому массив не обнуляется.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Возвращает массив со всеми элементами контейнера.
+     *
+     * @return массив элементов
+     */
+    public long[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    /**
+     * Гарантирует достаточную емкость контейнера.
+     * Увеличивает внутренний массив при необходимости.
+     *
+     * @param minCapacity минимальная требуемая емкость
+     */
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > elements.length) {
+            int newCapacity = (int)(elements.length * GROW_FACTOR);
+            if (newCapacity < minCapacity) {
+                newCapacity = minCapacity;
+            }
+            elements = Arrays.copyOf(elements, newCapacity);
+        }
+    }
+
+    /**
+     * Проверяет корректность индекса для операций get и remove.
+     *
+     * @param index проверяемый индекс
+     * @throws ContainerException если индекс невалиден
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw ContainerException.indexOutOfRange(index, size);
+        }
+    }
+
+    /**
+     * Проверяет корректность индекса для операции add.
+     *
+     * @param index проверяемый индекс
+     * @throws ContainerException если индекс невалиден
+     */
+    private void checkIndexForAdd(int index) {
+        if (index < 0 || index > size) {
+            throw ContainerException.invalidInsertIndex(index, size);
+        }
+    }
+
+    /**
+     * Проверяет корректность диапазона для операции removeRange.
+     *
+     * @param fromIndex начало диапазона (включительно)
+     * @param toIndex конец диапазона (не включительно)
+     * @throws ContainerException если диапазон невалиден
+     */
+    private void checkRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new ContainerException(
+                "Недопустимый диапазон: [" + fromIndex + ", " + toIndex + "). Размер контейнера: " + size
+            );
+        }
+    }
+
+    /**
+     * Проверяет, что источник для массовой операции задан.
+     *
+     * @param source источник элементов
+     * @throws ContainerException если source равен null
+     */
+    private void checkSource(Object source) {
+        if (source == null) {
+            throw new ContainerException("Источник элементов не может быть null");
+        }
+    }
+
+    /**
+     * Возвращает строковое представление контейнера.
+     *
+     * @return строковое представление в формате [элемент1, элемент2, ...]
+     */
+    @Override
+    public String toString() {
+        if (size == 0) {
+            return "[]";
+        }
+
+        StringBuilder result = new StringBuilder();
+        result.append("[");
+        for (int i = 0; i < size; i++) {
+            result.append(elements[i]);
+            if (i < size - 1) {
+                result.append(", ");
+            }
+        }
+        result.append("]");
+        return result.toString();
+    }
+}
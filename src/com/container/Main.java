@@ -19,7 +19,7 @@ public class Main {
         System.out.println("Демонстрация работы контейнера");
         
         // Создаем контейнер для хранения данных о студентах
-        ObjectContainer container = new ObjectContainer();
+        ObjectContainer<Object> container = new ObjectContainer<>();
 
         // Добавляем элементы разных типов
         container.add("Иванов Петр");
@@ -63,5 +63,13 @@ public class Main {
 
         // Демонстрация размера контейнера
         System.out.println("\nТекущий размер контейнера: " + container.size() + " элементов");
+
+        // Типизированный контейнер: get без приведения, замена на месте
+        ObjectContainer<String> предметы = new ObjectContainer<>();
+        предметы.add("Алгебра");
+        предметы.add("Геометрия");
+        предметы.set(1, "Информатика");
+        String[] список = предметы.toArray(String[]::new);
+        System.out.println("Предметы: " + String.join(", ", список));
     }
 }
@@ -1,17 +1,47 @@
 package com.container;
 
 import com.container.exceptions.ContainerException;
+import com.container.metrics.ContainerMetrics;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.OptionalInt;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Универсальный контейнер для хранения объектов разных типов.
  * Реализует динамический массив с автоматическим расширением.
  * Поддерживает основные операции: добавление, удаление, поиск, доступ по индексу.
+ * Обход возможен через for-each, forEach и потоки (stream, parallelStream);
+ * итераторы и сплитераторы быстро отказывают с ConcurrentModificationException,
+ * если контейнер структурно изменился в обход них.
+ * Массовые операции parallelFindIndex, countMatching, filter, removeIf и replaceAll
+ * на больших контейнерах делят массив на части и обрабатывают их в общем
+ * пуле ForkJoinPool, на малых выполняются последовательно.
+ * Параметр типа избавляет от приведения при get; для элементов разных типов
+ * используется ObjectContainer&lt;Object&gt;.
+ * Контейнер, созданный с ArrayPool, берет внутренние массивы из пула
+ * и возвращает их туда при расширении, сжатии и закрытии (close).
+ * Представления subList, reversed, mapView и filterView читают элементы
+ * без копирования и копируют результат только при materialize.
  * 
+ * @param <T> тип элементов
  * @author Bilovus olga
  * @version 1.0
  */
-public class ObjectContainer {
+public class ObjectContainer<T> implements Iterable<T>, AutoCloseable {
     
     /**
      * Внутренний массив для хранения элементов
@@ -23,6 +53,16 @@ public class ObjectContainer {
      */
     private int size;
     
+    /**
+     * Счетчик структурных изменений для быстрого отказа итераторов
+     */
+    private int modCount;
+    
+    /**
+     * Хеш-индекс значений, null если индексированный режим выключен
+     */
+    private ValueIndex valueIndex;
+    
     /**
      * Начальная емкость по умолчанию
      */
@@ -33,6 +73,56 @@ public class ObjectContainer {
      */
     private static final double GROW_FACTOR = 1.5;
     
+    /**
+     * Политика расширения по умолчанию
+     */
+    private static final GrowthPolicy DEFAULT_GROWTH_POLICY = GrowthPolicies.geometric(GROW_FACTOR);
+    
+    /**
+     * Автоматическое сжатие выполняется, когда элементы занимают меньше 1/SHRINK_DIVISOR емкости
+     */
+    private static final int SHRINK_DIVISOR = 4;
+    
+    /**
+     * Оценка размера ссылки: 4 байта при сжатых указателях (куча до 32 ГБ), иначе 8
+     */
+    private static final int REFERENCE_BYTES = Runtime.getRuntime().maxMemory() < (32L << 30) ? 4 : 8;
+    
+    /**
+     * Массив закрытого контейнера с пулом до следующего добавления
+     */
+    private static final Object[] EMPTY_ELEMENTS = {};
+    
+    /**
+     * Цепочка преобразований представления без отображений и фильтров
+     */
+    private static final Stage[] NO_STAGES = {};
+    
+    /**
+     * Значение, которым цепочка преобразований отмечает отфильтрованный элемент
+     */
+    private static final Object SKIPPED = new Object();
+    
+    /**
+     * Политика расширения внутреннего массива
+     */
+    private GrowthPolicy growthPolicy = DEFAULT_GROWTH_POLICY;
+    
+    /**
+     * Включено ли автоматическое сжатие после удалений
+     */
+    private boolean autoShrink;
+    
+    /**
+     * Приемник метрик или null, если сбор метрик выключен
+     */
+    private ContainerMetrics metrics;
+    
+    /**
+     * Пул внутренних массивов или null, если массивы создаются напрямую
+     */
+    private final ArrayPool pool;
+    
     /**
      * Создает контейнер с емкостью по умолчанию.
      */
@@ -47,12 +137,27 @@ public class ObjectContainer {
      * @throws ContainerException если initialCapacity меньше или равно 0
      */
     public ObjectContainer(int initialCapacity) {
+        this(initialCapacity, null);
+    }
+    
+    /**
+     * Создает контейнер, внутренние массивы которого берутся из пула.
+     * Емкость округляется вверх до класса размера пула (см. ArrayPool.capacityFor).
+     * После использования контейнер следует закрыть методом close,
+     * чтобы вернуть массив в пул.
+     *
+     * @param initialCapacity начальная емкость контейнера
+     * @param pool пул массивов или null для обычного выделения
+     * @throws ContainerException если initialCapacity меньше или равно 0
+     */
+    public ObjectContainer(int initialCapacity, ArrayPool pool) {
         if (initialCapacity <= 0) {
             throw new ContainerException(
                 "Начальная емкость должна быть положительным числом: " + initialCapacity
             );
         }
-        this.elements = new Object[initialCapacity];
+        this.pool = pool;
+        this.elements = pool != null ? pool.acquire(initialCapacity) : new Object[initialCapacity];
         this.size = 0;
     }
     
@@ -62,10 +167,17 @@ public class ObjectContainer {
      * @param element элемент для добавления
      * @return true если элемент успешно добавлен
      */
-    public boolean add(Object element) {
+    public boolean add(T element) {
         ensureCapacity(size + 1);
         elements[size] = element;
+        if (valueIndex != null) {
+            valueIndex.appended(element, size);
+        }
         size++;
+        modCount++;
+        if (metrics != null) {
+            metrics.inserted(1, 0);
+        }
         return true;
     }
     
@@ -76,16 +188,128 @@ public class ObjectContainer {
      * @param element элемент для вставки
      * @throws ContainerException если индекс недопустим
      */
-    public void add(int index, Object element) {
+    public void add(int index, T element) {
         checkIndexForAdd(index);
         ensureCapacity(size + 1);
         
-        // Сдвигаем элементы вправо
-        for (int i = size; i > index; i--) {
-            elements[i] = elements[i - 1];
-        }
+        // Сдвигаем элементы вправо одним блочным копированием
+        System.arraycopy(elements, index, elements, index + 1, size - index);
         elements[index] = element;
+        if (valueIndex != null) {
+            valueIndex.inserted(element, index);
+        }
+        if (metrics != null) {
+            metrics.inserted(1, size - index);
+        }
         size++;
+        modCount++;
+    }
+    
+    /**
+     * Добавляет все элементы массива в конец контейнера.
+     * Емкость увеличивается не более одного раза за вызов.
+     *
+     * @param source массив добавляемых элементов
+     * @return true если контейнер изменился
+     * @throws ContainerException если source равен null
+     */
+    public boolean addAll(T[] source) {
+        checkSource(source);
+        int count = source.length;
+        ensureCapacity(size + count);
+        System.arraycopy(source, 0, elements, size, count);
+        appendedToIndex(size, count);
+        size += count;
+        modCount++;
+        if (metrics != null) {
+            metrics.inserted(count, 0);
+        }
+        return count != 0;
+    }
+    
+    /**
+     * Добавляет все элементы другого контейнера в конец этого контейнера.
+     * Допускается передача самого контейнера.
+     *
+     * @param other контейнер, элементы которого добавляются
+     * @return true если контейнер изменился
+     * @throws ContainerException если other равен null
+     */
+    public boolean addAll(ObjectContainer<? extends T> other) {
+        checkSource(other);
+        int count = other.size;
+        ensureCapacity(size + count);
+        System.arraycopy(other.elements, 0, elements, size, count);
+        appendedToIndex(size, count);
+        size += count;
+        modCount++;
+        if (metrics != null) {
+            metrics.inserted(count, 0);
+        }
+        return count != 0;
+    }
+    
+    /**
+     * Вставляет все элементы массива начиная с указанной позиции.
+     * Хвост контейнера сдвигается один раз за вызов, а не для каждого элемента.
+     *
+     * @param index позиция для вставки первого элемента
+     * @param source массив вставляемых элементов
+     * @throws ContainerException если индекс недопустим или source равен null
+     */
+    public void insertAll(int index, T[] source) {
+        checkIndexForAdd(index);
+        checkSource(source);
+        int count = source.length;
+        ensureCapacity(size + count);
+        
+        System.arraycopy(elements, index, elements, index + count, size - index);
+        System.arraycopy(source, 0, elements, index, count);
+        if (metrics != null) {
+            metrics.inserted(count, size - index);
+        }
+        size += count;
+        modCount++;
+        if (valueIndex != null) {
+            valueIndex.rebuild(elements, size);
+        }
+    }
+    
+    /**
+     * Вставляет элементы на заданные итоговые позиции одним проходом от конца
+     * массива: каждый прежний элемент сдвигается не более одного раза, сколько бы
+     * вставок ни было. Используется AsyncContainerService для пакета вставок.
+     *
+     * @param positions строго возрастающие позиции элементов в контейнере после вставки
+     * @param values элементы в порядке позиций
+     * @param count количество вставляемых элементов
+     */
+    void insertAtPositions(int[] positions, Object[] values, int count) {
+        if (count == 0) {
+            return;
+        }
+        int oldSize = size;
+        ensureCapacity(oldSize + count);
+        int read = oldSize;
+        int write = oldSize + count;
+        for (int k = count - 1; k >= 0; k--) {
+            int target = positions[k];
+            int gap = write - target - 1;
+            read -= gap;
+            System.arraycopy(elements, read, elements, target + 1, gap);
+            elements[target] = values[k];
+            write = target;
+        }
+        if (metrics != null) {
+            metrics.inserted(count, oldSize - read);
+        }
+        size = oldSize + count;
+        modCount++;
+        if (positions[0] >= oldSize) {
+            appendedToIndex(oldSize, count);
+        } else if (valueIndex != null) {
+            valueIndex.rebuild(elements, size);
+        }
     }
     
     /**
@@ -95,9 +319,41 @@ public class ObjectContainer {
      * @return элемент по указанному индексу
      * @throws ContainerException если индекс недопустим
      */
-    public Object get(int index) {
+    public T get(int index) {
+        checkIndex(index);
+        return elementAt(index);
+    }
+    
+    /**
+     * Возвращает элемент по индексу или значение по умолчанию, если индекс
+     * за пределами контейнера. Не создает исключений, поэтому подходит
+     * для циклов, где промах - обычный исход.
+     *
+     * @param index индекс элемента
+     * @param defaultValue значение для недопустимого индекса
+     * @return элемент или defaultValue
+     */
+    public T getOrDefault(int index, T defaultValue) {
+        return index >= 0 && index < size ? elementAt(index) : defaultValue;
+    }
+    
+    /**
+     * Заменяет элемент по указанному индексу без сдвига остальных элементов.
+     * Не считается структурным изменением: открытые итераторы остаются действительными.
+     *
+     * @param index индекс заменяемого элемента
+     * @param element новый элемент
+     * @return элемент, находившийся по этому индексу
+     * @throws ContainerException если индекс недопустим
+     */
+    public T set(int index, T element) {
         checkIndex(index);
-        return elements[index];
+        T previous = elementAt(index);
+        elements[index] = element;
+        if (valueIndex != null) {
+            valueIndex.replaced(previous, element, index, elements, size);
+        }
+        return previous;
     }
     
     /**
@@ -107,21 +363,66 @@ public class ObjectContainer {
      * @return удаленный элемент
      * @throws ContainerException если индекс недопустим
      */
-    public Object remove(int index) {
+    public T remove(int index) {
         checkIndex(index);
         
-        Object removed = elements[index];
+        T removed = elementAt(index);
         
-        // Сдвигаем элементы влево
-        for (int i = index; i < size - 1; i++) {
-            elements[i] = elements[i + 1];
-        }
+        // Сдвигаем элементы влево одним блочным копированием
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
         
         elements[size - 1] = null;
         size--;
+        modCount++;
+        if (valueIndex != null) {
+            valueIndex.removed(removed, index, elements, size);
+        }
+        if (metrics != null) {
+            metrics.removed(1, size - index);
+        }
+        shrinkIfSparse();
         return removed;
     }
     
+    /**
+     * Удаляет элемент по индексу, если индекс допустим, без создания исключения.
+     *
+     * @param index индекс удаляемого элемента
+     * @return true если элемент был удален, false если индекс за пределами контейнера
+     */
+    public boolean tryRemove(int index) {
+        if (index < 0 || index >= size) {
+            return false;
+        }
+        remove(index);
+        return true;
+    }
+    
+    /**
+     * Удаляет элементы в диапазоне [fromIndex, toIndex).
+     * Хвост контейнера сдвигается один раз за вызов.
+     *
+     * @param fromIndex индекс первого удаляемого элемента (включительно)
+     * @param toIndex индекс конца диапазона (не включительно)
+     * @throws ContainerException если диапазон недопустим
+     */
+    public void removeRange(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex);
+        int newSize = size - (toIndex - fromIndex);
+        
+        System.arraycopy(elements, toIndex, elements, fromIndex, size - toIndex);
+        Arrays.fill(elements, newSize, size, null);
+        if (metrics != null) {
+            metrics.removed(toIndex - fromIndex, size - toIndex);
+        }
+        size = newSize;
+        modCount++;
+        if (valueIndex != null) {
+            valueIndex.rebuild(elements, size);
+        }
+        shrinkIfSparse();
+    }
+    
     /**
      * Удаляет первое вхождение указанного элемента.
      *
@@ -154,14 +455,35 @@ public class ObjectContainer {
      * @return индекс элемента или -1 если не найден
      */
     public int findIndex(Object element) {
+        if (valueIndex != null) {
+            return valueIndex.firstIndex(element);
+        }
         for (int i = 0; i < size; i++) {
             if (Objects.equals(element, elements[i])) {
+                if (metrics != null) {
+                    metrics.scanned(i + 1, true);
+                }
                 return i;
             }
         }
+        if (metrics != null) {
+            metrics.scanned(size, false);
+        }
         return -1;
     }
     
+    /**
+     * Ищет индекс первого вхождения элемента так же, как findIndex,
+     * но сообщает об отсутствии пустым OptionalInt вместо -1.
+     *
+     * @param element искомый элемент
+     * @return индекс элемента или пустой OptionalInt
+     */
+    public OptionalInt indexOf(Object element) {
+        int index = findIndex(element);
+        return index == -1 ? OptionalInt.empty() : OptionalInt.of(index);
+    }
+    
     /**
      * Возвращает текущее количество элементов.
      *
@@ -184,70 +506,1521 @@ public class ObjectContainer {
      * Очищает контейнер, удаляя все элементы.
      */
     public void clear() {
-        for (int i = 0; i < size; i++) {
-            elements[i] = null;
+        Arrays.fill(elements, 0, size, null);
+        if (metrics != null) {
+            metrics.removed(size, 0);
         }
         size = 0;
+        modCount++;
+        if (valueIndex != null) {
+            valueIndex.clear();
+        }
+        shrinkIfSparse();
     }
     
     /**
-     * Возвращает массив со всеми элементами контейнера.
+     * Закрывает контейнер: удаляет все элементы и, если контейнер создан с пулом,
+     * очищает занятые ячейки и возвращает внутренний массив в пул.
+     * Контейнером можно пользоваться и после закрытия: при следующем добавлении
+     * он возьмет новый массив из пула. Без пула close равносилен clear.
+     */
+    @Override
+    public void close() {
+        if (pool == null) {
+            clear();
+            return;
+        }
+        Object[] released = elements;
+        int used = size;
+        elements = EMPTY_ELEMENTS;
+        size = 0;
+        modCount++;
+        if (valueIndex != null) {
+            valueIndex.clear();
+        }
+        pool.release(released, used);
+    }
+    
+    /**
+     * Возвращает пул внутренних массивов.
      *
-     * @return массив элементов
+     * @return пул или null, если массивы создаются напрямую
      */
-    public Object[] toArray() {
-        Object[] result = new Object[size];
-        for (int i = 0; i < size; i++) {
-            result[i] = elements[i];
+    public ArrayPool getArrayPool() {
+        return pool;
+    }
+    
+    /**
+     * Включает индексированный режим: строит хеш-индекс от значения к позиции
+     * первого вхождения, после чего findIndex, contains и поиск в remove(Object)
+     * выполняются за O(1) в среднем. Индекс поддерживается всеми изменяющими
+     * операциями; null и дубликаты обрабатываются как в обычном режиме.
+     * <p>
+     * Цена режима: около 64 байт на каждое различное значение
+     * (см. indexMemoryEstimate), добавление в конец дополнительно обращается
+     * к хеш-таблице, а вставка и удаление в середине корректируют позиции
+     * всех различных значений. Элементы должны иметь стабильные equals и hashCode.
+     * Точку окупаемости относительно линейного поиска показывает
+     * IndexedContainerBenchmark в модуле benchmarks.
+     */
+    public void enableIndex() {
+        if (valueIndex == null) {
+            valueIndex = new ValueIndex();
+            valueIndex.rebuild(elements, size);
         }
-        return result;
     }
     
     /**
-     * Гарантирует достаточную емкость контейнера.
-     * Увеличивает внутренний массив при необходимости.
+     * Выключает индексированный режим и освобождает память индекса.
+     */
+    public void disableIndex() {
+        valueIndex = null;
+    }
+    
+    /**
+     * Проверяет, включен ли индексированный режим.
      *
-     * @param minCapacity минимальная требуемая емкость
+     * @return true если поиск выполняется по хеш-индексу
      */
-    private void ensureCapacity(int minCapacity) {
-        if (minCapacity > elements.length) {
-            int newCapacity = (int)(elements.length * GROW_FACTOR);
-            if (newCapacity < minCapacity) {
-                newCapacity = minCapacity;
+    public boolean isIndexed() {
+        return valueIndex != null;
+    }
+    
+    /**
+     * Возвращает приблизительный объем памяти, занимаемый хеш-индексом.
+     *
+     * @return оценка в байтах или 0, если индексированный режим выключен
+     */
+    public long indexMemoryEstimate() {
+        return valueIndex == null ? 0 : valueIndex.estimatedBytes();
+    }
+    
+    /**
+     * Возвращает итератор по элементам контейнера.
+     * Итератор поддерживает remove() и быстро отказывает при изменении
+     * контейнера в обход него.
+     *
+     * @return итератор
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Itr();
+    }
+    
+    /**
+     * Выполняет действие для каждого элемента по порядку.
+     * Проходит по внутреннему массиву напрямую: без проверки индекса
+     * на каждом элементе и без выделения памяти под итератор.
+     *
+     * @param action действие над элементом
+     * @throws ConcurrentModificationException если действие структурно изменило контейнер
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+        final int expectedModCount = modCount;
+        final Object[] data = elements;
+        final int count = size;
+        for (int i = 0; i < count && modCount == expectedModCount; i++) {
+            action.accept((T) data[i]);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+    
+    /**
+     * Возвращает сплитератор с характеристиками ORDERED, SIZED и SUBSIZED.
+     * Делится пополам по индексам, поэтому parallelStream получает
+     * равные части работы.
+     *
+     * @return сплитератор
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new ContainerSpliterator(0, -1, 0);
+    }
+    
+    /**
+     * Возвращает последовательный поток элементов.
+     *
+     * @return поток элементов
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+    
+    /**
+     * Возвращает параллельный поток элементов.
+     *
+     * @return параллельный поток элементов
+     */
+    public Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+    
+    /**
+     * Ищет индекс первого вхождения элемента, просматривая части массива
+     * параллельно в общем пуле ForkJoinPool. Результат совпадает с findIndex:
+     * части правее уже найденного вхождения прекращают просмотр досрочно.
+     * Контейнеры меньше порога просматриваются последовательно,
+     * в индексированном режиме ответ берется из хеш-индекса.
+     *
+     * @param element искомый элемент
+     * @return индекс первого вхождения или -1 если не найден
+     */
+    public int parallelFindIndex(Object element) {
+        if (valueIndex != null) {
+            return valueIndex.firstIndex(element);
+        }
+        final Object[] data = elements;
+        final int count = size;
+        final AtomicInteger found = new AtomicInteger(Integer.MAX_VALUE);
+        ParallelTasks.forEachChunk(count, ParallelTasks.chunkCount(count), (chunk, from, to) -> {
+            for (int i = from; i < to; i++) {
+                if ((i & ParallelTasks.PROGRESS_CHECK_MASK) == 0 && i > found.get()) {
+                    return;
+                }
+                if (Objects.equals(element, data[i])) {
+                    found.accumulateAndGet(i, Math::min);
+                    return;
+                }
             }
-            Object[] newArray = new Object[newCapacity];
-            for (int i = 0; i < size; i++) {
-                newArray[i] = elements[i];
+        });
+        int index = found.get();
+        return index == Integer.MAX_VALUE ? -1 : index;
+    }
+    
+    /**
+     * Подсчитывает элементы, удовлетворяющие условию.
+     * Предикат вызывается из нескольких потоков и не должен иметь состояния.
+     *
+     * @param predicate условие
+     * @return количество подходящих элементов
+     */
+    @SuppressWarnings("unchecked")
+    public int countMatching(Predicate<? super T> predicate) {
+        Objects.requireNonNull(predicate);
+        final Object[] data = elements;
+        final int count = size;
+        final int chunks = ParallelTasks.chunkCount(count);
+        final int[] counts = new int[chunks];
+        ParallelTasks.forEachChunk(count, chunks, (chunk, from, to) -> {
+            int matches = 0;
+            for (int i = from; i < to; i++) {
+                if (predicate.test((T) data[i])) {
+                    matches++;
+                }
             }
-            elements = newArray;
+            counts[chunk] = matches;
+        });
+        int total = 0;
+        for (int matches : counts) {
+            total += matches;
         }
+        return total;
     }
     
     /**
-     * Проверяет корректность индекса для операций get и remove.
+     * Возвращает новый контейнер с элементами, удовлетворяющими условию,
+     * в исходном порядке. Условие проверяется параллельно, затем каждая часть
+     * копирует свои элементы в заранее вычисленную позицию результата.
+     * Предикат вызывается из нескольких потоков и не должен иметь состояния.
      *
-     * @param index проверяемый индекс
-     * @throws ContainerException если индекс невалиден
+     * @param predicate условие
+     * @return новый контейнер с подходящими элементами
      */
-    private void checkIndex(int index) {
-        if (index < 0 || index >= size) {
-            throw new ContainerException(
-                "Индекс за пределами диапазона: " + index + ". Размер контейнера: " + size
-            );
+    public ObjectContainer<T> filter(Predicate<? super T> predicate) {
+        Objects.requireNonNull(predicate);
+        final Object[] data = elements;
+        final int count = size;
+        final int chunks = ParallelTasks.chunkCount(count);
+        final boolean[] matched = new boolean[count];
+        final int[] offsets = markMatching(predicate, matched, chunks);
+        int total = offsets[chunks];
+        ObjectContainer<T> result = new ObjectContainer<>(Math.max(total, 1));
+        final Object[] target = result.elements;
+        ParallelTasks.forEachChunk(count, chunks, (chunk, from, to) -> {
+            int position = offsets[chunk];
+            for (int i = from; i < to; i++) {
+                if (matched[i]) {
+                    target[position++] = data[i];
+                }
+            }
+        });
+        result.size = total;
+        return result;
+    }
+    
+    /**
+     * Удаляет все элементы, удовлетворяющие условию.
+     * Условие проверяется параллельно, после чего оставшиеся элементы
+     * уплотняются за один проход.
+     * Предикат вызывается из нескольких потоков и не должен иметь состояния.
+     *
+     * @param predicate условие удаления
+     * @return true если был удален хотя бы один элемент
+     * @throws ConcurrentModificationException если предикат изменил контейнер
+     */
+    public boolean removeIf(Predicate<? super T> predicate) {
+        Objects.requireNonNull(predicate);
+        final int expectedModCount = modCount;
+        final int count = size;
+        final int chunks = ParallelTasks.chunkCount(count);
+        final boolean[] matched = new boolean[count];
+        final int[] offsets = markMatching(predicate, matched, chunks);
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+        if (offsets[chunks] == 0) {
+            return false;
+        }
+        int kept = 0;
+        while (!matched[kept]) {
+            kept++;
+        }
+        int firstRemoved = kept;
+        for (int i = firstRemoved + 1; i < count; i++) {
+            if (!matched[i]) {
+                elements[kept++] = elements[i];
+            }
+        }
+        Arrays.fill(elements, kept, count, null);
+        if (metrics != null) {
+            metrics.removed(count - kept, kept - firstRemoved);
         }
+        size = kept;
+        modCount++;
+        if (valueIndex != null) {
+            valueIndex.rebuild(elements, size);
+        }
+        shrinkIfSparse();
+        return true;
     }
     
     /**
-     * Проверяет корректность индекса для операции add.
+     * Заменяет каждый элемент результатом функции, обрабатывая части
+     * массива параллельно. Функция вызывается из нескольких потоков
+     * и не должна иметь состояния.
      *
-     * @param index проверяемый индекс
-     * @throws ContainerException если индекс невалиден
+     * @param operator функция преобразования элемента
+     * @throws ConcurrentModificationException если функция изменила контейнер
      */
-    private void checkIndexForAdd(int index) {
-        if (index < 0 || index > size) {
-            throw new ContainerException(
-                "Недопустимый индекс для вставки: " + index + ". Допустимый диапазон: 0 - " + size
-            );
+    @SuppressWarnings("unchecked")
+    public void replaceAll(UnaryOperator<T> operator) {
+        Objects.requireNonNull(operator);
+        final int expectedModCount = modCount;
+        final Object[] data = elements;
+        final int count = size;
+        ParallelTasks.forEachChunk(count, ParallelTasks.chunkCount(count), (chunk, from, to) -> {
+            for (int i = from; i < to; i++) {
+                data[i] = operator.apply((T) data[i]);
+            }
+        });
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+        modCount++;
+        if (valueIndex != null) {
+            valueIndex.rebuild(elements, size);
+        }
+    }
+    
+    /**
+     * Открывает пакет изменений. Пакет накапливает добавления, замены и удаления
+     * по индексам, а apply применяет их за один проход с одним уплотнением массива:
+     * удаление k разбросанных элементов стоит O(n), а не O(k·n), как при
+     * последовательных вызовах remove(int).
+     *
+     * <pre>
+     * ObjectContainer&lt;Object&gt;.Batch batch = container.batch();
+     * batch.remove(3).remove(900).set(10, "новый").add("в конец");
+     * batch.apply();
+     * </pre>
+     *
+     * @return новый пакет изменений
+     */
+    public Batch batch() {
+        return new Batch();
+    }
+    
+    /**
+     * Возвращает представление диапазона [fromIndex, toIndex) без копирования элементов.
+     * Представление действительно, пока контейнер не изменился структурно;
+     * после этого любое обращение к нему отказывает с ConcurrentModificationException.
+     *
+     * @param fromIndex начало диапазона (включительно)
+     * @param toIndex конец диапазона (не включительно)
+     * @return представление диапазона
+     * @throws ContainerException если диапазон невалиден
+     */
+    public View<T> subList(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex);
+        return new View<>(fromIndex, toIndex, false, NO_STAGES, modCount);
+    }
+    
+    /**
+     * Возвращает представление элементов в обратном порядке без копирования.
+     *
+     * @return представление в обратном порядке
+     */
+    public View<T> reversed() {
+        return new View<>(0, size, true, NO_STAGES, modCount);
+    }
+    
+    /**
+     * Возвращает представление, отображающее каждый элемент функцией.
+     * Функция вызывается при каждом чтении элемента представления.
+     *
+     * @param mapper функция преобразования элемента
+     * @param <R> тип элементов представления
+     * @return представление с преобразованными элементами
+     */
+    public <R> View<R> mapView(Function<? super T, ? extends R> mapper) {
+        return new View<T>(0, size, false, NO_STAGES, modCount).mapView(mapper);
+    }
+    
+    /**
+     * Возвращает представление элементов, удовлетворяющих условию.
+     * Условие проверяется при каждом проходе по представлению.
+     *
+     * @param predicate условие
+     * @return представление подходящих элементов
+     */
+    public View<T> filterView(Predicate<? super T> predicate) {
+        return new View<T>(0, size, false, NO_STAGES, modCount).filterView(predicate);
+    }
+    
+    /**
+     * Сортирует элементы по компаратору или, если он равен null, в естественном
+     * порядке. Сортировка устойчива. Контейнеры от ParallelTasks.SEQUENTIAL_THRESHOLD
+     * элементов сортируются Arrays.parallelSort в общем пуле ForkJoinPool,
+     * меньшие - Arrays.sort в вызывающем потоке.
+     *
+     * @param comparator компаратор или null для естественного порядка
+     * @throws ContainerException если элементы нельзя сравнить или компаратор
+     *         нарушает контракт сравнения
+     */
+    @SuppressWarnings("unchecked")
+    public void sort(Comparator<? super T> comparator) {
+        Comparator<? super T> order = comparator != null
+            ? comparator
+            : (Comparator<? super T>) Comparator.naturalOrder();
+        T[] data = (T[]) elements;
+        try {
+            if (size >= ParallelTasks.SEQUENTIAL_THRESHOLD) {
+                Arrays.parallelSort(data, 0, size, order);
+            } else {
+                Arrays.sort(data, 0, size, order);
+            }
+        } catch (ClassCastException | NullPointerException e) {
+            throw new ContainerException("Элементы нельзя упорядочить: " + e.getMessage(), e);
+        } catch (IllegalArgumentException e) {
+            // TimSort обнаружил, что компаратор нарушает общий контракт
+            throw new ContainerException("Компаратор нарушает контракт сравнения: " + e.getMessage(), e);
+        } finally {
+            // прерванная сортировка могла уже переставить часть элементов
+            modCount++;
+            if (valueIndex != null) {
+                valueIndex.rebuild(elements, size);
+            }
+        }
+    }
+    
+    /**
+     * Возвращает массив со всеми элементами контейнера.
+     *
+     * @return массив элементов
+     */
+    public Object[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+    
+    /**
+     * Копирует элементы в типизированный массив одним блочным копированием.
+     * Если массив вмещает все элементы, они записываются в него, а следующая
+     * за последним элементом ячейка (если есть) обнуляется; иначе создается
+     * новый массив того же типа ровно на size элементов.
+     *
+     * @param array массив для заполнения
+     * @return массив с элементами контейнера
+     * @throws ContainerException если array равен null
+     */
+    @SuppressWarnings("unchecked")
+    public T[] toArray(T[] array) {
+        checkSource(array);
+        if (array.length < size) {
+            return (T[]) Arrays.copyOf(elements, size, array.getClass());
+        }
+        System.arraycopy(elements, 0, array, 0, size);
+        if (array.length > size) {
+            array[size] = null;
+        }
+        return array;
+    }
+    
+    /**
+     * Копирует элементы в типизированный массив ровно на size элементов,
+     * созданный функцией, например {@code container.toArray(String[]::new)}.
+     *
+     * @param generator функция, создающая массив указанной длины
+     * @return массив с элементами контейнера
+     * @throws ContainerException если generator равен null или вернул массив другой длины
+     */
+    public T[] toArray(IntFunction<T[]> generator) {
+        checkSource(generator);
+        T[] array = generator.apply(size);
+        if (array == null || array.length != size) {
+            throw new ContainerException(
+                "Функция должна создать массив длиной " + size
+            );
+        }
+        System.arraycopy(elements, 0, array, 0, size);
+        return array;
+    }
+    
+    /**
+     * Гарантирует достаточную емкость контейнера.
+     * Увеличивает внутренний массив по текущей политике расширения, но не меньше
+     * чем до minCapacity. Можно вызывать заранее, перед добавлением известного
+     * количества элементов, чтобы избежать промежуточных расширений.
+     *
+     * @param minCapacity минимальная требуемая емкость
+     * @throws ContainerException если minCapacity превышает максимальный размер массива
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > elements.length) {
+            if (minCapacity > GrowthPolicies.MAX_ARRAY_SIZE) {
+                throw new ContainerException(
+                    "Требуемая емкость превышает максимальный размер массива: " + minCapacity
+                );
+            }
+            int newCapacity = growthPolicy.newCapacity(elements.length, minCapacity);
+            if (newCapacity < minCapacity) {
+                newCapacity = minCapacity;
+            }
+            resize(newCapacity);
+        }
+    }
+    
+    /**
+     * Уменьшает емкость до текущего количества элементов (но не меньше 1).
+     */
+    public void trimToSize() {
+        int newCapacity = Math.max(size, 1);
+        if (newCapacity < elements.length) {
+            resize(newCapacity);
+        }
+    }
+    
+    /**
+     * Возвращает текущую емкость внутреннего массива.
+     *
+     * @return емкость в элементах
+     */
+    public int capacity() {
+        return elements.length;
+    }
+    
+    /**
+     * Устанавливает политику расширения внутреннего массива.
+     *
+     * @param growthPolicy новая политика
+     * @throws ContainerException если growthPolicy равна null
+     */
+    public void setGrowthPolicy(GrowthPolicy growthPolicy) {
+        if (growthPolicy == null) {
+            throw new ContainerException("Политика расширения не может быть null");
+        }
+        this.growthPolicy = growthPolicy;
+    }
+    
+    /**
+     * Возвращает текущую политику расширения.
+     *
+     * @return политика расширения
+     */
+    public GrowthPolicy getGrowthPolicy() {
+        return growthPolicy;
+    }
+    
+    /**
+     * Включает или выключает автоматическое сжатие.
+     * После удалений и очистки массив уменьшается вдвое относительно занятого места,
+     * если элементы занимают меньше четверти емкости. Разрыв между порогом сжатия (1/4)
+     * и целевой заполненностью (1/2) не дает чередованию добавлений и удалений
+     * вызывать сжатие и расширение на каждой операции. Емкость не опускается
+     * ниже емкости по умолчанию.
+     *
+     * @param autoShrink true для включения автоматического сжатия
+     */
+    public void setAutoShrink(boolean autoShrink) {
+        this.autoShrink = autoShrink;
+        shrinkIfSparse();
+    }
+    
+    /**
+     * Проверяет, включено ли автоматическое сжатие.
+     *
+     * @return true если автоматическое сжатие включено
+     */
+    public boolean isAutoShrink() {
+        return autoShrink;
+    }
+    
+    /**
+     * Подключает приемник метрик. Контейнер сообщает ему о добавлениях
+     * и удалениях (с количеством сдвинутых элементов), заменах внутреннего
+     * массива и длине линейных поисков. Без приемника каждая операция
+     * выполняет лишь одну проверку поля на null; стоимость включенного
+     * и выключенного режима показывает MetricsOverheadBenchmark.
+     *
+     * @param metrics приемник метрик или null для выключения сбора
+     */
+    public void setMetrics(ContainerMetrics metrics) {
+        this.metrics = metrics;
+    }
+    
+    /**
+     * Возвращает подключенный приемник метрик.
+     *
+     * @return приемник метрик или null, если сбор выключен
+     */
+    public ContainerMetrics getMetrics() {
+        return metrics;
+    }
+    
+    /**
+     * Оценивает объем памяти, удерживаемый самим контейнером: объект контейнера,
+     * внутренний массив и хеш-индекс. Сами элементы не учитываются,
+     * так как на них могут ссылаться и другие объекты.
+     *
+     * @return оценка в байтах
+     */
+    public long estimatedRetainedBytes() {
+        long containerBytes = alignTo8(16 + 5L * REFERENCE_BYTES + 2 * Integer.BYTES + 1);
+        long arrayBytes = alignTo8(16 + (long) elements.length * REFERENCE_BYTES);
+        return containerBytes + arrayBytes + indexMemoryEstimate();
+    }
+    
+    /**
+     * Заменяет внутренний массив массивом указанной емкости.
+     *
+     * @param newCapacity новая емкость, не меньше size
+     */
+    private void resize(int newCapacity) {
+        int oldCapacity = elements.length;
+        if (pool != null) {
+            if (ArrayPool.capacityFor(newCapacity) == oldCapacity) {
+                return;
+            }
+            Object[] replacement = pool.acquire(newCapacity);
+            System.arraycopy(elements, 0, replacement, 0, size);
+            pool.release(elements, size);
+            elements = replacement;
+            newCapacity = replacement.length;
+        } else {
+            elements = Arrays.copyOf(elements, newCapacity);
+        }
+        if (metrics != null) {
+            metrics.resized(oldCapacity, newCapacity, size);
+        }
+    }
+    
+    /**
+     * Сжимает внутренний массив, если включено автоматическое сжатие
+     * и элементы занимают меньше 1/SHRINK_DIVISOR емкости.
+     */
+    private void shrinkIfSparse() {
+        if (autoShrink && elements.length > DEFAULT_CAPACITY && size < elements.length / SHRINK_DIVISOR) {
+            resize(Math.max(size * 2, DEFAULT_CAPACITY));
+        }
+    }
+    
+    /**
+     * Округляет размер объекта до границы выравнивания в 8 байт.
+     *
+     * @param bytes размер в байтах
+     * @return выровненный размер
+     */
+    private static long alignTo8(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+    
+    /**
+     * Отмечает элементы, удовлетворяющие условию, проверяя части параллельно.
+     *
+     * @param predicate условие
+     * @param matched массив отметок длиной size
+     * @param chunks количество частей
+     * @return позиции начала каждой части среди подходящих элементов;
+     *         последний элемент массива равен их общему количеству
+     */
+    @SuppressWarnings("unchecked")
+    private int[] markMatching(Predicate<? super T> predicate, boolean[] matched, int chunks) {
+        final Object[] data = elements;
+        final int[] offsets = new int[chunks + 1];
+        ParallelTasks.forEachChunk(size, chunks, (chunk, from, to) -> {
+            int matches = 0;
+            for (int i = from; i < to; i++) {
+                if (predicate.test((T) data[i])) {
+                    matched[i] = true;
+                    matches++;
+                }
+            }
+            offsets[chunk + 1] = matches;
+        });
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            offsets[chunk + 1] += offsets[chunk];
+        }
+        return offsets;
+    }
+    
+    /**
+     * Возвращает элемент внутреннего массива без проверки индекса.
+     * В массив попадают только элементы типа T, поэтому приведение безопасно.
+     *
+     * @param index индекс элемента
+     * @return элемент
+     */
+    @SuppressWarnings("unchecked")
+    private T elementAt(int index) {
+        return (T) elements[index];
+    }
+    
+    /**
+     * Добавляет в хеш-индекс элементы, записанные в конец массива.
+     *
+     * @param from позиция первого добавленного элемента
+     * @param count количество добавленных элементов
+     */
+    private void appendedToIndex(int from, int count) {
+        if (valueIndex != null) {
+            for (int i = from; i < from + count; i++) {
+                valueIndex.appended(elements[i], i);
+            }
+        }
+    }
+    
+    /**
+     * Проверяет корректность индекса для операций get и remove.
+     *
+     * @param index проверяемый индекс
+     * @throws ContainerException если индекс невалиден
+     */
+    private void checkIndex(int index) {
+        checkIndex(index, size);
+    }
+    
+    /**
+     * Проверяет, что индекс лежит в [0, size).
+     *
+     * @param index проверяемый индекс
+     * @param size размер контейнера или представления
+     * @throws ContainerException если индекс невалиден
+     */
+    private static void checkIndex(int index, int size) {
+        if (index < 0 || index >= size) {
+            throw ContainerException.indexOutOfRange(index, size);
+        }
+    }
+    
+    /**
+     * Проверяет корректность индекса для операции add.
+     *
+     * @param index проверяемый индекс
+     * @throws ContainerException если индекс невалиден
+     */
+    private void checkIndexForAdd(int index) {
+        if (index < 0 || index > size) {
+            throw ContainerException.invalidInsertIndex(index, size);
+        }
+    }
+    
+    /**
+     * Проверяет корректность диапазона для операции removeRange.
+     *
+     * @param fromIndex начало диапазона (включительно)
+     * @param toIndex конец диапазона (не включительно)
+     * @throws ContainerException если диапазон невалиден
+     */
+    private void checkRange(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex, size);
+    }
+    
+    /**
+     * Проверяет, что [fromIndex, toIndex) лежит в [0, size).
+     *
+     * @param fromIndex начало диапазона (включительно)
+     * @param toIndex конец диапазона (не включительно)
+     * @param size размер контейнера или представления
+     * @throws ContainerException если диапазон невалиден
+     */
+    private static void checkRange(int fromIndex, int toIndex, int size) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new ContainerException(
+                "Недопустимый диапазон: [" + fromIndex + ", " + toIndex + "). Размер контейнера: " + size
+            );
+        }
+    }
+    
+    /**
+     * Проверяет, что источник для массовой операции задан.
+     *
+     * @param source источник элементов
+     * @throws ContainerException если source равен null
+     */
+    private void checkSource(Object source) {
+        if (source == null) {
+            throw new ContainerException("Источник элементов не может быть null");
+        }
+    }
+    
+    /**
+     * Пакет изменений контейнера.
+     * Индексы в set и remove относятся к состоянию контейнера на момент
+     * открытия пакета и не сдвигаются от других операций пакета. При apply
+     * сначала выполняются замены, затем удаления (замена удаленного элемента
+     * теряется), затем добавления в конец в порядке вызовов.
+     * Если контейнер изменился в обход пакета, apply отказывает
+     * с ConcurrentModificationException.
+     */
+    public final class Batch {
+        
+        /**
+         * Размер контейнера при открытии пакета
+         */
+        private final int baseSize = size;
+        
+        /**
+         * Ожидаемое значение счетчика изменений
+         */
+        private final int expectedModCount = modCount;
+        
+        /**
+         * Отметки удаляемых позиций
+         */
+        private final BitSet removed = new BitSet();
+        
+        /**
+         * Позиции и новые значения замен в порядке вызовов
+         */
+        private int[] setIndices = new int[0];
+        private Object[] setValues = new Object[0];
+        private int setCount;
+        
+        /**
+         * Элементы, добавляемые в конец
+         */
+        private Object[] added = new Object[0];
+        private int addCount;
+        
+        private boolean applied;
+        
+        private Batch() {
+        }
+        
+        /**
+         * Добавляет элемент в конец контейнера при применении пакета.
+         *
+         * @param element элемент для добавления
+         * @return этот пакет
+         * @throws ContainerException если пакет уже применен
+         */
+        public Batch add(T element) {
+            checkOpen();
+            if (addCount == added.length) {
+                added = Arrays.copyOf(added, Math.max(addCount * 2, DEFAULT_CAPACITY));
+            }
+            added[addCount++] = element;
+            return this;
+        }
+        
+        /**
+         * Заменяет элемент по индексу при применении пакета.
+         * Из нескольких замен одного индекса действует последняя.
+         *
+         * @param index индекс на момент открытия пакета
+         * @param element новый элемент
+         * @return этот пакет
+         * @throws ContainerException если индекс недопустим или пакет уже применен
+         */
+        public Batch set(int index, T element) {
+            checkOpen();
+            checkBaseIndex(index);
+            if (setCount == setIndices.length) {
+                int newLength = Math.max(setCount * 2, DEFAULT_CAPACITY);
+                setIndices = Arrays.copyOf(setIndices, newLength);
+                setValues = Arrays.copyOf(setValues, newLength);
+            }
+            setIndices[setCount] = index;
+            setValues[setCount++] = element;
+            return this;
+        }
+        
+        /**
+         * Удаляет элемент по индексу при применении пакета.
+         * Повторное удаление того же индекса ничего не меняет.
+         *
+         * @param index индекс на момент открытия пакета
+         * @return этот пакет
+         * @throws ContainerException если индекс недопустим или пакет уже применен
+         */
+        public Batch remove(int index) {
+            checkOpen();
+            checkBaseIndex(index);
+            removed.set(index);
+            return this;
+        }
+        
+        /**
+         * Возвращает количество различных позиций, отмеченных к удалению.
+         *
+         * @return количество удалений
+         */
+        public int pendingRemovals() {
+            return removed.cardinality();
+        }
+        
+        /**
+         * Применяет пакет: замены, одно уплотнение массива после удалений
+         * и добавления в конец. Структурное изменение засчитывается один раз,
+         * хеш-индекс перестраивается один раз.
+         *
+         * @throws ContainerException если пакет уже применен
+         * @throws ConcurrentModificationException если контейнер изменился после открытия пакета
+         */
+        public void apply() {
+            checkOpen();
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            applied = true;
+            for (int i = 0; i < setCount; i++) {
+                elements[setIndices[i]] = setValues[i];
+            }
+            int firstRemoved = removed.nextSetBit(0);
+            if (firstRemoved >= 0) {
+                int write = firstRemoved;
+                int read = removed.nextClearBit(firstRemoved);
+                while (read < size) {
+                    int runEnd = removed.nextSetBit(read);
+                    if (runEnd < 0) {
+                        runEnd = size;
+                    }
+                    System.arraycopy(elements, read, elements, write, runEnd - read);
+                    write += runEnd - read;
+                    read = removed.nextClearBit(runEnd);
+                }
+                Arrays.fill(elements, write, size, null);
+                if (metrics != null) {
+                    metrics.removed(size - write, write - firstRemoved);
+                }
+                size = write;
+            }
+            if (addCount > 0) {
+                ensureCapacity(size + addCount);
+                System.arraycopy(added, 0, elements, size, addCount);
+                size += addCount;
+                if (metrics != null) {
+                    metrics.inserted(addCount, 0);
+                }
+            }
+            if (setCount > 0 || firstRemoved >= 0 || addCount > 0) {
+                modCount++;
+                if (valueIndex != null) {
+                    valueIndex.rebuild(elements, size);
+                }
+                shrinkIfSparse();
+            }
+        }
+        
+        private void checkOpen() {
+            if (applied) {
+                throw new ContainerException("Пакет изменений уже применен");
+            }
+        }
+        
+        private void checkBaseIndex(int index) {
+            if (index < 0 || index >= baseSize) {
+                throw ContainerException.indexOutOfRange(index, baseSize);
+            }
+        }
+    }
+    
+    /**
+     * Ленивое представление части контейнера.
+     * Хранит только границы диапазона во внутреннем массиве, направление обхода
+     * и цепочку отображений и фильтров; элементы читаются из контейнера при каждом
+     * обращении, а вся цепочка применяется к элементу за один проход, без
+     * промежуточных копий. Представления компонуются: subList, reversed, mapView
+     * и filterView над представлением создают новое представление того же вида.
+     * <p>
+     * Представление без фильтров знает свой размер и дает доступ по индексу за O(1);
+     * с фильтром size, get и subList проходят по диапазону. Замена элементов через
+     * set видна в представлении; после структурного изменения контейнера любое
+     * обращение к представлению отказывает с ConcurrentModificationException.
+     *
+     * <pre>
+     * ObjectContainer&lt;String&gt; page = orders.subList(40, 60)
+     *     .filterView(Order::isPaid)
+     *     .mapView(Order::getNumber)
+     *     .materialize();
+     * </pre>
+     *
+     * @param <R> тип элементов представления
+     */
+    public final class View<R> implements Iterable<R> {
+        
+        /**
+         * Границы диапазона во внутреннем массиве контейнера
+         */
+        private final int from;
+        private final int to;
+        
+        /**
+         * Обходится ли диапазон от конца к началу
+         */
+        private final boolean reversed;
+        
+        /**
+         * Отображения и фильтры в порядке применения
+         */
+        private final Stage[] stages;
+        
+        /**
+         * Есть ли в цепочке хотя бы один фильтр
+         */
+        private final boolean filtered;
+        
+        /**
+         * Значение счетчика изменений, при котором представление создано
+         */
+        private final int expectedModCount;
+        
+        private View(int from, int to, boolean reversed, Stage[] stages, int expectedModCount) {
+            this.from = from;
+            this.to = to;
+            this.reversed = reversed;
+            this.stages = stages;
+            this.expectedModCount = expectedModCount;
+            boolean anyFilter = false;
+            for (Stage stage : stages) {
+                anyFilter |= stage.predicate != null;
+            }
+            this.filtered = anyFilter;
+        }
+        
+        /**
+         * Возвращает количество элементов представления.
+         * С фильтром подсчитывает их одним проходом.
+         *
+         * @return количество элементов
+         * @throws ConcurrentModificationException если контейнер изменился структурно
+         */
+        public int size() {
+            checkForComodification();
+            if (!filtered) {
+                return to - from;
+            }
+            final Object[] data = elements;
+            int count = 0;
+            for (int position = 0, length = to - from; position < length; position++) {
+                if (apply(data[sourceIndex(position)]) != SKIPPED) {
+                    count++;
+                }
+            }
+            checkForComodification();
+            return count;
+        }
+        
+        /**
+         * Проверяет, пусто ли представление.
+         *
+         * @return true если в представлении нет элементов
+         * @throws ConcurrentModificationException если контейнер изменился структурно
+         */
+        public boolean isEmpty() {
+            checkForComodification();
+            if (!filtered) {
+                return to == from;
+            }
+            final Object[] data = elements;
+            for (int position = 0, length = to - from; position < length; position++) {
+                if (apply(data[sourceIndex(position)]) != SKIPPED) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        
+        /**
+         * Возвращает элемент представления по индексу.
+         *
+         * @param index индекс элемента в представлении
+         * @return элемент после всех отображений
+         * @throws ContainerException если индекс недопустим
+         * @throws ConcurrentModificationException если контейнер изменился структурно
+         */
+        @SuppressWarnings("unchecked")
+        public R get(int index) {
+            checkForComodification();
+            if (!filtered) {
+                checkIndex(index, to - from);
+                return (R) apply(elements[sourceIndex(index)]);
+            }
+            if (index >= 0) {
+                final Object[] data = elements;
+                int seen = 0;
+                for (int position = 0, length = to - from; position < length; position++) {
+                    Object value = apply(data[sourceIndex(position)]);
+                    if (value != SKIPPED && seen++ == index) {
+                        checkForComodification();
+                        return (R) value;
+                    }
+                }
+            }
+            throw ContainerException.indexOutOfRange(index, size());
+        }
+        
+        /**
+         * Возвращает представление элементов [fromIndex, toIndex) этого представления.
+         * Без фильтра только сужает диапазон; с фильтром находит границы
+         * во внутреннем массиве проходом по диапазону, сами элементы не копируются.
+         *
+         * @param fromIndex начало диапазона (включительно)
+         * @param toIndex конец диапазона (не включительно)
+         * @return представление диапазона
+         * @throws ContainerException если диапазон невалиден
+         * @throws ConcurrentModificationException если контейнер изменился структурно
+         */
+        public View<R> subList(int fromIndex, int toIndex) {
+            checkForComodification();
+            if (!filtered) {
+                checkRange(fromIndex, toIndex, to - from);
+                return narrow(fromIndex, toIndex);
+            }
+            checkRange(fromIndex, toIndex, size());
+            final Object[] data = elements;
+            int length = to - from;
+            int start = length;
+            int end = length;
+            int seen = 0;
+            for (int position = 0; position < length; position++) {
+                if (apply(data[sourceIndex(position)]) == SKIPPED) {
+                    continue;
+                }
+                if (seen == fromIndex) {
+                    start = position;
+                }
+                if (seen == toIndex) {
+                    end = position;
+                    break;
+                }
+                seen++;
+            }
+            checkForComodification();
+            return narrow(start, end);
+        }
+        
+        /**
+         * Возвращает это представление в обратном порядке.
+         *
+         * @return представление в обратном порядке
+         * @throws ConcurrentModificationException если контейнер изменился структурно
+         */
+        public View<R> reversed() {
+            checkForComodification();
+            return new View<>(from, to, !reversed, stages, expectedModCount);
+        }
+        
+        /**
+         * Возвращает представление, отображающее каждый элемент этого представления функцией.
+         *
+         * @param mapper функция преобразования элемента
+         * @param <U> тип элементов нового представления
+         * @return представление с преобразованными элементами
+         * @throws ConcurrentModificationException если контейнер изменился структурно
+         */
+        @SuppressWarnings("unchecked")
+        public <U> View<U> mapView(Function<? super R, ? extends U> mapper) {
+            Objects.requireNonNull(mapper);
+            checkForComodification();
+            return new View<>(from, to, reversed,
+                append(new Stage((Function<Object, Object>) mapper, null)), expectedModCount);
+        }
+        
+        /**
+         * Возвращает представление элементов этого представления, удовлетворяющих условию.
+         *
+         * @param predicate условие
+         * @return представление подходящих элементов
+         * @throws ConcurrentModificationException если контейнер изменился структурно
+         */
+        @SuppressWarnings("unchecked")
+        public View<R> filterView(Predicate<? super R> predicate) {
+            Objects.requireNonNull(predicate);
+            checkForComodification();
+            return new View<>(from, to, reversed,
+                append(new Stage(null, (Predicate<Object>) predicate)), expectedModCount);
+        }
+        
+        /**
+         * Выполняет действие для каждого элемента представления по порядку
+         * за один проход по внутреннему массиву.
+         *
+         * @param action действие над элементом
+         * @throws ConcurrentModificationException если контейнер изменился структурно
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public void forEach(Consumer<? super R> action) {
+            Objects.requireNonNull(action);
+            checkForComodification();
+            final Object[] data = elements;
+            for (int position = 0, length = to - from; position < length && modCount == expectedModCount; position++) {
+                Object value = apply(data[sourceIndex(position)]);
+                if (value != SKIPPED) {
+                    action.accept((R) value);
+                }
+            }
+            checkForComodification();
+        }
+        
+        /**
+         * Возвращает итератор по элементам представления.
+         *
+         * @return итератор
+         */
+        @Override
+        public Iterator<R> iterator() {
+            return new ViewItr();
+        }
+        
+        /**
+         * Копирует элементы представления в новый контейнер за один проход.
+         * Емкость результата выделяется сразу: по размеру диапазона, а с фильтром -
+         * по его верхней оценке, поэтому при копировании массив не расширяется.
+         *
+         * @return новый контейнер с элементами представления
+         * @throws ConcurrentModificationException если контейнер изменился структурно
+         */
+        public ObjectContainer<R> materialize() {
+            checkForComodification();
+            ObjectContainer<R> result = new ObjectContainer<>(Math.max(to - from, 1));
+            result.size = copyTo(result.elements);
+            return result;
+        }
+        
+        /**
+         * Возвращает массив с элементами представления.
+         *
+         * @return массив элементов
+         * @throws ConcurrentModificationException если контейнер изменился структурно
+         */
+        public Object[] toArray() {
+            checkForComodification();
+            Object[] result = new Object[to - from];
+            int count = copyTo(result);
+            return count == result.length ? result : Arrays.copyOf(result, count);
+        }
+        
+        /**
+         * Возвращает строковое представление.
+         *
+         * @return строковое представление в формате [элемент1, элемент2, ...]
+         */
+        @Override
+        public String toString() {
+            StringBuilder result = new StringBuilder("[");
+            boolean[] first = {true};
+            forEach(element -> {
+                if (!first[0]) {
+                    result.append(", ");
+                }
+                first[0] = false;
+                result.append(element);
+            });
+            return result.append("]").toString();
+        }
+        
+        /**
+         * Записывает элементы представления в начало массива.
+         *
+         * @param target массив длиной не меньше диапазона
+         * @return количество записанных элементов
+         */
+        private int copyTo(Object[] target) {
+            final Object[] data = elements;
+            int count = 0;
+            for (int position = 0, length = to - from; position < length; position++) {
+                Object value = apply(data[sourceIndex(position)]);
+                if (value != SKIPPED) {
+                    target[count++] = value;
+                }
+            }
+            checkForComodification();
+            return count;
+        }
+        
+        /**
+         * Применяет цепочку отображений и фильтров к элементу.
+         *
+         * @param value элемент контейнера
+         * @return элемент представления или SKIPPED, если его отбросил фильтр
+         */
+        private Object apply(Object value) {
+            for (Stage stage : stages) {
+                if (stage.predicate == null) {
+                    value = stage.mapper.apply(value);
+                } else if (!stage.predicate.test(value)) {
+                    return SKIPPED;
+                }
+            }
+            return value;
+        }
+        
+        /**
+         * Переводит позицию в порядке обхода в индекс внутреннего массива.
+         */
+        private int sourceIndex(int position) {
+            return reversed ? to - 1 - position : from + position;
+        }
+        
+        /**
+         * Представление позиций [start, end) порядка обхода с той же цепочкой.
+         */
+        private View<R> narrow(int start, int end) {
+            return reversed
+                ? new View<>(to - end, to - start, true, stages, expectedModCount)
+                : new View<>(from + start, from + end, false, stages, expectedModCount);
+        }
+        
+        private Stage[] append(Stage stage) {
+            Stage[] result = Arrays.copyOf(stages, stages.length + 1);
+            result[stages.length] = stage;
+            return result;
+        }
+        
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+        
+        /**
+         * Итератор представления: находит следующий элемент заранее,
+         * чтобы hasNext учитывал фильтры.
+         */
+        private final class ViewItr implements Iterator<R> {
+            
+            /**
+             * Позиция в порядке обхода, с которой продолжается поиск
+             */
+            private int position;
+            
+            /**
+             * Следующий элемент или SKIPPED, если он еще не найден
+             */
+            private Object next = SKIPPED;
+            
+            @Override
+            public boolean hasNext() {
+                checkForComodification();
+                final Object[] data = elements;
+                while (next == SKIPPED && position < to - from) {
+                    next = apply(data[sourceIndex(position++)]);
+                }
+                return next != SKIPPED;
+            }
+            
+            @Override
+            @SuppressWarnings("unchecked")
+            public R next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Object value = next;
+                next = SKIPPED;
+                return (R) value;
+            }
+        }
+    }
+    
+    /**
+     * Звено цепочки представления: отображение или фильтр.
+     */
+    private static final class Stage {
+        
+        final Function<Object, Object> mapper;
+        final Predicate<Object> predicate;
+        
+        Stage(Function<Object, Object> mapper, Predicate<Object> predicate) {
+            this.mapper = mapper;
+            this.predicate = predicate;
+        }
+    }
+    
+    /**
+     * Итератор с быстрым отказом по счетчику изменений.
+     */
+    private class Itr implements Iterator<T> {
+        
+        /**
+         * Индекс следующего возвращаемого элемента
+         */
+        private int cursor;
+        
+        /**
+         * Индекс последнего возвращенного элемента или -1
+         */
+        private int lastReturned = -1;
+        
+        /**
+         * Ожидаемое значение счетчика изменений
+         */
+        private int expectedModCount = modCount;
+        
+        @Override
+        public boolean hasNext() {
+            return cursor != size;
+        }
+        
+        @Override
+        public T next() {
+            checkForComodification();
+            int i = cursor;
+            if (i >= size) {
+                throw new NoSuchElementException();
+            }
+            cursor = i + 1;
+            lastReturned = i;
+            return elementAt(i);
+        }
+        
+        @Override
+        public void remove() {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            ObjectContainer.this.remove(lastReturned);
+            cursor = lastReturned;
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+        
+        @Override
+        @SuppressWarnings("unchecked")
+        public void forEachRemaining(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            final Object[] data = elements;
+            final int count = size;
+            int i = cursor;
+            for (; i < count && modCount == expectedModCount; i++) {
+                action.accept((T) data[i]);
+            }
+            cursor = i;
+            lastReturned = i - 1;
+            checkForComodification();
+        }
+        
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+    
+    /**
+     * Сплитератор по диапазону индексов с быстрым отказом.
+     * Граница диапазона и ожидаемый счетчик изменений фиксируются
+     * при первом использовании, а не при создании.
+     */
+    private final class ContainerSpliterator implements Spliterator<T> {
+        
+        /**
+         * Текущий индекс
+         */
+        private int index;
+        
+        /**
+         * Конец диапазона (не включительно) или -1 до первого использования
+         */
+        private int fence;
+        
+        /**
+         * Ожидаемое значение счетчика изменений
+         */
+        private int expectedModCount;
+        
+        ContainerSpliterator(int origin, int fence, int expectedModCount) {
+            this.index = origin;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+        
+        private int getFence() {
+            int hi = fence;
+            if (hi < 0) {
+                expectedModCount = modCount;
+                hi = fence = size;
+            }
+            return hi;
+        }
+        
+        @Override
+        public Spliterator<T> trySplit() {
+            int hi = getFence();
+            int lo = index;
+            int mid = (lo + hi) >>> 1;
+            if (lo >= mid) {
+                return null;
+            }
+            index = mid;
+            return new ContainerSpliterator(lo, mid, expectedModCount);
+        }
+        
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            int hi = getFence();
+            int i = index;
+            if (i < hi) {
+                index = i + 1;
+                action.accept(elementAt(i));
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                return true;
+            }
+            return false;
+        }
+        
+        @Override
+        @SuppressWarnings("unchecked")
+        public void forEachRemaining(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            int hi = getFence();
+            final Object[] data = elements;
+            for (int i = index; i < hi; i++) {
+                action.accept((T) data[i]);
+            }
+            index = hi;
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+        
+        @Override
+        public long estimateSize() {
+            return getFence() - index;
+        }
+        
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
         }
     }
     
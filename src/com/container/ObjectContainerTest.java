@@ -1,7 +1,13 @@
 package com.container;
 
+import com.container.exceptions.ContainerException;
+import com.container.metrics.RecordingMetrics;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Random;
 
 /**
  * Тесты для класса ObjectContainer без использования JUnit
@@ -11,7 +17,7 @@ import java.util.List;
  */
 public class ObjectContainerTest {
     
-    private ObjectContainer container;
+    private ObjectContainer<Object> container;
     private int testCount = 0;
     private int passedTests = 0;
     private List<String> failedTests = new ArrayList<>();
@@ -49,6 +55,32 @@ public class ObjectContainerTest {
         testDynamicExpansion();
         testToString();
         testComplexScenario();
+        testAddAllArray();
+        testAddAllContainer();
+        testInsertAll();
+        testRemoveRange();
+        testRemoveRangeInvalid();
+        testIndexedSearch();
+        testIndexedMutations();
+        testGrowthPolicies();
+        testInvalidGrowthPolicies();
+        testEnsureCapacityAndTrim();
+        testAutoShrink();
+        testRetainedBytes();
+        testIteration();
+        testIteratorRemove();
+        testFailFastIteration();
+        testStreams();
+        testParallelFindIndex();
+        testParallelBulkOperations();
+        testSmallBulkOperations();
+        testMetrics();
+        testTypedContainer();
+        testSort();
+        testBatch();
+        testNonThrowingAccessors();
+        testViews();
+        testViewFailFast();
         
         System.out.println("\n=== Результаты тестов ===");
         System.out.println("Пройдено: " + passedTests + " из " + testCount + " тестов");
@@ -65,7 +97,7 @@ public class ObjectContainerTest {
     }
     
     private void beforeEach() {
-        container = new ObjectContainer();
+        container = new ObjectContainer<>();
     }
     
     private void assertTrue(boolean condition, String message) {
@@ -120,15 +152,15 @@ public class ObjectContainerTest {
     }
     
     public void testConstructorWithCapacity() {
-        ObjectContainer customContainer = new ObjectContainer(15);
+        ObjectContainer<Object> customContainer = new ObjectContainer<>(15);
         assertEquals(0, customContainer.size(), "testConstructorWithCapacity - размер 0");
         assertTrue(customContainer.isEmpty(), "testConstructorWithCapacity - контейнер пуст");
     }
     
     public void testConstructorWithInvalidCapacity() {
-        assertThrows(() -> new ObjectContainer(0), 
+        assertThrows(() -> new ObjectContainer<>(0), 
             "положительным числом", "testConstructorWithInvalidCapacity - емкость 0");
-        assertThrows(() -> new ObjectContainer(-3), 
+        assertThrows(() -> new ObjectContainer<>(-3), 
             "положительным числом", "testConstructorWithInvalidCapacity - емкость -3");
     }
     
@@ -282,7 +314,7 @@ public class ObjectContainerTest {
     }
     
     public void testDynamicExpansion() {
-        ObjectContainer smallContainer = new ObjectContainer(3);
+        ObjectContainer<Object> smallContainer = new ObjectContainer<>(3);
         
         for (int i = 0; i < 10; i++) {
             smallContainer.add("Группа " + i);
@@ -324,6 +356,687 @@ public class ObjectContainerTest {
         assertEquals("Дополнение", container.get(3), "testComplexScenario - элемент 3");
     }
     
+    public void testAddAllArray() {
+        ObjectContainer<Object> smallContainer = new ObjectContainer<>(2);
+        smallContainer.add("Первый");
+        
+        boolean changed = smallContainer.addAll(new Object[] {"Второй", 3, null, 4.5});
+        
+        assertTrue(changed, "testAddAllArray - контейнер изменился");
+        assertEquals(5, smallContainer.size(), "testAddAllArray - размер 5");
+        assertEquals("Второй", smallContainer.get(1), "testAddAllArray - элемент 1");
+        assertEquals(4.5, smallContainer.get(4), "testAddAllArray - элемент 4");
+        assertFalse(smallContainer.addAll(new Object[0]), "testAddAllArray - пустой массив");
+        assertThrows(() -> smallContainer.addAll((Object[]) null), 
+            "не может быть null", "testAddAllArray - null");
+    }
+    
+    public void testAddAllContainer() {
+        beforeEach();
+        container.add("А");
+        container.add("Б");
+        
+        ObjectContainer<Object> other = new ObjectContainer<>();
+        other.add("В");
+        container.addAll(other);
+        container.addAll(container);
+        
+        assertEquals(6, container.size(), "testAddAllContainer - размер 6");
+        assertEquals("[А, Б, В, А, Б, В]", container.toString(), "testAddAllContainer - порядок элементов");
+    }
+    
+    public void testInsertAll() {
+        beforeEach();
+        container.add("Начало");
+        container.add("Конец");
+        
+        container.insertAll(1, new Object[] {"Раз", "Два", "Три"});
+        container.insertAll(0, new Object[] {"Ноль"});
+        container.insertAll(container.size(), new Object[] {"Хвост"});
+        
+        assertEquals("[Ноль, Начало, Раз, Два, Три, Конец, Хвост]", container.toString(), 
+            "testInsertAll - порядок элементов");
+        assertThrows(() -> container.insertAll(10, new Object[] {"Ошибка"}), 
+            "индекс для вставки", "testInsertAll - индекс 10");
+    }
+    
+    public void testRemoveRange() {
+        beforeEach();
+        for (int i = 0; i < 6; i++) {
+            container.add(i);
+        }
+        
+        container.removeRange(1, 4);
+        
+        assertEquals(3, container.size(), "testRemoveRange - размер 3");
+        assertEquals("[0, 4, 5]", container.toString(), "testRemoveRange - оставшиеся элементы");
+        
+        container.removeRange(2, 2);
+        assertEquals(3, container.size(), "testRemoveRange - пустой диапазон");
+        
+        container.removeRange(0, 3);
+        assertTrue(container.isEmpty(), "testRemoveRange - удален весь диапазон");
+    }
+    
+    public void testRemoveRangeInvalid() {
+        beforeEach();
+        container.add("Элемент");
+        assertThrows(() -> container.removeRange(-1, 1), 
+            "Недопустимый диапазон", "testRemoveRangeInvalid - начало -1");
+        assertThrows(() -> container.removeRange(0, 2), 
+            "Недопустимый диапазон", "testRemoveRangeInvalid - конец 2");
+        assertThrows(() -> container.removeRange(1, 0), 
+            "Недопустимый диапазон", "testRemoveRangeInvalid - начало больше конца");
+    }
+    
+    public void testIndexedSearch() {
+        beforeEach();
+        container.add("Яблоко");
+        container.add(null);
+        container.enableIndex();
+        container.add("Банан");
+        container.add("Яблоко");
+        container.add(null);
+        
+        assertTrue(container.isIndexed(), "testIndexedSearch - режим включен");
+        assertEquals(0, container.findIndex("Яблоко"), "testIndexedSearch - первое вхождение");
+        assertEquals(1, container.findIndex(null), "testIndexedSearch - индекс null");
+        assertEquals(-1, container.findIndex("Апельсин"), "testIndexedSearch - не найден");
+        
+        container.remove(0);
+        assertEquals(2, container.findIndex("Яблоко"), "testIndexedSearch - следующее вхождение после удаления");
+        assertTrue(container.remove(null), "testIndexedSearch - удаление null");
+        assertEquals(2, container.findIndex(null), "testIndexedSearch - второй null");
+        assertTrue(container.indexMemoryEstimate() > 0, "testIndexedSearch - оценка памяти индекса");
+        
+        container.clear();
+        assertFalse(container.contains("Банан"), "testIndexedSearch - очистка индекса");
+        container.disableIndex();
+        assertFalse(container.isIndexed(), "testIndexedSearch - режим выключен");
+    }
+    
+    public void testIndexedMutations() {
+        ObjectContainer<Object> indexed = new ObjectContainer<>();
+        ObjectContainer<Object> plain = new ObjectContainer<>();
+        indexed.enableIndex();
+        Random random = new Random(42);
+        boolean consistent = true;
+        for (int step = 0; step < 2000 && consistent; step++) {
+            Object value = random.nextInt(10) == 0 ? null : Integer.valueOf(random.nextInt(20));
+            int operation = random.nextInt(6);
+            if (operation == 0 || plain.isEmpty()) {
+                indexed.add(value);
+                plain.add(value);
+            } else if (operation == 1) {
+                int position = random.nextInt(plain.size() + 1);
+                indexed.add(position, value);
+                plain.add(position, value);
+            } else if (operation == 2) {
+                int position = random.nextInt(plain.size());
+                indexed.remove(position);
+                plain.remove(position);
+            } else if (operation == 3) {
+                consistent = indexed.remove(value) == plain.remove(value);
+            } else if (operation == 4) {
+                int from = random.nextInt(plain.size());
+                int to = from + random.nextInt(plain.size() - from + 1);
+                indexed.removeRange(from, to);
+                plain.removeRange(from, to);
+            } else {
+                indexed.insertAll(0, new Object[] {value, value});
+                plain.insertAll(0, new Object[] {value, value});
+            }
+            for (int v = -1; v < 20 && consistent; v++) {
+                Object probe = v < 0 ? null : Integer.valueOf(v);
+                consistent = indexed.findIndex(probe) == plain.findIndex(probe);
+            }
+        }
+        assertTrue(consistent, "testIndexedMutations - индекс совпадает с линейным поиском");
+        assertEquals(plain.toString(), indexed.toString(), "testIndexedMutations - одинаковое содержимое");
+    }
+    
+    public void testGrowthPolicies() {
+        ObjectContainer<Object> geometric = new ObjectContainer<>(4);
+        geometric.setGrowthPolicy(GrowthPolicies.geometric(2.0));
+        ObjectContainer<Object> additive = new ObjectContainer<>(4);
+        additive.setGrowthPolicy(GrowthPolicies.additive(3));
+        ObjectContainer<Object> powerOfTwo = new ObjectContainer<>(5);
+        powerOfTwo.setGrowthPolicy(GrowthPolicies.powerOfTwo());
+        ObjectContainer<Object> capped = new ObjectContainer<>(100);
+        capped.setGrowthPolicy(GrowthPolicies.capped(GrowthPolicies.geometric(2.0), 10));
+        
+        for (int i = 0; i < 5; i++) {
+            geometric.add(i);
+            additive.add(i);
+        }
+        for (int i = 0; i < 6; i++) {
+            powerOfTwo.add(i);
+        }
+        for (int i = 0; i < 101; i++) {
+            capped.add(i);
+        }
+        
+        assertEquals(8, geometric.capacity(), "testGrowthPolicies - геометрический рост");
+        assertEquals(7, additive.capacity(), "testGrowthPolicies - аддитивный рост");
+        assertEquals(8, powerOfTwo.capacity(), "testGrowthPolicies - степень двойки");
+        assertEquals(110, capped.capacity(), "testGrowthPolicies - ограниченный прирост");
+        assertEquals(101, capped.size(), "testGrowthPolicies - элементы сохранены");
+    }
+    
+    public void testInvalidGrowthPolicies() {
+        assertThrows(() -> GrowthPolicies.geometric(1.0), 
+            "больше 1", "testInvalidGrowthPolicies - коэффициент 1");
+        assertThrows(() -> GrowthPolicies.additive(0), 
+            "положительным числом", "testInvalidGrowthPolicies - прирост 0");
+        assertThrows(() -> GrowthPolicies.capped(null, 5), 
+            "не может быть null", "testInvalidGrowthPolicies - без исходной политики");
+        beforeEach();
+        assertThrows(() -> container.setGrowthPolicy(null), 
+            "не может быть null", "testInvalidGrowthPolicies - null");
+    }
+    
+    public void testEnsureCapacityAndTrim() {
+        beforeEach();
+        container.ensureCapacity(1000);
+        assertTrue(container.capacity() >= 1000, "testEnsureCapacityAndTrim - предварительное выделение");
+        
+        container.add("Первый");
+        container.add("Второй");
+        container.trimToSize();
+        assertEquals(2, container.capacity(), "testEnsureCapacityAndTrim - сжатие до размера");
+        assertEquals("Второй", container.get(1), "testEnsureCapacityAndTrim - элементы сохранены");
+        
+        container.clear();
+        container.trimToSize();
+        assertEquals(1, container.capacity(), "testEnsureCapacityAndTrim - минимальная емкость 1");
+        container.add("Снова");
+        assertEquals(1, container.size(), "testEnsureCapacityAndTrim - добавление после сжатия");
+    }
+    
+    public void testAutoShrink() {
+        beforeEach();
+        for (int i = 0; i < 1000; i++) {
+            container.add(i);
+        }
+        container.setAutoShrink(true);
+        int fullCapacity = container.capacity();
+        
+        container.removeRange(100, 1000);
+        assertEquals(200, container.capacity(), "testAutoShrink - сжатие после removeRange");
+        
+        container.remove(0);
+        assertEquals(200, container.capacity(), "testAutoShrink - гистерезис: нет сжатия при 99 из 200");
+        
+        container.clear();
+        assertEquals(10, container.capacity(), "testAutoShrink - сжатие после clear");
+        assertTrue(fullCapacity > 1000, "testAutoShrink - исходная емкость");
+    }
+    
+    public void testRetainedBytes() {
+        ObjectContainer<Object> small = new ObjectContainer<>(10);
+        ObjectContainer<Object> large = new ObjectContainer<>(10000);
+        assertTrue(large.estimatedRetainedBytes() > small.estimatedRetainedBytes() + 30000, 
+            "testRetainedBytes - учитывается емкость массива");
+        
+        large.enableIndex();
+        long withoutElements = large.estimatedRetainedBytes();
+        large.add("Ключ");
+        assertTrue(large.estimatedRetainedBytes() > withoutElements, 
+            "testRetainedBytes - учитывается хеш-индекс");
+    }
+    
+    public void testIteration() {
+        beforeEach();
+        container.add("Иванов Петр");
+        container.add(20);
+        container.add(null);
+        
+        StringBuilder forEachLoop = new StringBuilder();
+        for (Object element : container) {
+            forEachLoop.append(element).append(';');
+        }
+        StringBuilder forEachMethod = new StringBuilder();
+        container.forEach(element -> forEachMethod.append(element).append(';'));
+        
+        assertEquals("Иванов Петр;20;null;", forEachLoop.toString(), "testIteration - цикл for-each");
+        assertEquals("Иванов Петр;20;null;", forEachMethod.toString(), "testIteration - forEach");
+        assertFalse(new ObjectContainer<>().iterator().hasNext(), "testIteration - пустой контейнер");
+    }
+    
+    public void testIteratorRemove() {
+        beforeEach();
+        for (int i = 0; i < 6; i++) {
+            container.add(i);
+        }
+        Iterator<Object> iterator = container.iterator();
+        while (iterator.hasNext()) {
+            if ((Integer) iterator.next() % 2 == 0) {
+                iterator.remove();
+            }
+        }
+        assertEquals("[1, 3, 5]", container.toString(), "testIteratorRemove - удаление через итератор");
+    }
+    
+    public void testFailFastIteration() {
+        beforeEach();
+        container.add("А");
+        container.add("Б");
+        
+        boolean iteratorFailed = false;
+        try {
+            for (Object element : container) {
+                container.add(element);
+            }
+        } catch (ConcurrentModificationException e) {
+            iteratorFailed = true;
+        }
+        assertTrue(iteratorFailed, "testFailFastIteration - итератор");
+        
+        boolean forEachFailed = false;
+        try {
+            container.forEach(element -> container.remove(0));
+        } catch (ConcurrentModificationException e) {
+            forEachFailed = true;
+        }
+        assertTrue(forEachFailed, "testFailFastIteration - forEach");
+    }
+    
+    public void testStreams() {
+        ObjectContainer<Object> numbers = new ObjectContainer<>();
+        for (int i = 1; i <= 100000; i++) {
+            numbers.add(i);
+        }
+        
+        long sequential = numbers.stream().mapToLong(element -> (Integer) element).sum();
+        long parallel = numbers.parallelStream().mapToLong(element -> (Integer) element).sum();
+        
+        assertEquals(5000050000L, sequential, "testStreams - последовательный поток");
+        assertEquals(5000050000L, parallel, "testStreams - параллельный поток");
+        assertEquals(100000L, numbers.spliterator().getExactSizeIfKnown(), "testStreams - точный размер");
+        assertEquals(50000L, numbers.spliterator().trySplit().estimateSize(), "testStreams - деление пополам");
+    }
+    
+    public void testParallelFindIndex() {
+        ObjectContainer<Object> numbers = new ObjectContainer<>();
+        for (int i = 0; i < 200000; i++) {
+            numbers.add(i % 50000);
+        }
+        
+        assertEquals(123, numbers.parallelFindIndex(123), "testParallelFindIndex - первое вхождение");
+        assertEquals(49999, numbers.parallelFindIndex(49999), "testParallelFindIndex - конец первой части");
+        assertEquals(-1, numbers.parallelFindIndex(-5), "testParallelFindIndex - отсутствующий элемент");
+        numbers.add(null);
+        assertEquals(200000, numbers.parallelFindIndex(null), "testParallelFindIndex - поиск null");
+        assertEquals(numbers.findIndex(31337), numbers.parallelFindIndex(31337), "testParallelFindIndex - совпадение с findIndex");
+    }
+    
+    public void testParallelBulkOperations() {
+        ObjectContainer<Object> numbers = new ObjectContainer<>();
+        for (int i = 0; i < 100000; i++) {
+            numbers.add(i);
+        }
+        numbers.enableIndex();
+        
+        assertEquals(50000, numbers.countMatching(element -> (Integer) element % 2 == 0), "testParallelBulkOperations - countMatching");
+        
+        ObjectContainer<Object> multiples = numbers.filter(element -> (Integer) element % 3 == 0);
+        assertEquals(33334, multiples.size(), "testParallelBulkOperations - размер filter");
+        assertEquals(99999, multiples.get(33333), "testParallelBulkOperations - порядок filter");
+        assertEquals(100000, numbers.size(), "testParallelBulkOperations - filter не меняет исходный");
+        
+        numbers.replaceAll(element -> (Integer) element * 2);
+        assertEquals(199998, numbers.get(99999), "testParallelBulkOperations - replaceAll");
+        assertEquals(500, numbers.findIndex(1000), "testParallelBulkOperations - индекс после replaceAll");
+        
+        assertTrue(numbers.removeIf(element -> (Integer) element % 4 != 0), "testParallelBulkOperations - removeIf удалил");
+        assertEquals(50000, numbers.size(), "testParallelBulkOperations - размер после removeIf");
+        assertEquals(4, numbers.get(1), "testParallelBulkOperations - порядок после removeIf");
+        assertEquals(250, numbers.findIndex(1000), "testParallelBulkOperations - индекс после removeIf");
+        assertFalse(numbers.removeIf(element -> (Integer) element < 0), "testParallelBulkOperations - removeIf без совпадений");
+    }
+    
+    public void testSmallBulkOperations() {
+        beforeEach();
+        container.add("a");
+        container.add("bb");
+        container.add(null);
+        container.add("ccc");
+        
+        assertEquals(2, container.countMatching(element -> element instanceof String && ((String) element).length() > 1), "testSmallBulkOperations - countMatching");
+        assertEquals("[a, null]", container.filter(element -> element == null || "a".equals(element)).toString(), "testSmallBulkOperations - filter");
+        assertEquals(0, container.filter(element -> false).size(), "testSmallBulkOperations - пустой filter");
+        
+        container.replaceAll(element -> element == null ? "-" : element);
+        assertEquals("[a, bb, -, ccc]", container.toString(), "testSmallBulkOperations - replaceAll");
+        
+        assertTrue(container.removeIf("-"::equals), "testSmallBulkOperations - removeIf");
+        assertEquals("[a, bb, ccc]", container.toString(), "testSmallBulkOperations - содержимое после removeIf");
+        
+        boolean predicateFailed = false;
+        try {
+            container.removeIf(element -> container.add("d"));
+        } catch (ConcurrentModificationException e) {
+            predicateFailed = true;
+        }
+        assertTrue(predicateFailed, "testSmallBulkOperations - изменение контейнера из предиката");
+    }
+    
+    public void testMetrics() {
+        RecordingMetrics metrics = new RecordingMetrics("testMetrics");
+        ObjectContainer<Object> numbers = new ObjectContainer<>(4);
+        numbers.setMetrics(metrics);
+        assertTrue(numbers.getMetrics() == metrics, "testMetrics - приемник подключен");
+        
+        for (int i = 0; i < 10; i++) {
+            numbers.add(i);
+        }
+        numbers.add(0, -1);
+        numbers.remove(5);
+        numbers.insertAll(2, new Object[] {"а", "б"});
+        numbers.removeRange(0, 3);
+        
+        assertEquals(13L, metrics.getInsertedElements(), "testMetrics - добавленные элементы");
+        assertEquals(12L, metrics.getInsertOperations(), "testMetrics - операции добавления");
+        assertEquals(2L, metrics.getRemoveOperations(), "testMetrics - операции удаления");
+        assertEquals(4L, metrics.getRemovedElements(), "testMetrics - удаленные элементы");
+        assertEquals(10L + 5 + 8 + 9, metrics.getShiftedElements(), "testMetrics - сдвинутые элементы");
+        assertEquals(3L, metrics.getGrowEvents(), "testMetrics - расширения");
+        assertEquals(9, metrics.getLastOldCapacity(), "testMetrics - прежняя емкость");
+        assertEquals(13, metrics.getLastNewCapacity(), "testMetrics - новая емкость");
+        assertEquals(4L + 6 + 9 + metrics.getShiftedElements(), metrics.getCopiedElements(), "testMetrics - скопированные элементы");
+        
+        numbers.findIndex(numbers.get(3));
+        numbers.findIndex("нет такого");
+        assertEquals(2L, metrics.getScans(), "testMetrics - поиски");
+        assertEquals(1L, metrics.getScanMisses(), "testMetrics - неудачные поиски");
+        assertEquals(4L + 9, metrics.getScannedElements(), "testMetrics - просмотренные элементы");
+        
+        numbers.setMetrics(null);
+        numbers.add("без метрик");
+        assertEquals(13L, metrics.getInsertedElements(), "testMetrics - сбор выключен");
+    }
+    
+    public void testTypedContainer() {
+        ObjectContainer<String> names = new ObjectContainer<>();
+        names.addAll(new String[] {"Анна", "Борис", "Вера"});
+        String first = names.get(0);
+        assertEquals("Анна", first, "testTypedContainer - get без приведения");
+        
+        assertEquals("Борис", names.set(1, "Богдан"), "testTypedContainer - set возвращает прежний элемент");
+        assertEquals("[Анна, Богдан, Вера]", names.toString(), "testTypedContainer - set заменяет на месте");
+        assertThrows(() -> names.set(3, "Глеб"), "Индекс за пределами диапазона", "testTypedContainer - set за границей");
+        
+        Iterator<String> iterator = names.iterator();
+        iterator.next();
+        names.set(0, "Алла");
+        assertEquals("Богдан", iterator.next(), "testTypedContainer - set не ломает итератор");
+        
+        String[] exact = names.toArray(String[]::new);
+        assertEquals("[Алла, Богдан, Вера]", Arrays.toString(exact), "testTypedContainer - toArray(IntFunction)");
+        String[] grown = names.toArray(new String[0]);
+        assertEquals(3, grown.length, "testTypedContainer - новый массив точного размера");
+        String[] supplied = {"x", "x", "x", "x", "x"};
+        assertTrue(names.toArray(supplied) == supplied, "testTypedContainer - переданный массив заполнен");
+        assertEquals("[Алла, Богдан, Вера, null, x]", Arrays.toString(supplied), "testTypedContainer - ячейка после конца обнулена");
+        assertThrows(() -> names.toArray(length -> new String[length + 1]),
+            "массив длиной 3", "testTypedContainer - неверная длина массива");
+        
+        ObjectContainer<Object> mixed = new ObjectContainer<>();
+        mixed.addAll(new Object[] {"а", 1, "а", 2});
+        mixed.enableIndex();
+        mixed.set(0, 3);
+        assertEquals(2, mixed.findIndex("а"), "testTypedContainer - индекс после замены первого вхождения");
+        assertEquals(0, mixed.findIndex(3), "testTypedContainer - индекс нового значения");
+        mixed.set(2, 1);
+        assertEquals(-1, mixed.findIndex("а"), "testTypedContainer - значение исчезло из индекса");
+        assertEquals(1, mixed.findIndex(1), "testTypedContainer - первое вхождение не сдвинулось");
+        
+        PersistentContainer copy = PersistentContainer.from(mixed);
+        mixed.set(0, "изменен");
+        assertEquals(3, copy.get(0), "testTypedContainer - set не меняет копию PersistentContainer");
+        
+        ObjectContainer<Integer> replaced = new ObjectContainer<>();
+        ObjectContainer<Integer> shifted = new ObjectContainer<>();
+        for (int i = 0; i < 100; i++) {
+            replaced.add(i);
+            shifted.add(i);
+        }
+        Random random = new Random(17);
+        for (int step = 0; step < 300; step++) {
+            int index = random.nextInt(100);
+            replaced.set(index, -step);
+            shifted.remove(index);
+            shifted.add(index, -step);
+        }
+        assertEquals(shifted.toString(), replaced.toString(), "testTypedContainer - set равносилен remove и add");
+    }
+    
+    public void testSort() {
+        ObjectContainer<String> words = new ObjectContainer<>();
+        words.addAll(new String[] {"в", "а", "б"});
+        words.enableIndex();
+        words.sort(null);
+        assertEquals("[а, б, в]", words.toString(), "testSort - естественный порядок");
+        assertEquals(2, words.findIndex("в"), "testSort - индекс перестроен");
+        words.sort(java.util.Comparator.reverseOrder());
+        assertEquals("[в, б, а]", words.toString(), "testSort - компаратор");
+        
+        ObjectContainer<Integer> numbers = new ObjectContainer<>();
+        Random random = new Random(9);
+        for (int i = 0; i < 20000; i++) {
+            numbers.add(random.nextInt(1000));
+        }
+        numbers.sort(null);
+        boolean sorted = true;
+        for (int i = 1; i < numbers.size(); i++) {
+            sorted &= numbers.get(i - 1) <= numbers.get(i);
+        }
+        assertTrue(sorted, "testSort - параллельная сортировка большого контейнера");
+        
+        ObjectContainer<Object> mixed = new ObjectContainer<>();
+        mixed.addAll(new Object[] {"а", 1});
+        assertThrows(() -> mixed.sort(null), "нельзя упорядочить", "testSort - несравнимые элементы");
+
+        ObjectContainer<Integer> interrupted = new ObjectContainer<>();
+        for (int i = 0; i < 40; i++) {
+            interrupted.add(i * 7 % 40);
+        }
+        interrupted.enableIndex();
+        int[] comparisons = {0};
+        assertThrows(() -> interrupted.sort((a, b) -> {
+            if (++comparisons[0] > 60) {
+                throw new ClassCastException("сравнение прервано");
+            }
+            return Integer.compare(a, b);
+        }), "нельзя упорядочить", "testSort - прерванная сортировка");
+        boolean indexMatches = true;
+        for (int i = 0; i < interrupted.size(); i++) {
+            indexMatches &= interrupted.findIndex(interrupted.get(i)) == i;
+        }
+        assertTrue(indexMatches, "testSort - индекс перестроен после прерванной сортировки");
+
+        ObjectContainer<Integer> inconsistent = new ObjectContainer<>();
+        for (int i = 0; i < 1000; i++) {
+            inconsistent.add(i);
+        }
+        Random coin = new Random(18);
+        assertThrows(() -> inconsistent.sort((a, b) -> coin.nextInt(3) - 1),
+            "нарушает контракт", "testSort - компаратор нарушает контракт");
+        assertEquals(1000, inconsistent.size(), "testSort - элементы сохранены после нарушения контракта");
+    }
+    
+    public void testBatch() {
+        ObjectContainer<Object> letters = new ObjectContainer<>();
+        letters.addAll(new Object[] {"а", "б", "в", "г", "д", "е"});
+        letters.enableIndex();
+        ObjectContainer<Object>.Batch batch = letters.batch();
+        batch.remove(1).remove(4).remove(1).set(2, "В").set(4, "потерян").add("ж").add("з");
+        assertEquals(2, batch.pendingRemovals(), "testBatch - повторное удаление не учитывается");
+        assertEquals(6, letters.size(), "testBatch - до apply контейнер не меняется");
+        
+        batch.apply();
+        assertEquals("[а, В, г, е, ж, з]", letters.toString(), "testBatch - замены, удаления и добавления");
+        assertEquals(3, letters.findIndex("е"), "testBatch - хеш-индекс перестроен");
+        assertThrows(batch::apply, "уже применен", "testBatch - повторный apply");
+        assertThrows(() -> letters.batch().remove(6), "Индекс за пределами диапазона", "testBatch - индекс вне контейнера");
+        
+        ObjectContainer<Object>.Batch stale = letters.batch();
+        stale.remove(0);
+        letters.add("и");
+        boolean failed = false;
+        try {
+            stale.apply();
+        } catch (ConcurrentModificationException e) {
+            failed = true;
+        }
+        assertTrue(failed, "testBatch - контейнер изменен после открытия пакета");
+        
+        ObjectContainer<Object> numbers = new ObjectContainer<>();
+        ObjectContainer<Object> expected = new ObjectContainer<>();
+        for (int i = 0; i < 10000; i++) {
+            numbers.add(i);
+            if (i % 3 != 0 && i % 7 != 6) {
+                expected.add(i);
+            }
+        }
+        ObjectContainer<Object>.Batch prune = numbers.batch();
+        for (int i = 0; i < 10000; i++) {
+            if (i % 3 == 0 || i % 7 == 6) {
+                prune.remove(i);
+            }
+        }
+        prune.apply();
+        assertEquals(expected.toString(), numbers.toString(), "testBatch - массовое удаление одним уплотнением");
+        
+        ObjectContainer<Object>.Batch everything = numbers.batch();
+        for (int i = 0; i < numbers.size(); i++) {
+            everything.remove(i);
+        }
+        everything.add("последний").apply();
+        assertEquals("[последний]", numbers.toString(), "testBatch - удаление всех элементов");
+    }
+    
+    public void testNonThrowingAccessors() {
+        ObjectContainer<String> names = new ObjectContainer<>();
+        names.addAll(new String[] {"а", "б"});
+        
+        assertEquals("б", names.getOrDefault(1, "-"), "testNonThrowingAccessors - getOrDefault в диапазоне");
+        assertEquals("-", names.getOrDefault(2, "-"), "testNonThrowingAccessors - getOrDefault за границей");
+        assertEquals("-", names.getOrDefault(-1, "-"), "testNonThrowingAccessors - отрицательный индекс");
+        assertFalse(names.tryRemove(5), "testNonThrowingAccessors - tryRemove за границей");
+        assertTrue(names.tryRemove(0), "testNonThrowingAccessors - tryRemove");
+        assertEquals("[б]", names.toString(), "testNonThrowingAccessors - элемент удален");
+        assertEquals(0, names.indexOf("б").getAsInt(), "testNonThrowingAccessors - indexOf");
+        assertFalse(names.indexOf("в").isPresent(), "testNonThrowingAccessors - indexOf отсутствующего");
+        
+        ContainerException lazy = ContainerException.indexOutOfRange(7, 3);
+        assertEquals("Индекс за пределами диапазона: 7. Размер контейнера: 3", lazy.getMessage(),
+            "testNonThrowingAccessors - отложенное сообщение");
+        assertTrue(lazy.getMessage() == lazy.getMessage(), "testNonThrowingAccessors - сообщение собирается один раз");
+        
+        boolean previous = ContainerException.isStackTraceEnabled();
+        ContainerException.setStackTraceEnabled(false);
+        try {
+            names.get(10);
+        } catch (ContainerException e) {
+            assertEquals(0, e.getStackTrace().length, "testNonThrowingAccessors - исключение без стека");
+            assertTrue(e.getMessage().contains("Индекс за пределами диапазона: 10"),
+                "testNonThrowingAccessors - сообщение без стека");
+        } finally {
+            ContainerException.setStackTraceEnabled(previous);
+        }
+        try {
+            names.get(10);
+        } catch (ContainerException e) {
+            assertTrue(e.getStackTrace().length > 0, "testNonThrowingAccessors - стек по умолчанию");
+        }
+    }
+    
+    public void testViews() {
+        ObjectContainer<Integer> numbers = new ObjectContainer<>();
+        for (int i = 0; i < 10; i++) {
+            numbers.add(i);
+        }
+        
+        ObjectContainer<Integer>.View<Integer> page = numbers.subList(2, 6);
+        assertEquals(4, page.size(), "testViews - размер subList");
+        assertEquals(Integer.valueOf(2), page.get(0), "testViews - начало subList");
+        assertEquals("[2, 3, 4, 5]", page.toString(), "testViews - subList");
+        assertEquals("[5, 4, 3, 2]", page.reversed().toString(), "testViews - reversed над subList");
+        assertEquals("[4, 3]", page.reversed().subList(1, 3).toString(), "testViews - subList над reversed");
+        assertEquals("[9, 8, 7, 6, 5, 4, 3, 2, 1, 0]", numbers.reversed().toString(), "testViews - reversed");
+        
+        ObjectContainer<Integer>.View<String> labels = numbers.filterView(n -> n % 2 == 0).mapView(n -> "#" + n);
+        assertEquals(5, labels.size(), "testViews - размер с фильтром");
+        assertEquals("#6", labels.get(3), "testViews - get с фильтром");
+        assertEquals("[#2, #4, #6]", labels.subList(1, 4).toString(), "testViews - subList с фильтром");
+        assertEquals("[#6, #4]", labels.reversed().subList(1, 3).toString(), "testViews - subList над reversed с фильтром");
+        assertEquals("[#4]", labels.subList(1, 4).filterView(l -> l.equals("#4")).toString(), "testViews - фильтр над subList");
+
+        ObjectContainer<String> blanks = new ObjectContainer<>();
+        blanks.addAll(new String[] {"", "a", "b"});
+        assertEquals("[, a, b]", blanks.subList(0, 3).toString(), "testViews - subList с пустой первой строкой");
+        assertEquals("[, a, b]", blanks.mapView(x -> x).toString(), "testViews - mapView с пустой первой строкой");
+        assertEquals(blanks.toString(), blanks.subList(0, 3).toString(), "testViews - toString как у контейнера");
+        assertTrue(labels.subList(2, 2).isEmpty(), "testViews - пустой subList с фильтром");
+        
+        ObjectContainer<String> materialized = labels.materialize();
+        assertEquals(5, materialized.size(), "testViews - materialize");
+        assertEquals("#8", materialized.get(4), "testViews - materialize элемент");
+        assertEquals(Arrays.asList(4, 3), Arrays.asList(page.reversed().subList(1, 3).toArray()), "testViews - toArray");
+        
+        List<String> iterated = new ArrayList<>();
+        for (String label : labels) {
+            iterated.add(label);
+        }
+        assertEquals(Arrays.asList("#0", "#2", "#4", "#6", "#8"), iterated, "testViews - итератор с фильтром");
+        
+        numbers.set(3, 31);
+        assertEquals(Integer.valueOf(31), page.get(1), "testViews - замена видна в представлении");
+        
+        assertThrows(() -> numbers.subList(5, 11), "Недопустимый диапазон: [5, 11). Размер контейнера: 10",
+            "testViews - subList за границей");
+        assertThrows(() -> page.get(4), "Индекс за пределами диапазона: 4. Размер контейнера: 4",
+            "testViews - get за границей");
+        assertThrows(() -> labels.get(5), "Индекс за пределами диапазона: 5. Размер контейнера: 5",
+            "testViews - get за границей с фильтром");
+        assertThrows(() -> labels.subList(3, 7), "Недопустимый диапазон: [3, 7). Размер контейнера: 5",
+            "testViews - subList за границей с фильтром");
+    }
+    
+    public void testViewFailFast() {
+        ObjectContainer<Integer> numbers = new ObjectContainer<>();
+        numbers.add(1);
+        numbers.add(2);
+        ObjectContainer<Integer>.View<Integer> view = numbers.mapView(n -> n * 10);
+        numbers.add(3);
+        
+        boolean failed = false;
+        try {
+            view.get(0);
+        } catch (ConcurrentModificationException e) {
+            failed = true;
+        }
+        assertTrue(failed, "testViewFailFast - get после изменения");
+        
+        failed = false;
+        try {
+            view.reversed();
+        } catch (ConcurrentModificationException e) {
+            failed = true;
+        }
+        assertTrue(failed, "testViewFailFast - производное представление");
+        
+        failed = false;
+        try {
+            ObjectContainer<Integer>.View<Integer> fresh = numbers.subList(0, 3);
+            fresh.forEach(n -> numbers.remove(0));
+        } catch (ConcurrentModificationException e) {
+            failed = true;
+        }
+        assertTrue(failed, "testViewFailFast - forEach");
+    }
+    
     @FunctionalInterface
     private interface Runnable {
         void run();
@@ -0,0 +1,538 @@
+package com.container;
+
+import com.container.codec.ElementCodec;
+import com.container.exceptions.ContainerException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+
+/**
+ * Контейнер, хранящий элементы вне кучи в прямом (direct) ByteBuffer.
+ * Каждый элемент кодируется кодеком фиксированного размера, поэтому
+ * сборщику мусора не нужно просматривать содержимое контейнера.
+ * Память освобождается явно методом close(); после закрытия любые операции
+ * приводят к ContainerException. Элементы null не поддерживаются.
+ * Общий объем данных ограничен размером одного буфера (Integer.MAX_VALUE байт).
+ *
+ * @param <T> тип хранимых элементов
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+public class OffHeapContainer<T> implements AutoCloseable {
+
+    /**
+     * Начальная емкость по умолчанию
+     */
+    private static final int DEFAULT_CAPACITY = 10;
+
+    /**
+     * Коэффициент увеличения размера
+     */
+    private static final double GROW_FACTOR = 1.5;
+
+    /**
+     * Размер промежуточного буфера для сдвига данных внутри внекучевой памяти
+     */
+    private static final int SCRATCH_SIZE = 8192;
+
+    /**
+     * Метод sun.misc.Unsafe.invokeCleaner для немедленного освобождения памяти, если доступен
+     */
+    private static final Method INVOKE_CLEANER;
+
+    /**
+     * Экземпляр sun.misc.Unsafe, если доступен
+     */
+    private static final Object UNSAFE;
+
+    static {
+        Method invokeCleaner = null;
+        Object unsafe = null;
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            unsafe = field.get(null);
+            invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // Память будет освобождена сборщиком мусора вместе с буфером
+            invokeCleaner = null;
+            unsafe = null;
+        }
+        INVOKE_CLEANER = invokeCleaner;
+        UNSAFE = unsafe;
+    }
+
+    /**
+     * Кодек элементов
+     */
+    private final ElementCodec<T> codec;
+
+    /**
+     * Размер одного элемента в байтах
+     */
+    private final int slotSize;
+
+    /**
+     * Внекучевой буфер с элементами, null после закрытия
+     */
+    private ByteBuffer buffer;
+
+    /**
+     * Текущая емкость в элементах
+     */
+    private int capacity;
+
+    /**
+     * Текущее количество элементов
+     */
+    private int size;
+
+    /**
+     * Промежуточный буфер для сдвигов и сравнения закодированных значений
+     */
+    private final byte[] scratch;
+
+    /**
+     * Закодированный элемент для вставки, пока хвост сдвигается через scratch
+     */
+    private final byte[] encodedSlot;
+
+    /**
+     * Создает контейнер с емкостью по умолчанию.
+     *
+     * @param codec кодек элементов
+     * @throws ContainerException если кодек не задан или имеет некорректный размер
+     */
+    public OffHeapContainer(ElementCodec<T> codec) {
+        this(codec, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Создает контейнер с указанной начальной емкостью.
+     *
+     * @param codec кодек элементов
+     * @param initialCapacity начальная емкость контейнера
+     * @throws ContainerException если initialCapacity меньше или равно 0,
+     *         кодек не задан или имеет некорректный размер
+     */
+    public OffHeapContainer(ElementCodec<T> codec, int initialCapacity) {
+        if (codec == null) {
+            throw new ContainerException("Кодек элементов не может быть null");
+        }
+        if (codec.size() <= 0) {
+            throw new ContainerException("Размер элемента должен быть положительным числом: " + codec.size());
+        }
+        if (initialCapacity <= 0) {
+            throw new ContainerException(
+                "Начальная емкость должна быть положительным числом: " + initialCapacity
+            );
+        }
+        this.codec = codec;
+        this.slotSize = codec.size();
+        this.scratch = new byte[Math.max(SCRATCH_SIZE, slotSize)];
+        this.encodedSlot = new byte[slotSize];
+        this.capacity = checkedCapacity(initialCapacity);
+        this.buffer = ByteBuffer.allocateDirect(capacity * slotSize);
+        this.size = 0;
+    }
+
+    /**
+     * Добавляет элемент в конец контейнера.
+     *
+     * @param element элемент для добавления
+     * @return true если элемент успешно добавлен
+     * @throws ContainerException если элемент равен null или контейнер закрыт
+     */
+    public boolean add(T element) {
+        checkOpen();
+        checkElement(element);
+        ensureCapacity(size + 1);
+        codec.write(buffer, size * slotSize, element);
+        size++;
+        return true;
+    }
+
+    /**
+     * Вставляет элемент в указанную позицию.
+     * Элемент кодируется до сдвига хвоста, поэтому при ошибке кодека
+     * содержимое контейнера не меняется.
+     *
+     * @param index позиция для вставки
+     * @param element элемент для вставки
+     * @throws ContainerException если индекс недопустим, элемент равен null,
+     *         не помещается в слот или контейнер закрыт
+     */
+    public void add(int index, T element) {
+        checkOpen();
+        checkIndexForAdd(index);
+        checkElement(element);
+        codec.write(ByteBuffer.wrap(encodedSlot), 0, element);
+        ensureCapacity(size + 1);
+
+        moveBytes(index * slotSize, (index + 1) * slotSize, (size - index) * slotSize);
+        ByteBuffer target = buffer.duplicate();
+        target.position(index * slotSize);
+        target.put(encodedSlot);
+        size++;
+    }
+
+    /**
+     * Возвращает элемент по указанному индексу.
+     * Элемент декодируется из внекучевой памяти при каждом вызове.
+     *
+     * @param index индекс элемента
+     * @return элемент по указанному индексу
+     * @throws ContainerException если индекс недопустим или контейнер закрыт
+     */
+    public T get(int index) {
+        checkOpen();
+        checkIndex(index);
+        return codec.read(buffer, index * slotSize);
+    }
+
+    /**
+     * Удаляет элемент по указанному индексу.
+     *
+     * @param index индекс удаляемого элемента
+     * @return удаленный элемент
+     * @throws ContainerException если индекс недопустим или контейнер закрыт
+     */
+    public T remove(int index) {
+        checkOpen();
+        checkIndex(index);
+
+        T removed = codec.read(buffer, index * slotSize);
+        moveBytes((index + 1) * slotSize, index * slotSize, (size - index - 1) * slotSize);
+        size--;
+        return removed;
+    }
+
+    /**
+     * Удаляет первое вхождение указанного элемента.
+     *
+     * @param element элемент для удаления
+     * @return true если элемент был найден и удален
+     * @throws ContainerException если контейнер закрыт
+     */
+    public boolean remove(T element) {
+        int index = findIndex(element);
+        if (index != -1) {
+            remove(index);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Проверяет наличие элемента в контейнере.
+     *
+     * @param element искомый элемент
+     * @return true если элемент найден
+     * @throws ContainerException если контейнер закрыт
+     */
+    public boolean contains(T element) {
+        return findIndex(element) != -1;
+    }
+
+    /**
+     * Ищет индекс первого вхождения элемента.
+     * Искомый элемент кодируется один раз, после чего элементы контейнера
+     * сравниваются побайтно без декодирования. Элемент, который кодек
+     * не может записать в слот, не может и храниться в контейнере.
+     *
+     * @param element искомый элемент
+     * @return индекс элемента или -1 если не найден (в том числе для null
+     *         и для элемента, не помещающегося в слот)
+     * @throws ContainerException если контейнер закрыт
+     */
+    public int findIndex(T element) {
+        checkOpen();
+        if (element == null) {
+            return -1;
+        }
+        ByteBuffer probe = ByteBuffer.wrap(scratch);
+        try {
+            codec.write(probe, 0, element);
+        } catch (ContainerException e) {
+            return -1;
+        }
+        for (int i = 0; i < size; i++) {
+            if (slotEquals(i * slotSize)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Возвращает текущее количество элементов.
+     *
+     * @return количество элементов
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Проверяет, пуст ли контейнер.
+     *
+     * @return true если контейнер пуст
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Очищает контейнер. Выделенная внекучевая память сохраняется.
+     *
+     * @throws ContainerException если контейнер закрыт
+     */
+    public void clear() {
+        checkOpen();
+        size = 0;
+    }
+
+    /**
+     * Возвращает массив со всеми элементами контейнера, декодированными в кучу.
+     *
+     * @return массив элементов
+     * @throws ContainerException если контейнер закрыт
+     */
+    public Object[] toArray() {
+        checkOpen();
+        Object[] result = new Object[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = codec.read(buffer, i * slotSize);
+        }
+        return result;
+    }
+
+    /**
+     * Возвращает объем занятой внекучевой памяти в байтах.
+     *
+     * @return размер буфера в байтах или 0 после закрытия
+     */
+    public long allocatedBytes() {
+        return buffer == null ? 0 : (long) capacity * slotSize;
+    }
+
+    /**
+     * Проверяет, закрыт ли контейнер.
+     *
+     * @return true если память контейнера освобождена
+     */
+    public boolean isClosed() {
+        return buffer == null;
+    }
+
+    /**
+     * Освобождает внекучевую память контейнера.
+     * Повторный вызов ничего не делает.
+     */
+    @Override
+    public void close() {
+        if (buffer != null) {
+            free(buffer);
+            buffer = null;
+            size = 0;
+            capacity = 0;
+        }
+    }
+
+    /**
+     * Гарантирует достаточную емкость контейнера.
+     * Выделяет новый буфер и копирует в него данные одной операцией.
+     *
+     * @param minCapacity минимальная требуемая емкость
+     */
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > capacity) {
+            long grown = (long) (capacity * GROW_FACTOR);
+            int newCapacity = checkedCapacity(Math.max(minCapacity, Math.min(grown, maxCapacity())));
+            ByteBuffer newBuffer = ByteBuffer.allocateDirect(newCapacity * slotSize);
+            ByteBuffer used = buffer.duplicate();
+            used.position(0).limit(size * slotSize);
+            newBuffer.put(used);
+            free(buffer);
+            buffer = newBuffer;
+            capacity = newCapacity;
+        }
+    }
+
+    /**
+     * Возвращает максимальное число элементов, помещающееся в один буфер.
+     *
+     * @return максимальная емкость
+     */
+    private int maxCapacity() {
+        return Integer.MAX_VALUE / slotSize;
+    }
+
+    /**
+     * Проверяет, что емкость помещается в один буфер.
+     *
+     * @param requested требуемая емкость
+     * @return requested
+     * @throws ContainerException если емкость превышает предел буфера
+     */
+    private int checkedCapacity(long requested) {
+        if (requested > maxCapacity()) {
+            throw new ContainerException(
+                "Емкость превышает предел внекучевого буфера: " + requested + " > " + maxCapacity()
+            );
+        }
+        return (int) requested;
+    }
+
+    /**
+     * Копирует length байт внутри буфера с учетом перекрытия областей.
+     * Данные переносятся порциями через промежуточный массив; при сдвиге вправо
+     * копирование идет с конца, при сдвиге влево - с начала.
+     *
+     * @param from смещение источника
+     * @param to смещение назначения
+     * @param length количество байт
+     */
+    private void moveBytes(int from, int to, int length) {
+        if (length == 0 || from == to) {
+            return;
+        }
+        ByteBuffer source = buffer.duplicate();
+        ByteBuffer target = buffer.duplicate();
+        int done = 0;
+        while (done < length) {
+            int chunk = Math.min(scratch.length, length - done);
+            int offset = to > from ? length - done - chunk : done;
+            source.position(from + offset);
+            source.get(scratch, 0, chunk);
+            target.position(to + offset);
+            target.put(scratch, 0, chunk);
+            done += chunk;
+        }
+    }
+
+    /**
+     * Сравнивает элемент по смещению с закодированным значением в scratch.
+     *
+     * @param offset смещение элемента в буфере
+     * @return true если байты совпадают
+     */
+    private boolean slotEquals(int offset) {
+        int i = 0;
+        for (; i + Long.BYTES <= slotSize; i += Long.BYTES) {
+            if (buffer.getLong(offset + i) != readLong(i)) {
+                return false;
+            }
+        }
+        for (; i < slotSize; i++) {
+            if (buffer.get(offset + i) != scratch[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Читает 8 байт из scratch в порядке байтов буфера (big-endian).
+     *
+     * @param index смещение в scratch
+     * @return собранное значение
+     */
+    private long readLong(int index) {
+        long value = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            value = (value << 8) | (scratch[index + i] & 0xFFL);
+        }
+        return value;
+    }
+
+    /**
+     * Освобождает прямой буфер немедленно, если это поддерживается JVM.
+     *
+     * @param directBuffer освобождаемый буфер
+     */
+    private static void free(ByteBuffer directBuffer) {
+        if (INVOKE_CLEANER == null) {
+            return;
+        }
+        try {
+            INVOKE_CLEANER.invoke(UNSAFE, directBuffer);
+        } catch (ReflectiveOperationException e) {
+            // Память будет освобождена сборщиком мусора вместе с буфером
+        }
+    }
+
+    /**
+     * Проверяет, что контейнер не закрыт.
+     *
+     * @throws ContainerException если контейнер закрыт
+     */
+    private void checkOpen() {
+        if (buffer == null) {
+            throw new ContainerException("Контейнер закрыт");
+        }
+    }
+
+    /**
+     * Проверяет, что элемент можно закодировать.
+     *
+     * @param element проверяемый элемент
+     * @throws ContainerException если элемент равен null
+     */
+    private void checkElement(T element) {
+        if (element == null) {
+            throw new ContainerException("Внекучевой контейнер не поддерживает элементы null");
+        }
+    }
+
+    /**
+     * Проверяет корректность индекса для операций get и remove.
+     *
+     * @param index проверяемый индекс
+     * @throws ContainerException если индекс невалиден
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw ContainerException.indexOutOfRange(index, size);
+        }
+    }
+
+    /**
+     * Проверяет корректность индекса для операции add.
+     *
+     * @param index проверяемый индекс
+     * @throws ContainerException если индекс невалиден
+     */
+    private void checkIndexForAdd(int index) {
+        if (index < 0 || index > size) {
+            throw ContainerException.invalidInsertIndex(index, size);
+        }
+    }
+
+    /**
+     * Возвращает строковое представление контейнера.
+     *
+     * @return строковое представление в формате [элемент1, элемент2, ...]
+     */
+    @Override
+    public String toString() {
+        if (buffer == null) {
+            return "[закрыт]";
+        }
+        if (size == 0) {
+            return "[]";
+        }
+
+        StringBuilder result = new StringBuilder();
+        result.append("[");
+        for (int i = 0; i < size; i++) {
+            result.append(codec.read(buffer, i * slotSize));
+            if (i < size - 1) {
+                result.append(", ");
+            }
+        }
+        result.append("]");
+        return result.toString();
+    }
+}
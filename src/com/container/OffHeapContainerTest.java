@@ -0,0 +1,217 @@
+package com.container;
+
+import com.container.codec.ElementCodecs;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Тесты для класса OffHeapContainer без использования JUnit
+ *
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+public class OffHeapContainerTest {
+
+    private int testCount = 0;
+    private int passedTests = 0;
+    private List<String> failedTests = new ArrayList<>();
+
+    /**
+     * Запуск всех тестов
+     */
+    public static void main(String[] args) {
+        OffHeapContainerTest tester = new OffHeapContainerTest();
+        tester.runAllTests();
+    }
+
+    /**
+     * Запускает все тесты и выводит результаты
+     */
+    public void runAllTests() {
+        System.out.println("=== Запуск тестов OffHeapContainer ===\n");
+
+        testAddAndGet();
+        testInsertAndRemoveShift();
+        testLargeShift();
+        testFindIndex();
+        testStringCodec();
+        testInvalidOperations();
+        testClose();
+
+        System.out.println("\n=== Результаты тестов ===");
+        System.out.println("Пройдено: " + passedTests + " из " + testCount + " тестов");
+
+        if (passedTests == testCount) {
+            System.out.println(" Все тесты прошли успешно!");
+        } else {
+            System.out.println(" Не все тесты прошли");
+            System.out.println("\n=== Проваленные тесты ===");
+            for (String failedTest : failedTests) {
+                System.out.println(" " + failedTest);
+            }
+        }
+    }
+
+    private void assertTrue(boolean condition, String message) {
+        testCount++;
+        if (condition) {
+            passedTests++;
+            System.out.println("прошли " + message);
+        } else {
+            failedTests.add(message);
+            System.out.println("не прошли " + message);
+        }
+    }
+
+    private void assertFalse(boolean condition, String message) {
+        assertTrue(!condition, message);
+    }
+
+    private void assertEquals(Object expected, Object actual, String message) {
+        testCount++;
+        boolean isEqual = (expected == null) ? actual == null : expected.equals(actual);
+        if (isEqual) {
+            passedTests++;
+            System.out.println("прошли " + message);
+        } else {
+            failedTests.add(message + " (ожидалось: " + expected + ", получено: " + actual + ")");
+            System.out.println("не прошли " + message + " (ожидалось: " + expected + ", получено: " + actual + ")");
+        }
+    }
+
+    private void assertThrows(Runnable code, String expectedMessage, String testName) {
+        testCount++;
+        try {
+            code.run();
+            failedTests.add(testName + " (ожидалось исключение)");
+            System.out.println("не прошли " + testName + " (ожидалось исключение)");
+        } catch (Exception e) {
+            if (e.getMessage().contains(expectedMessage)) {
+                passedTests++;
+                System.out.println("прошли " + testName);
+            } else {
+                failedTests.add(testName + " (неверное сообщение исключения: " + e.getMessage() + ")");
+                System.out.println("не прошли " + testName + " (неверное сообщение исключения: " + e.getMessage() + ")");
+            }
+        }
+    }
+
+    public void testAddAndGet() {
+        try (OffHeapContainer<Integer> container = new OffHeapContainer<>(ElementCodecs.INT, 2)) {
+            for (int i = 0; i < 20; i++) {
+                container.add(i);
+            }
+            assertEquals(20, container.size(), "testAddAndGet - размер 20");
+            assertEquals(0, container.get(0), "testAddAndGet - элемент 0");
+            assertEquals(19, container.get(19), "testAddAndGet - элемент 19");
+            assertTrue(container.allocatedBytes() >= 20 * Integer.BYTES,
+                "testAddAndGet - память выделена вне кучи");
+        }
+    }
+
+    public void testInsertAndRemoveShift() {
+        try (OffHeapContainer<Long> container = new OffHeapContainer<>(ElementCodecs.LONG)) {
+            container.add(1L);
+            container.add(3L);
+            container.add(1, 2L);
+            container.add(0, 0L);
+
+            assertEquals("[0, 1, 2, 3]", container.toString(), "testInsertAndRemoveShift - вставка");
+            assertEquals(1L, container.remove(1), "testInsertAndRemoveShift - удаленный элемент");
+            assertEquals("[0, 2, 3]", container.toString(), "testInsertAndRemoveShift - после удаления");
+            assertTrue(container.remove(Long.valueOf(3L)), "testInsertAndRemoveShift - удаление по значению");
+            assertEquals("[0, 2]", container.toString(), "testInsertAndRemoveShift - после удаления по значению");
+        }
+    }
+
+    public void testLargeShift() {
+        try (OffHeapContainer<Integer> container = new OffHeapContainer<>(ElementCodecs.INT)) {
+            for (int i = 0; i < 5000; i++) {
+                container.add(i);
+            }
+            container.add(0, -1);
+            boolean shiftedRight = container.get(0) == -1 && container.get(1) == 0 && container.get(5000) == 4999;
+            assertTrue(shiftedRight, "testLargeShift - сдвиг вправо через несколько порций");
+
+            container.remove(0);
+            container.remove(0);
+            boolean shiftedLeft = container.get(0) == 1 && container.get(4998) == 4999;
+            assertTrue(shiftedLeft, "testLargeShift - сдвиг влево через несколько порций");
+        }
+    }
+
+    public void testFindIndex() {
+        try (OffHeapContainer<Double> container = new OffHeapContainer<>(ElementCodecs.DOUBLE)) {
+            container.add(4.5);
+            container.add(Double.NaN);
+            container.add(4.5);
+
+            assertEquals(0, container.findIndex(4.5), "testFindIndex - первое вхождение");
+            assertEquals(1, container.findIndex(Double.NaN), "testFindIndex - NaN");
+            assertEquals(-1, container.findIndex(1.0), "testFindIndex - не найден");
+            assertEquals(-1, container.findIndex(null), "testFindIndex - null");
+            assertTrue(container.contains(4.5), "testFindIndex - содержит 4.5");
+        }
+    }
+
+    public void testStringCodec() {
+        try (OffHeapContainer<String> container = new OffHeapContainer<>(ElementCodecs.string(32))) {
+            container.add("Иванов Петр");
+            container.add("ФИИТ-2023");
+            container.add("");
+
+            assertEquals("Иванов Петр", container.get(0), "testStringCodec - элемент 0");
+            assertEquals(1, container.findIndex("ФИИТ-2023"), "testStringCodec - поиск");
+            assertEquals("", container.get(2), "testStringCodec - пустая строка");
+            assertThrows(() -> container.add("очень длинная строка, не помещающаяся в слот"),
+                "Строка длиннее", "testStringCodec - слишком длинная строка");
+        }
+        try (OffHeapContainer<String> container = new OffHeapContainer<>(ElementCodecs.string(4))) {
+            container.add("abcd");
+            assertFalse(container.contains("abcdefgh"), "testStringCodec - не помещающаяся строка не найдена");
+            assertFalse(container.remove("abcdefgh"), "testStringCodec - не помещающаяся строка не удалена");
+            assertEquals(1, container.size(), "testStringCodec - контейнер не изменился");
+
+            container.add("b");
+            container.add("c");
+            assertThrows(() -> container.add(0, "toolongvalue"),
+                "Строка длиннее", "testStringCodec - вставка слишком длинной строки");
+            assertEquals(3, container.size(), "testStringCodec - размер после неудачной вставки");
+            assertEquals("abcd", container.get(0), "testStringCodec - элемент 0 после неудачной вставки");
+            assertEquals("b", container.get(1), "testStringCodec - элемент 1 после неудачной вставки");
+            assertEquals("c", container.get(2), "testStringCodec - элемент 2 после неудачной вставки");
+            container.add(1, "x");
+            assertEquals("x", container.get(1), "testStringCodec - вставка после неудачной");
+            assertEquals("c", container.get(3), "testStringCodec - хвост сдвинут");
+        }
+    }
+
+    public void testInvalidOperations() {
+        try (OffHeapContainer<Integer> container = new OffHeapContainer<>(ElementCodecs.INT)) {
+            assertThrows(() -> container.get(0),
+                "Индекс за пределами диапазона", "testInvalidOperations - пустой контейнер");
+            assertThrows(() -> container.add(1, 5),
+                "индекс для вставки", "testInvalidOperations - индекс 1");
+            assertThrows(() -> container.add(null),
+                "не поддерживает элементы null", "testInvalidOperations - null");
+        }
+        assertThrows(() -> new OffHeapContainer<>(null),
+            "Кодек элементов", "testInvalidOperations - без кодека");
+    }
+
+    public void testClose() {
+        OffHeapContainer<Integer> container = new OffHeapContainer<>(ElementCodecs.INT);
+        container.add(1);
+        container.close();
+        container.close();
+
+        assertTrue(container.isClosed(), "testClose - контейнер закрыт");
+        assertEquals(0L, container.allocatedBytes(), "testClose - память освобождена");
+        assertThrows(() -> container.get(0), "Контейнер закрыт", "testClose - чтение после закрытия");
+    }
+
+    @FunctionalInterface
+    private interface Runnable {
+        void run();
+    }
+}
@@ -0,0 +1,126 @@
+package com.container;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Разбиение диапазона индексов на части для параллельной обработки
+ * в общем пуле ForkJoinPool.
+ * Малые диапазоны обрабатываются целиком в вызывающем потоке.
+ *
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+final class ParallelTasks {
+
+    /**
+     * Размер диапазона, ниже которого обработка выполняется последовательно
+     */
+    static final int SEQUENTIAL_THRESHOLD = 1 << 13;
+
+    /**
+     * Количество частей на один поток пула для выравнивания нагрузки
+     */
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    /**
+     * Маска шага, с которым поиск сверяется с уже найденным результатом
+     * других частей (каждые 1024 элемента)
+     */
+    static final int PROGRESS_CHECK_MASK = 1023;
+
+    /**
+     * Обработчик одной части диапазона.
+     */
+    @FunctionalInterface
+    interface ChunkAction {
+        /**
+         * Обрабатывает часть диапазона.
+         *
+         * @param chunk номер части
+         * @param from начало части (включительно)
+         * @param to конец части (не включительно)
+         */
+        void run(int chunk, int from, int to);
+    }
+
+    private ParallelTasks() {
+    }
+
+    /**
+     * Вычисляет количество частей для диапазона заданного размера.
+     *
+     * @param size размер диапазона
+     * @return количество частей, 1 для последовательной обработки
+     */
+    static int chunkCount(int size) {
+        if (size < SEQUENTIAL_THRESHOLD) {
+            return 1;
+        }
+        int maxChunks = ForkJoinPool.getCommonPoolParallelism() * CHUNKS_PER_THREAD;
+        return Math.max(1, Math.min(size / SEQUENTIAL_THRESHOLD, maxChunks));
+    }
+
+    /**
+     * Начало части с указанным номером при равномерном разбиении.
+     *
+     * @param chunk номер части
+     * @param chunks количество частей
+     * @param size размер диапазона
+     * @return индекс начала части
+     */
+    static int chunkStart(int chunk, int chunks, int size) {
+        return (int) ((long) size * chunk / chunks);
+    }
+
+    /**
+     * Обрабатывает диапазон [0, size), разбитый на chunks равных частей.
+     * Одна часть обрабатывается в вызывающем потоке, несколько - в общем пуле.
+     *
+     * @param size размер диапазона
+     * @param chunks количество частей
+     * @param action обработчик части
+     */
+    static void forEachChunk(int size, int chunks, ChunkAction action) {
+        if (chunks <= 1) {
+            action.run(0, 0, size);
+        } else {
+            ForkJoinPool.commonPool().invoke(new ChunkTask(size, chunks, 0, chunks, action));
+        }
+    }
+
+    /**
+     * Задача, делящая набор частей пополам до одной части.
+     */
+    private static final class ChunkTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int size;
+        private final int chunks;
+        private final int firstChunk;
+        private final int lastChunk;
+        private final transient ChunkAction action;
+
+        ChunkTask(int size, int chunks, int firstChunk, int lastChunk, ChunkAction action) {
+            this.size = size;
+            this.chunks = chunks;
+            this.firstChunk = firstChunk;
+            this.lastChunk = lastChunk;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (lastChunk - firstChunk == 1) {
+                action.run(firstChunk, chunkStart(firstChunk, chunks, size), chunkStart(firstChunk + 1, chunks, size));
+                return;
+            }
+            int middle = (firstChunk + lastChunk) >>> 1;
+            invokeAll(
+                new ChunkTask(size, chunks, firstChunk, middle, action),
+                new ChunkTask(size, chunks, middle, lastChunk, action)
+            );
+        }
+    }
+}
@@ -0,0 +1,660 @@
+package com.container;
+
+import com.container.exceptions.ContainerException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Неизменяемый (персистентный) контейнер на основе 32-ичного префиксного дерева.
+ * Операции add, set, remove и removeLast не меняют контейнер, а возвращают новую
+ * версию, которая разделяет с исходной все неизмененные узлы: изменение копирует
+ * только путь от корня до листа, то есть O(log32 n) массивов по 32 ссылки.
+ * Последний неполный лист (хвост) хранится отдельно, поэтому add в конец
+ * в большинстве случаев копирует только хвост.
+ * <p>
+ * Версию можно безопасно передавать читателям из других потоков без копирования.
+ * Для быстрого построения и серии изменений используется Builder: он меняет свои
+ * узлы на месте и за O(1) выдает неизменяемый снимок текущего состояния методом
+ * snapshot(), после чего продолжает работу, копируя узлы, общие со снимком.
+ *
+ * <pre>
+ * PersistentContainer.Builder writer = PersistentContainer.builder();
+ * writer.add("Иванов").add(20);
+ * PersistentContainer version = writer.snapshot(); // O(1), не меняется дальше
+ * writer.set(1, 21);
+ * </pre>
+ *
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+public final class PersistentContainer implements Iterable<Object> {
+
+    /**
+     * Число бит индекса на уровень дерева
+     */
+    private static final int BITS = 5;
+
+    /**
+     * Ширина узла
+     */
+    private static final int WIDTH = 1 << BITS;
+
+    /**
+     * Маска индекса внутри узла
+     */
+    private static final int MASK = WIDTH - 1;
+
+    private static final Node EMPTY_NODE = new Node(null, new Object[WIDTH]);
+
+    private static final PersistentContainer EMPTY =
+        new PersistentContainer(0, BITS, EMPTY_NODE, new Object[0]);
+
+    /**
+     * Количество элементов
+     */
+    private final int size;
+
+    /**
+     * Сдвиг корневого уровня: BITS * (высота дерева)
+     */
+    private final int shift;
+
+    /**
+     * Корень дерева полных листьев
+     */
+    private final Node root;
+
+    /**
+     * Хвост длиной от 0 до 32 элементов
+     */
+    private final Object[] tail;
+
+    private PersistentContainer(int size, int shift, Node root, Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    /**
+     * Возвращает пустой контейнер.
+     *
+     * @return пустой контейнер
+     */
+    public static PersistentContainer empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Создает контейнер из перечисленных элементов.
+     *
+     * @param elements элементы
+     * @return новый контейнер
+     * @throws ContainerException если массив равен null
+     */
+    public static PersistentContainer of(Object... elements) {
+        if (elements == null) {
+            throw new ContainerException("Исходный массив не может быть null");
+        }
+        Builder builder = builder();
+        for (Object element : elements) {
+            builder.add(element);
+        }
+        return builder.snapshot();
+    }
+
+    /**
+     * Создает контейнер с элементами ObjectContainer за один проход.
+     *
+     * @param container исходный контейнер
+     * @return новый контейнер
+     * @throws ContainerException если container равен null
+     */
+    public static PersistentContainer from(ObjectContainer<?> container) {
+        if (container == null) {
+            throw new ContainerException("Исходный контейнер не может быть null");
+        }
+        Builder builder = builder();
+        container.forEach(builder::add);
+        return builder.snapshot();
+    }
+
+    /**
+     * Создает пустой построитель.
+     *
+     * @return построитель
+     */
+    public static Builder builder() {
+        return EMPTY.toBuilder();
+    }
+
+    /**
+     * Создает построитель, начальное содержимое которого совпадает с этой версией.
+     * Узлы копируются только при первом изменении, эта версия не меняется.
+     *
+     * @return построитель
+     */
+    public Builder toBuilder() {
+        return new Builder(this);
+    }
+
+    /**
+     * Возвращает элемент по указанному индексу за O(log32 n).
+     *
+     * @param index индекс элемента
+     * @return элемент по указанному индексу
+     * @throws ContainerException если индекс недопустим
+     */
+    public Object get(int index) {
+        checkIndex(index, size);
+        return leafFor(index, size, shift, root, tail)[index & MASK];
+    }
+
+    /**
+     * Возвращает новую версию с элементом, добавленным в конец.
+     *
+     * @param element элемент для добавления
+     * @return новая версия
+     */
+    public PersistentContainer add(Object element) {
+        int inTail = size - tailOffset(size);
+        if (inTail < WIDTH) {
+            Object[] newTail = Arrays.copyOf(tail, inTail + 1);
+            newTail[inTail] = element;
+            return new PersistentContainer(size + 1, shift, root, newTail);
+        }
+        Node tailNode = new Node(null, tail);
+        Node newRoot;
+        int newShift = shift;
+        if ((size >>> BITS) > (1 << shift)) {
+            newRoot = new Node(null, new Object[WIDTH]);
+            newRoot.array[0] = root;
+            newRoot.array[1] = newPath(null, shift, tailNode);
+            newShift += BITS;
+        } else {
+            newRoot = pushTail(null, size, shift, root, tailNode);
+        }
+        return new PersistentContainer(size + 1, newShift, newRoot, new Object[] {element});
+    }
+
+    /**
+     * Возвращает новую версию, в которой элемент по индексу заменен.
+     *
+     * @param index индекс элемента
+     * @param element новый элемент
+     * @return новая версия
+     * @throws ContainerException если индекс недопустим
+     */
+    public PersistentContainer set(int index, Object element) {
+        checkIndex(index, size);
+        if (index >= tailOffset(size)) {
+            Object[] newTail = tail.clone();
+            newTail[index & MASK] = element;
+            return new PersistentContainer(size, shift, root, newTail);
+        }
+        return new PersistentContainer(size, shift, assoc(shift, root, index, element), tail);
+    }
+
+    /**
+     * Возвращает новую версию без последнего элемента.
+     *
+     * @return новая версия
+     * @throws ContainerException если контейнер пуст
+     */
+    public PersistentContainer removeLast() {
+        if (size == 0) {
+            throw new ContainerException("Нельзя удалить элемент из пустого контейнера");
+        }
+        if (size == 1) {
+            return EMPTY;
+        }
+        if (size - tailOffset(size) > 1) {
+            return new PersistentContainer(size - 1, shift, root, Arrays.copyOf(tail, tail.length - 1));
+        }
+        Object[] newTail = leafFor(size - 2, size, shift, root, tail);
+        Node newRoot = popTail(null, size, shift, root);
+        int newShift = shift;
+        if (newRoot == null) {
+            newRoot = EMPTY_NODE;
+        }
+        if (shift > BITS && newRoot.array[1] == null) {
+            newRoot = (Node) newRoot.array[0];
+            newShift -= BITS;
+        }
+        return new PersistentContainer(size - 1, newShift, newRoot, newTail);
+    }
+
+    /**
+     * Возвращает новую версию без элемента по указанному индексу.
+     * Последующие элементы сдвигаются, поэтому копируются листья от index
+     * до конца; листья до index остаются общими с этой версией.
+     *
+     * @param index индекс удаляемого элемента
+     * @return новая версия
+     * @throws ContainerException если индекс недопустим
+     */
+    public PersistentContainer remove(int index) {
+        checkIndex(index, size);
+        if (index == size - 1) {
+            return removeLast();
+        }
+        Builder builder = toBuilder();
+        for (int i = index; i < size - 1; i++) {
+            builder.set(i, builder.get(i + 1));
+        }
+        return builder.removeLast().snapshot();
+    }
+
+    /**
+     * Ищет индекс первого вхождения элемента.
+     *
+     * @param element искомый элемент
+     * @return индекс элемента или -1 если не найден
+     */
+    public int findIndex(Object element) {
+        for (int base = 0; base < size; base += WIDTH) {
+            Object[] leaf = leafFor(base, size, shift, root, tail);
+            int length = Math.min(WIDTH, size - base);
+            for (int i = 0; i < length; i++) {
+                if (element == null ? leaf[i] == null : element.equals(leaf[i])) {
+                    return base + i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Проверяет наличие элемента в контейнере.
+     *
+     * @param element искомый элемент
+     * @return true если элемент найден
+     */
+    public boolean contains(Object element) {
+        return findIndex(element) != -1;
+    }
+
+    /**
+     * Возвращает количество элементов.
+     *
+     * @return количество элементов
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Проверяет, пуст ли контейнер.
+     *
+     * @return true если контейнер пуст
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Возвращает массив со всеми элементами, копируя листья целиком.
+     *
+     * @return массив элементов
+     */
+    public Object[] toArray() {
+        Object[] result = new Object[size];
+        for (int base = 0; base < size; base += WIDTH) {
+            System.arraycopy(leafFor(base, size, shift, root, tail), 0, result, base, Math.min(WIDTH, size - base));
+        }
+        return result;
+    }
+
+    /**
+     * Копирует элементы в новый ObjectContainer за один проход по листьям.
+     *
+     * @return изменяемая копия
+     */
+    public ObjectContainer<Object> toObjectContainer() {
+        ObjectContainer<Object> container = new ObjectContainer<>(Math.max(size, 1));
+        int treeSize = tailOffset(size);
+        for (int base = 0; base < treeSize; base += WIDTH) {
+            container.addAll(leafFor(base, size, shift, root, tail));
+        }
+        container.addAll(tail);
+        return container;
+    }
+
+    /**
+     * Возвращает итератор, который проходит по листьям без спуска от корня
+     * для каждого элемента. Версия неизменяема, поэтому итератор не бывает
+     * недействительным.
+     *
+     * @return итератор по элементам
+     */
+    @Override
+    public Iterator<Object> iterator() {
+        return new Iterator<Object>() {
+            private int cursor;
+            private Object[] leaf;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size;
+            }
+
+            @Override
+            public Object next() {
+                if (cursor >= size) {
+                    throw new NoSuchElementException();
+                }
+                if ((cursor & MASK) == 0) {
+                    leaf = leafFor(cursor, size, shift, root, tail);
+                }
+                return leaf[cursor++ & MASK];
+            }
+        };
+    }
+
+    /**
+     * Возвращает строковое представление контейнера.
+     *
+     * @return строковое представление в формате [элемент1, элемент2, ...]
+     */
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    /**
+     * Индекс первого элемента хвоста.
+     */
+    private static int tailOffset(int size) {
+        return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+    }
+
+    /**
+     * Возвращает лист (или хвост), содержащий элемент index.
+     */
+    private static Object[] leafFor(int index, int size, int shift, Node root, Object[] tail) {
+        if (index >= tailOffset(size)) {
+            return tail;
+        }
+        Node node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Node) node.array[(index >>> level) & MASK];
+        }
+        return node.array;
+    }
+
+    /**
+     * Создает цепочку узлов высотой level, ведущую к node.
+     */
+    private static Node newPath(Object edit, int level, Node node) {
+        if (level == 0) {
+            return node;
+        }
+        Node path = new Node(edit, new Object[WIDTH]);
+        path.array[0] = newPath(edit, level - BITS, node);
+        return path;
+    }
+
+    /**
+     * Вставляет полный лист tailNode в дерево, в котором size элементов вместе с хвостом.
+     * Узлы, принадлежащие edit, меняются на месте, остальные копируются.
+     */
+    private static Node pushTail(Object edit, int size, int level, Node parent, Node tailNode) {
+        int subIndex = ((size - 1) >>> level) & MASK;
+        Node result = editable(edit, parent);
+        Node inserted;
+        if (level == BITS) {
+            inserted = tailNode;
+        } else {
+            Node child = (Node) parent.array[subIndex];
+            inserted = child != null
+                ? pushTail(edit, size, level - BITS, child, tailNode)
+                : newPath(edit, level - BITS, tailNode);
+        }
+        result.array[subIndex] = inserted;
+        return result;
+    }
+
+    /**
+     * Удаляет последний лист дерева, в котором size элементов вместе с хвостом.
+     *
+     * @return новый узел или null, если узел опустел
+     */
+    private static Node popTail(Object edit, int size, int level, Node node) {
+        int subIndex = ((size - 2) >>> level) & MASK;
+        if (level > BITS) {
+            Node child = popTail(edit, size, level - BITS, (Node) node.array[subIndex]);
+            if (child == null && subIndex == 0) {
+                return null;
+            }
+            Node result = editable(edit, node);
+            result.array[subIndex] = child;
+            return result;
+        }
+        if (subIndex == 0) {
+            return null;
+        }
+        Node result = editable(edit, node);
+        result.array[subIndex] = null;
+        return result;
+    }
+
+    /**
+     * Копирует путь к элементу index, заменяя элемент.
+     */
+    private static Node assoc(int level, Node node, int index, Object element) {
+        Node result = new Node(null, node.array.clone());
+        if (level == 0) {
+            result.array[index & MASK] = element;
+        } else {
+            int subIndex = (index >>> level) & MASK;
+            result.array[subIndex] = assoc(level - BITS, (Node) node.array[subIndex], index, element);
+        }
+        return result;
+    }
+
+    /**
+     * Возвращает узел, который можно менять на месте владельцу edit:
+     * сам узел, если он уже принадлежит edit, иначе его копию.
+     */
+    private static Node editable(Object edit, Node node) {
+        if (edit != null && node.edit == edit) {
+            return node;
+        }
+        return new Node(edit, node.array.clone());
+    }
+
+    private static void checkIndex(int index, int size) {
+        if (index < 0 || index >= size) {
+            throw ContainerException.indexOutOfRange(index, size);
+        }
+    }
+
+    /**
+     * Узел дерева. Поле edit указывает построитель, которому разрешено менять
+     * узел на месте; узлы неизменяемых версий никому не принадлежат.
+     */
+    private static final class Node {
+        final Object edit;
+        final Object[] array;
+
+        Node(Object edit, Object[] array) {
+            this.edit = edit;
+            this.array = array;
+        }
+    }
+
+    /**
+     * Изменяемый построитель персистентного контейнера.
+     * Меняет на месте только собственные узлы, поэтому построение n элементов
+     * стоит O(n) без копирования путей. Не потокобезопасен: им пользуется
+     * один писатель, а читатели получают неизменяемые версии через snapshot().
+     *
+     * @author Bilovus Olga
+     * @version 1.0
+     */
+    public static final class Builder {
+
+        /**
+         * Метка владения узлами; заменяется при каждом снимке
+         */
+        private Object edit = new Object();
+
+        private int size;
+        private int shift;
+        private Node root;
+
+        /**
+         * Хвост, всегда массив длины 32 и принадлежит только построителю
+         */
+        private Object[] tail;
+
+        private Builder(PersistentContainer source) {
+            this.size = source.size;
+            this.shift = source.shift;
+            this.root = source.root;
+            this.tail = Arrays.copyOf(source.tail, WIDTH);
+        }
+
+        /**
+         * Добавляет элемент в конец.
+         *
+         * @param element элемент для добавления
+         * @return этот построитель
+         */
+        public Builder add(Object element) {
+            int inTail = size - tailOffset(size);
+            if (inTail < WIDTH) {
+                tail[inTail] = element;
+                size++;
+                return this;
+            }
+            Node tailNode = new Node(edit, tail);
+            tail = new Object[WIDTH];
+            tail[0] = element;
+            if ((size >>> BITS) > (1 << shift)) {
+                Node newRoot = new Node(edit, new Object[WIDTH]);
+                newRoot.array[0] = root;
+                newRoot.array[1] = newPath(edit, shift, tailNode);
+                root = newRoot;
+                shift += BITS;
+            } else {
+                root = pushTail(edit, size, shift, root, tailNode);
+            }
+            size++;
+            return this;
+        }
+
+        /**
+         * Добавляет все элементы ObjectContainer в конец.
+         *
+         * @param container исходный контейнер
+         * @return этот построитель
+         * @throws ContainerException если container равен null
+         */
+        public Builder addAll(ObjectContainer<?> container) {
+            if (container == null) {
+                throw new ContainerException("Исходный контейнер не может быть null");
+            }
+            container.forEach(this::add);
+            return this;
+        }
+
+        /**
+         * Заменяет элемент по индексу.
+         *
+         * @param index индекс элемента
+         * @param element новый элемент
+         * @return этот построитель
+         * @throws ContainerException если индекс недопустим
+         */
+        public Builder set(int index, Object element) {
+            checkIndex(index, size);
+            if (index >= tailOffset(size)) {
+                tail[index & MASK] = element;
+                return this;
+            }
+            root = editable(edit, root);
+            Node node = root;
+            for (int level = shift; level > 0; level -= BITS) {
+                int subIndex = (index >>> level) & MASK;
+                Node child = editable(edit, (Node) node.array[subIndex]);
+                node.array[subIndex] = child;
+                node = child;
+            }
+            node.array[index & MASK] = element;
+            return this;
+        }
+
+        /**
+         * Удаляет последний элемент.
+         *
+         * @return этот построитель
+         * @throws ContainerException если построитель пуст
+         */
+        public Builder removeLast() {
+            if (size == 0) {
+                throw new ContainerException("Нельзя удалить элемент из пустого контейнера");
+            }
+            int inTail = size - tailOffset(size);
+            if (size == 1 || inTail > 1) {
+                tail[inTail - 1] = null;
+                size--;
+                return this;
+            }
+            Object[] newTail = Arrays.copyOf(leafFor(size - 2, size, shift, root, tail), WIDTH);
+            Node newRoot = popTail(edit, size, shift, root);
+            if (newRoot == null) {
+                newRoot = new Node(edit, new Object[WIDTH]);
+            }
+            if (shift > BITS && newRoot.array[1] == null) {
+                newRoot = (Node) newRoot.array[0];
+                shift -= BITS;
+            }
+            root = newRoot;
+            tail = newTail;
+            size--;
+            return this;
+        }
+
+        /**
+         * Возвращает элемент по указанному индексу.
+         *
+         * @param index индекс элемента
+         * @return элемент по указанному индексу
+         * @throws ContainerException если индекс недопустим
+         */
+        public Object get(int index) {
+            checkIndex(index, size);
+            return leafFor(index, size, shift, root, tail)[index & MASK];
+        }
+
+        /**
+         * Возвращает количество элементов.
+         *
+         * @return количество элементов
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Возвращает неизменяемую версию текущего содержимого за O(1):
+         * копируется только хвост (не более 32 ссылок), а все узлы дерева
+         * становятся общими со снимком. Построитель остается рабочим и при
+         * следующих изменениях копирует общие узлы.
+         *
+         * @return неизменяемая версия
+         */
+        public PersistentContainer snapshot() {
+            if (size == 0) {
+                return EMPTY;
+            }
+            PersistentContainer version = new PersistentContainer(
+                size, shift, root, Arrays.copyOf(tail, size - tailOffset(size))
+            );
+            edit = new Object();
+            return version;
+        }
+    }
+}
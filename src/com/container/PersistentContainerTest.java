@@ -0,0 +1,250 @@
+package com.container;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+/**
+ * Тесты для класса PersistentContainer без использования JUnit
+ *
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+public class PersistentContainerTest {
+
+    private int testCount = 0;
+    private int passedTests = 0;
+    private List<String> failedTests = new ArrayList<>();
+
+    /**
+     * Запуск всех тестов
+     */
+    public static void main(String[] args) {
+        PersistentContainerTest tester = new PersistentContainerTest();
+        tester.runAllTests();
+    }
+
+    /**
+     * Запускает все тесты и выводит результаты
+     */
+    public void runAllTests() {
+        System.out.println("=== Запуск тестов PersistentContainer ===\n");
+
+        testVersionsAreIndependent();
+        testBuilderSnapshot();
+        testDeepTree();
+        testRemove();
+        testConversions();
+        testInvalidIndex();
+        testMatchesObjectContainer();
+
+        System.out.println("\n=== Результаты тестов ===");
+        System.out.println("Пройдено: " + passedTests + " из " + testCount + " тестов");
+
+        if (passedTests == testCount) {
+            System.out.println(" Все тесты прошли успешно!");
+        } else {
+            System.out.println(" Не все тесты прошли");
+            System.out.println("\n=== Проваленные тесты ===");
+            for (String failedTest : failedTests) {
+                System.out.println(" " + failedTest);
+            }
+        }
+    }
+
+    private void assertTrue(boolean condition, String message) {
+        testCount++;
+        if (condition) {
+            passedTests++;
+            System.out.println("прошли " + message);
+        } else {
+            failedTests.add(message);
+            System.out.println("не прошли " + message);
+        }
+    }
+
+    private void assertFalse(boolean condition, String message) {
+        assertTrue(!condition, message);
+    }
+
+    private void assertEquals(Object expected, Object actual, String message) {
+        testCount++;
+        boolean isEqual = (expected == null) ? actual == null : expected.equals(actual);
+        if (isEqual) {
+            passedTests++;
+            System.out.println("прошли " + message);
+        } else {
+            failedTests.add(message + " (ожидалось: " + expected + ", получено: " + actual + ")");
+            System.out.println("не прошли " + message + " (ожидалось: " + expected + ", получено: " + actual + ")");
+        }
+    }
+
+    private void assertThrows(Runnable code, String expectedMessage, String testName) {
+        testCount++;
+        try {
+            code.run();
+            failedTests.add(testName + " (ожидалось исключение)");
+            System.out.println("не прошли " + testName + " (ожидалось исключение)");
+        } catch (Exception e) {
+            if (e.getMessage().contains(expectedMessage)) {
+                passedTests++;
+                System.out.println("прошли " + testName);
+            } else {
+                failedTests.add(testName + " (неверное сообщение исключения: " + e.getMessage() + ")");
+                System.out.println("не прошли " + testName + " (неверное сообщение исключения: " + e.getMessage() + ")");
+            }
+        }
+    }
+
+    public void testVersionsAreIndependent() {
+        PersistentContainer first = PersistentContainer.empty().add("а").add("б");
+        PersistentContainer second = first.add("в");
+        PersistentContainer third = second.set(0, "А");
+
+        assertEquals("[а, б]", first.toString(), "testVersions - исходная версия не изменилась");
+        assertEquals("[а, б, в]", second.toString(), "testVersions - версия после add");
+        assertEquals("[А, б, в]", third.toString(), "testVersions - версия после set");
+        assertEquals("[а, б, в]", third.removeLast().set(0, "а").add("в").toString(),
+            "testVersions - цепочка операций");
+        assertEquals(2, second.removeLast().size(), "testVersions - removeLast");
+        assertTrue(PersistentContainer.empty().isEmpty(), "testVersions - пустой контейнер");
+    }
+
+    public void testBuilderSnapshot() {
+        PersistentContainer.Builder builder = PersistentContainer.builder();
+        for (int i = 0; i < 100; i++) {
+            builder.add(i);
+        }
+        PersistentContainer snapshot = builder.snapshot();
+        builder.set(5, "изменен");
+        builder.set(99, "хвост");
+        builder.add(100);
+        builder.removeLast().removeLast();
+
+        assertEquals(5, snapshot.get(5), "testBuilderSnapshot - снимок не видит set в дереве");
+        assertEquals(99, snapshot.get(99), "testBuilderSnapshot - снимок не видит set в хвосте");
+        assertEquals(100, snapshot.size(), "testBuilderSnapshot - размер снимка");
+        assertEquals("изменен", builder.get(5), "testBuilderSnapshot - построитель видит изменения");
+        assertEquals(99, builder.size(), "testBuilderSnapshot - размер построителя");
+
+        PersistentContainer second = builder.snapshot();
+        PersistentContainer edited = second.set(5, 5);
+        assertEquals("изменен", second.get(5), "testBuilderSnapshot - второй снимок неизменен");
+        assertEquals(5, edited.get(5), "testBuilderSnapshot - версия от снимка");
+    }
+
+    public void testDeepTree() {
+        int size = 40000;
+        PersistentContainer.Builder builder = PersistentContainer.builder();
+        for (int i = 0; i < size; i++) {
+            builder.add(i);
+        }
+        PersistentContainer full = builder.snapshot();
+        PersistentContainer grown = full;
+        for (int i = size; i < size + 2000; i++) {
+            grown = grown.add(i);
+        }
+        boolean correct = true;
+        for (int i = 0; i < grown.size(); i++) {
+            correct &= grown.get(i).equals(i);
+        }
+        assertTrue(correct, "testDeepTree - get в дереве из трех уровней");
+
+        PersistentContainer shrunk = grown;
+        for (int i = 0; i < size + 1990; i++) {
+            shrunk = shrunk.removeLast();
+        }
+        assertEquals("[0, 1, 2, 3, 4, 5, 6, 7, 8, 9]", shrunk.toString(), "testDeepTree - removeLast до хвоста");
+        assertEquals(size, full.size(), "testDeepTree - исходная версия сохранилась");
+
+        int iterated = 0;
+        boolean ordered = true;
+        for (Object element : full) {
+            ordered &= element.equals(iterated++);
+        }
+        assertTrue(ordered && iterated == size, "testDeepTree - итератор по листьям");
+        Iterator<Object> iterator = PersistentContainer.empty().iterator();
+        boolean thrown = false;
+        try {
+            iterator.next();
+        } catch (NoSuchElementException e) {
+            thrown = true;
+        }
+        assertTrue(thrown, "testDeepTree - next после конца");
+    }
+
+    public void testRemove() {
+        PersistentContainer container = PersistentContainer.of("а", "б", "в", "г");
+        PersistentContainer removed = container.remove(1);
+
+        assertEquals("[а, в, г]", removed.toString(), "testRemove - удаление из середины");
+        assertEquals("[а, б, в, г]", container.toString(), "testRemove - исходная версия");
+        assertEquals("[а, б, в]", container.remove(3).toString(), "testRemove - удаление последнего");
+        assertEquals(2, container.findIndex("в"), "testRemove - findIndex");
+        assertFalse(removed.contains("б"), "testRemove - contains");
+    }
+
+    public void testConversions() {
+        ObjectContainer<Object> source = new ObjectContainer<>();
+        for (int i = 0; i < 1100; i++) {
+            source.add(i % 3 == 0 ? "s" + i : i);
+        }
+        PersistentContainer persistent = PersistentContainer.from(source);
+        source.add(0, "изменен");
+
+        assertEquals("s0", persistent.get(0), "testConversions - копия не зависит от исходного");
+        ObjectContainer<Object> back = persistent.toObjectContainer();
+        assertEquals(1100, back.size(), "testConversions - размер после обратного преобразования");
+        assertEquals(persistent.toString(), back.toString(), "testConversions - содержимое совпадает");
+        assertEquals(0, PersistentContainer.empty().toObjectContainer().size(), "testConversions - пустой");
+    }
+
+    public void testInvalidIndex() {
+        PersistentContainer container = PersistentContainer.of("а");
+        assertThrows(() -> container.get(1),
+            "Индекс за пределами диапазона", "testInvalidIndex - get");
+        assertThrows(() -> container.set(-1, "б"),
+            "Индекс за пределами диапазона", "testInvalidIndex - set");
+        assertThrows(() -> PersistentContainer.empty().removeLast(),
+            "пустого контейнера", "testInvalidIndex - removeLast пустого");
+        assertThrows(() -> PersistentContainer.of((Object[]) null),
+            "не может быть null", "testInvalidIndex - null массив");
+    }
+
+    public void testMatchesObjectContainer() {
+        ObjectContainer<Object> plain = new ObjectContainer<>();
+        PersistentContainer persistent = PersistentContainer.empty();
+        PersistentContainer.Builder builder = PersistentContainer.builder();
+        Random random = new Random(5);
+        for (int step = 0; step < 20000; step++) {
+            int operation = random.nextInt(10);
+            if (operation < 6 || plain.isEmpty()) {
+                plain.add(step);
+                persistent = persistent.add(step);
+                builder.add(step);
+            } else if (operation < 8) {
+                int index = random.nextInt(plain.size());
+                plain.remove(index);
+                plain.add(index, -step);
+                persistent = persistent.set(index, -step);
+                builder.set(index, -step);
+            } else if (operation == 8) {
+                plain.remove(plain.size() - 1);
+                persistent = persistent.removeLast();
+                builder.removeLast();
+            } else {
+                persistent.toBuilder().add("лишний");
+                builder.snapshot();
+            }
+        }
+        assertEquals(plain.toString(), persistent.toString(), "testMatchesObjectContainer - версии");
+        assertEquals(plain.toString(), builder.snapshot().toString(), "testMatchesObjectContainer - построитель");
+    }
+
+    @FunctionalInterface
+    private interface Runnable {
+        void run();
+    }
+}
@@ -0,0 +1,196 @@
+package com.container;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Тесты для классов IntContainer, LongContainer и DoubleContainer без использования JUnit
+ *
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+public class PrimitiveContainersTest {
+
+    private int testCount = 0;
+    private int passedTests = 0;
+    private List<String> failedTests = new ArrayList<>();
+
+    /**
+     * Запуск всех тестов
+     */
+    public static void main(String[] args) {
+        PrimitiveContainersTest tester = new PrimitiveContainersTest();
+        tester.runAllTests();
+    }
+
+    /**
+     * Запускает все тесты и выводит результаты
+     */
+    public void runAllTests() {
+        System.out.println("=== Запуск тестов примитивных контейнеров ===\n");
+
+        testIntAddAndGet();
+        testIntInsertAndRemove();
+        testIntSearch();
+        testIntInvalidIndex();
+        testIntBulkOperations();
+        testLongContainer();
+        testDoubleContainer();
+        testDoubleSpecialValues();
+
+        System.out.println("\n=== Результаты тестов ===");
+        System.out.println("Пройдено: " + passedTests + " из " + testCount + " тестов");
+
+        if (passedTests == testCount) {
+            System.out.println(" Все тесты прошли успешно!");
+        } else {
+            System.out.println(" Не все тесты прошли");
+            System.out.println("\n=== Проваленные тесты ===");
+            for (String failedTest : failedTests) {
+                System.out.println(" " + failedTest);
+            }
+        }
+    }
+
+    private void assertTrue(boolean condition, String message) {
+        testCount++;
+        if (condition) {
+            passedTests++;
+            System.out.println("прошли " + message);
+        } else {
+            failedTests.add(message);
+            System.out.println("не прошли " + message);
+        }
+    }
+
+    private void assertFalse(boolean condition, String message) {
+        assertTrue(!condition, message);
+    }
+
+    private void assertEquals(Object expected, Object actual, String message) {
+        testCount++;
+        boolean isEqual = (expected == null) ? actual == null : expected.equals(actual);
+        if (isEqual) {
+            passedTests++;
+            System.out.println("прошли " + message);
+        } else {
+            failedTests.add(message + " (ожидалось: " + expected + ", получено: " + actual + ")");
+            System.out.println("не прошли " + message + " (ожидалось: " + expected + ", получено: " + actual + ")");
+        }
+    }
+
+    private void assertThrows(Runnable code, String expectedMessage, String testName) {
+        testCount++;
+        try {
+            code.run();
+            failedTests.add(testName + " (ожидалось исключение)");
+            System.out.println("не прошли " + testName + " (ожидалось исключение)");
+        } catch (Exception e) {
+            if (e.getMessage().contains(expectedMessage)) {
+                passedTests++;
+                System.out.println("прошли " + testName);
+            } else {
+                failedTests.add(testName + " (неверное сообщение исключения: " + e.getMessage() + ")");
+                System.out.println("не прошли " + testName + " (неверное сообщение исключения: " + e.getMessage() + ")");
+            }
+        }
+    }
+
+    public void testIntAddAndGet() {
+        IntContainer container = new IntContainer(2);
+        for (int i = 0; i < 10; i++) {
+            container.add(i * 10);
+        }
+
+        assertEquals(10, container.size(), "testIntAddAndGet - размер 10");
+        assertEquals(0, container.get(0), "testIntAddAndGet - элемент 0");
+        assertEquals(90, container.get(9), "testIntAddAndGet - элемент 9");
+        assertEquals("[0, 10, 20, 30, 40, 50, 60, 70, 80, 90]", container.toString(),
+            "testIntAddAndGet - строковое представление");
+    }
+
+    public void testIntInsertAndRemove() {
+        IntContainer container = new IntContainer();
+        container.add(1);
+        container.add(3);
+        container.add(1, 2);
+
+        assertEquals("[1, 2, 3]", container.toString(), "testIntInsertAndRemove - вставка");
+        assertEquals(1, container.remove(0), "testIntInsertAndRemove - удаление по индексу");
+        assertTrue(container.removeValue(3), "testIntInsertAndRemove - удаление по значению");
+        assertFalse(container.removeValue(42), "testIntInsertAndRemove - удаление отсутствующего");
+        assertEquals("[2]", container.toString(), "testIntInsertAndRemove - оставшиеся элементы");
+
+        container.clear();
+        assertTrue(container.isEmpty(), "testIntInsertAndRemove - очистка");
+    }
+
+    public void testIntSearch() {
+        IntContainer container = new IntContainer();
+        container.add(5);
+        container.add(7);
+        container.add(5);
+
+        assertEquals(0, container.findIndex(5), "testIntSearch - первое вхождение");
+        assertEquals(-1, container.findIndex(6), "testIntSearch - не найден");
+        assertTrue(container.contains(7), "testIntSearch - содержит 7");
+        assertEquals(3, container.toArray().length, "testIntSearch - длина массива");
+    }
+
+    public void testIntInvalidIndex() {
+        IntContainer container = new IntContainer();
+        assertThrows(() -> container.get(0),
+            "Индекс за пределами диапазона", "testIntInvalidIndex - пустой контейнер");
+        assertThrows(() -> container.add(1, 5),
+            "индекс для вставки", "testIntInvalidIndex - вставка по индексу 1");
+        assertThrows(() -> new IntContainer(0),
+            "положительным числом", "testIntInvalidIndex - емкость 0");
+    }
+
+    public void testIntBulkOperations() {
+        IntContainer container = new IntContainer();
+        container.addAll(new int[] {1, 5});
+        container.insertAll(1, new int[] {2, 3, 4});
+
+        assertEquals("[1, 2, 3, 4, 5]", container.toString(), "testIntBulkOperations - insertAll");
+
+        container.removeRange(1, 4);
+        assertEquals("[1, 5]", container.toString(), "testIntBulkOperations - removeRange");
+    }
+
+    public void testLongContainer() {
+        LongContainer container = new LongContainer();
+        container.add(Long.MAX_VALUE);
+        container.add(0, 1L);
+
+        assertEquals(2, container.size(), "testLongContainer - размер 2");
+        assertEquals(Long.MAX_VALUE, container.get(1), "testLongContainer - элемент 1");
+        assertEquals(1, container.findIndex(Long.MAX_VALUE), "testLongContainer - поиск");
+        assertEquals(1L, container.remove(0), "testLongContainer - удаление");
+    }
+
+    public void testDoubleContainer() {
+        DoubleContainer container = new DoubleContainer();
+        container.add(4.5);
+        container.add(3.7);
+
+        assertEquals(4.5, container.get(0), "testDoubleContainer - элемент 0");
+        assertTrue(container.contains(3.7), "testDoubleContainer - содержит 3.7");
+        assertTrue(container.removeValue(4.5), "testDoubleContainer - удаление по значению");
+        assertEquals("[3.7]", container.toString(), "testDoubleContainer - оставшиеся элементы");
+    }
+
+    public void testDoubleSpecialValues() {
+        DoubleContainer container = new DoubleContainer();
+        container.add(Double.NaN);
+        container.add(0.0);
+
+        assertEquals(0, container.findIndex(Double.NaN), "testDoubleSpecialValues - NaN найден");
+        assertEquals(-1, container.findIndex(-0.0), "testDoubleSpecialValues - -0.0 отличается от 0.0");
+    }
+
+    @FunctionalInterface
+    private interface Runnable {
+        void run();
+    }
+}
@@ -0,0 +1,422 @@
+package com.container;
+
+import com.container.exceptions.ContainerException;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Контейнер на основе кольцевого буфера.
+ * Элементы хранятся начиная с позиции head и при достижении конца массива
+ * продолжаются с его начала. Добавление и удаление с обоих концов выполняются
+ * за O(1) без сдвига элементов, доступ по индексу также O(1).
+ * Вставка и удаление в середине сдвигают меньшую из двух частей.
+ * Подходит для очередей: add в конец и remove(0) из начала.
+ *
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+public class RingContainer {
+
+    /**
+     * Внутренний кольцевой массив
+     */
+    private Object[] elements;
+
+    /**
+     * Позиция первого элемента в массиве
+     */
+    private int head;
+
+    /**
+     * Текущее количество элементов
+     */
+    private int size;
+
+    /**
+     * Начальная емкость по умолчанию
+     */
+    private static final int DEFAULT_CAPACITY = 10;
+
+    /**
+     * Коэффициент увеличения размера
+     */
+    private static final double GROW_FACTOR = 1.5;
+
+    /**
+     * Создает контейнер с емкостью по умолчанию.
+     */
+    public RingContainer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Создает контейнер с указанной начальной емкостью.
+     *
+     * @param initialCapacity начальная емкость контейнера
+     * @throws ContainerException если initialCapacity меньше или равно 0
+     */
+    public RingContainer(int initialCapacity) {
+        if (initialCapacity <= 0) {
+            throw new ContainerException(
+                "Начальная емкость должна быть положительным числом: " + initialCapacity
+            );
+        }
+        this.elements = new Object[initialCapacity];
+        this.head = 0;
+        this.size = 0;
+    }
+
+    /**
+     * Добавляет элемент в конец контейнера.
+     *
+     * @param element элемент для добавления
+     * @return true если элемент успешно добавлен
+     */
+    public boolean add(Object element) {
+        addLast(element);
+        return true;
+    }
+
+    /**
+     * Добавляет элемент в начало контейнера за O(1).
+     *
+     * @param element элемент для добавления
+     */
+    public void addFirst(Object element) {
+        ensureCapacity(size + 1);
+        head = head == 0 ? elements.length - 1 : head - 1;
+        elements[head] = element;
+        size++;
+    }
+
+    /**
+     * Добавляет элемент в конец контейнера за O(1).
+     *
+     * @param element элемент для добавления
+     */
+    public void addLast(Object element) {
+        ensureCapacity(size + 1);
+        elements[physical(size)] = element;
+        size++;
+    }
+
+    /**
+     * Удаляет и возвращает первый элемент за O(1).
+     *
+     * @return удаленный элемент
+     * @throws ContainerException если контейнер пуст
+     */
+    public Object removeFirst() {
+        checkNotEmpty();
+        Object removed = elements[head];
+        elements[head] = null;
+        head = next(head);
+        size--;
+        return removed;
+    }
+
+    /**
+     * Удаляет и возвращает последний элемент за O(1).
+     *
+     * @return удаленный элемент
+     * @throws ContainerException если контейнер пуст
+     */
+    public Object removeLast() {
+        checkNotEmpty();
+        int last = physical(size - 1);
+        Object removed = elements[last];
+        elements[last] = null;
+        size--;
+        return removed;
+    }
+
+    /**
+     * Вставляет элемент в указанную позицию.
+     * Сдвигается меньшая из частей: начало влево или хвост вправо.
+     *
+     * @param index позиция для вставки
+     * @param element элемент для вставки
+     * @throws ContainerException если индекс недопустим
+     */
+    public void add(int index, Object element) {
+        checkIndexForAdd(index);
+        if (index == 0) {
+            addFirst(element);
+            return;
+        }
+        ensureCapacity(size + 1);
+        if (index < size / 2) {
+            head = head == 0 ? elements.length - 1 : head - 1;
+            shift(1, index, -1);
+        } else {
+            shift(index, size - index, 1);
+        }
+        elements[physical(index)] = element;
+        size++;
+    }
+
+    /**
+     * Возвращает элемент по указанному индексу.
+     *
+     * @param index индекс элемента
+     * @return элемент по указанному индексу
+     * @throws ContainerException если индекс недопустим
+     */
+    public Object get(int index) {
+        checkIndex(index);
+        return elements[physical(index)];
+    }
+
+    /**
+     * Удаляет элемент по указанному индексу.
+     * Удаление с концов выполняется за O(1), в середине сдвигается меньшая из частей.
+     *
+     * @param index индекс удаляемого элемента
+     * @return удаленный элемент
+     * @throws ContainerException если индекс недопустим
+     */
+    public Object remove(int index) {
+        checkIndex(index);
+        if (index == 0) {
+            return removeFirst();
+        }
+        Object removed = elements[physical(index)];
+        if (index < size / 2) {
+            shift(0, index, 1);
+            elements[head] = null;
+            head = next(head);
+        } else {
+            shift(index + 1, size - 1 - index, -1);
+            elements[physical(size - 1)] = null;
+        }
+        size--;
+        return removed;
+    }
+
+    /**
+     * Удаляет первое вхождение указанного элемента.
+     *
+     * @param element элемент для удаления
+     * @return true если элемент был найден и удален
+     */
+    public boolean remove(Object element) {
+        int index = findIndex(element);
+        if (index != -1) {
+            remove(index);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Проверяет наличие элемента в контейнере.
+     *
+     * @param element искомый элемент
+     * @return true если элемент найден
+     */
+    public boolean contains(Object element) {
+        return findIndex(element) != -1;
+    }
+
+    /**
+     * Ищет индекс первого вхождения элемента.
+     *
+     * @param element искомый элемент
+     * @return индекс элемента или -1 если не найден
+     */
+    public int findIndex(Object element) {
+        for (int i = 0; i < size; i++) {
+            if (Objects.equals(element, elements[physical(i)])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Возвращает текущее количество элементов.
+     *
+     * @return количество элементов
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Проверяет, пуст ли контейнер.
+     *
+     * @return true если контейнер пуст
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Очищает контейнер, удаляя все элементы.
+     */
+    public void clear() {
+        int firstPart = Math.min(size, elements.length - head);
+        Arrays.fill(elements, head, head + firstPart, null);
+        Arrays.fill(elements, 0, size - firstPart, null);
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * Возвращает массив со всеми элементами контейнера в логическом порядке.
+     *
+     * @return массив элементов
+     */
+    public Object[] toArray() {
+        Object[] result = new Object[size];
+        copyTo(result);
+        return result;
+    }
+
+    /**
+     * Копирует элементы в начало массива в логическом порядке
+     * не более чем двумя блочными операциями.
+     *
+     * @param target массив назначения длиной не меньше size
+     */
+    private void copyTo(Object[] target) {
+        int firstPart = Math.min(size, elements.length - head);
+        System.arraycopy(elements, head, target, 0, firstPart);
+        System.arraycopy(elements, 0, target, firstPart, size - firstPart);
+    }
+
+    /**
+     * Гарантирует достаточную емкость контейнера.
+     * При расширении элементы переносятся в новый массив одной линеаризацией,
+     * после чего head становится равным 0.
+     *
+     * @param minCapacity минимальная требуемая емкость
+     */
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > elements.length) {
+            int newCapacity = (int)(elements.length * GROW_FACTOR);
+            if (newCapacity < minCapacity) {
+                newCapacity = minCapacity;
+            }
+            Object[] newArray = new Object[newCapacity];
+            copyTo(newArray);
+            elements = newArray;
+            head = 0;
+        }
+    }
+
+    /**
+     * Сдвигает count элементов, начиная с логического индекса from, на одну
+     * позицию влево (direction = -1) или вправо (direction = 1).
+     * Диапазон разбивается на отрезки, в которых ни источник, ни приемник
+     * не переходят через конец массива, и каждый отрезок копируется одним
+     * System.arraycopy; порядок отрезков учитывает перекрытие.
+     * Все затронутые логические индексы должны быть меньше длины массива.
+     *
+     * @param from логический индекс первого сдвигаемого элемента
+     * @param count количество сдвигаемых элементов
+     * @param direction направление сдвига: -1 или 1
+     */
+    private void shift(int from, int count, int direction) {
+        if (direction > 0) {
+            int end = from + count;
+            while (count > 0) {
+                int source = physical(end - 1);
+                int target = physical(end);
+                int chunk = Math.min(count, Math.min(source, target) + 1);
+                System.arraycopy(elements, source - chunk + 1, elements, target - chunk + 1, chunk);
+                end -= chunk;
+                count -= chunk;
+            }
+        } else {
+            int start = from;
+            while (count > 0) {
+                int source = physical(start);
+                int target = physical(start - 1);
+                int chunk = Math.min(count, elements.length - Math.max(source, target));
+                System.arraycopy(elements, source, elements, target, chunk);
+                start += chunk;
+                count -= chunk;
+            }
+        }
+    }
+
+    /**
+     * Переводит логический индекс в позицию во внутреннем массиве.
+     *
+     * @param index логический индекс (0 - size включительно)
+     * @return позиция в массиве
+     */
+    private int physical(int index) {
+        int position = head + index;
+        return position >= elements.length ? position - elements.length : position;
+    }
+
+    /**
+     * Возвращает следующую позицию в кольцевом массиве.
+     *
+     * @param position текущая позиция
+     * @return следующая позиция
+     */
+    private int next(int position) {
+        return position + 1 == elements.length ? 0 : position + 1;
+    }
+
+    /**
+     * Проверяет, что в контейнере есть элементы.
+     *
+     * @throws ContainerException если контейнер пуст
+     */
+    private void checkNotEmpty() {
+        if (size == 0) {
+            throw new ContainerException("Контейнер пуст");
+        }
+    }
+
+    /**
+     * Проверяет корректность индекса для операций get и remove.
+     *
+     * @param index проверяемый индекс
+     * @throws ContainerException если индекс невалиден
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw ContainerException.indexOutOfRange(index, size);
+        }
+    }
+
+    /**
+     * Проверяет корректность индекса для операции add.
+     *
+     * @param index проверяемый индекс
+     * @throws ContainerException если индекс невалиден
+     */
+    private void checkIndexForAdd(int index) {
+        if (index < 0 || index > size) {
+            throw ContainerException.invalidInsertIndex(index, size);
+        }
+    }
+
+    /**
+     * Возвращает строковое представление контейнера.
+     *
+     * @return строковое представление в формате [элемент1, элемент2, ...]
+     */
+    @Override
+    public String toString() {
+        if (size == 0) {
+            return "[]";
+        }
+
+        StringBuilder result = new StringBuilder();
+        result.append("[");
+        for (int i = 0; i < size; i++) {
+            result.append(elements[physical(i)]);
+            if (i < size - 1) {
+                result.append(", ");
+            }
+        }
+        result.append("]");
+        return result.toString();
+    }
+}
@@ -0,0 +1,204 @@
+package com.container;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Тесты для класса RingContainer без использования JUnit
+ *
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+public class RingContainerTest {
+
+    private int testCount = 0;
+    private int passedTests = 0;
+    private List<String> failedTests = new ArrayList<>();
+
+    /**
+     * Запуск всех тестов
+     */
+    public static void main(String[] args) {
+        RingContainerTest tester = new RingContainerTest();
+        tester.runAllTests();
+    }
+
+    /**
+     * Запускает все тесты и выводит результаты
+     */
+    public void runAllTests() {
+        System.out.println("=== Запуск тестов RingContainer ===\n");
+
+        testQueueOperations();
+        testWrapAroundGrowth();
+        testEmptyContainer();
+        testMatchesObjectContainer();
+        testMiddleShiftAcrossBoundary();
+
+        System.out.println("\n=== Результаты тестов ===");
+        System.out.println("Пройдено: " + passedTests + " из " + testCount + " тестов");
+
+        if (passedTests == testCount) {
+            System.out.println(" Все тесты прошли успешно!");
+        } else {
+            System.out.println(" Не все тесты прошли");
+            System.out.println("\n=== Проваленные тесты ===");
+            for (String failedTest : failedTests) {
+                System.out.println(" " + failedTest);
+            }
+        }
+    }
+
+    private void assertTrue(boolean condition, String message) {
+        testCount++;
+        if (condition) {
+            passedTests++;
+            System.out.println("прошли " + message);
+        } else {
+            failedTests.add(message);
+            System.out.println("не прошли " + message);
+        }
+    }
+
+    private void assertFalse(boolean condition, String message) {
+        assertTrue(!condition, message);
+    }
+
+    private void assertEquals(Object expected, Object actual, String message) {
+        testCount++;
+        boolean isEqual = (expected == null) ? actual == null : expected.equals(actual);
+        if (isEqual) {
+            passedTests++;
+            System.out.println("прошли " + message);
+        } else {
+            failedTests.add(message + " (ожидалось: " + expected + ", получено: " + actual + ")");
+            System.out.println("не прошли " + message + " (ожидалось: " + expected + ", получено: " + actual + ")");
+        }
+    }
+
+    private void assertThrows(Runnable code, String expectedMessage, String testName) {
+        testCount++;
+        try {
+            code.run();
+            failedTests.add(testName + " (ожидалось исключение)");
+            System.out.println("не прошли " + testName + " (ожидалось исключение)");
+        } catch (Exception e) {
+            if (e.getMessage().contains(expectedMessage)) {
+                passedTests++;
+                System.out.println("прошли " + testName);
+            } else {
+                failedTests.add(testName + " (неверное сообщение исключения: " + e.getMessage() + ")");
+                System.out.println("не прошли " + testName + " (неверное сообщение исключения: " + e.getMessage() + ")");
+            }
+        }
+    }
+
+    public void testQueueOperations() {
+        RingContainer container = new RingContainer(4);
+        container.addLast("второй");
+        container.addFirst("первый");
+        container.add("третий");
+
+        assertEquals("[первый, второй, третий]", container.toString(), "testQueueOperations - порядок");
+        assertEquals("первый", container.removeFirst(), "testQueueOperations - removeFirst");
+        assertEquals("третий", container.removeLast(), "testQueueOperations - removeLast");
+        assertEquals("второй", container.remove(0), "testQueueOperations - remove(0)");
+        assertTrue(container.isEmpty(), "testQueueOperations - контейнер пуст");
+    }
+
+    public void testWrapAroundGrowth() {
+        RingContainer container = new RingContainer(4);
+        for (int i = 0; i < 3; i++) {
+            container.add(i);
+        }
+        container.removeFirst();
+        container.removeFirst();
+        for (int i = 3; i < 10; i++) {
+            container.add(i);
+        }
+        container.addFirst(1);
+
+        assertEquals("[1, 2, 3, 4, 5, 6, 7, 8, 9]", container.toString(),
+            "testWrapAroundGrowth - порядок после переноса через границу и расширения");
+        assertEquals(4, container.findIndex(5), "testWrapAroundGrowth - поиск");
+        assertEquals(9, container.toArray().length, "testWrapAroundGrowth - toArray");
+
+        container.clear();
+        assertEquals(0, container.size(), "testWrapAroundGrowth - очистка");
+    }
+
+    public void testEmptyContainer() {
+        RingContainer container = new RingContainer();
+        assertThrows(() -> container.removeFirst(), "Контейнер пуст", "testEmptyContainer - removeFirst");
+        assertThrows(() -> container.removeLast(), "Контейнер пуст", "testEmptyContainer - removeLast");
+        assertThrows(() -> container.get(0),
+            "Индекс за пределами диапазона", "testEmptyContainer - get");
+        assertThrows(() -> container.add(1, "Элемент"),
+            "индекс для вставки", "testEmptyContainer - вставка по индексу 1");
+    }
+
+    public void testMatchesObjectContainer() {
+        RingContainer ring = new RingContainer(3);
+        ObjectContainer<Object> plain = new ObjectContainer<>();
+        Random random = new Random(11);
+        for (int step = 0; step < 5000; step++) {
+            int operation = random.nextInt(6);
+            if (operation == 0 || plain.isEmpty()) {
+                ring.addLast(step);
+                plain.add(step);
+            } else if (operation == 1) {
+                ring.addFirst(step);
+                plain.add(0, step);
+            } else if (operation == 2) {
+                ring.removeFirst();
+                plain.remove(0);
+            } else if (operation == 3) {
+                ring.removeLast();
+                plain.remove(plain.size() - 1);
+            } else if (operation == 4) {
+                int position = random.nextInt(plain.size() + 1);
+                ring.add(position, step);
+                plain.add(position, step);
+            } else {
+                int position = random.nextInt(plain.size());
+                ring.remove(position);
+                plain.remove(position);
+            }
+        }
+        assertEquals(plain.toString(), ring.toString(), "testMatchesObjectContainer - совпадает с ObjectContainer");
+        assertEquals(plain.toString(), Arrays.toString(ring.toArray()), "testMatchesObjectContainer - toArray");
+    }
+
+    public void testMiddleShiftAcrossBoundary() {
+        RingContainer ring = new RingContainer(64);
+        ObjectContainer<Object> plain = new ObjectContainer<>();
+        for (int i = 0; i < 40; i++) {
+            ring.addLast(i);
+            plain.add(i);
+        }
+        for (int i = 0; i < 30; i++) {
+            ring.removeFirst();
+            plain.remove(0);
+            ring.addLast(100 + i);
+            plain.add(100 + i);
+        }
+        // 40 элементов занимают конец и начало массива из 64 ячеек
+        for (int index : new int[] {5, 12, 20, 27, 35, 39}) {
+            ring.add(index, -index);
+            plain.add(index, -index);
+        }
+        assertEquals(plain.toString(), ring.toString(), "testMiddleShiftAcrossBoundary - вставка через границу");
+        for (int index : new int[] {3, 15, 21, 30, 41, 8}) {
+            assertEquals(plain.remove(index), ring.remove(index),
+                "testMiddleShiftAcrossBoundary - удаленный элемент " + index);
+        }
+        assertEquals(plain.toString(), ring.toString(), "testMiddleShiftAcrossBoundary - удаление через границу");
+    }
+
+    @FunctionalInterface
+    private interface Runnable {
+        void run();
+    }
+}
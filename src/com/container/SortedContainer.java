@@ -0,0 +1,437 @@
+package com.container;
+
+import com.container.exceptions.ContainerException;
+import java.util.Comparator;
+
+/**
+ * Контейнер, хранящий элементы упорядоченными по компаратору
+ * или в естественном порядке. Добавление вставляет элемент на его место
+ * (после равных ему), поэтому поиск выполняется двоичным поиском за O(log n):
+ * findIndex, contains, floor, ceiling, rank и rangeQuery.
+ * Вставка по-прежнему сдвигает хвост массива, поэтому для загрузки большого
+ * количества элементов следует использовать addAll: он упорядочивает новые
+ * элементы один раз (см. ObjectContainer.sort) и сливает их с имеющимися
+ * за линейное время.
+ * <p>
+ * Элементы хранятся в ObjectContainer, null не допускается. Если элементы
+ * нельзя сравнить друг с другом, операция завершается ContainerException,
+ * а контейнер не меняется.
+ *
+ * @param <T> тип элементов
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+public class SortedContainer<T> {
+
+    /**
+     * Упорядоченные элементы
+     */
+    private ObjectContainer<T> elements;
+
+    /**
+     * Компаратор или null для естественного порядка
+     */
+    private final Comparator<? super T> comparator;
+
+    /**
+     * Порядок, по которому выполняется сравнение
+     */
+    private final Comparator<? super T> order;
+
+    /**
+     * Создает контейнер с естественным порядком элементов.
+     */
+    public SortedContainer() {
+        this(null);
+    }
+
+    /**
+     * Создает контейнер с порядком, заданным компаратором.
+     *
+     * @param comparator компаратор или null для естественного порядка
+     */
+    public SortedContainer(Comparator<? super T> comparator) {
+        this(comparator, 10);
+    }
+
+    /**
+     * Создает контейнер с порядком, заданным компаратором, и начальной емкостью.
+     *
+     * @param comparator компаратор или null для естественного порядка
+     * @param initialCapacity начальная емкость контейнера
+     * @throws ContainerException если initialCapacity меньше или равно 0
+     */
+    @SuppressWarnings("unchecked")
+    public SortedContainer(Comparator<? super T> comparator, int initialCapacity) {
+        this.elements = new ObjectContainer<>(initialCapacity);
+        this.comparator = comparator;
+        this.order = comparator != null ? comparator : (Comparator<? super T>) Comparator.naturalOrder();
+    }
+
+    /**
+     * Вставляет элемент на его место после всех равных ему элементов.
+     *
+     * @param element элемент для добавления
+     * @return позиция, в которую вставлен элемент
+     * @throws ContainerException если элемент равен null или не сравним
+     *         с элементами контейнера
+     */
+    public int add(T element) {
+        checkElement(element);
+        int index = upperBound(element);
+        elements.add(index, element);
+        return index;
+    }
+
+    /**
+     * Добавляет все элементы массива: упорядочивает их один раз
+     * и сливает с элементами контейнера.
+     *
+     * @param source массив добавляемых элементов
+     * @return true если контейнер изменился
+     * @throws ContainerException если source равен null, содержит null
+     *         или элементы нельзя сравнить; контейнер при этом не меняется
+     */
+    public boolean addAll(T[] source) {
+        if (source == null) {
+            throw new ContainerException("Источник элементов не может быть null");
+        }
+        for (T element : source) {
+            checkElement(element);
+        }
+        if (source.length == 0) {
+            return false;
+        }
+        ObjectContainer<T> incoming = new ObjectContainer<>(source.length);
+        incoming.addAll(source);
+        merge(incoming);
+        return true;
+    }
+
+    /**
+     * Добавляет все элементы другого контейнера: упорядочивает их один раз
+     * и сливает с элементами контейнера.
+     *
+     * @param other контейнер, элементы которого добавляются
+     * @return true если контейнер изменился
+     * @throws ContainerException если other равен null, содержит null
+     *         или элементы нельзя сравнить; контейнер при этом не меняется
+     */
+    public boolean addAll(ObjectContainer<? extends T> other) {
+        if (other == null) {
+            throw new ContainerException("Источник элементов не может быть null");
+        }
+        other.forEach(this::checkElement);
+        if (other.isEmpty()) {
+            return false;
+        }
+        ObjectContainer<T> incoming = new ObjectContainer<>(other.size());
+        incoming.addAll(other);
+        merge(incoming);
+        return true;
+    }
+
+    /**
+     * Возвращает элемент по позиции в порядке сортировки.
+     *
+     * @param index индекс элемента
+     * @return элемент по указанному индексу
+     * @throws ContainerException если индекс недопустим
+     */
+    public T get(int index) {
+        return elements.get(index);
+    }
+
+    /**
+     * Удаляет элемент по позиции в порядке сортировки.
+     *
+     * @param index индекс удаляемого элемента
+     * @return удаленный элемент
+     * @throws ContainerException если индекс недопустим
+     */
+    public T remove(int index) {
+        return elements.remove(index);
+    }
+
+    /**
+     * Удаляет первое вхождение указанного элемента.
+     *
+     * @param element элемент для удаления
+     * @return true если элемент был найден и удален
+     */
+    public boolean remove(Object element) {
+        int index = findIndex(element);
+        if (index != -1) {
+            elements.remove(index);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Ищет индекс первого вхождения элемента двоичным поиском.
+     * Среди элементов, равных искомому по компаратору, выбирается первый,
+     * равный ему по equals.
+     *
+     * @param element искомый элемент
+     * @return индекс элемента или -1 если не найден
+     */
+    @SuppressWarnings("unchecked")
+    public int findIndex(Object element) {
+        if (element == null) {
+            return -1;
+        }
+        T key;
+        try {
+            key = (T) element;
+            for (int i = lowerBound(key), size = elements.size(); i < size; i++) {
+                T candidate = elements.get(i);
+                if (compare(candidate, key) != 0) {
+                    break;
+                }
+                if (element.equals(candidate)) {
+                    return i;
+                }
+            }
+        } catch (ContainerException e) {
+            return -1;
+        }
+        return -1;
+    }
+
+    /**
+     * Проверяет наличие элемента в контейнере двоичным поиском.
+     *
+     * @param element искомый элемент
+     * @return true если элемент найден
+     */
+    public boolean contains(Object element) {
+        return findIndex(element) != -1;
+    }
+
+    /**
+     * Возвращает количество элементов, строго меньших ключа.
+     * Это же значение - позиция, с которой начинаются элементы не меньше ключа.
+     *
+     * @param key ключ
+     * @return ранг ключа
+     * @throws ContainerException если ключ равен null или не сравним
+     */
+    public int rank(T key) {
+        checkElement(key);
+        return lowerBound(key);
+    }
+
+    /**
+     * Возвращает наибольший элемент, не превышающий ключ.
+     *
+     * @param key ключ
+     * @return элемент или null, если все элементы больше ключа
+     * @throws ContainerException если ключ равен null или не сравним
+     */
+    public T floor(T key) {
+        checkElement(key);
+        int index = upperBound(key) - 1;
+        return index >= 0 ? elements.get(index) : null;
+    }
+
+    /**
+     * Возвращает наименьший элемент, не меньший ключа.
+     *
+     * @param key ключ
+     * @return элемент или null, если все элементы меньше ключа
+     * @throws ContainerException если ключ равен null или не сравним
+     */
+    public T ceiling(T key) {
+        checkElement(key);
+        int index = lowerBound(key);
+        return index < elements.size() ? elements.get(index) : null;
+    }
+
+    /**
+     * Возвращает элементы из полуинтервала [from, to) в порядке сортировки.
+     * Границы находятся двоичным поиском, копируются только попавшие в диапазон элементы.
+     *
+     * @param from нижняя граница (включительно)
+     * @param to верхняя граница (не включительно)
+     * @return новый контейнер с элементами диапазона
+     * @throws ContainerException если граница равна null или from больше to
+     */
+    public ObjectContainer<T> rangeQuery(T from, T to) {
+        checkElement(from);
+        checkElement(to);
+        if (compare(from, to) > 0) {
+            throw new ContainerException("Нижняя граница диапазона больше верхней: " + from + " > " + to);
+        }
+        int start = lowerBound(from);
+        int end = lowerBound(to);
+        ObjectContainer<T> result = new ObjectContainer<>(Math.max(end - start, 1));
+        for (int i = start; i < end; i++) {
+            result.add(elements.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Возвращает компаратор контейнера.
+     *
+     * @return компаратор или null для естественного порядка
+     */
+    public Comparator<? super T> comparator() {
+        return comparator;
+    }
+
+    /**
+     * Возвращает текущее количество элементов.
+     *
+     * @return количество элементов
+     */
+    public int size() {
+        return elements.size();
+    }
+
+    /**
+     * Проверяет, пуст ли контейнер.
+     *
+     * @return true если контейнер пуст
+     */
+    public boolean isEmpty() {
+        return elements.isEmpty();
+    }
+
+    /**
+     * Очищает контейнер, удаляя все элементы.
+     */
+    public void clear() {
+        elements.clear();
+    }
+
+    /**
+     * Возвращает массив со всеми элементами в порядке сортировки.
+     *
+     * @return массив элементов
+     */
+    public Object[] toArray() {
+        return elements.toArray();
+    }
+
+    /**
+     * Упорядочивает новые элементы и сливает их с элементами контейнера
+     * в новый контейнер. Равные элементы остаются после уже имеющихся,
+     * как и при add. Текущий контейнер заменяется только после успешного
+     * слияния.
+     *
+     * @param incoming новые элементы
+     * @throws ContainerException если элементы нельзя сравнить
+     */
+    private void merge(ObjectContainer<T> incoming) {
+        incoming.sort(order);
+        if (elements.isEmpty()) {
+            elements = incoming;
+            return;
+        }
+        int size = elements.size();
+        int count = incoming.size();
+        ObjectContainer<T> merged = new ObjectContainer<>(size + count);
+        int i = 0;
+        int j = 0;
+        while (i < size && j < count) {
+            if (compare(elements.get(i), incoming.get(j)) <= 0) {
+                merged.add(elements.get(i++));
+            } else {
+                merged.add(incoming.get(j++));
+            }
+        }
+        while (i < size) {
+            merged.add(elements.get(i++));
+        }
+        while (j < count) {
+            merged.add(incoming.get(j++));
+        }
+        elements = merged;
+    }
+
+    /**
+     * Сравнивает элементы по порядку контейнера.
+     *
+     * @param first первый элемент
+     * @param second второй элемент
+     * @return результат сравнения
+     * @throws ContainerException если элементы нельзя сравнить
+     */
+    private int compare(T first, T second) {
+        try {
+            return order.compare(first, second);
+        } catch (ClassCastException e) {
+            throw new ContainerException("Элементы нельзя сравнить: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Первая позиция, элемент в которой не меньше ключа.
+     *
+     * @param key ключ
+     * @return позиция от 0 до size
+     */
+    private int lowerBound(T key) {
+        int low = 0;
+        int high = elements.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (compare(elements.get(middle), key) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Первая позиция, элемент в которой больше ключа.
+     *
+     * @param key ключ
+     * @return позиция от 0 до size
+     */
+    private int upperBound(T key) {
+        int low = 0;
+        int high = elements.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (compare(elements.get(middle), key) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Проверяет, что элемент можно хранить и сравнивать.
+     *
+     * @param element проверяемый элемент
+     * @throws ContainerException если элемент равен null или не реализует Comparable
+     *         при естественном порядке
+     */
+    private void checkElement(Object element) {
+        if (element == null) {
+            throw new ContainerException("Сортированный контейнер не принимает null");
+        }
+        if (comparator == null && !(element instanceof Comparable)) {
+            throw new ContainerException(
+                "Элемент типа " + element.getClass().getName() + " не реализует Comparable"
+            );
+        }
+    }
+
+    /**
+     * Возвращает строковое представление контейнера.
+     *
+     * @return строковое представление в формате [элемент1, элемент2, ...]
+     */
+    @Override
+    public String toString() {
+        return elements.toString();
+    }
+}
@@ -0,0 +1,229 @@
+package com.container;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Тесты для класса SortedContainer без использования JUnit
+ *
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+public class SortedContainerTest {
+
+    private int testCount = 0;
+    private int passedTests = 0;
+    private List<String> failedTests = new ArrayList<>();
+
+    /**
+     * Запуск всех тестов
+     */
+    public static void main(String[] args) {
+        SortedContainerTest tester = new SortedContainerTest();
+        tester.runAllTests();
+    }
+
+    /**
+     * Запускает все тесты и выводит результаты
+     */
+    public void runAllTests() {
+        System.out.println("=== Запуск тестов SortedContainer ===\n");
+
+        testInsertKeepsOrder();
+        testBinarySearch();
+        testNavigation();
+        testRangeQuery();
+        testComparator();
+        testBulkLoad();
+        testInvalidArguments();
+
+        System.out.println("\n=== Результаты тестов ===");
+        System.out.println("Пройдено: " + passedTests + " из " + testCount + " тестов");
+
+        if (passedTests == testCount) {
+            System.out.println(" Все тесты прошли успешно!");
+        } else {
+            System.out.println(" Не все тесты прошли");
+            System.out.println("\n=== Проваленные тесты ===");
+            for (String failedTest : failedTests) {
+                System.out.println(" " + failedTest);
+            }
+        }
+    }
+
+    private void assertTrue(boolean condition, String message) {
+        testCount++;
+        if (condition) {
+            passedTests++;
+            System.out.println("прошли " + message);
+        } else {
+            failedTests.add(message);
+            System.out.println("не прошли " + message);
+        }
+    }
+
+    private void assertFalse(boolean condition, String message) {
+        assertTrue(!condition, message);
+    }
+
+    private void assertEquals(Object expected, Object actual, String message) {
+        testCount++;
+        boolean isEqual = (expected == null) ? actual == null : expected.equals(actual);
+        if (isEqual) {
+            passedTests++;
+            System.out.println("прошли " + message);
+        } else {
+            failedTests.add(message + " (ожидалось: " + expected + ", получено: " + actual + ")");
+            System.out.println("не прошли " + message + " (ожидалось: " + expected + ", получено: " + actual + ")");
+        }
+    }
+
+    private void assertThrows(Runnable code, String expectedMessage, String testName) {
+        testCount++;
+        try {
+            code.run();
+            failedTests.add(testName + " (ожидалось исключение)");
+            System.out.println("не прошли " + testName + " (ожидалось исключение)");
+        } catch (Exception e) {
+            if (e.getMessage().contains(expectedMessage)) {
+                passedTests++;
+                System.out.println("прошли " + testName);
+            } else {
+                failedTests.add(testName + " (неверное сообщение исключения: " + e.getMessage() + ")");
+                System.out.println("не прошли " + testName + " (неверное сообщение исключения: " + e.getMessage() + ")");
+            }
+        }
+    }
+
+    public void testInsertKeepsOrder() {
+        SortedContainer<Integer> container = new SortedContainer<>();
+        assertEquals(0, container.add(5), "testInsertKeepsOrder - первый элемент");
+        container.add(1);
+        container.add(9);
+        assertEquals(2, container.add(5), "testInsertKeepsOrder - равный вставляется после");
+        container.add(3);
+
+        assertEquals("[1, 3, 5, 5, 9]", container.toString(), "testInsertKeepsOrder - порядок");
+        assertEquals(1, container.get(0), "testInsertKeepsOrder - минимум");
+        assertEquals(9, container.remove(4), "testInsertKeepsOrder - удаление по индексу");
+        assertTrue(container.remove((Object) 5), "testInsertKeepsOrder - удаление по значению");
+        assertEquals("[1, 3, 5]", container.toString(), "testInsertKeepsOrder - после удалений");
+    }
+
+    public void testBinarySearch() {
+        SortedContainer<Integer> container = new SortedContainer<>();
+        for (int i = 0; i < 1000; i++) {
+            container.add(i * 2 % 1000);
+        }
+        assertEquals(4, container.findIndex(4), "testBinarySearch - первое из равных");
+        assertEquals(-1, container.findIndex(7), "testBinarySearch - нечетных нет");
+        assertTrue(container.contains(998), "testBinarySearch - contains");
+        assertFalse(container.contains(null), "testBinarySearch - null");
+        assertFalse(container.contains("строка"), "testBinarySearch - несравнимый тип");
+    }
+
+    public void testNavigation() {
+        SortedContainer<Integer> container = new SortedContainer<>();
+        container.addAll(new Integer[] {10, 20, 20, 30});
+
+        assertEquals(20, container.floor(25), "testNavigation - floor");
+        assertEquals(20, container.floor(20), "testNavigation - floor равного");
+        assertEquals(null, container.floor(5), "testNavigation - floor ниже минимума");
+        assertEquals(30, container.ceiling(21), "testNavigation - ceiling");
+        assertEquals(null, container.ceiling(31), "testNavigation - ceiling выше максимума");
+        assertEquals(1, container.rank(20), "testNavigation - rank равного");
+        assertEquals(3, container.rank(25), "testNavigation - rank");
+        assertEquals(4, container.rank(100), "testNavigation - rank выше максимума");
+    }
+
+    public void testRangeQuery() {
+        SortedContainer<String> container = new SortedContainer<>();
+        container.addAll(new String[] {"груша", "арбуз", "вишня", "банан", "дыня"});
+
+        assertEquals("[банан, вишня, груша]", container.rangeQuery("б", "д").toString(),
+            "testRangeQuery - полуинтервал");
+        assertEquals("[]", container.rangeQuery("е", "я").toString(), "testRangeQuery - пустой диапазон");
+        assertEquals("[арбуз]", container.rangeQuery("арбуз", "арбузы").toString(),
+            "testRangeQuery - нижняя граница включительно");
+        assertThrows(() -> container.rangeQuery("д", "б"),
+            "Нижняя граница диапазона больше верхней", "testRangeQuery - перепутанные границы");
+    }
+
+    public void testComparator() {
+        SortedContainer<String> container = new SortedContainer<>(Comparator.comparingInt(String::length));
+        container.add("ccc");
+        container.add("a");
+        container.add("bb");
+        container.add("dd");
+
+        assertEquals("[a, bb, dd, ccc]", container.toString(), "testComparator - порядок по длине");
+        assertEquals(2, container.findIndex("dd"), "testComparator - равные по компаратору, но не по equals");
+        assertEquals(-1, container.findIndex("ee"), "testComparator - равный по длине отсутствует");
+        assertTrue(container.comparator() != null, "testComparator - компаратор сохранен");
+
+        container.addAll(new String[] {"eee", "b", "cc"});
+        assertEquals("[a, b, bb, dd, cc, ccc, eee]", container.toString(),
+            "testComparator - addAll сливает после равных элементов");
+    }
+
+    public void testBulkLoad() {
+        Random random = new Random(3);
+        ObjectContainer<Integer> source = new ObjectContainer<>();
+        for (int i = 0; i < 50000; i++) {
+            source.add(random.nextInt(100000));
+        }
+        SortedContainer<Integer> container = new SortedContainer<>();
+        container.addAll(source);
+        container.add(-1);
+
+        Object[] expected = source.toArray();
+        Arrays.sort(expected);
+        boolean sorted = container.get(0) == -1;
+        for (int i = 0; i < expected.length; i++) {
+            sorted &= expected[i].equals(container.get(i + 1));
+        }
+        assertTrue(sorted, "testBulkLoad - параллельная сортировка при загрузке");
+        assertEquals(50001, container.size(), "testBulkLoad - размер");
+        int probe = (Integer) expected[12345];
+        assertEquals(probe, container.get(container.findIndex(probe)), "testBulkLoad - поиск после загрузки");
+    }
+
+    public void testInvalidArguments() {
+        SortedContainer<Object> container = new SortedContainer<>();
+        assertThrows(() -> container.add(null),
+            "не принимает null", "testInvalidArguments - null");
+        assertThrows(() -> container.add(new Object()),
+            "не реализует Comparable", "testInvalidArguments - несравнимый элемент");
+        assertThrows(() -> container.addAll(new Object[] {1, null}),
+            "не принимает null", "testInvalidArguments - null в массиве");
+        assertTrue(container.isEmpty(), "testInvalidArguments - контейнер не изменился");
+
+        container.add(1);
+        container.add(5);
+        container.add(9);
+        assertThrows(() -> container.addAll(new Object[] {"x", 3}),
+            "нельзя", "testInvalidArguments - addAll с несравнимыми элементами");
+        assertThrows(() -> container.addAll(new Object[] {"x", "y"}),
+            "нельзя сравнить", "testInvalidArguments - addAll несравнимых с контейнером");
+        assertEquals("[1, 5, 9]", container.toString(), "testInvalidArguments - addAll не изменил контейнер");
+        assertThrows(() -> container.add("x"),
+            "нельзя сравнить", "testInvalidArguments - add несравнимого типа");
+        assertThrows(() -> container.floor("x"),
+            "нельзя сравнить", "testInvalidArguments - floor несравнимого типа");
+        assertThrows(() -> container.ceiling("x"),
+            "нельзя сравнить", "testInvalidArguments - ceiling несравнимого типа");
+        assertThrows(() -> container.rank("x"),
+            "нельзя сравнить", "testInvalidArguments - rank несравнимого типа");
+        assertEquals(-1, container.findIndex("x"), "testInvalidArguments - поиск несравнимого типа");
+        assertEquals(1, container.add(4), "testInvalidArguments - вставка после неудачных операций");
+        assertEquals(2, container.findIndex(5), "testInvalidArguments - поиск после неудачных операций");
+    }
+
+    @FunctionalInterface
+    private interface Runnable {
+        void run();
+    }
+}
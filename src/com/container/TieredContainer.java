@@ -0,0 +1,895 @@
+package com.container;
+
+import com.container.exceptions.ContainerException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Контейнер для данных, которые в основном добавляются в конец, а старые
+ * элементы читаются редко. Элементы хранятся сегментами по segmentSize:
+ * последние hotSegments сегментов (горячие) - обычными массивами ссылок,
+ * более старые полностью заполненные сегменты (холодные) сжимаются в массив байт.
+ * <p>
+ * В холодном сегменте String, Integer и Double хранятся без объектов:
+ * <ul>
+ *     <li>строки - номером в словаре сегмента, словарь хранит каждую
+ *         различную строку один раз в UTF-8;</li>
+ *     <li>Integer - разностью с предыдущим Integer сегмента в zigzag-varint;</li>
+ *     <li>Double с целым значением - так же, как Integer, по разности
+ *         с предыдущим таким Double, остальные Double - восемью байтами.</li>
+ * </ul>
+ * Тег типа занимает три младших бита того же varint, поэтому небольшие
+ * разности и номера строк занимают один байт на элемент.
+ * Сегмент, в котором есть элементы других типов, остается горячим.
+ * <p>
+ * get по холодному сегменту декодирует его целиком и кладет в LRU-кэш
+ * на cachedSegments сегментов, поэтому повторные обращения к тому же сегменту
+ * не декодируют его снова. findIndex и contains ищут в холодных сегментах
+ * без декодирования: строка сначала ищется в словаре сегмента, сегменты
+ * без элементов нужного типа пропускаются. set по холодному сегменту делает
+ * его снова горячим; compact сжимает такие сегменты повторно.
+ * <p>
+ * Вставка и удаление по индексу сдвигают все последующие элементы на одну
+ * позицию, поэтому сегмент с этим индексом и все сегменты после него
+ * становятся горячими до следующего вызова compact. Такие операции стоят
+ * O(size - index) и, в отличие от add в конец, увеличивают занятую память,
+ * если затрагивают холодную часть.
+ * <p>
+ * Контейнер не потокобезопасен, в том числе для одновременного чтения:
+ * get изменяет кэш.
+ *
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+public class TieredContainer implements Iterable<Object> {
+
+    /**
+     * Размер сегмента по умолчанию
+     */
+    public static final int DEFAULT_SEGMENT_SIZE = 1024;
+
+    /**
+     * Количество горячих сегментов по умолчанию
+     */
+    public static final int DEFAULT_HOT_SEGMENTS = 2;
+
+    /**
+     * Размер кэша декодированных сегментов по умолчанию
+     */
+    public static final int DEFAULT_CACHED_SEGMENTS = 8;
+
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte INT = 2;
+    private static final byte DOUBLE = 3;
+    private static final byte INTEGRAL_DOUBLE = 4;
+
+    /**
+     * Количество младших бит varint элемента, занятых тегом
+     */
+    private static final int TAG_BITS = 3;
+    private static final int TAG_MASK = (1 << TAG_BITS) - 1;
+
+    /**
+     * Наибольший модуль Double, целое значение которого хранится разностью
+     */
+    private static final double MAX_INTEGRAL_DOUBLE = 1L << 53;
+
+    /**
+     * Начальная длина массива нового горячего сегмента
+     */
+    private static final int INITIAL_SEGMENT_CAPACITY = 16;
+
+    /**
+     * Размер ссылки на объект в байтах (4 при сжатых указателях)
+     */
+    private static final int REFERENCE_BYTES = Runtime.getRuntime().maxMemory() < (32L << 30) ? 4 : 8;
+
+    private final int segmentSize;
+    private final int segmentShift;
+    private final int segmentMask;
+    private final int hotSegments;
+    private final int cachedSegments;
+
+    private Segment[] segments = new Segment[4];
+    private int segmentCount;
+    private int size;
+    private int modCount;
+
+    /**
+     * Декодированные холодные сегменты в порядке последнего обращения
+     */
+    private final LinkedHashMap<Segment, Object[]> cache;
+
+    private int coldSegments;
+    private long coldBytes;
+    private long cacheHits;
+    private long cacheMisses;
+
+    /**
+     * Создает контейнер с параметрами по умолчанию.
+     */
+    public TieredContainer() {
+        this(DEFAULT_SEGMENT_SIZE, DEFAULT_HOT_SEGMENTS, DEFAULT_CACHED_SEGMENTS);
+    }
+
+    /**
+     * Создает контейнер с указанными параметрами.
+     *
+     * @param segmentSize количество элементов в сегменте, степень двойки
+     * @param hotSegments сколько последних сегментов не сжимается, не меньше 1
+     * @param cachedSegments сколько декодированных холодных сегментов хранит кэш; 0 выключает кэш
+     * @throws ContainerException если параметр недопустим
+     */
+    public TieredContainer(int segmentSize, int hotSegments, int cachedSegments) {
+        if (segmentSize <= 0 || Integer.bitCount(segmentSize) != 1) {
+            throw new ContainerException("Размер сегмента должен быть степенью двойки: " + segmentSize);
+        }
+        if (hotSegments < 1) {
+            throw new ContainerException("Должен оставаться хотя бы один горячий сегмент: " + hotSegments);
+        }
+        if (cachedSegments < 0) {
+            throw new ContainerException("Размер кэша не может быть отрицательным: " + cachedSegments);
+        }
+        this.segmentSize = segmentSize;
+        this.segmentShift = Integer.numberOfTrailingZeros(segmentSize);
+        this.segmentMask = segmentSize - 1;
+        this.hotSegments = hotSegments;
+        this.cachedSegments = cachedSegments;
+        this.cache = new LinkedHashMap<Segment, Object[]>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Segment, Object[]> eldest) {
+                return size() > TieredContainer.this.cachedSegments;
+            }
+        };
+    }
+
+    /**
+     * Добавляет элемент в конец контейнера. Когда начинается новый сегмент,
+     * самый старый из горячих полностью заполненных сегментов сжимается.
+     *
+     * @param element элемент для добавления
+     * @return true
+     */
+    public boolean add(Object element) {
+        int offset = size & segmentMask;
+        if (offset == 0) {
+            startSegment();
+        }
+        Segment tail = segments[segmentCount - 1];
+        if (offset == tail.values.length) {
+            tail.values = Arrays.copyOf(tail.values, Math.min(offset * 2, segmentSize));
+        }
+        tail.values[offset] = element;
+        size++;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Вставляет элемент по индексу, сдвигая последующие элементы вправо.
+     * Холодные сегменты начиная с сегмента index становятся горячими.
+     *
+     * @param index позиция для вставки
+     * @param element элемент для вставки
+     * @throws ContainerException если индекс недопустим
+     */
+    public void add(int index, Object element) {
+        if (index < 0 || index > size) {
+            throw ContainerException.invalidInsertIndex(index, size);
+        }
+        if (index == size) {
+            add(element);
+            return;
+        }
+        add(null);
+        int first = index >>> segmentShift;
+        thawFrom(first);
+        int offset = index & segmentMask;
+        for (int s = segmentCount - 1; s >= first; s--) {
+            Object[] values = segments[s].values;
+            int from = s == first ? offset : 0;
+            int last = Math.min(segmentSize, size - (s << segmentShift)) - 1;
+            System.arraycopy(values, from, values, from + 1, last - from);
+            if (s > first) {
+                values[0] = segments[s - 1].values[segmentSize - 1];
+            }
+            segments[s].compressible = true;
+        }
+        segments[first].values[offset] = element;
+    }
+
+    /**
+     * Возвращает элемент по индексу. Холодный сегмент декодируется
+     * при первом обращении и берется из кэша при последующих.
+     *
+     * @param index индекс элемента
+     * @return элемент по указанному индексу
+     * @throws ContainerException если индекс недопустим
+     */
+    public Object get(int index) {
+        checkIndex(index);
+        Segment segment = segments[index >>> segmentShift];
+        Object[] values = segment.values;
+        if (values == null) {
+            values = cached(segment);
+        }
+        return values[index & segmentMask];
+    }
+
+    /**
+     * Заменяет элемент по индексу. Холодный сегмент при этом становится
+     * горячим до следующего вызова compact.
+     *
+     * @param index индекс элемента
+     * @param element новый элемент
+     * @return прежний элемент
+     * @throws ContainerException если индекс недопустим
+     */
+    public Object set(int index, Object element) {
+        checkIndex(index);
+        Segment segment = segments[index >>> segmentShift];
+        if (segment.values == null) {
+            thaw(segment);
+        }
+        int offset = index & segmentMask;
+        Object previous = segment.values[offset];
+        segment.values[offset] = element;
+        segment.compressible = true;
+        return previous;
+    }
+
+    /**
+     * Удаляет элемент по индексу, сдвигая последующие элементы влево.
+     * Холодные сегменты начиная с сегмента index становятся горячими.
+     *
+     * @param index индекс удаляемого элемента
+     * @return удаленный элемент
+     * @throws ContainerException если индекс недопустим
+     */
+    public Object remove(int index) {
+        checkIndex(index);
+        int first = index >>> segmentShift;
+        thawFrom(first);
+        int offset = index & segmentMask;
+        Object removed = segments[first].values[offset];
+        for (int s = first; s < segmentCount; s++) {
+            Object[] values = segments[s].values;
+            int from = s == first ? offset : 0;
+            int last = Math.min(segmentSize, size - (s << segmentShift)) - 1;
+            System.arraycopy(values, from + 1, values, from, last - from);
+            values[last] = s + 1 < segmentCount ? segments[s + 1].values[0] : null;
+            segments[s].compressible = true;
+        }
+        size--;
+        modCount++;
+        if ((size & segmentMask) == 0) {
+            segments[--segmentCount] = null;
+            // новый последний сегмент принимает add и должен быть горячим
+            if (segmentCount > 0 && segments[segmentCount - 1].values == null) {
+                thaw(segments[segmentCount - 1]);
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Удаляет первое вхождение указанного элемента.
+     *
+     * @param element элемент для удаления
+     * @return true если элемент был найден и удален
+     */
+    public boolean remove(Object element) {
+        int index = findIndex(element);
+        if (index == -1) {
+            return false;
+        }
+        remove(index);
+        return true;
+    }
+
+    /**
+     * Ищет индекс первого вхождения элемента. Холодные сегменты
+     * просматриваются в сжатом виде без создания объектов.
+     *
+     * @param element искомый элемент
+     * @return индекс элемента или -1 если не найден
+     */
+    public int findIndex(Object element) {
+        byte tag = tagOf(element);
+        byte[] key = tag == STRING ? ((String) element).getBytes(StandardCharsets.UTF_8) : null;
+        for (int s = 0; s < segmentCount; s++) {
+            Segment segment = segments[s];
+            int base = s << segmentShift;
+            if (segment.values != null) {
+                int count = Math.min(segmentSize, size - base);
+                for (int i = 0; i < count; i++) {
+                    if (Objects.equals(element, segment.values[i])) {
+                        return base + i;
+                    }
+                }
+            } else if (tag >= 0 && (segment.typeMask & (1 << tag)) != 0) {
+                int offset = new BlockReader(segment.block).find(tag, element, key);
+                if (offset >= 0) {
+                    return base + offset;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Проверяет наличие элемента в контейнере.
+     *
+     * @param element искомый элемент
+     * @return true если элемент найден
+     */
+    public boolean contains(Object element) {
+        return findIndex(element) != -1;
+    }
+
+    /**
+     * Сжимает все горячие сегменты, кроме последних hotSegments,
+     * например после set по холодным сегментам.
+     *
+     * @return количество сжатых сегментов
+     */
+    public int compact() {
+        int frozen = 0;
+        for (int s = 0; s < segmentCount - hotSegments; s++) {
+            Segment segment = segments[s];
+            if (segment.values != null && segment.compressible && freeze(segment)) {
+                frozen++;
+            }
+        }
+        return frozen;
+    }
+
+    /**
+     * Возвращает текущее количество элементов.
+     *
+     * @return количество элементов
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Проверяет, пуст ли контейнер.
+     *
+     * @return true если контейнер пуст
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Очищает контейнер, удаляя все элементы и сегменты.
+     */
+    public void clear() {
+        segments = new Segment[4];
+        segmentCount = 0;
+        size = 0;
+        cache.clear();
+        coldSegments = 0;
+        coldBytes = 0;
+        modCount++;
+    }
+
+    /**
+     * Возвращает массив со всеми элементами контейнера.
+     * Холодные сегменты декодируются без помещения в кэш.
+     *
+     * @return массив элементов
+     */
+    public Object[] toArray() {
+        Object[] result = new Object[size];
+        for (int s = 0; s < segmentCount; s++) {
+            int base = s << segmentShift;
+            System.arraycopy(valuesForScan(segments[s]), 0, result, base, Math.min(segmentSize, size - base));
+        }
+        return result;
+    }
+
+    /**
+     * Возвращает итератор по элементам. Холодные сегменты декодируются
+     * по одному без помещения в кэш, поэтому полный обход не вытесняет из кэша
+     * сегменты, к которым обращаются по индексу.
+     *
+     * @return итератор
+     * @throws ConcurrentModificationException при следующем next, если контейнер
+     *         изменился в обход итератора
+     */
+    @Override
+    public Iterator<Object> iterator() {
+        return new Iterator<Object>() {
+            private int cursor;
+            private Object[] current;
+            private final int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size;
+            }
+
+            @Override
+            public Object next() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (cursor >= size) {
+                    throw new NoSuchElementException();
+                }
+                int offset = cursor & segmentMask;
+                if (offset == 0) {
+                    current = valuesForScan(segments[cursor >>> segmentShift]);
+                }
+                cursor++;
+                return current[offset];
+            }
+        };
+    }
+
+    /**
+     * @return количество сжатых сегментов
+     */
+    public int getColdSegments() {
+        return coldSegments;
+    }
+
+    /**
+     * @return суммарный размер сжатых сегментов в байтах
+     */
+    public long getColdBytes() {
+        return coldBytes;
+    }
+
+    /**
+     * @return количество обращений к холодным сегментам, обслуженных кэшем
+     */
+    public long getCacheHits() {
+        return cacheHits;
+    }
+
+    /**
+     * @return количество декодирований холодных сегментов для get
+     */
+    public long getCacheMisses() {
+        return cacheMisses;
+    }
+
+    /**
+     * Оценивает объем памяти, удерживаемый самим контейнером: сегменты,
+     * массивы горячих сегментов, сжатые блоки и кэш. Как и в ObjectContainer,
+     * объекты элементов горячих сегментов и кэша не учитываются; элементы
+     * холодных сегментов входят в размер блоков.
+     *
+     * @return оценка в байтах
+     */
+    public long estimatedRetainedBytes() {
+        long bytes = alignTo8(16 + 2L * REFERENCE_BYTES + 9L * Integer.BYTES + 3L * Long.BYTES);
+        bytes += alignTo8(16 + (long) segments.length * REFERENCE_BYTES);
+        for (int s = 0; s < segmentCount; s++) {
+            Segment segment = segments[s];
+            bytes += alignTo8(12 + 2L * REFERENCE_BYTES + 2);
+            if (segment.values != null) {
+                bytes += alignTo8(16 + (long) segment.values.length * REFERENCE_BYTES);
+            } else {
+                bytes += alignTo8(16 + (long) segment.block.length);
+            }
+        }
+        for (Object[] values : cache.values()) {
+            bytes += alignTo8(16 + 4L * REFERENCE_BYTES + Integer.BYTES);
+            bytes += alignTo8(16 + (long) values.length * REFERENCE_BYTES);
+        }
+        return bytes;
+    }
+
+    /**
+     * Добавляет новый горячий сегмент и сжимает сегмент, который
+     * перестал входить в число hotSegments последних.
+     */
+    private void startSegment() {
+        if (segmentCount == segments.length) {
+            segments = Arrays.copyOf(segments, segmentCount * 2);
+        }
+        segments[segmentCount++] = new Segment(new Object[Math.min(INITIAL_SEGMENT_CAPACITY, segmentSize)]);
+        int coldest = segmentCount - 1 - hotSegments;
+        if (coldest >= 0 && segments[coldest].values != null && segments[coldest].compressible) {
+            freeze(segments[coldest]);
+        }
+    }
+
+    /**
+     * Сжимает полный горячий сегмент.
+     *
+     * @param segment сегмент
+     * @return true если сегмент сжат, false если в нем есть элементы неподдерживаемых типов
+     */
+    private boolean freeze(Segment segment) {
+        int typeMask = 0;
+        for (Object value : segment.values) {
+            byte tag = tagOf(value);
+            if (tag < 0) {
+                segment.compressible = false;
+                return false;
+            }
+            typeMask |= 1 << tag;
+        }
+        segment.block = BlockWriter.encode(segment.values);
+        segment.typeMask = (byte) typeMask;
+        segment.values = null;
+        coldSegments++;
+        coldBytes += segment.block.length;
+        return true;
+    }
+
+    /**
+     * Делает холодный сегмент горячим.
+     *
+     * @param segment сегмент
+     */
+    private void thaw(Segment segment) {
+        Object[] values = cache.remove(segment);
+        segment.values = values != null ? values : new BlockReader(segment.block).decode(segmentSize);
+        coldSegments--;
+        coldBytes -= segment.block.length;
+        segment.block = null;
+    }
+
+    /**
+     * Делает горячими все холодные сегменты начиная с указанного.
+     *
+     * @param first номер первого сегмента
+     */
+    private void thawFrom(int first) {
+        for (int s = first; s < segmentCount; s++) {
+            if (segments[s].values == null) {
+                thaw(segments[s]);
+            }
+        }
+    }
+
+    /**
+     * Возвращает элементы холодного сегмента из кэша, декодируя их при промахе.
+     *
+     * @param segment холодный сегмент
+     * @return элементы сегмента
+     */
+    private Object[] cached(Segment segment) {
+        Object[] values = cache.get(segment);
+        if (values != null) {
+            cacheHits++;
+            return values;
+        }
+        cacheMisses++;
+        values = new BlockReader(segment.block).decode(segmentSize);
+        if (cachedSegments > 0) {
+            cache.put(segment, values);
+        }
+        return values;
+    }
+
+    /**
+     * Возвращает элементы сегмента для последовательного просмотра,
+     * не изменяя кэш.
+     *
+     * @param segment сегмент
+     * @return элементы сегмента
+     */
+    private Object[] valuesForScan(Segment segment) {
+        if (segment.values != null) {
+            return segment.values;
+        }
+        Object[] values = cache.get(segment);
+        return values != null ? values : new BlockReader(segment.block).decode(segmentSize);
+    }
+
+    /**
+     * Возвращает тег типа для сжатого хранения.
+     *
+     * @param value элемент
+     * @return тег или -1, если тип не сжимается
+     */
+    private static byte tagOf(Object value) {
+        if (value == null) {
+            return NULL;
+        }
+        Class<?> type = value.getClass();
+        if (type == String.class) {
+            return STRING;
+        }
+        if (type == Integer.class) {
+            return INT;
+        }
+        if (type == Double.class) {
+            return isIntegral((Double) value) ? INTEGRAL_DOUBLE : DOUBLE;
+        }
+        return -1;
+    }
+
+    /**
+     * Проверяет, что Double без потерь представим значением long по модулю до 2^53.
+     */
+    private static boolean isIntegral(double value) {
+        return value == Math.rint(value) && Math.abs(value) <= MAX_INTEGRAL_DOUBLE
+            && Double.doubleToRawLongBits(value) != Double.doubleToRawLongBits(-0.0);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw ContainerException.indexOutOfRange(index, size);
+        }
+    }
+
+    private static long alignTo8(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+
+    /**
+     * Сегмент: массив ссылок, пока он горячий, или сжатый блок.
+     */
+    private static final class Segment {
+
+        /**
+         * Элементы горячего сегмента или null у холодного
+         */
+        Object[] values;
+
+        /**
+         * Сжатые элементы холодного сегмента или null у горячего
+         */
+        byte[] block;
+
+        /**
+         * Теги, встречающиеся в блоке, по биту на тег
+         */
+        byte typeMask;
+
+        /**
+         * false, если в сегменте есть элементы неподдерживаемых типов
+         */
+        boolean compressible = true;
+
+        Segment(Object[] values) {
+            this.values = values;
+        }
+    }
+
+    /**
+     * Кодирует сегмент в блок: словарь строк (количество, затем длина и байты
+     * UTF-8 каждой строки), затем для каждого элемента varint, в младших битах
+     * которого тег, а в старших - номер строки или zigzag-разность целого.
+     * Double с дробной частью дополнительно записывается восемью байтами.
+     */
+    private static final class BlockWriter {
+
+        private byte[] buffer = new byte[256];
+        private int length;
+
+        /**
+         * Кодирует элементы сегмента поддерживаемых типов.
+         *
+         * @param values элементы сегмента
+         * @return блок
+         */
+        static byte[] encode(Object[] values) {
+            Map<String, Integer> dictionary = new HashMap<>();
+            BlockWriter strings = new BlockWriter();
+            BlockWriter body = new BlockWriter();
+            long previousInt = 0;
+            long previousIntegral = 0;
+            for (Object value : values) {
+                byte tag = tagOf(value);
+                long payload = 0;
+                switch (tag) {
+                    case STRING:
+                        Integer id = dictionary.get(value);
+                        if (id == null) {
+                            id = dictionary.size();
+                            dictionary.put((String) value, id);
+                            byte[] bytes = ((String) value).getBytes(StandardCharsets.UTF_8);
+                            strings.writeVarLong(bytes.length);
+                            strings.writeBytes(bytes, bytes.length);
+                        }
+                        payload = id;
+                        break;
+                    case INT:
+                        int intValue = (Integer) value;
+                        payload = zigzag(intValue - previousInt);
+                        previousInt = intValue;
+                        break;
+                    case INTEGRAL_DOUBLE:
+                        long integral = (long) (double) (Double) value;
+                        payload = zigzag(integral - previousIntegral);
+                        previousIntegral = integral;
+                        break;
+                    default:
+                        break;
+                }
+                body.writeVarLong(payload << TAG_BITS | tag);
+                if (tag == DOUBLE) {
+                    long bits = Double.doubleToRawLongBits((Double) value);
+                    for (int shift = 56; shift >= 0; shift -= 8) {
+                        body.writeByte((byte) (bits >>> shift));
+                    }
+                }
+            }
+            BlockWriter block = new BlockWriter();
+            block.writeVarLong(dictionary.size());
+            block.writeBytes(strings.buffer, strings.length);
+            block.writeBytes(body.buffer, body.length);
+            return Arrays.copyOf(block.buffer, block.length);
+        }
+
+        private void writeByte(int value) {
+            if (length == buffer.length) {
+                buffer = Arrays.copyOf(buffer, length * 2);
+            }
+            buffer[length++] = (byte) value;
+        }
+
+        private void writeBytes(byte[] bytes, int count) {
+            if (length + count > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(length * 2, length + count));
+            }
+            System.arraycopy(bytes, 0, buffer, length, count);
+            length += count;
+        }
+
+        private void writeVarLong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                writeByte((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            writeByte((int) value);
+        }
+
+        private static long zigzag(long value) {
+            return (value << 1) ^ (value >> 63);
+        }
+    }
+
+    /**
+     * Последовательное чтение блока, записанного BlockWriter.
+     */
+    private static final class BlockReader {
+
+        private final byte[] block;
+        private int position;
+
+        BlockReader(byte[] block) {
+            this.block = block;
+        }
+
+        /**
+         * Декодирует все элементы блока.
+         *
+         * @param count количество элементов в сегменте
+         * @return массив элементов
+         */
+        Object[] decode(int count) {
+            String[] dictionary = new String[(int) readVarLong()];
+            for (int i = 0; i < dictionary.length; i++) {
+                int length = (int) readVarLong();
+                dictionary[i] = new String(block, position, length, StandardCharsets.UTF_8);
+                position += length;
+            }
+            Object[] values = new Object[count];
+            long previousInt = 0;
+            long previousIntegral = 0;
+            for (int i = 0; i < count; i++) {
+                long header = readVarLong();
+                long payload = header >>> TAG_BITS;
+                switch ((int) (header & TAG_MASK)) {
+                    case STRING:
+                        values[i] = dictionary[(int) payload];
+                        break;
+                    case INT:
+                        previousInt += unzigzag(payload);
+                        values[i] = (int) previousInt;
+                        break;
+                    case INTEGRAL_DOUBLE:
+                        previousIntegral += unzigzag(payload);
+                        values[i] = (double) previousIntegral;
+                        break;
+                    case DOUBLE:
+                        values[i] = Double.longBitsToDouble(readLong());
+                        break;
+                    default:
+                        break;
+                }
+            }
+            return values;
+        }
+
+        /**
+         * Ищет первый элемент, равный ключу, не создавая объектов.
+         *
+         * @param tag тег ключа
+         * @param key ключ
+         * @param utf8 байты ключа-строки или null
+         * @return смещение элемента в сегменте или -1
+         */
+        int find(byte tag, Object key, byte[] utf8) {
+            long wanted = -1;
+            int dictionarySize = (int) readVarLong();
+            for (int i = 0; i < dictionarySize; i++) {
+                int length = (int) readVarLong();
+                if (utf8 != null && wanted < 0 && Arrays.equals(block, position, position + length, utf8, 0, utf8.length)) {
+                    wanted = i;
+                }
+                position += length;
+            }
+            if (tag == STRING && wanted < 0) {
+                return -1;
+            }
+            long keyBits = tag == DOUBLE ? Double.doubleToLongBits((Double) key) : 0;
+            long keyLong = tag == INT ? (Integer) key : tag == INTEGRAL_DOUBLE ? (long) (double) (Double) key : 0;
+            long previousInt = 0;
+            long previousIntegral = 0;
+            for (int offset = 0; position < block.length; offset++) {
+                long header = readVarLong();
+                long payload = header >>> TAG_BITS;
+                boolean match = false;
+                switch ((int) (header & TAG_MASK)) {
+                    case NULL:
+                        match = tag == NULL;
+                        break;
+                    case STRING:
+                        match = payload == wanted;
+                        break;
+                    case INT:
+                        previousInt += unzigzag(payload);
+                        match = tag == INT && previousInt == keyLong;
+                        break;
+                    case INTEGRAL_DOUBLE:
+                        previousIntegral += unzigzag(payload);
+                        match = tag == INTEGRAL_DOUBLE && previousIntegral == keyLong;
+                        break;
+                    case DOUBLE:
+                        // восемь байт значения пропускаются и при поиске других типов
+                        long bits = readLong();
+                        match = tag == DOUBLE && Double.doubleToLongBits(Double.longBitsToDouble(bits)) == keyBits;
+                        break;
+                    default:
+                        break;
+                }
+                if (match) {
+                    return offset;
+                }
+            }
+            return -1;
+        }
+
+        private long readVarLong() {
+            long result = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte b = block[position++];
+                result |= (long) (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return result;
+                }
+            }
+        }
+
+        private long readLong() {
+            long result = 0;
+            for (int i = 0; i < Long.BYTES; i++) {
+                result = (result << 8) | (block[position++] & 0xFF);
+            }
+            return result;
+        }
+
+        private static long unzigzag(long value) {
+            return (value >>> 1) ^ -(value & 1);
+        }
+    }
+}
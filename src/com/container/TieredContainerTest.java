@@ -0,0 +1,347 @@
+package com.container;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Тесты для класса TieredContainer без использования JUnit
+ *
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+public class TieredContainerTest {
+
+    private int testCount = 0;
+    private int passedTests = 0;
+    private List<String> failedTests = new ArrayList<>();
+
+    /**
+     * Запуск всех тестов
+     */
+    public static void main(String[] args) {
+        TieredContainerTest tester = new TieredContainerTest();
+        tester.runAllTests();
+    }
+
+    /**
+     * Запускает все тесты и выводит результаты
+     */
+    public void runAllTests() {
+        System.out.println("=== Запуск тестов TieredContainer ===\n");
+
+        testAddAndGet();
+        testColdRoundTrip();
+        testFindInColdSegments();
+        testUnsupportedTypesStayHot();
+        testCache();
+        testSetAndCompact();
+        testInsertAndRemove();
+        testMatchesObjectContainer();
+        testIteration();
+        testMemoryEstimate();
+        testInvalidArguments();
+
+        System.out.println("\n=== Результаты тестов ===");
+        System.out.println("Пройдено: " + passedTests + " из " + testCount + " тестов");
+
+        if (passedTests == testCount) {
+            System.out.println(" Все тесты прошли успешно!");
+        } else {
+            System.out.println(" Не все тесты прошли");
+            System.out.println("\n=== Проваленные тесты ===");
+            for (String failedTest : failedTests) {
+                System.out.println(" " + failedTest);
+            }
+        }
+    }
+
+    private void assertTrue(boolean condition, String message) {
+        testCount++;
+        if (condition) {
+            passedTests++;
+            System.out.println("прошли " + message);
+        } else {
+            failedTests.add(message);
+            System.out.println("не прошли " + message);
+        }
+    }
+
+    private void assertFalse(boolean condition, String message) {
+        assertTrue(!condition, message);
+    }
+
+    private void assertEquals(Object expected, Object actual, String message) {
+        testCount++;
+        boolean isEqual = (expected == null) ? actual == null : expected.equals(actual);
+        if (isEqual) {
+            passedTests++;
+            System.out.println("прошли " + message);
+        } else {
+            failedTests.add(message + " (ожидалось: " + expected + ", получено: " + actual + ")");
+            System.out.println("не прошли " + message + " (ожидалось: " + expected + ", получено: " + actual + ")");
+        }
+    }
+
+    private void assertThrows(Runnable code, String expectedMessage, String testName) {
+        testCount++;
+        try {
+            code.run();
+            failedTests.add(testName + " (ожидалось исключение)");
+            System.out.println("не прошли " + testName + " (ожидалось исключение)");
+        } catch (Exception e) {
+            if (e.getMessage().contains(expectedMessage)) {
+                passedTests++;
+                System.out.println("прошли " + testName);
+            } else {
+                failedTests.add(testName + " (неверное сообщение исключения: " + e.getMessage() + ")");
+                System.out.println("не прошли " + testName + " (неверное сообщение исключения: " + e.getMessage() + ")");
+            }
+        }
+    }
+
+    public void testAddAndGet() {
+        TieredContainer container = new TieredContainer(16, 1, 2);
+        assertTrue(container.isEmpty(), "testAddAndGet - пустой контейнер");
+        for (int i = 0; i < 100; i++) {
+            container.add(i);
+        }
+        assertEquals(100, container.size(), "testAddAndGet - size");
+        assertEquals(0, container.get(0), "testAddAndGet - первый элемент");
+        assertEquals(99, container.get(99), "testAddAndGet - последний элемент");
+        assertEquals(6, container.getColdSegments(), "testAddAndGet - сжаты все полные сегменты, кроме последнего");
+        assertEquals(17, container.get(17), "testAddAndGet - элемент холодного сегмента");
+    }
+
+    public void testColdRoundTrip() {
+        Object[] values = {
+            "альфа", "beta", "альфа", "", "\uD83D\uDE00", null,
+            0, -1, Integer.MAX_VALUE, Integer.MIN_VALUE, 42,
+            1.0, -0.0, 0.0, 2.5, Double.NaN, 1e300, -(double) (1L << 53), Double.NEGATIVE_INFINITY, 7.0
+        };
+        TieredContainer container = new TieredContainer(32, 1, 0);
+        for (int round = 0; round < 4; round++) {
+            for (Object value : values) {
+                container.add(value);
+            }
+        }
+        assertTrue(container.getColdSegments() >= 1, "testColdRoundTrip - есть холодные сегменты");
+        boolean same = true;
+        for (int i = 0; i < container.size(); i++) {
+            Object expected = values[i % values.length];
+            Object actual = container.get(i);
+            same &= expected == null ? actual == null : expected.equals(actual) && expected.getClass() == actual.getClass();
+        }
+        assertTrue(same, "testColdRoundTrip - все значения восстановлены с типами");
+    }
+
+    public void testFindInColdSegments() {
+        TieredContainer container = new TieredContainer(16, 1, 2);
+        for (int i = 0; i < 64; i++) {
+            container.add(i % 2 == 0 ? "строка-" + i : (Object) (double) i);
+        }
+        container.add(null);
+        for (int i = 0; i < 16; i++) {
+            container.add(i);
+        }
+        assertEquals(5, container.getColdSegments(), "testFindInCold - холодные сегменты");
+        assertEquals(10, container.findIndex("строка-10"), "testFindInCold - строка в словаре");
+        assertEquals(-1, container.findIndex("строка-11"), "testFindInCold - строки нет в словарях");
+        assertEquals(33, container.findIndex(33.0), "testFindInCold - Double с целым значением");
+        assertEquals(-1, container.findIndex(33), "testFindInCold - Integer не равен Double");
+        assertEquals(64, container.findIndex(null), "testFindInCold - null");
+        assertEquals(70, container.findIndex(5), "testFindInCold - Integer после null");
+        assertFalse(container.contains(new StringBuilder("строка-10")), "testFindInCold - другой тип");
+        assertEquals(0L, container.getCacheMisses(), "testFindInCold - поиск не декодирует сегменты");
+    }
+
+    public void testUnsupportedTypesStayHot() {
+        TieredContainer container = new TieredContainer(16, 1, 2);
+        for (int i = 0; i < 48; i++) {
+            container.add(i == 3 ? new StringBuilder("изменяемый") : (Object) i);
+        }
+        assertEquals(1, container.getColdSegments(), "testUnsupportedTypes - сегмент с другим типом не сжат");
+        assertEquals("изменяемый", container.get(3).toString(), "testUnsupportedTypes - элемент доступен");
+        container.set(3, "строка");
+        assertEquals(1, container.compact(), "testUnsupportedTypes - сжат после замены");
+        assertEquals("строка", container.get(3), "testUnsupportedTypes - значение после сжатия");
+    }
+
+    public void testCache() {
+        TieredContainer container = new TieredContainer(16, 1, 2);
+        for (int i = 0; i < 80; i++) {
+            container.add("значение-" + (i % 5));
+        }
+        container.get(0);
+        container.get(1);
+        assertEquals(1L, container.getCacheMisses(), "testCache - первое обращение декодирует");
+        assertEquals(1L, container.getCacheHits(), "testCache - повторное обращение из кэша");
+        container.get(16);
+        container.get(32);
+        container.get(0);
+        assertEquals(4L, container.getCacheMisses(), "testCache - вытеснение самого старого сегмента");
+        container.get(32);
+        assertEquals(2L, container.getCacheHits(), "testCache - недавний сегмент в кэше");
+
+        TieredContainer uncached = new TieredContainer(16, 1, 0);
+        for (int i = 0; i < 32; i++) {
+            uncached.add(i);
+        }
+        uncached.get(0);
+        uncached.get(1);
+        assertEquals(2L, uncached.getCacheMisses(), "testCache - без кэша каждый get декодирует");
+    }
+
+    public void testSetAndCompact() {
+        TieredContainer container = new TieredContainer(16, 1, 2);
+        for (int i = 0; i < 48; i++) {
+            container.add(i);
+        }
+        assertEquals(2, container.getColdSegments(), "testSetAndCompact - холодные сегменты");
+        container.get(5);
+        assertEquals(5, container.set(5, "пять"), "testSetAndCompact - прежнее значение");
+        assertEquals(1, container.getColdSegments(), "testSetAndCompact - сегмент стал горячим");
+        assertEquals("пять", container.get(5), "testSetAndCompact - новое значение");
+        assertEquals(1, container.compact(), "testSetAndCompact - compact");
+        assertEquals(2, container.getColdSegments(), "testSetAndCompact - сегмент снова холодный");
+        assertEquals("пять", container.get(5), "testSetAndCompact - значение после compact");
+        assertEquals(6, container.get(6), "testSetAndCompact - соседнее значение");
+        container.clear();
+        assertEquals(0, container.size(), "testSetAndCompact - clear");
+        assertEquals(0L, container.getColdBytes(), "testSetAndCompact - clear освобождает блоки");
+    }
+
+    public void testInsertAndRemove() {
+        TieredContainer container = new TieredContainer(16, 1, 2);
+        for (int i = 0; i < 48; i++) {
+            container.add(i);
+        }
+        assertEquals(2, container.getColdSegments(), "testInsertAndRemove - холодные сегменты");
+        container.add(20, "вставка");
+        assertEquals(49, container.size(), "testInsertAndRemove - размер после вставки");
+        assertEquals("вставка", container.get(20), "testInsertAndRemove - вставленный элемент");
+        assertEquals(31, container.get(32), "testInsertAndRemove - сдвиг через границу сегмента");
+        assertEquals(47, container.get(48), "testInsertAndRemove - последний элемент");
+        assertEquals(1, container.getColdSegments(), "testInsertAndRemove - сегмент до индекса остался холодным");
+
+        assertEquals(5, container.remove(5), "testInsertAndRemove - удаленный элемент");
+        assertEquals(0, container.getColdSegments(), "testInsertAndRemove - удаление размораживает сегменты");
+        assertTrue(container.remove("вставка"), "testInsertAndRemove - удаление по значению");
+        assertFalse(container.remove("нет такого"), "testInsertAndRemove - отсутствующий элемент");
+        assertEquals(47, container.size(), "testInsertAndRemove - размер после удалений");
+        assertEquals(6, container.get(5), "testInsertAndRemove - сдвиг влево");
+        assertEquals(2, container.compact(), "testInsertAndRemove - compact сжимает сдвинутые сегменты");
+        assertEquals(32, container.get(31), "testInsertAndRemove - значение после compact");
+
+        container.remove(46);
+        container.remove(45);
+        container.add("после удаления последнего сегмента");
+        assertEquals("после удаления последнего сегмента", container.get(45),
+                    "testInsertAndRemove - добавление после удаления сегмента");
+        assertThrows(() -> container.add(100, 1), "Недопустимый индекс", "testInsertAndRemove - вставка за пределы");
+        assertThrows(() -> container.remove(46), "Индекс за пределами", "testInsertAndRemove - удаление за пределы");
+    }
+
+    public void testMatchesObjectContainer() {
+        TieredContainer tiered = new TieredContainer(8, 1, 2);
+        ObjectContainer<Object> plain = new ObjectContainer<>();
+        Random random = new Random(24);
+        for (int step = 0; step < 4000; step++) {
+            int operation = random.nextInt(10);
+            Object value = step % 5 == 0 ? "строка-" + step % 7 : step % 5 == 1 ? (Object) (step * 0.5) : step;
+            if (operation < 5 || plain.isEmpty()) {
+                tiered.add(value);
+                plain.add(value);
+            } else if (operation < 7) {
+                int position = random.nextInt(plain.size() + 1);
+                tiered.add(position, value);
+                plain.add(position, value);
+            } else if (operation < 9) {
+                int position = random.nextInt(plain.size());
+                tiered.remove(position);
+                plain.remove(position);
+            } else {
+                tiered.compact();
+            }
+        }
+        assertEquals(Arrays.toString(plain.toArray()), Arrays.toString(tiered.toArray()),
+                    "testMatchesObjectContainer - совпадает с ObjectContainer");
+        boolean same = true;
+        for (int i = 0; i < plain.size(); i += 3) {
+            same &= java.util.Objects.equals(plain.get(i), tiered.get(i));
+        }
+        assertTrue(same, "testMatchesObjectContainer - get");
+        boolean found = true;
+        for (Object key : new Object[] {"строка-3", "строка-6", 7, 10.5, 12.0, null}) {
+            found &= plain.findIndex(key) == tiered.findIndex(key);
+        }
+        assertTrue(found, "testMatchesObjectContainer - findIndex");
+    }
+
+    public void testIteration() {
+        Random random = new Random(3);
+        TieredContainer container = new TieredContainer(64, 2, 1);
+        ObjectContainer<Object> expected = new ObjectContainer<>();
+        for (int i = 0; i < 1000; i++) {
+            Object value = random.nextBoolean() ? (Object) random.nextInt(1000) : "s" + random.nextInt(20);
+            container.add(value);
+            expected.add(value);
+        }
+        List<Object> iterated = new ArrayList<>();
+        for (Object value : container) {
+            iterated.add(value);
+        }
+        assertEquals(expected.toString(), iterated.toString(), "testIteration - итератор");
+        assertEquals(expected.toString(), Arrays.toString(container.toArray()), "testIteration - toArray");
+        assertEquals(0L, container.getCacheMisses(), "testIteration - обход не заполняет кэш");
+
+        boolean failed = false;
+        try {
+            Iterator<Object> iterator = container.iterator();
+            iterator.next();
+            container.add("новый");
+            iterator.next();
+        } catch (ConcurrentModificationException e) {
+            failed = true;
+        }
+        assertTrue(failed, "testIteration - быстрый отказ итератора");
+    }
+
+    public void testMemoryEstimate() {
+        TieredContainer tiered = new TieredContainer();
+        ObjectContainer<Object> plain = new ObjectContainer<>();
+        for (int i = 0; i < 100000; i++) {
+            Object value = i % 3 == 0 ? "категория-" + (i % 7) : (Object) (1000 + i);
+            tiered.add(value);
+            plain.add(value);
+        }
+        assertTrue(tiered.getColdSegments() > 90, "testMemoryEstimate - большая часть сегментов сжата");
+        assertTrue(tiered.estimatedRetainedBytes() * 2 < plain.estimatedRetainedBytes(),
+            "testMemoryEstimate - сжатые блоки меньше массива ссылок");
+        assertTrue(tiered.getColdBytes() < 2L * tiered.getColdSegments() * TieredContainer.DEFAULT_SEGMENT_SIZE,
+            "testMemoryEstimate - меньше 2 байт на элемент");
+    }
+
+    public void testInvalidArguments() {
+        assertThrows(() -> new TieredContainer(100, 1, 1), "Размер сегмента должен быть степенью двойки: 100",
+            "testInvalidArguments - размер сегмента");
+        assertThrows(() -> new TieredContainer(16, 0, 1), "Должен оставаться хотя бы один горячий сегмент",
+            "testInvalidArguments - горячие сегменты");
+        assertThrows(() -> new TieredContainer(16, 1, -1), "Размер кэша не может быть отрицательным",
+            "testInvalidArguments - кэш");
+        TieredContainer container = new TieredContainer();
+        container.add("А");
+        assertThrows(() -> container.get(1), "Индекс за пределами диапазона: 1. Размер контейнера: 1",
+            "testInvalidArguments - get за границей");
+        assertThrows(() -> container.set(-1, "Б"), "Индекс за пределами диапазона: -1",
+            "testInvalidArguments - set за границей");
+    }
+
+    @FunctionalInterface
+    private interface Runnable {
+        void run();
+    }
+}
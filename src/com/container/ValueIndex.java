@@ -0,0 +1,201 @@
+package com.container;
+
+import java.util.HashMap;
+import java.util.Objects;
+
+/**
+ * Хеш-индекс значений контейнера для поиска за O(1).
+ * Для каждого различного значения хранит позицию первого вхождения
+ * и количество вхождений. Поддерживает null и дубликаты.
+ * <p>
+ * Вставка и удаление в середине сдвигают позиции: индекс корректирует
+ * первые вхождения всех различных значений, что по порядку совпадает
+ * со стоимостью сдвига самого массива. Значения должны иметь стабильные
+ * equals и hashCode, пока находятся в контейнере.
+ *
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+final class ValueIndex {
+
+    /**
+     * Приблизительный размер одной записи индекса в байтах:
+     * узел HashMap (32), объект Slot (24) и ссылка в таблице HashMap (8)
+     */
+    static final int BYTES_PER_ENTRY = 64;
+
+    /**
+     * Сведения об одном различном значении.
+     */
+    private static final class Slot {
+        /**
+         * Позиция первого вхождения
+         */
+        int first;
+
+        /**
+         * Количество вхождений
+         */
+        int count;
+    }
+
+    /**
+     * Записи индекса по значению
+     */
+    private final HashMap<Object, Slot> slots = new HashMap<>();
+
+    /**
+     * Перестраивает индекс по содержимому массива.
+     *
+     * @param elements массив элементов
+     * @param size количество элементов
+     */
+    void rebuild(Object[] elements, int size) {
+        slots.clear();
+        for (int i = 0; i < size; i++) {
+            appended(elements[i], i);
+        }
+    }
+
+    /**
+     * Учитывает элемент, добавленный в конец.
+     *
+     * @param element добавленный элемент
+     * @param position позиция элемента
+     */
+    void appended(Object element, int position) {
+        Slot slot = slots.get(element);
+        if (slot == null) {
+            slot = new Slot();
+            slot.first = position;
+            slots.put(element, slot);
+        }
+        slot.count++;
+    }
+
+    /**
+     * Учитывает элемент, вставленный в середину; последующие позиции сдвигаются вправо.
+     *
+     * @param element вставленный элемент
+     * @param position позиция вставки
+     */
+    void inserted(Object element, int position) {
+        shift(position, 1);
+        Slot slot = slots.get(element);
+        if (slot == null) {
+            slot = new Slot();
+            slot.first = position;
+            slots.put(element, slot);
+        } else if (position < slot.first) {
+            slot.first = position;
+        }
+        slot.count++;
+    }
+
+    /**
+     * Учитывает удаление элемента. Вызывается после сдвига массива.
+     *
+     * @param element удаленный элемент
+     * @param position позиция, с которой был удален элемент
+     * @param elements массив элементов после сдвига
+     * @param size количество элементов после удаления
+     */
+    void removed(Object element, int position, Object[] elements, int size) {
+        Slot slot = slots.get(element);
+        shift(position + 1, -1);
+        if (--slot.count == 0) {
+            slots.remove(element);
+        } else if (slot.first == position) {
+            slot.first = scan(element, position, elements, size);
+        }
+    }
+
+    /**
+     * Учитывает замену элемента на месте. Вызывается после записи нового элемента в массив.
+     *
+     * @param previous прежний элемент
+     * @param element новый элемент
+     * @param position позиция замены
+     * @param elements массив элементов после замены
+     * @param size количество элементов
+     */
+    void replaced(Object previous, Object element, int position, Object[] elements, int size) {
+        if (Objects.equals(previous, element)) {
+            return;
+        }
+        Slot slot = slots.get(previous);
+        if (--slot.count == 0) {
+            slots.remove(previous);
+        } else if (slot.first == position) {
+            slot.first = scan(previous, position + 1, elements, size);
+        }
+        slot = slots.get(element);
+        if (slot == null) {
+            slot = new Slot();
+            slot.first = position;
+            slots.put(element, slot);
+        } else if (position < slot.first) {
+            slot.first = position;
+        }
+        slot.count++;
+    }
+
+    /**
+     * Возвращает позицию первого вхождения значения.
+     *
+     * @param element искомое значение
+     * @return позиция или -1 если значение отсутствует
+     */
+    int firstIndex(Object element) {
+        Slot slot = slots.get(element);
+        return slot == null ? -1 : slot.first;
+    }
+
+    /**
+     * Удаляет все записи индекса.
+     */
+    void clear() {
+        slots.clear();
+    }
+
+    /**
+     * Возвращает приблизительный объем памяти, занимаемый индексом.
+     *
+     * @return оценка в байтах
+     */
+    long estimatedBytes() {
+        return (long) slots.size() * BYTES_PER_ENTRY;
+    }
+
+    /**
+     * Сдвигает первые вхождения, начиная с позиции from.
+     *
+     * @param from наименьшая сдвигаемая позиция
+     * @param delta величина сдвига
+     */
+    private void shift(int from, int delta) {
+        for (Slot slot : slots.values()) {
+            if (slot.first >= from) {
+                slot.first += delta;
+            }
+        }
+    }
+
+    /**
+     * Ищет следующее вхождение значения в массиве.
+     *
+     * @param element искомое значение
+     * @param from позиция начала поиска
+     * @param elements массив элементов
+     * @param size количество элементов
+     * @return позиция вхождения или -1
+     */
+    private static int scan(Object element, int from, Object[] elements, int size) {
+        for (int i = from; i < size; i++) {
+            if (Objects.equals(element, elements[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
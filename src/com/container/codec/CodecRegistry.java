@@ -0,0 +1,159 @@
+package com.container.codec;
+
+import com.container.exceptions.ContainerException;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Реестр кодеков переменного размера с однобайтовыми тегами типов.
+ * Тег записывается перед каждым элементом двоичного файла, тег 0 зарезервирован
+ * для null. Тот же набор тегов должен быть зарегистрирован при чтении файла,
+ * что и при записи: файл хранит таблицу тегов с именами классов и сверяет ее с реестром.
+ * Реестр настраивается до использования и после этого только читается.
+ *
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+public final class CodecRegistry {
+
+    /**
+     * Тег значения null
+     */
+    public static final int NULL_TAG = 0;
+
+    /**
+     * Наибольший допустимый тег
+     */
+    public static final int MAX_TAG = 255;
+
+    /**
+     * Кодеки по тегу
+     */
+    private final TypeCodec<?>[] codecs = new TypeCodec<?>[MAX_TAG + 1];
+
+    /**
+     * Теги по классу элементов
+     */
+    private final Map<Class<?>, Integer> tags = new HashMap<>();
+
+    /**
+     * Создает пустой реестр.
+     */
+    public CodecRegistry() {
+    }
+
+    /**
+     * Создает реестр со встроенными кодеками:
+     * String - тег 1, Integer - тег 2, Double - тег 3.
+     *
+     * @return новый реестр
+     */
+    public static CodecRegistry standard() {
+        return new CodecRegistry()
+            .register(1, TypeCodecs.STRING)
+            .register(2, TypeCodecs.INTEGER)
+            .register(3, TypeCodecs.DOUBLE);
+    }
+
+    /**
+     * Регистрирует кодек под указанным тегом.
+     *
+     * @param tag тег типа в диапазоне 1 - 255
+     * @param codec кодек
+     * @param <T> тип кодируемых элементов
+     * @return этот реестр для цепочки вызовов
+     * @throws ContainerException если тег недопустим или занят, либо тип уже зарегистрирован
+     */
+    public <T> CodecRegistry register(int tag, TypeCodec<T> codec) {
+        if (tag <= NULL_TAG || tag > MAX_TAG) {
+            throw new ContainerException("Тег типа должен быть в диапазоне 1 - " + MAX_TAG + ": " + tag);
+        }
+        if (codec == null) {
+            throw new ContainerException("Кодек не может быть null");
+        }
+        if (codecs[tag] != null) {
+            throw new ContainerException("Тег " + tag + " уже занят типом " + codecs[tag].type().getName());
+        }
+        if (tags.containsKey(codec.type())) {
+            throw new ContainerException("Тип уже зарегистрирован: " + codec.type().getName());
+        }
+        codecs[tag] = codec;
+        tags.put(codec.type(), tag);
+        return this;
+    }
+
+    /**
+     * Возвращает тег для значения.
+     *
+     * @param value значение или null
+     * @return тег типа значения или NULL_TAG для null
+     * @throws ContainerException если для класса значения нет кодека
+     */
+    public int tagOf(Object value) {
+        if (value == null) {
+            return NULL_TAG;
+        }
+        Integer tag = tags.get(value.getClass());
+        if (tag == null) {
+            throw new ContainerException("Нет кодека для типа " + value.getClass().getName());
+        }
+        return tag;
+    }
+
+    /**
+     * Возвращает кодек, зарегистрированный под тегом.
+     *
+     * @param tag тег типа
+     * @return кодек
+     * @throws ContainerException если под тегом нет кодека
+     */
+    public TypeCodec<?> codec(int tag) {
+        TypeCodec<?> codec = tag > NULL_TAG && tag <= MAX_TAG ? codecs[tag] : null;
+        if (codec == null) {
+            throw new ContainerException("Нет кодека для тега " + tag);
+        }
+        return codec;
+    }
+
+    /**
+     * Возвращает размер записи значения без тега.
+     *
+     * @param tag тег типа значения
+     * @param value значение, не null
+     * @return размер записи в байтах
+     */
+    public int encodedSize(int tag, Object value) {
+        return encodedSize(codec(tag), value);
+    }
+
+    /**
+     * Записывает значение кодеком указанного тега без самого тега.
+     *
+     * @param tag тег типа значения
+     * @param buffer буфер для записи
+     * @param value значение, не null
+     */
+    public void write(int tag, ByteBuffer buffer, Object value) {
+        write(codec(tag), buffer, value);
+    }
+
+    /**
+     * Читает значение кодеком указанного тега.
+     *
+     * @param tag тег, прочитанный перед значением
+     * @param buffer буфер, позиция которого стоит на начале записи
+     * @return значение или null для NULL_TAG
+     */
+    public Object read(int tag, ByteBuffer buffer) {
+        return tag == NULL_TAG ? null : codec(tag).read(buffer);
+    }
+
+    private static <T> int encodedSize(TypeCodec<T> codec, Object value) {
+        return codec.encodedSize(codec.type().cast(value));
+    }
+
+    private static <T> void write(TypeCodec<T> codec, ByteBuffer buffer, Object value) {
+        codec.write(buffer, codec.type().cast(value));
+    }
+}
@@ -0,0 +1,44 @@
+package com.container.codec;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Кодек элементов фиксированного размера для хранения вне кучи.
+ * Каждый элемент занимает ровно size() байт, поэтому позиция элемента
+ * в буфере вычисляется по его индексу без дополнительных таблиц.
+ * Кодирование должно быть каноничным: равные значения дают одинаковые байты,
+ * это позволяет искать элементы сравнением байтов без декодирования.
+ *
+ * @param <T> тип кодируемых элементов
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+public interface ElementCodec<T> {
+
+    /**
+     * Возвращает размер закодированного элемента в байтах.
+     *
+     * @return размер элемента, больше 0
+     */
+    int size();
+
+    /**
+     * Записывает элемент в буфер по абсолютному смещению.
+     * Позиция буфера не изменяется.
+     *
+     * @param buffer буфер для записи
+     * @param offset смещение первого байта элемента
+     * @param value записываемый элемент, не null
+     */
+    void write(ByteBuffer buffer, int offset, T value);
+
+    /**
+     * Читает элемент из буфера по абсолютному смещению.
+     * Позиция буфера не изменяется.
+     *
+     * @param buffer буфер для чтения
+     * @param offset смещение первого байта элемента
+     * @return прочитанный элемент
+     */
+    T read(ByteBuffer buffer, int offset);
+}
@@ -0,0 +1,127 @@
+package com.container.codec;
+
+import com.container.exceptions.ContainerException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Встроенные кодеки фиксированного размера для распространенных типов.
+ *
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+public final class ElementCodecs {
+
+    /**
+     * Кодек для Integer (4 байта)
+     */
+    public static final ElementCodec<Integer> INT = new ElementCodec<Integer>() {
+        @Override
+        public int size() {
+            return Integer.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Integer value) {
+            buffer.putInt(offset, value);
+        }
+
+        @Override
+        public Integer read(ByteBuffer buffer, int offset) {
+            return buffer.getInt(offset);
+        }
+    };
+
+    /**
+     * Кодек для Long (8 байт)
+     */
+    public static final ElementCodec<Long> LONG = new ElementCodec<Long>() {
+        @Override
+        public int size() {
+            return Long.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Long value) {
+            buffer.putLong(offset, value);
+        }
+
+        @Override
+        public Long read(ByteBuffer buffer, int offset) {
+            return buffer.getLong(offset);
+        }
+    };
+
+    /**
+     * Кодек для Double (8 байт).
+     * Все NaN записываются в каноничной форме, как их сравнивает Double.equals.
+     */
+    public static final ElementCodec<Double> DOUBLE = new ElementCodec<Double>() {
+        @Override
+        public int size() {
+            return Double.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Double value) {
+            buffer.putLong(offset, Double.doubleToLongBits(value));
+        }
+
+        @Override
+        public Double read(ByteBuffer buffer, int offset) {
+            return Double.longBitsToDouble(buffer.getLong(offset));
+        }
+    };
+
+    private ElementCodecs() {
+    }
+
+    /**
+     * Создает кодек для строк ограниченной длины в кодировке UTF-8.
+     * Каждый элемент занимает 2 байта длины и maxBytes байт данных,
+     * неиспользуемый остаток заполняется нулями.
+     *
+     * @param maxBytes максимальная длина строки в байтах UTF-8
+     * @return кодек строк
+     * @throws ContainerException если maxBytes вне диапазона 1 - 65535
+     */
+    public static ElementCodec<String> string(int maxBytes) {
+        if (maxBytes <= 0 || maxBytes > 0xFFFF) {
+            throw new ContainerException(
+                "Максимальная длина строки должна быть в диапазоне 1 - 65535: " + maxBytes
+            );
+        }
+        return new ElementCodec<String>() {
+            @Override
+            public int size() {
+                return Short.BYTES + maxBytes;
+            }
+
+            @Override
+            public void write(ByteBuffer buffer, int offset, String value) {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                if (bytes.length > maxBytes) {
+                    throw new ContainerException(
+                        "Строка длиннее " + maxBytes + " байт: " + bytes.length
+                    );
+                }
+                buffer.putShort(offset, (short) bytes.length);
+                int position = offset + Short.BYTES;
+                for (int i = 0; i < maxBytes; i++) {
+                    buffer.put(position + i, i < bytes.length ? bytes[i] : 0);
+                }
+            }
+
+            @Override
+            public String read(ByteBuffer buffer, int offset) {
+                int length = buffer.getShort(offset) & 0xFFFF;
+                byte[] bytes = new byte[length];
+                int position = offset + Short.BYTES;
+                for (int i = 0; i < length; i++) {
+                    bytes[i] = buffer.get(position + i);
+                }
+                return new String(bytes, StandardCharsets.UTF_8);
+            }
+        };
+    }
+}
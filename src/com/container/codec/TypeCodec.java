@@ -0,0 +1,50 @@
+package com.container.codec;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Кодек элементов переменного размера для двоичных файлов контейнеров.
+ * В отличие от ElementCodec, длина записи зависит от значения: перед записью
+ * вызывающий код узнает ее через encodedSize и резервирует место в буфере.
+ * Кодеки регистрируются в CodecRegistry под однобайтовым тегом типа.
+ *
+ * @param <T> тип кодируемых элементов
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+public interface TypeCodec<T> {
+
+    /**
+     * Возвращает класс кодируемых элементов.
+     * Кодек применяется к элементам именно этого класса, без учета наследников.
+     *
+     * @return класс элементов
+     */
+    Class<T> type();
+
+    /**
+     * Возвращает размер закодированного значения в байтах.
+     *
+     * @param value кодируемое значение, не null
+     * @return размер записи
+     */
+    int encodedSize(T value);
+
+    /**
+     * Записывает значение в буфер с его текущей позиции.
+     * Позиция буфера сдвигается на encodedSize(value) байт.
+     *
+     * @param buffer буфер для записи
+     * @param value записываемое значение, не null
+     */
+    void write(ByteBuffer buffer, T value);
+
+    /**
+     * Читает значение из буфера с его текущей позиции.
+     * Позиция буфера сдвигается за конец записи.
+     *
+     * @param buffer буфер для чтения
+     * @return прочитанное значение
+     */
+    T read(ByteBuffer buffer);
+}
@@ -0,0 +1,123 @@
+package com.container.codec;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Встроенные кодеки переменного размера для типов, которые хранит Main.
+ *
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+public final class TypeCodecs {
+
+    /**
+     * Кодек для String: 4 байта длины и байты UTF-8
+     */
+    public static final TypeCodec<String> STRING = new TypeCodec<String>() {
+        @Override
+        public Class<String> type() {
+            return String.class;
+        }
+
+        @Override
+        public int encodedSize(String value) {
+            return Integer.BYTES + utf8Length(value);
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            buffer.putInt(bytes.length);
+            buffer.put(bytes);
+        }
+
+        @Override
+        public String read(ByteBuffer buffer) {
+            byte[] bytes = new byte[buffer.getInt()];
+            buffer.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    };
+
+    /**
+     * Кодек для Integer (4 байта)
+     */
+    public static final TypeCodec<Integer> INTEGER = new TypeCodec<Integer>() {
+        @Override
+        public Class<Integer> type() {
+            return Integer.class;
+        }
+
+        @Override
+        public int encodedSize(Integer value) {
+            return Integer.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, Integer value) {
+            buffer.putInt(value);
+        }
+
+        @Override
+        public Integer read(ByteBuffer buffer) {
+            return buffer.getInt();
+        }
+    };
+
+    /**
+     * Кодек для Double (8 байт)
+     */
+    public static final TypeCodec<Double> DOUBLE = new TypeCodec<Double>() {
+        @Override
+        public Class<Double> type() {
+            return Double.class;
+        }
+
+        @Override
+        public int encodedSize(Double value) {
+            return Double.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, Double value) {
+            buffer.putDouble(value);
+        }
+
+        @Override
+        public Double read(ByteBuffer buffer) {
+            return buffer.getDouble();
+        }
+    };
+
+    private TypeCodecs() {
+    }
+
+    /**
+     * Вычисляет длину строки в UTF-8 без кодирования.
+     * Суррогатная пара занимает 4 байта, одиночный суррогат
+     * заменяется при кодировании на '?' и занимает 1 байт.
+     *
+     * @param value строка
+     * @return количество байт
+     */
+    static int utf8Length(String value) {
+        int length = value.length();
+        int bytes = length;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= 0x80) {
+                if (c < 0x800) {
+                    bytes += 1;
+                } else if (Character.isHighSurrogate(c) && i + 1 < length
+                        && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    bytes += 2;
+                    i++;
+                } else if (!Character.isSurrogate(c)) {
+                    bytes += 2;
+                }
+            }
+        }
+        return bytes;
+    }
+}
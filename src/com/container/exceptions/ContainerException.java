@@ -3,12 +3,46 @@ package com.container.exceptions;
 /**
  * Неконтролируемое исключение для операций с контейнером.
  * Наследуется от RuntimeException, указывает на ошибки программирования или неверное использование.
- * 
+ * <p>
+ * Исключения о недопустимом индексе создаются фабриками indexOutOfRange
+ * и invalidInsertIndex: сообщение для них собирается только при первом
+ * вызове getMessage. Если стек вызовов не нужен (например, в циклах,
+ * где промах - обычный исход), его захват можно выключить для этих
+ * исключений методом setStackTraceEnabled(false) или свойством
+ * -Dcom.container.exceptions.stackTrace=false.
+ *
  * @author Bilovus Olga
  * @version 1.0
  */
 public class ContainerException extends RuntimeException {
 
+    /**
+     * Системное свойство, задающее начальный режим захвата стека
+     */
+    public static final String STACK_TRACE_PROPERTY = "com.container.exceptions.stackTrace";
+
+    private static final byte MESSAGE_READY = 0;
+    private static final byte INDEX_OUT_OF_RANGE = 1;
+    private static final byte INVALID_INSERT_INDEX = 2;
+
+    /**
+     * Захватывать ли стек для исключений о недопустимом индексе
+     */
+    private static volatile boolean stackTraceEnabled =
+        !"false".equalsIgnoreCase(System.getProperty(STACK_TRACE_PROPERTY));
+
+    /**
+     * Вид отложенного сообщения или MESSAGE_READY
+     */
+    private final byte kind;
+    private final long index;
+    private final long size;
+
+    /**
+     * Сообщение, собранное при первом обращении
+     */
+    private String message;
+
     /**
      * Создает исключение с указанным сообщением об ошибке.
      *
@@ -16,6 +50,9 @@ public class ContainerException extends RuntimeException {
      */
     public ContainerException(String message) {
         super(message);
+        this.kind = MESSAGE_READY;
+        this.index = -1;
+        this.size = -1;
     }
 
     /**
@@ -26,5 +63,71 @@ public class ContainerException extends RuntimeException {
      */
     public ContainerException(String message, Throwable cause) {
         super(message, cause);
+        this.kind = MESSAGE_READY;
+        this.index = -1;
+        this.size = -1;
+    }
+
+    private ContainerException(byte kind, long index, long size) {
+        super(null, null, true, stackTraceEnabled);
+        this.kind = kind;
+        this.index = index;
+        this.size = size;
+    }
+
+    /**
+     * Создает исключение об индексе за пределами [0, size).
+     *
+     * @param index недопустимый индекс
+     * @param size размер контейнера
+     * @return исключение с отложенным сообщением
+     */
+    public static ContainerException indexOutOfRange(long index, long size) {
+        return new ContainerException(INDEX_OUT_OF_RANGE, index, size);
+    }
+
+    /**
+     * Создает исключение об индексе вставки за пределами [0, size].
+     *
+     * @param index недопустимый индекс
+     * @param size размер контейнера
+     * @return исключение с отложенным сообщением
+     */
+    public static ContainerException invalidInsertIndex(long index, long size) {
+        return new ContainerException(INVALID_INSERT_INDEX, index, size);
+    }
+
+    /**
+     * Включает или выключает захват стека для исключений о недопустимом индексе.
+     * Остальные исключения всегда захватывают стек.
+     *
+     * @param enabled true, чтобы захватывать стек
+     */
+    public static void setStackTraceEnabled(boolean enabled) {
+        stackTraceEnabled = enabled;
+    }
+
+    /**
+     * Проверяет, захватывается ли стек для исключений о недопустимом индексе.
+     *
+     * @return true если стек захватывается
+     */
+    public static boolean isStackTraceEnabled() {
+        return stackTraceEnabled;
+    }
+
+    @Override
+    public String getMessage() {
+        if (kind == MESSAGE_READY) {
+            return super.getMessage();
+        }
+        String result = message;
+        if (result == null) {
+            result = kind == INDEX_OUT_OF_RANGE
+                ? "Индекс за пределами диапазона: " + index + ". Размер контейнера: " + size
+                : "Недопустимый индекс для вставки: " + index + ". Допустимый диапазон: 0 - " + size;
+            message = result;
+        }
+        return result;
     }
 }
@@ -0,0 +1,106 @@
+package com.container.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.zip.CRC32C;
+
+/**
+ * Буферизованная запись в канал файла с подсчетом CRC32C записанных байт.
+ * Записи, которые не помещаются в буфер целиком, выделяют временный буфер
+ * нужного размера.
+ *
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+final class ChecksummedOutput {
+
+    /**
+     * Размер буфера записи по умолчанию
+     */
+    static final int BUFFER_BYTES = 1 << 16;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private final CRC32C checksum = new CRC32C();
+    private long written;
+
+    /**
+     * Создает запись в канал с его текущей позиции.
+     *
+     * @param channel канал файла, открытый на запись
+     */
+    ChecksummedOutput(FileChannel channel) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocateDirect(BUFFER_BYTES);
+    }
+
+    /**
+     * Возвращает буфер, в котором свободно не меньше bytes байт.
+     * Вызывающий код записывает в него ровно bytes байт.
+     *
+     * @param bytes размер следующей записи
+     * @return буфер для записи
+     * @throws IOException при ошибке записи в файл
+     */
+    ByteBuffer reserve(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flush();
+            if (bytes > buffer.capacity()) {
+                return ByteBuffer.allocate(bytes);
+            }
+        }
+        return buffer;
+    }
+
+    /**
+     * Завершает запись, начатую через reserve с размером больше буфера.
+     * Для обычных записей ничего не делает.
+     *
+     * @param record буфер, полученный из reserve
+     * @throws IOException при ошибке записи в файл
+     */
+    void commit(ByteBuffer record) throws IOException {
+        if (record != buffer) {
+            record.flip();
+            drain(record);
+        }
+    }
+
+    /**
+     * Записывает содержимое буфера в файл.
+     *
+     * @throws IOException при ошибке записи в файл
+     */
+    void flush() throws IOException {
+        buffer.flip();
+        drain(buffer);
+        buffer.clear();
+    }
+
+    /**
+     * Возвращает CRC32C всех записанных байт.
+     *
+     * @return контрольная сумма
+     */
+    long checksum() {
+        return checksum.getValue();
+    }
+
+    /**
+     * Возвращает количество записанных байт, включая еще не сброшенные.
+     *
+     * @return количество байт
+     */
+    long written() {
+        return written + buffer.position();
+    }
+
+    private void drain(ByteBuffer source) throws IOException {
+        checksum.update(source.duplicate());
+        written += source.remaining();
+        while (source.hasRemaining()) {
+            channel.write(source);
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.container.io;
+
+import com.container.codec.CodecRegistry;
+import com.container.exceptions.ContainerException;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.zip.CRC32C;
+
+/**
+ * Формат файла с элементами, разбитыми на части, и оглавление такого файла.
+ * <p>
+ * Формат (порядок байт big-endian):
+ * <ul>
+ *     <li>заголовок 16 байт: сигнатура OCCK, версия, флаги, размер части;</li>
+ *     <li>части: количество элементов, длина данных, CRC32C данных
+ *     и записи элементов (тег типа и запись кодека);</li>
+ *     <li>оглавление: смещение каждой части в файле и таблица тегов;</li>
+ *     <li>концевик 32 байта: смещение оглавления, количество элементов,
+ *     количество частей, длина таблицы тегов, CRC32C оглавления и сигнатура.</li>
+ * </ul>
+ * Все части, кроме последней, содержат ровно chunkSize элементов,
+ * поэтому номер части вычисляется по индексу элемента делением.
+ *
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+final class ChunkIndex {
+
+    /**
+     * Сигнатура файла: "OCCK"
+     */
+    static final int MAGIC = 0x4F43434B;
+
+    /**
+     * Версия формата
+     */
+    static final short VERSION = 1;
+
+    /**
+     * Размер заголовка файла в байтах
+     */
+    static final int HEADER_BYTES = 16;
+
+    /**
+     * Размер заголовка части в байтах
+     */
+    static final int CHUNK_HEADER_BYTES = 12;
+
+    /**
+     * Размер концевика в байтах
+     */
+    static final int TRAILER_BYTES = 32;
+
+    /**
+     * Количество элементов в полной части
+     */
+    final int chunkSize;
+
+    /**
+     * Общее количество элементов
+     */
+    final long size;
+
+    /**
+     * Смещения частей в файле
+     */
+    final long[] chunkOffsets;
+
+    /**
+     * Смещение оглавления в файле
+     */
+    final long indexPosition;
+
+    /**
+     * Теги, встречающиеся в файле
+     */
+    final boolean[] usedTags;
+
+    private ChunkIndex(int chunkSize, long size, long[] chunkOffsets, long indexPosition, boolean[] usedTags) {
+        this.chunkSize = chunkSize;
+        this.size = size;
+        this.chunkOffsets = chunkOffsets;
+        this.indexPosition = indexPosition;
+        this.usedTags = usedTags;
+    }
+
+    /**
+     * Возвращает количество элементов в части.
+     *
+     * @param chunk номер части
+     * @return количество элементов
+     */
+    int count(int chunk) {
+        return (int) Math.min(chunkSize, size - (long) chunk * chunkSize);
+    }
+
+    /**
+     * Читает заголовок, концевик и оглавление файла и сверяет таблицу тегов с реестром.
+     *
+     * @param channel канал файла, открытый на чтение
+     * @param file путь к файлу, для сообщений об ошибках
+     * @param registry реестр кодеков
+     * @return оглавление
+     * @throws IOException при ошибке чтения
+     * @throws ContainerException если файл поврежден, не закрыт после записи
+     *         или не совпадает с реестром
+     */
+    static ChunkIndex read(FileChannel channel, Path file, CodecRegistry registry) throws IOException {
+        long fileBytes = channel.size();
+        if (fileBytes < HEADER_BYTES + TRAILER_BYTES) {
+            throw corrupted(file, "файл короче заголовка и концевика");
+        }
+        ByteBuffer header = readFully(channel, 0, HEADER_BYTES);
+        if (header.getInt() != MAGIC) {
+            throw corrupted(file, "неверная сигнатура");
+        }
+        short version = header.getShort();
+        if (version != VERSION) {
+            throw corrupted(file, "неподдерживаемая версия формата " + version);
+        }
+        header.getShort();
+        int chunkSize = header.getInt();
+
+        ByteBuffer trailer = readFully(channel, fileBytes - TRAILER_BYTES, TRAILER_BYTES);
+        long indexPosition = trailer.getLong();
+        long size = trailer.getLong();
+        int chunkCount = trailer.getInt();
+        int tagTableBytes = trailer.getInt();
+        int checksum = trailer.getInt();
+        if (trailer.getInt() != MAGIC) {
+            throw corrupted(file, "нет оглавления, запись не была завершена через close");
+        }
+        long indexBytes = (long) chunkCount * Long.BYTES + tagTableBytes;
+        if (chunkSize <= 0 || size < 0 || chunkCount < 0 || tagTableBytes < Short.BYTES
+                || chunkCount != (size + chunkSize - 1) / chunkSize || indexBytes > Integer.MAX_VALUE
+                || indexPosition < HEADER_BYTES || indexPosition + indexBytes + TRAILER_BYTES != fileBytes) {
+            throw corrupted(file, "размеры в концевике не совпадают с длиной файла");
+        }
+
+        ByteBuffer index = readFully(channel, indexPosition, (int) indexBytes);
+        CRC32C crc = new CRC32C();
+        crc.update(index.duplicate());
+        if ((int) crc.getValue() != checksum) {
+            throw corrupted(file, "контрольная сумма оглавления не совпадает");
+        }
+        long[] chunkOffsets = new long[chunkCount];
+        for (int i = 0; i < chunkCount; i++) {
+            chunkOffsets[i] = index.getLong();
+        }
+        boolean[] usedTags = TagTable.verify(index, registry, file);
+        return new ChunkIndex(chunkSize, size, chunkOffsets, indexPosition, usedTags);
+    }
+
+    /**
+     * Читает данные части и проверяет их контрольную сумму.
+     *
+     * @param channel канал файла
+     * @param file путь к файлу, для сообщений об ошибках
+     * @param chunk номер части
+     * @param reuse буфер для повторного использования или null
+     * @return буфер с данными части от позиции 0 до limit; может быть новым, если reuse мал
+     * @throws IOException при ошибке чтения
+     * @throws ContainerException если часть повреждена
+     */
+    ByteBuffer readPayload(FileChannel channel, Path file, int chunk, ByteBuffer reuse) throws IOException {
+        long position = chunkOffsets[chunk];
+        ByteBuffer header = readFully(channel, position, CHUNK_HEADER_BYTES);
+        int count = header.getInt();
+        int payloadBytes = header.getInt();
+        int checksum = header.getInt();
+        long end = chunk + 1 < chunkOffsets.length ? chunkOffsets[chunk + 1] : indexPosition;
+        if (count != count(chunk) || payloadBytes < count
+                || position + CHUNK_HEADER_BYTES + payloadBytes != end) {
+            throw corrupted(file, "заголовок части " + chunk + " не совпадает с оглавлением");
+        }
+        ByteBuffer payload = reuse != null && reuse.capacity() >= payloadBytes
+            ? reuse : ByteBuffer.allocate(payloadBytes);
+        payload.clear().limit(payloadBytes);
+        readFully(channel, position + CHUNK_HEADER_BYTES, payload);
+        payload.flip();
+        CRC32C crc = new CRC32C();
+        crc.update(payload.duplicate());
+        if ((int) crc.getValue() != checksum) {
+            throw corrupted(file, "контрольная сумма части " + chunk + " не совпадает");
+        }
+        return payload;
+    }
+
+    /**
+     * Декодирует элементы части.
+     *
+     * @param payload данные части
+     * @param count количество элементов
+     * @param registry реестр кодеков
+     * @param file путь к файлу, для сообщений об ошибках
+     * @return декодированные элементы
+     * @throws ContainerException если запись повреждена
+     */
+    static Object[] decode(ByteBuffer payload, int count, CodecRegistry registry, Path file) {
+        Object[] elements = new Object[count];
+        try {
+            for (int i = 0; i < count; i++) {
+                int tag = payload.get() & 0xFF;
+                elements[i] = registry.read(tag, payload);
+            }
+        } catch (BufferUnderflowException | IllegalArgumentException | NegativeArraySizeException e) {
+            throw corrupted(file, "запись выходит за пределы части");
+        }
+        return elements;
+    }
+
+    /**
+     * Создает исключение о поврежденном файле.
+     *
+     * @param file путь к файлу
+     * @param reason описание повреждения
+     * @return исключение
+     */
+    static ContainerException corrupted(Path file, String reason) {
+        return new ContainerException("Поврежденный файл частей " + file + ": " + reason);
+    }
+
+    private static ByteBuffer readFully(FileChannel channel, long position, int bytes) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(bytes);
+        readFully(channel, position, buffer);
+        buffer.flip();
+        return buffer;
+    }
+
+    private static void readFully(FileChannel channel, long position, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("Неожиданный конец файла");
+            }
+            position += read;
+        }
+    }
+}
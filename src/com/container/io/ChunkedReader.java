@@ -0,0 +1,209 @@
+package com.container.io;
+
+import com.container.ObjectContainer;
+import com.container.codec.CodecRegistry;
+import com.container.exceptions.ContainerException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Чтение файла, записанного ChunkedWriter, по частям.
+ * Произвольный доступ get(index) находит часть по оглавлению и декодирует
+ * ее целиком; последняя прочитанная часть запоминается, поэтому обращения
+ * к соседним элементам не читают файл повторно. Итератор обходит файл
+ * последовательно, держа в памяти одну часть. Расход памяти определяется
+ * размером части и не зависит от размера файла.
+ * <p>
+ * Контрольная сумма части проверяется при каждом ее чтении.
+ * Не потокобезопасен.
+ *
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+public final class ChunkedReader implements Iterable<Object>, AutoCloseable {
+
+    private final Path file;
+    private final CodecRegistry registry;
+    private final FileChannel channel;
+    private final ChunkIndex index;
+
+    /**
+     * Буфер для чтения данных частей
+     */
+    private ByteBuffer payload;
+
+    /**
+     * Номер запомненной части или -1
+     */
+    private int cachedChunk = -1;
+
+    /**
+     * Элементы запомненной части
+     */
+    private Object[] cachedElements;
+
+    private ChunkedReader(Path file, CodecRegistry registry, FileChannel channel, ChunkIndex index) {
+        this.file = file;
+        this.registry = registry;
+        this.channel = channel;
+        this.index = index;
+    }
+
+    /**
+     * Открывает файл для чтения. Читается только оглавление.
+     *
+     * @param file путь к файлу
+     * @param registry кодеки типов элементов
+     * @return открытое чтение
+     * @throws ContainerException если файл поврежден, не был закрыт после записи,
+     *         не совпадает с реестром или произошла ошибка ввода-вывода
+     */
+    public static ChunkedReader open(Path file, CodecRegistry registry) {
+        FileChannel channel = null;
+        try {
+            channel = FileChannel.open(file, StandardOpenOption.READ);
+            return new ChunkedReader(file, registry, channel, ChunkIndex.read(channel, file, registry));
+        } catch (IOException e) {
+            ChunkedWriter.closeQuietly(channel);
+            throw new ContainerException("Не удалось открыть файл частей " + file, e);
+        } catch (RuntimeException e) {
+            ChunkedWriter.closeQuietly(channel);
+            throw e;
+        }
+    }
+
+    /**
+     * Возвращает количество элементов в файле.
+     *
+     * @return количество элементов
+     */
+    public long size() {
+        return index.size;
+    }
+
+    /**
+     * Возвращает количество элементов в полной части.
+     *
+     * @return размер части
+     */
+    public int chunkSize() {
+        return index.chunkSize;
+    }
+
+    /**
+     * Возвращает количество частей.
+     *
+     * @return количество частей
+     */
+    public int chunkCount() {
+        return index.chunkOffsets.length;
+    }
+
+    /**
+     * Возвращает элемент по индексу. Читает и декодирует содержащую его часть,
+     * если она не совпадает с последней прочитанной.
+     *
+     * @param elementIndex индекс элемента
+     * @return элемент
+     * @throws ContainerException если индекс недопустим, часть повреждена
+     *         или произошла ошибка ввода-вывода
+     */
+    public Object get(long elementIndex) {
+        if (elementIndex < 0 || elementIndex >= index.size) {
+            throw ContainerException.indexOutOfRange(elementIndex, index.size);
+        }
+        int chunk = (int) (elementIndex / index.chunkSize);
+        if (chunk != cachedChunk) {
+            cachedElements = decodeChunk(chunk);
+            cachedChunk = chunk;
+        }
+        return cachedElements[(int) (elementIndex % index.chunkSize)];
+    }
+
+    /**
+     * Читает одну часть в новый контейнер.
+     *
+     * @param chunk номер части
+     * @return контейнер с элементами части
+     * @throws ContainerException если номер части недопустим, часть повреждена
+     *         или произошла ошибка ввода-вывода
+     */
+    public ObjectContainer<Object> readChunk(int chunk) {
+        checkChunk(chunk);
+        Object[] elements = decodeChunk(chunk);
+        ObjectContainer<Object> container = new ObjectContainer<>(Math.max(elements.length, 1));
+        container.addAll(elements);
+        return container;
+    }
+
+    /**
+     * Возвращает итератор, читающий файл часть за частью.
+     * Итератор независим от get и других итераторов, но использует общий канал файла.
+     *
+     * @return итератор по всем элементам файла
+     */
+    @Override
+    public Iterator<Object> iterator() {
+        return new Iterator<Object>() {
+            private int chunk = -1;
+            private Object[] elements = new Object[0];
+            private int position;
+            private long remaining = index.size;
+
+            @Override
+            public boolean hasNext() {
+                return remaining > 0;
+            }
+
+            @Override
+            public Object next() {
+                if (remaining == 0) {
+                    throw new NoSuchElementException();
+                }
+                if (position == elements.length) {
+                    elements = decodeChunk(++chunk);
+                    position = 0;
+                }
+                remaining--;
+                return elements[position++];
+            }
+        };
+    }
+
+    /**
+     * Закрывает файл.
+     *
+     * @throws ContainerException при ошибке ввода-вывода
+     */
+    @Override
+    public void close() {
+        cachedElements = null;
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new ContainerException("Не удалось закрыть файл частей " + file, e);
+        }
+    }
+
+    private Object[] decodeChunk(int chunk) {
+        try {
+            payload = index.readPayload(channel, file, chunk, payload);
+        } catch (IOException e) {
+            throw new ContainerException("Не удалось прочитать часть " + chunk + " файла " + file, e);
+        }
+        return ChunkIndex.decode(payload, index.count(chunk), registry, file);
+    }
+
+    private void checkChunk(int chunk) {
+        if (chunk < 0 || chunk >= index.chunkOffsets.length) {
+            throw new ContainerException(
+                "Номер части за пределами диапазона: " + chunk + ". Количество частей: " + index.chunkOffsets.length
+            );
+        }
+    }
+}
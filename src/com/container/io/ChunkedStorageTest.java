@@ -0,0 +1,287 @@
+package com.container.io;
+
+import com.container.ObjectContainer;
+import com.container.codec.CodecRegistry;
+import com.container.codec.TypeCodec;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Тесты для потоковой записи и чтения ChunkedWriter и ChunkedReader без использования JUnit
+ *
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+public class ChunkedStorageTest {
+
+    private int testCount = 0;
+    private int passedTests = 0;
+    private List<String> failedTests = new ArrayList<>();
+
+    /**
+     * Запуск всех тестов
+     */
+    public static void main(String[] args) {
+        ChunkedStorageTest tester = new ChunkedStorageTest();
+        tester.runAllTests();
+    }
+
+    /**
+     * Запускает все тесты и выводит результаты
+     */
+    public void runAllTests() {
+        System.out.println("=== Запуск тестов ChunkedWriter и ChunkedReader ===\n");
+
+        testWriteAndIterate();
+        testRandomAccess();
+        testAppendToClosedFile();
+        testEmptyFile();
+        testUnfinishedFile();
+        testCorruptedChunk();
+        testInvalidArguments();
+        testFailingCodec();
+
+        System.out.println("\n=== Результаты тестов ===");
+        System.out.println("Пройдено: " + passedTests + " из " + testCount + " тестов");
+
+        if (passedTests == testCount) {
+            System.out.println(" Все тесты прошли успешно!");
+        } else {
+            System.out.println(" Не все тесты прошли");
+            System.out.println("\n=== Проваленные тесты ===");
+            for (String failedTest : failedTests) {
+                System.out.println(" " + failedTest);
+            }
+        }
+    }
+
+    private void assertTrue(boolean condition, String message) {
+        testCount++;
+        if (condition) {
+            passedTests++;
+            System.out.println("прошли " + message);
+        } else {
+            failedTests.add(message);
+            System.out.println("не прошли " + message);
+        }
+    }
+
+    private void assertFalse(boolean condition, String message) {
+        assertTrue(!condition, message);
+    }
+
+    private void assertEquals(Object expected, Object actual, String message) {
+        testCount++;
+        boolean isEqual = (expected == null) ? actual == null : expected.equals(actual);
+        if (isEqual) {
+            passedTests++;
+            System.out.println("прошли " + message);
+        } else {
+            failedTests.add(message + " (ожидалось: " + expected + ", получено: " + actual + ")");
+            System.out.println("не прошли " + message + " (ожидалось: " + expected + ", получено: " + actual + ")");
+        }
+    }
+
+    private void assertThrows(Runnable code, String expectedMessage, String testName) {
+        testCount++;
+        try {
+            code.run();
+            failedTests.add(testName + " (ожидалось исключение)");
+            System.out.println("не прошли " + testName + " (ожидалось исключение)");
+        } catch (Exception e) {
+            if (e.getMessage().contains(expectedMessage)) {
+                passedTests++;
+                System.out.println("прошли " + testName);
+            } else {
+                failedTests.add(testName + " (неверное сообщение исключения: " + e.getMessage() + ")");
+                System.out.println("не прошли " + testName + " (неверное сообщение исключения: " + e.getMessage() + ")");
+            }
+        }
+    }
+
+    private Path tempFile() {
+        try {
+            Path file = Files.createTempFile("chunks", ".bin");
+            file.toFile().deleteOnExit();
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Object element(int i) {
+        switch (i % 4) {
+            case 0:
+                return "строка " + i;
+            case 1:
+                return i;
+            case 2:
+                return i * 0.25;
+            default:
+                return null;
+        }
+    }
+
+    private Path writeElements(int count, int chunkSize) {
+        Path file = tempFile();
+        try (ChunkedWriter writer = ChunkedWriter.create(file, CodecRegistry.standard(), chunkSize)) {
+            for (int i = 0; i < count; i++) {
+                writer.append(element(i));
+            }
+        }
+        return file;
+    }
+
+    public void testWriteAndIterate() {
+        Path file = writeElements(10500, 1000);
+        try (ChunkedReader reader = ChunkedReader.open(file, CodecRegistry.standard())) {
+            assertEquals(10500L, reader.size(), "testWriteAndIterate - размер");
+            assertEquals(11, reader.chunkCount(), "testWriteAndIterate - количество частей");
+
+            int index = 0;
+            boolean allEqual = true;
+            for (Object element : reader) {
+                Object expected = element(index++);
+                allEqual &= expected == null ? element == null : expected.equals(element);
+            }
+            assertEquals(10500, index, "testWriteAndIterate - обойдены все элементы");
+            assertTrue(allEqual, "testWriteAndIterate - элементы совпадают");
+
+            ObjectContainer<Object> lastChunk = reader.readChunk(10);
+            assertEquals(500, lastChunk.size(), "testWriteAndIterate - неполная последняя часть");
+            assertEquals(element(10000), lastChunk.get(0), "testWriteAndIterate - начало последней части");
+        }
+    }
+
+    public void testRandomAccess() {
+        Path file = writeElements(5000, 128);
+        try (ChunkedReader reader = ChunkedReader.open(file, CodecRegistry.standard())) {
+            assertEquals(element(4999), reader.get(4999), "testRandomAccess - последний элемент");
+            assertEquals(element(0), reader.get(0), "testRandomAccess - первый элемент");
+            assertEquals(element(129), reader.get(129), "testRandomAccess - вторая часть");
+            assertEquals(null, reader.get(131), "testRandomAccess - null");
+            assertThrows(() -> reader.get(5000), "Индекс за пределами диапазона", "testRandomAccess - неверный индекс");
+            assertThrows(() -> reader.readChunk(40), "Номер части за пределами диапазона", "testRandomAccess - неверная часть");
+        }
+    }
+
+    public void testAppendToClosedFile() {
+        Path file = writeElements(150, 100);
+        ObjectContainer<Object> more = new ObjectContainer<>();
+        for (int i = 150; i < 320; i++) {
+            more.add(element(i));
+        }
+        try (ChunkedWriter writer = ChunkedWriter.append(file, CodecRegistry.standard())) {
+            assertEquals(150L, writer.size(), "testAppendToClosedFile - размер после открытия");
+            writer.appendAll(more);
+        }
+        try (ChunkedReader reader = ChunkedReader.open(file, CodecRegistry.standard())) {
+            assertEquals(320L, reader.size(), "testAppendToClosedFile - размер после дописывания");
+            assertEquals(4, reader.chunkCount(), "testAppendToClosedFile - неполная часть дополнена");
+            assertEquals(element(149), reader.get(149), "testAppendToClosedFile - старые элементы");
+            assertEquals(element(150), reader.get(150), "testAppendToClosedFile - первый новый элемент");
+            assertEquals(element(319), reader.get(319), "testAppendToClosedFile - последний элемент");
+        }
+    }
+
+    public void testEmptyFile() {
+        Path file = writeElements(0, 10);
+        try (ChunkedReader reader = ChunkedReader.open(file, CodecRegistry.standard())) {
+            assertEquals(0L, reader.size(), "testEmptyFile - размер");
+            assertFalse(reader.iterator().hasNext(), "testEmptyFile - пустой обход");
+        }
+    }
+
+    public void testUnfinishedFile() {
+        Path file = tempFile();
+        ChunkedWriter writer = ChunkedWriter.create(file, CodecRegistry.standard(), 10);
+        for (int i = 0; i < 25; i++) {
+            writer.append(i);
+        }
+        assertThrows(() -> ChunkedReader.open(file, CodecRegistry.standard()),
+                    "запись не была завершена", "testUnfinishedFile - файл без оглавления");
+        writer.close();
+        writer.close();
+        assertThrows(() -> writer.append(1), "закрыта", "testUnfinishedFile - запись после close");
+        try (ChunkedReader reader = ChunkedReader.open(file, CodecRegistry.standard())) {
+            assertEquals(25L, reader.size(), "testUnfinishedFile - файл после close");
+        }
+    }
+
+    public void testCorruptedChunk() {
+        Path file = writeElements(300, 100);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {7}), ChunkIndex.HEADER_BYTES + ChunkIndex.CHUNK_HEADER_BYTES + 5);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        try (ChunkedReader reader = ChunkedReader.open(file, CodecRegistry.standard())) {
+            assertEquals(element(250), reader.get(250), "testCorruptedChunk - целая часть читается");
+            assertThrows(() -> reader.get(5), "контрольная сумма части 0", "testCorruptedChunk - поврежденная часть");
+            Iterator<Object> iterator = reader.iterator();
+            assertThrows(iterator::next, "контрольная сумма части 0", "testCorruptedChunk - итератор");
+        }
+    }
+
+    public void testInvalidArguments() {
+        assertThrows(() -> ChunkedWriter.create(tempFile(), CodecRegistry.standard(), 0),
+                    "Размер части должен быть положительным числом", "testInvalidArguments - размер части 0");
+        Path file = tempFile();
+        ChunkedWriter writer = ChunkedWriter.create(file, CodecRegistry.standard(), 10);
+        assertThrows(() -> writer.append(new Object()), "Нет кодека для типа", "testInvalidArguments - тип без кодека");
+        writer.close();
+        assertThrows(() -> ChunkedReader.open(tempFile(), CodecRegistry.standard()),
+                    "файл короче заголовка", "testInvalidArguments - пустой файл");
+    }
+
+    public void testFailingCodec() {
+        TypeCodec<Long> failing = new TypeCodec<Long>() {
+            @Override
+            public Class<Long> type() {
+                return Long.class;
+            }
+
+            @Override
+            public int encodedSize(Long value) {
+                return Long.BYTES;
+            }
+
+            @Override
+            public void write(ByteBuffer buffer, Long value) {
+                buffer.putShort((short) 0x7F7F);
+                throw new IllegalStateException("кодек не смог записать " + value);
+            }
+
+            @Override
+            public Long read(ByteBuffer buffer) {
+                return buffer.getLong();
+            }
+        };
+        CodecRegistry registry = CodecRegistry.standard().register(10, failing);
+        Path file = tempFile();
+        try (ChunkedWriter writer = ChunkedWriter.create(file, registry, 10)) {
+            writer.append("до");
+            assertThrows(() -> writer.append(1L), "кодек не смог записать", "testFailingCodec - ошибка кодека");
+            writer.append("после");
+            assertEquals(2L, writer.size(), "testFailingCodec - элемент не засчитан");
+        }
+        try (ChunkedReader reader = ChunkedReader.open(file, CodecRegistry.standard())) {
+            assertEquals(2L, reader.size(), "testFailingCodec - размер файла");
+            assertEquals("до", reader.get(0), "testFailingCodec - элемент до ошибки");
+            assertEquals("после", reader.get(1), "testFailingCodec - элемент после ошибки");
+        }
+    }
+
+    @FunctionalInterface
+    private interface Runnable {
+        void run();
+    }
+}
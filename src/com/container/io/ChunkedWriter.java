@@ -0,0 +1,357 @@
+package com.container.io;
+
+import com.container.codec.CodecRegistry;
+import com.container.exceptions.ContainerException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.CRC32C;
+
+/**
+ * Потоковая запись элементов в файл частями фиксированного размера.
+ * В памяти хранится только текущая незаполненная часть и оглавление
+ * (одно смещение на часть), поэтому размер файла не ограничен размером кучи.
+ * Заполненная часть сразу записывается в файл.
+ * <p>
+ * Запись только дописывает элементы в конец. Оглавление записывается
+ * в close, до этого файл нельзя прочитать через ChunkedReader. Ранее закрытый
+ * файл можно открыть для продолжения записи методом append.
+ * Не потокобезопасен.
+ *
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+public final class ChunkedWriter implements AutoCloseable {
+
+    /**
+     * Количество элементов в части по умолчанию
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 16;
+
+    /**
+     * Начальный размер буфера данных части
+     */
+    private static final int INITIAL_PAYLOAD_BYTES = 1 << 16;
+
+    private final Path file;
+    private final CodecRegistry registry;
+    private final FileChannel channel;
+    private final int chunkSize;
+
+    /**
+     * Теги, встречавшиеся в записанных элементах
+     */
+    private final boolean[] usedTags;
+
+    /**
+     * Смещения записанных частей в файле
+     */
+    private long[] chunkOffsets;
+
+    /**
+     * Количество записанных частей
+     */
+    private int chunkCount;
+
+    /**
+     * Закодированные элементы текущей части
+     */
+    private ByteBuffer payload;
+
+    /**
+     * Количество элементов в текущей части
+     */
+    private int pendingCount;
+
+    /**
+     * Общее количество элементов
+     */
+    private long size;
+
+    private boolean closed;
+
+    private ChunkedWriter(Path file, CodecRegistry registry, FileChannel channel, int chunkSize, boolean[] usedTags) {
+        this.file = file;
+        this.registry = registry;
+        this.channel = channel;
+        this.chunkSize = chunkSize;
+        this.usedTags = usedTags;
+        this.chunkOffsets = new long[16];
+        this.payload = ByteBuffer.allocate(INITIAL_PAYLOAD_BYTES);
+    }
+
+    /**
+     * Создает новый файл с частями по DEFAULT_CHUNK_SIZE элементов.
+     * Существующий файл перезаписывается.
+     *
+     * @param file путь к файлу
+     * @param registry кодеки типов элементов
+     * @return открытая запись
+     * @throws ContainerException при ошибке ввода-вывода
+     */
+    public static ChunkedWriter create(Path file, CodecRegistry registry) {
+        return create(file, registry, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Создает новый файл с частями указанного размера.
+     * Существующий файл перезаписывается.
+     *
+     * @param file путь к файлу
+     * @param registry кодеки типов элементов
+     * @param chunkSize количество элементов в части
+     * @return открытая запись
+     * @throws ContainerException если chunkSize меньше или равен 0
+     *         или произошла ошибка ввода-вывода
+     */
+    public static ChunkedWriter create(Path file, CodecRegistry registry, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new ContainerException("Размер части должен быть положительным числом: " + chunkSize);
+        }
+        FileChannel channel = null;
+        try {
+            channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            ByteBuffer header = ByteBuffer.allocate(ChunkIndex.HEADER_BYTES);
+            header.putInt(ChunkIndex.MAGIC)
+                .putShort(ChunkIndex.VERSION)
+                .putShort((short) 0)
+                .putInt(chunkSize)
+                .putInt(0)
+                .flip();
+            writeFully(channel, header);
+            return new ChunkedWriter(file, registry, channel, chunkSize, new boolean[CodecRegistry.MAX_TAG + 1]);
+        } catch (IOException e) {
+            closeQuietly(channel);
+            throw new ContainerException("Не удалось создать файл частей " + file, e);
+        }
+    }
+
+    /**
+     * Открывает ранее закрытый файл для дописывания элементов.
+     * Незаполненная последняя часть загружается в память и будет
+     * дополнена новыми элементами; оглавление удаляется и записывается
+     * заново при close.
+     *
+     * @param file путь к файлу
+     * @param registry кодеки типов элементов
+     * @return открытая запись
+     * @throws ContainerException если файл поврежден, не совпадает с реестром
+     *         или произошла ошибка ввода-вывода
+     */
+    public static ChunkedWriter append(Path file, CodecRegistry registry) {
+        FileChannel channel = null;
+        try {
+            channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            ChunkIndex index = ChunkIndex.read(channel, file, registry);
+            ChunkedWriter writer = new ChunkedWriter(file, registry, channel, index.chunkSize, index.usedTags);
+            int chunks = index.chunkOffsets.length;
+            long end = index.indexPosition;
+            writer.size = index.size;
+            if (chunks > 0 && index.count(chunks - 1) < index.chunkSize) {
+                chunks--;
+                ByteBuffer last = index.readPayload(channel, file, chunks, null);
+                writer.ensurePayload(last.remaining());
+                writer.payload.put(last);
+                writer.pendingCount = index.count(chunks);
+                end = index.chunkOffsets[chunks];
+            }
+            writer.chunkOffsets = Arrays.copyOf(index.chunkOffsets, Math.max(chunks, 16));
+            writer.chunkCount = chunks;
+            channel.truncate(end);
+            channel.position(end);
+            return writer;
+        } catch (IOException e) {
+            closeQuietly(channel);
+            throw new ContainerException("Не удалось открыть файл частей " + file, e);
+        } catch (RuntimeException e) {
+            closeQuietly(channel);
+            throw e;
+        }
+    }
+
+    /**
+     * Дописывает элемент в конец файла.
+     *
+     * @param element элемент, тип которого зарегистрирован в реестре, или null
+     * @throws ContainerException если запись закрыта, для типа нет кодека
+     *         или произошла ошибка ввода-вывода
+     */
+    public void append(Object element) {
+        checkOpen();
+        int tag = registry.tagOf(element);
+        if (tag == CodecRegistry.NULL_TAG) {
+            ensurePayload(1);
+            payload.put((byte) tag);
+        } else {
+            ensurePayload(1 + registry.encodedSize(tag, element));
+            int start = payload.position();
+            try {
+                payload.put((byte) tag);
+                registry.write(tag, payload, element);
+            } catch (RuntimeException e) {
+                // недописанный элемент не должен попасть в часть
+                payload.position(start);
+                throw e;
+            }
+        }
+        usedTags[tag] = true;
+        pendingCount++;
+        size++;
+        if (pendingCount == chunkSize) {
+            writeChunk();
+        }
+    }
+
+    /**
+     * Дописывает все элементы в конец файла.
+     *
+     * @param elements источник элементов, например ObjectContainer
+     * @throws ContainerException если запись закрыта, для типа нет кодека
+     *         или произошла ошибка ввода-вывода
+     */
+    public void appendAll(Iterable<?> elements) {
+        for (Object element : elements) {
+            append(element);
+        }
+    }
+
+    /**
+     * Возвращает количество записанных элементов.
+     *
+     * @return количество элементов
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Записывает незаполненную часть и оглавление, сбрасывает данные
+     * на диск и закрывает файл. Повторный вызов ничего не делает.
+     *
+     * @throws ContainerException при ошибке ввода-вывода
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (pendingCount > 0) {
+                writeChunk();
+            }
+            writeIndex();
+            channel.force(true);
+        } catch (IOException e) {
+            throw new ContainerException("Не удалось записать оглавление файла частей " + file, e);
+        } finally {
+            closeQuietly(channel);
+        }
+    }
+
+    /**
+     * Записывает текущую часть в конец файла.
+     *
+     * @throws ContainerException при ошибке ввода-вывода
+     */
+    private void writeChunk() {
+        payload.flip();
+        CRC32C crc = new CRC32C();
+        crc.update(payload.duplicate());
+        ByteBuffer header = ByteBuffer.allocate(ChunkIndex.CHUNK_HEADER_BYTES);
+        header.putInt(pendingCount)
+            .putInt(payload.remaining())
+            .putInt((int) crc.getValue())
+            .flip();
+        try {
+            if (chunkCount == chunkOffsets.length) {
+                chunkOffsets = Arrays.copyOf(chunkOffsets, chunkCount * 2);
+            }
+            chunkOffsets[chunkCount] = channel.position();
+            writeFully(channel, header);
+            writeFully(channel, payload);
+        } catch (IOException e) {
+            throw new ContainerException("Не удалось записать часть в файл " + file, e);
+        }
+        chunkCount++;
+        pendingCount = 0;
+        payload.clear();
+    }
+
+    /**
+     * Записывает оглавление и концевик после последней части.
+     *
+     * @throws IOException при ошибке записи
+     */
+    private void writeIndex() throws IOException {
+        long indexPosition = channel.position();
+        byte[] tagTable = TagTable.encode(usedTags, registry);
+        ByteBuffer index = ByteBuffer.allocate(chunkCount * Long.BYTES + tagTable.length);
+        for (int i = 0; i < chunkCount; i++) {
+            index.putLong(chunkOffsets[i]);
+        }
+        index.put(tagTable).flip();
+        CRC32C crc = new CRC32C();
+        crc.update(index.duplicate());
+        ByteBuffer trailer = ByteBuffer.allocate(ChunkIndex.TRAILER_BYTES);
+        trailer.putLong(indexPosition)
+            .putLong(size)
+            .putInt(chunkCount)
+            .putInt(tagTable.length)
+            .putInt((int) crc.getValue())
+            .putInt(ChunkIndex.MAGIC)
+            .flip();
+        writeFully(channel, index);
+        writeFully(channel, trailer);
+    }
+
+    /**
+     * Гарантирует, что в буфере текущей части помещается еще bytes байт.
+     *
+     * @param bytes размер следующей записи
+     */
+    private void ensurePayload(int bytes) {
+        if (payload.remaining() < bytes) {
+            long required = (long) payload.position() + bytes;
+            int capacity = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(required, (long) payload.capacity() * 2));
+            if (capacity < required) {
+                throw new ContainerException("Часть файла " + file + " больше 2 ГБ, уменьшите размер части");
+            }
+            ByteBuffer grown = ByteBuffer.allocate(capacity);
+            payload.flip();
+            grown.put(payload);
+            payload = grown;
+        }
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new ContainerException("Запись в файл " + file + " закрыта");
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Закрывает канал после ошибки, не заменяя ее ошибкой закрытия.
+     *
+     * @param channel канал или null
+     */
+    static void closeQuietly(FileChannel channel) {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                // исходная ошибка важнее ошибки закрытия
+            }
+        }
+    }
+}
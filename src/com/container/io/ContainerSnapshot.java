@@ -0,0 +1,230 @@
+package com.container.io;
+
+import com.container.ObjectContainer;
+import com.container.codec.CodecRegistry;
+import com.container.exceptions.ContainerException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Двоичные снимки ObjectContainer для сохранения и быстрой загрузки.
+ * <p>
+ * Формат файла (порядок байт big-endian):
+ * <ul>
+ *     <li>заголовок 32 байта: сигнатура OCSN, версия, флаги, количество элементов,
+ *     длина таблицы тегов, длина данных и CRC32C всего, что следует за заголовком;</li>
+ *     <li>таблица тегов: для каждого встречающегося тега - сам тег
+ *     и имя класса, который он обозначает;</li>
+ *     <li>таблица смещений: по 4 байта на элемент, смещение записи от начала данных;</li>
+ *     <li>данные: для каждого элемента тег типа и запись его кодека.</li>
+ * </ul>
+ * Таблица смещений позволяет MappedSnapshot декодировать любой элемент
+ * без разбора предыдущих. Файл отображается в память целиком, поэтому
+ * размер снимка ограничен 2 ГБ.
+ * <p>
+ * Запись идет во временный файл рядом с целевым, который затем атомарно
+ * заменяет целевой: прерванная запись не портит предыдущий снимок.
+ *
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+public final class ContainerSnapshot {
+
+    /**
+     * Сигнатура файла: "OCSN"
+     */
+    static final int MAGIC = 0x4F43534E;
+
+    /**
+     * Версия формата
+     */
+    static final short VERSION = 1;
+
+    /**
+     * Размер заголовка в байтах
+     */
+    static final int HEADER_BYTES = 32;
+
+    /**
+     * Наибольший размер снимка, который можно отобразить в память одним буфером
+     */
+    static final long MAX_FILE_BYTES = Integer.MAX_VALUE;
+
+    private ContainerSnapshot() {
+    }
+
+    /**
+     * Сохраняет контейнер в файл.
+     * Снимок пишется во временный файл рядом и заменяет прежний только целиком;
+     * при ошибке временный файл удаляется, а прежний снимок не меняется.
+     *
+     * @param container сохраняемый контейнер
+     * @param file путь к файлу снимка
+     * @param registry кодеки типов элементов
+     * @throws ContainerException если для элемента нет кодека, снимок больше 2 ГБ
+     *         или произошла ошибка ввода-вывода
+     */
+    public static void write(ObjectContainer<?> container, Path file, CodecRegistry registry) {
+        int size = container.size();
+        byte[] tags = new byte[size];
+        int[] offsets = new int[size];
+        boolean[] usedTags = new boolean[CodecRegistry.MAX_TAG + 1];
+        long dataBytes = 0;
+        for (int i = 0; i < size; i++) {
+            Object element = container.get(i);
+            int tag = registry.tagOf(element);
+            tags[i] = (byte) tag;
+            usedTags[tag] = true;
+            if (dataBytes > Integer.MAX_VALUE) {
+                throw tooLarge(file);
+            }
+            offsets[i] = (int) dataBytes;
+            dataBytes += 1 + (tag == CodecRegistry.NULL_TAG ? 0 : registry.encodedSize(tag, element));
+        }
+        byte[] tagTable = TagTable.encode(usedTags, registry);
+        long fileBytes = HEADER_BYTES + tagTable.length + (long) size * Integer.BYTES + dataBytes;
+        if (fileBytes > MAX_FILE_BYTES) {
+            throw tooLarge(file);
+        }
+
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                channel.position(HEADER_BYTES);
+                ChecksummedOutput output = new ChecksummedOutput(channel);
+                ByteBuffer out = output.reserve(tagTable.length);
+                out.put(tagTable);
+                output.commit(out);
+                for (int i = 0; i < size; i++) {
+                    output.reserve(Integer.BYTES).putInt(offsets[i]);
+                }
+                for (int i = 0; i < size; i++) {
+                    Object element = container.get(i);
+                    int tag = tags[i] & 0xFF;
+                    int end = i + 1 < size ? offsets[i + 1] : (int) dataBytes;
+                    out = output.reserve(end - offsets[i]);
+                    out.put((byte) tag);
+                    if (tag != CodecRegistry.NULL_TAG) {
+                        registry.write(tag, out, element);
+                    }
+                    output.commit(out);
+                }
+                output.flush();
+
+                ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+                header.putInt(MAGIC)
+                    .putShort(VERSION)
+                    .putShort((short) 0)
+                    .putInt(size)
+                    .putInt(tagTable.length)
+                    .putLong(dataBytes)
+                    .putLong(output.checksum())
+                    .flip();
+                while (header.hasRemaining()) {
+                    channel.write(header, header.position());
+                }
+                channel.force(true);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            deleteTemp(temp, e);
+            throw new ContainerException("Не удалось записать снимок " + file, e);
+        } catch (RuntimeException e) {
+            deleteTemp(temp, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Удаляет недописанный временный файл снимка.
+     *
+     * @param temp временный файл
+     * @param failure ошибка записи, к которой добавляется ошибка удаления
+     */
+    private static void deleteTemp(Path temp, Exception failure) {
+        try {
+            Files.deleteIfExists(temp);
+        } catch (IOException e) {
+            failure.addSuppressed(e);
+        }
+    }
+
+    /**
+     * Загружает контейнер из файла, декодируя все элементы сразу.
+     * Контрольная сумма проверяется до декодирования.
+     *
+     * @param file путь к файлу снимка
+     * @param registry кодеки типов элементов
+     * @return восстановленный контейнер
+     * @throws ContainerException если файл поврежден, не совпадает с реестром
+     *         или произошла ошибка ввода-вывода
+     */
+    public static ObjectContainer<Object> read(Path file, CodecRegistry registry) {
+        return open(file, registry, true).toContainer();
+    }
+
+    /**
+     * Отображает снимок в память с проверкой контрольной суммы.
+     * Элементы декодируются при первом обращении.
+     *
+     * @param file путь к файлу снимка
+     * @param registry кодеки типов элементов
+     * @return снимок с ленивым декодированием
+     * @throws ContainerException если файл поврежден, не совпадает с реестром
+     *         или произошла ошибка ввода-вывода
+     */
+    public static MappedSnapshot open(Path file, CodecRegistry registry) {
+        return open(file, registry, true);
+    }
+
+    /**
+     * Отображает снимок в память. Элементы декодируются при первом обращении.
+     * Без проверки контрольной суммы открытие не читает данные файла вовсе,
+     * и страницы подгружаются с диска только для запрошенных элементов.
+     *
+     * @param file путь к файлу снимка
+     * @param registry кодеки типов элементов
+     * @param verifyChecksum проверять ли CRC32C всего файла при открытии
+     * @return снимок с ленивым декодированием
+     * @throws ContainerException если файл поврежден, не совпадает с реестром
+     *         или произошла ошибка ввода-вывода
+     */
+    public static MappedSnapshot open(Path file, CodecRegistry registry, boolean verifyChecksum) {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long fileBytes = channel.size();
+            if (fileBytes > MAX_FILE_BYTES) {
+                throw tooLarge(file);
+            }
+            if (fileBytes < HEADER_BYTES) {
+                throw corrupted(file, "файл короче заголовка");
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileBytes);
+        } catch (IOException e) {
+            throw new ContainerException("Не удалось открыть снимок " + file, e);
+        }
+        return new MappedSnapshot(file, buffer, registry, verifyChecksum);
+    }
+
+    /**
+     * Создает исключение о поврежденном снимке.
+     *
+     * @param file путь к файлу
+     * @param reason описание повреждения
+     * @return исключение
+     */
+    static ContainerException corrupted(Path file, String reason) {
+        return new ContainerException("Поврежденный снимок " + file + ": " + reason);
+    }
+
+    private static ContainerException tooLarge(Path file) {
+        return new ContainerException("Снимок " + file + " больше " + MAX_FILE_BYTES + " байт");
+    }
+}
@@ -0,0 +1,309 @@
+package com.container.io;
+
+import com.container.ObjectContainer;
+import com.container.codec.CodecRegistry;
+import com.container.codec.TypeCodec;
+import com.container.codec.TypeCodecs;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Тесты для двоичных снимков ContainerSnapshot без использования JUnit
+ *
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+public class ContainerSnapshotTest {
+
+    private int testCount = 0;
+    private int passedTests = 0;
+    private List<String> failedTests = new ArrayList<>();
+
+    /**
+     * Запуск всех тестов
+     */
+    public static void main(String[] args) {
+        ContainerSnapshotTest tester = new ContainerSnapshotTest();
+        tester.runAllTests();
+    }
+
+    /**
+     * Запускает все тесты и выводит результаты
+     */
+    public void runAllTests() {
+        System.out.println("=== Запуск тестов ContainerSnapshot ===\n");
+
+        testRoundTrip();
+        testEmptyContainer();
+        testLazyDecoding();
+        testLargeRecord();
+        testCustomCodec();
+        testUnknownType();
+        testCorruptedFile();
+        testRegistryMismatch();
+        testFailingCodec();
+
+        System.out.println("\n=== Результаты тестов ===");
+        System.out.println("Пройдено: " + passedTests + " из " + testCount + " тестов");
+
+        if (passedTests == testCount) {
+            System.out.println(" Все тесты прошли успешно!");
+        } else {
+            System.out.println(" Не все тесты прошли");
+            System.out.println("\n=== Проваленные тесты ===");
+            for (String failedTest : failedTests) {
+                System.out.println(" " + failedTest);
+            }
+        }
+    }
+
+    private void assertTrue(boolean condition, String message) {
+        testCount++;
+        if (condition) {
+            passedTests++;
+            System.out.println("прошли " + message);
+        } else {
+            failedTests.add(message);
+            System.out.println("не прошли " + message);
+        }
+    }
+
+    private void assertFalse(boolean condition, String message) {
+        assertTrue(!condition, message);
+    }
+
+    private void assertEquals(Object expected, Object actual, String message) {
+        testCount++;
+        boolean isEqual = (expected == null) ? actual == null : expected.equals(actual);
+        if (isEqual) {
+            passedTests++;
+            System.out.println("прошли " + message);
+        } else {
+            failedTests.add(message + " (ожидалось: " + expected + ", получено: " + actual + ")");
+            System.out.println("не прошли " + message + " (ожидалось: " + expected + ", получено: " + actual + ")");
+        }
+    }
+
+    private void assertThrows(Runnable code, String expectedMessage, String testName) {
+        testCount++;
+        try {
+            code.run();
+            failedTests.add(testName + " (ожидалось исключение)");
+            System.out.println("не прошли " + testName + " (ожидалось исключение)");
+        } catch (Exception e) {
+            if (e.getMessage().contains(expectedMessage)) {
+                passedTests++;
+                System.out.println("прошли " + testName);
+            } else {
+                failedTests.add(testName + " (неверное сообщение исключения: " + e.getMessage() + ")");
+                System.out.println("не прошли " + testName + " (неверное сообщение исключения: " + e.getMessage() + ")");
+            }
+        }
+    }
+
+    private Path tempFile() {
+        try {
+            Path file = Files.createTempFile("snapshot", ".bin");
+            file.toFile().deleteOnExit();
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private ObjectContainer<Object> sample() {
+        ObjectContainer<Object> container = new ObjectContainer<>();
+        container.add("Иванов Петр");
+        container.add(20);
+        container.add(null);
+        container.add("ФИИТ-2023 \uD83D\uDE00");
+        container.add(4.5);
+        container.add(Double.NaN);
+        container.add("");
+        return container;
+    }
+
+    public void testRoundTrip() {
+        Path file = tempFile();
+        ObjectContainer<Object> original = sample();
+        ContainerSnapshot.write(original, file, CodecRegistry.standard());
+        ObjectContainer<Object> restored = ContainerSnapshot.read(file, CodecRegistry.standard());
+
+        assertEquals(original.size(), restored.size(), "testRoundTrip - размер");
+        assertEquals(original.toString(), restored.toString(), "testRoundTrip - содержимое");
+        assertEquals(Integer.class, restored.get(1).getClass(), "testRoundTrip - тип Integer");
+        assertEquals(Double.class, restored.get(4).getClass(), "testRoundTrip - тип Double");
+        assertEquals(null, restored.get(2), "testRoundTrip - null");
+        assertFalse(Files.exists(file.resolveSibling(file.getFileName() + ".tmp")), "testRoundTrip - временный файл удален");
+    }
+
+    public void testEmptyContainer() {
+        Path file = tempFile();
+        ContainerSnapshot.write(new ObjectContainer<>(), file, CodecRegistry.standard());
+        assertTrue(ContainerSnapshot.read(file, CodecRegistry.standard()).isEmpty(), "testEmptyContainer - пустой снимок");
+    }
+
+    public void testLazyDecoding() {
+        Path file = tempFile();
+        ObjectContainer<Object> original = new ObjectContainer<>();
+        for (int i = 0; i < 10000; i++) {
+            original.add(i % 2 == 0 ? (Object) i : "строка " + i);
+        }
+        ContainerSnapshot.write(original, file, CodecRegistry.standard());
+
+        MappedSnapshot snapshot = ContainerSnapshot.open(file, CodecRegistry.standard(), false);
+        assertEquals(10000, snapshot.size(), "testLazyDecoding - размер");
+        assertEquals(0, snapshot.decodedCount(), "testLazyDecoding - ничего не декодировано при открытии");
+        assertEquals("строка 9999", snapshot.get(9999), "testLazyDecoding - последний элемент");
+        assertEquals(5000, snapshot.get(5000), "testLazyDecoding - элемент из середины");
+        snapshot.get(9999);
+        assertEquals(2, snapshot.decodedCount(), "testLazyDecoding - декодированы только запрошенные");
+        assertEquals(original.toString(), snapshot.toContainer().toString(), "testLazyDecoding - полный контейнер");
+        assertThrows(() -> snapshot.get(10000), "Индекс за пределами диапазона", "testLazyDecoding - неверный индекс");
+    }
+
+    public void testLargeRecord() {
+        Path file = tempFile();
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 100000; i++) {
+            text.append((char) ('а' + i % 32));
+        }
+        ObjectContainer<Object> original = new ObjectContainer<>();
+        original.add(1);
+        original.add(text.toString());
+        original.add(2);
+        ContainerSnapshot.write(original, file, CodecRegistry.standard());
+
+        ObjectContainer<Object> restored = ContainerSnapshot.read(file, CodecRegistry.standard());
+        assertEquals(text.toString(), restored.get(1), "testLargeRecord - запись больше буфера");
+        assertEquals(2, restored.get(2), "testLargeRecord - следующий элемент");
+    }
+
+    public void testCustomCodec() {
+        TypeCodec<Long> longCodec = new TypeCodec<Long>() {
+            @Override
+            public Class<Long> type() {
+                return Long.class;
+            }
+
+            @Override
+            public int encodedSize(Long value) {
+                return Long.BYTES;
+            }
+
+            @Override
+            public void write(ByteBuffer buffer, Long value) {
+                buffer.putLong(value);
+            }
+
+            @Override
+            public Long read(ByteBuffer buffer) {
+                return buffer.getLong();
+            }
+        };
+        CodecRegistry registry = CodecRegistry.standard().register(10, longCodec);
+        Path file = tempFile();
+        ObjectContainer<Object> original = new ObjectContainer<>();
+        original.add(Long.MAX_VALUE);
+        original.add("и строка");
+        ContainerSnapshot.write(original, file, registry);
+
+        assertEquals(Long.MAX_VALUE, ContainerSnapshot.read(file, registry).get(0), "testCustomCodec - свой кодек");
+        assertThrows(() -> ContainerSnapshot.read(file, CodecRegistry.standard()),
+                    "Нет кодека для тега 10", "testCustomCodec - тег не зарегистрирован при чтении");
+        assertThrows(() -> CodecRegistry.standard().register(1, longCodec),
+                    "Тег 1 уже занят", "testCustomCodec - занятый тег");
+        assertThrows(() -> CodecRegistry.standard().register(0, longCodec),
+                    "Тег типа должен быть в диапазоне", "testCustomCodec - тег null");
+    }
+
+    public void testUnknownType() {
+        Path file = tempFile();
+        ObjectContainer<Object> container = new ObjectContainer<>();
+        container.add(new Object());
+        assertThrows(() -> ContainerSnapshot.write(container, file, CodecRegistry.standard()),
+                    "Нет кодека для типа java.lang.Object", "testUnknownType - тип без кодека");
+    }
+
+    public void testCorruptedFile() {
+        Path file = tempFile();
+        ContainerSnapshot.write(sample(), file, CodecRegistry.standard());
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {42}), channel.size() - 3);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        assertThrows(() -> ContainerSnapshot.read(file, CodecRegistry.standard()),
+                    "контрольная сумма не совпадает", "testCorruptedFile - поврежденные данные");
+        assertEquals(7, ContainerSnapshot.open(file, CodecRegistry.standard(), false).size(),
+                    "testCorruptedFile - открытие без проверки");
+
+        Path empty = tempFile();
+        assertThrows(() -> ContainerSnapshot.read(empty, CodecRegistry.standard()),
+                    "файл короче заголовка", "testCorruptedFile - пустой файл");
+    }
+
+    public void testRegistryMismatch() {
+        Path file = tempFile();
+        ObjectContainer<Object> container = new ObjectContainer<>();
+        container.add("строка");
+        ContainerSnapshot.write(container, file, CodecRegistry.standard());
+
+        CodecRegistry swapped = new CodecRegistry()
+            .register(1, TypeCodecs.INTEGER);
+        assertThrows(() -> ContainerSnapshot.open(file, swapped),
+                    "обозначает java.lang.String", "testRegistryMismatch - другой тип под тегом");
+        assertEquals("строка", ContainerSnapshot.open(file, CodecRegistry.standard()).get(0),
+                    "testRegistryMismatch - тот же реестр");
+    }
+
+    public void testFailingCodec() {
+        TypeCodec<Long> failing = new TypeCodec<Long>() {
+            @Override
+            public Class<Long> type() {
+                return Long.class;
+            }
+
+            @Override
+            public int encodedSize(Long value) {
+                return Long.BYTES;
+            }
+
+            @Override
+            public void write(ByteBuffer buffer, Long value) {
+                throw new IllegalStateException("кодек не смог записать " + value);
+            }
+
+            @Override
+            public Long read(ByteBuffer buffer) {
+                return buffer.getLong();
+            }
+        };
+        CodecRegistry registry = CodecRegistry.standard().register(10, failing);
+        Path file = tempFile();
+        ContainerSnapshot.write(sample(), file, registry);
+
+        ObjectContainer<Object> container = new ObjectContainer<>();
+        container.add("до");
+        container.add(1L);
+        assertThrows(() -> ContainerSnapshot.write(container, file, registry),
+                    "кодек не смог записать", "testFailingCodec - ошибка кодека");
+        assertFalse(Files.exists(file.resolveSibling(file.getFileName() + ".tmp")),
+                    "testFailingCodec - временный файл удален");
+        assertEquals(sample().toString(), ContainerSnapshot.read(file, registry).toString(),
+                    "testFailingCodec - прежний снимок не изменился");
+    }
+
+    @FunctionalInterface
+    private interface Runnable {
+        void run();
+    }
+}
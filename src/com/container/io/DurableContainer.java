@@ -0,0 +1,978 @@
+package com.container.io;
+
+import com.container.ObjectContainer;
+import com.container.codec.CodecRegistry;
+import com.container.exceptions.ContainerException;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.CRC32C;
+
+/**
+ * Контейнер, изменения которого переживают аварийное завершение процесса.
+ * Каждое изменение (add, вставка по индексу, remove по индексу, clear)
+ * дописывается записью в журнал (write-ahead log) в каталоге контейнера
+ * и применяется к ObjectContainer в памяти. Изменение, которое не удалось
+ * закодировать или применить, не попадает ни в журнал, ни в контейнер.
+ * При открытии каталога
+ * состояние восстанавливается из последнего снимка и журнала поверх него.
+ * <p>
+ * Каталог содержит файлы одного поколения G:
+ * <ul>
+ *     <li>snapshot-G.ocs - снимок ContainerSnapshot (для G = 0 отсутствует);</li>
+ *     <li>log-G.wal - журнал изменений после снимка: заголовок 16 байт
+ *     (сигнатура OCWL, версия, поколение), затем записи
+ *     [длина данных, 4 байта][CRC32C данных, 4 байта][данные].</li>
+ * </ul>
+ * Данные записи - код операции, индекс для вставки и удаления, тег и запись
+ * кодека для добавляемого элемента. Перед первым элементом каждого тега
+ * в журнал пишется таблица тегов TagTable с одним тегом, чтобы при
+ * восстановлении сверить реестр кодеков.
+ * <p>
+ * Запись в журнал и fsync выполняет один поток-лидер для всех ожидающих
+ * (групповая фиксация): пока он сбрасывает накопленные записи на диск,
+ * остальные потоки продолжают дописывать в буфер, и следующий fsync
+ * подтверждает их все сразу. Режим задается при открытии:
+ * <ul>
+ *     <li>syncEveryRecords = 1 - каждое изменение возвращается только после
+ *     fsync, подтвержденные изменения не теряются;</li>
+ *     <li>syncEveryRecords = N - fsync выполняется раз в N записей или раз
+ *     в syncIntervalMillis (проверяется при очередном изменении); при сбое
+ *     теряется не больше последней неподтвержденной пачки.</li>
+ * </ul>
+ * Когда журнал превышает порог setCompactionThreshold, контейнер сжимает
+ * его: пишет снимок поколения G + 1, создает пустой журнал G + 1 и удаляет
+ * файлы поколения G. Снимок заменяется атомарно, поэтому сбой на любом шаге
+ * оставляет либо старое, либо новое поколение целиком.
+ * <p>
+ * При восстановлении недописанная или поврежденная запись в конце журнала
+ * (обрыв записи при сбое) отбрасывается, и файл усекается до последней
+ * целой записи. Поврежденный заголовок или запись, которая не применяется
+ * к контейнеру, считаются порчей файла и приводят к исключению.
+ * <p>
+ * Потокобезопасен. Изменения упорядочены монитором контейнера, чтения
+ * выполняются под тем же монитором.
+ *
+ * <pre>
+ * try (DurableContainer container = DurableContainer.open(dir, CodecRegistry.standard())) {
+ *     container.add("Иванов Петр");
+ * } // журнал сброшен на диск
+ * </pre>
+ *
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+public final class DurableContainer implements AutoCloseable {
+
+    /**
+     * Порог сжатия журнала по умолчанию: 64 МБ
+     */
+    public static final long DEFAULT_COMPACTION_BYTES = 64L << 20;
+
+    /**
+     * Сигнатура журнала: "OCWL"
+     */
+    static final int LOG_MAGIC = 0x4F43574C;
+
+    /**
+     * Версия формата журнала
+     */
+    static final short LOG_VERSION = 1;
+
+    /**
+     * Размер заголовка журнала в байтах
+     */
+    static final int LOG_HEADER_BYTES = 16;
+
+    /**
+     * Размер заголовка записи: длина и контрольная сумма данных
+     */
+    static final int RECORD_HEADER_BYTES = 8;
+
+    static final byte OP_ADD = 1;
+    static final byte OP_INSERT = 2;
+    static final byte OP_REMOVE = 3;
+    static final byte OP_CLEAR = 4;
+    static final byte OP_TAG = 5;
+
+    /**
+     * Сколько байт может накопиться в буфере без fsync, если порог по записям
+     * и по времени еще не достигнут
+     */
+    private static final int MAX_PENDING_BYTES = 1 << 20;
+
+    private static final int INITIAL_BUFFER_BYTES = 1 << 16;
+
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".ocs";
+    private static final String LOG_PREFIX = "log-";
+    private static final String LOG_SUFFIX = ".wal";
+
+    private final Path directory;
+    private final CodecRegistry registry;
+    private final int syncEveryRecords;
+    private final long syncIntervalNanos;
+    private final long recoveredRecords;
+
+    /**
+     * Монитор контейнера, буфера журнала и состояния поколения
+     */
+    private final Object lock = new Object();
+
+    /**
+     * Монитор очереди на fsync: под ним выбирается лидер
+     */
+    private final Object syncLock = new Object();
+
+    private final ObjectContainer<Object> container;
+    private final CRC32C checksum = new CRC32C();
+
+    /**
+     * Теги, таблица которых уже записана в текущий журнал
+     */
+    private final boolean[] declaredTags = new boolean[CodecRegistry.MAX_TAG + 1];
+
+    /**
+     * Записи, еще не переданные в файл
+     */
+    private ByteBuffer pending = ByteBuffer.allocate(INITIAL_BUFFER_BYTES);
+
+    /**
+     * Второй буфер, который лидер подменяет на время записи в файл
+     */
+    private ByteBuffer spare = ByteBuffer.allocate(INITIAL_BUFFER_BYTES);
+
+    private FileChannel log;
+    private long generation;
+    private long appendedRecords;
+    private boolean closed;
+
+    /**
+     * Размер текущего журнала вместе с буфером
+     */
+    private volatile long logBytes;
+
+    /**
+     * Сколько байт и записей текущего журнала подтверждено fsync
+     */
+    private volatile long durableBytes;
+    private volatile long durableRecords;
+
+    private volatile long lastSyncNanos = System.nanoTime();
+    private volatile long syncs;
+    private volatile long compactionBytes = DEFAULT_COMPACTION_BYTES;
+
+    /**
+     * Ошибка записи журнала; после нее изменения не принимаются
+     */
+    private volatile IOException failure;
+
+    /**
+     * Выполняет ли какой-то поток запись в файл (guarded by syncLock)
+     */
+    private boolean syncing;
+
+    private DurableContainer(Path directory, CodecRegistry registry, int syncEveryRecords, long syncIntervalMillis,
+                             ObjectContainer<Object> container, FileChannel log, long generation,
+                             long logBytes, long recoveredRecords, boolean[] declaredTags) {
+        this.directory = directory;
+        this.registry = registry;
+        this.syncEveryRecords = syncEveryRecords;
+        this.syncIntervalNanos = syncIntervalMillis * 1_000_000L;
+        this.container = container;
+        this.log = log;
+        this.generation = generation;
+        this.logBytes = logBytes;
+        this.durableBytes = logBytes;
+        this.recoveredRecords = recoveredRecords;
+        System.arraycopy(declaredTags, 0, this.declaredTags, 0, declaredTags.length);
+    }
+
+    /**
+     * Открывает или создает контейнер в каталоге с fsync после каждого изменения.
+     *
+     * @param directory каталог контейнера; создается, если его нет
+     * @param registry кодеки типов элементов
+     * @return восстановленный контейнер
+     * @throws ContainerException если файлы повреждены, не совпадают с реестром
+     *         или произошла ошибка ввода-вывода
+     */
+    public static DurableContainer open(Path directory, CodecRegistry registry) {
+        return open(directory, registry, 1, 0);
+    }
+
+    /**
+     * Открывает или создает контейнер в каталоге с пакетным fsync.
+     *
+     * @param directory каталог контейнера; создается, если его нет
+     * @param registry кодеки типов элементов
+     * @param syncEveryRecords через сколько записей выполнять fsync; 1 - ждать fsync в каждом изменении
+     * @param syncIntervalMillis наибольший промежуток между fsync в миллисекундах; 0 - без ограничения
+     * @return восстановленный контейнер
+     * @throws ContainerException если параметры недопустимы, файлы повреждены,
+     *         не совпадают с реестром или произошла ошибка ввода-вывода
+     */
+    public static DurableContainer open(Path directory, CodecRegistry registry,
+                                        int syncEveryRecords, long syncIntervalMillis) {
+        if (syncEveryRecords <= 0 || syncIntervalMillis < 0) {
+            throw new ContainerException(
+                "Недопустимые параметры синхронизации: " + syncEveryRecords + ", " + syncIntervalMillis
+            );
+        }
+        try {
+            Files.createDirectories(directory);
+            long generation = latestSnapshot(directory);
+            ObjectContainer<Object> container = generation == 0
+                ? new ObjectContainer<>()
+                : ContainerSnapshot.read(snapshotFile(directory, generation), registry);
+
+            Path logFile = logFile(directory, generation);
+            boolean[] declaredTags = new boolean[CodecRegistry.MAX_TAG + 1];
+            long recovered = 0;
+            FileChannel log;
+            long logBytes;
+            if (Files.exists(logFile) && Files.size(logFile) >= LOG_HEADER_BYTES) {
+                byte[] bytes = Files.readAllBytes(logFile);
+                Replay replay = new Replay(logFile, registry, container, declaredTags);
+                int validEnd = replay.run(bytes, generation);
+                recovered = replay.records;
+                log = FileChannel.open(logFile, StandardOpenOption.WRITE);
+                if (validEnd < bytes.length) {
+                    log.truncate(validEnd);
+                    log.force(false);
+                }
+                log.position(validEnd);
+                logBytes = validEnd;
+            } else {
+                log = createLog(logFile, generation);
+                logBytes = LOG_HEADER_BYTES;
+            }
+            deleteStaleFiles(directory, generation);
+            return new DurableContainer(directory, registry, syncEveryRecords, syncIntervalMillis,
+                container, log, generation, logBytes, recovered, declaredTags);
+        } catch (IOException e) {
+            throw new ContainerException("Не удалось открыть контейнер в каталоге " + directory, e);
+        }
+    }
+
+    /**
+     * Добавляет элемент в конец контейнера.
+     *
+     * @param element элемент, тип которого зарегистрирован в реестре, или null
+     * @return true
+     * @throws ContainerException если контейнер закрыт, для типа нет кодека
+     *         или произошла ошибка записи журнала
+     */
+    public boolean add(Object element) {
+        long record;
+        synchronized (lock) {
+            checkOpen();
+            int tag = registry.tagOf(element);
+            record = appendElement(OP_ADD, -1, tag, element);
+        }
+        afterAppend(record);
+        return true;
+    }
+
+    /**
+     * Вставляет элемент по индексу.
+     *
+     * @param index позиция вставки от 0 до size
+     * @param element элемент, тип которого зарегистрирован в реестре, или null
+     * @throws ContainerException если индекс недопустим, контейнер закрыт,
+     *         для типа нет кодека или произошла ошибка записи журнала
+     */
+    public void add(int index, Object element) {
+        long record;
+        synchronized (lock) {
+            checkOpen();
+            int tag = registry.tagOf(element);
+            record = appendElement(OP_INSERT, index, tag, element);
+        }
+        afterAppend(record);
+    }
+
+    /**
+     * Удаляет элемент по индексу.
+     *
+     * @param index индекс от 0 до size - 1
+     * @return удаленный элемент
+     * @throws ContainerException если индекс недопустим, контейнер закрыт
+     *         или произошла ошибка записи журнала
+     */
+    public Object remove(int index) {
+        long record;
+        Object removed;
+        synchronized (lock) {
+            checkOpen();
+            removed = container.remove(index);
+            int start = beginRecord(1 + Integer.BYTES);
+            pending.put(OP_REMOVE).putInt(index);
+            endRecord(start);
+            record = ++appendedRecords;
+        }
+        afterAppend(record);
+        return removed;
+    }
+
+    /**
+     * Удаляет все элементы.
+     *
+     * @throws ContainerException если контейнер закрыт или произошла ошибка записи журнала
+     */
+    public void clear() {
+        long record;
+        synchronized (lock) {
+            checkOpen();
+            container.clear();
+            int start = beginRecord(1);
+            pending.put(OP_CLEAR);
+            endRecord(start);
+            record = ++appendedRecords;
+        }
+        afterAppend(record);
+    }
+
+    /**
+     * Сбрасывает все записанные изменения на диск.
+     *
+     * @throws ContainerException если контейнер закрыт или произошла ошибка записи журнала
+     */
+    public void sync() {
+        long record;
+        synchronized (lock) {
+            checkOpen();
+            record = appendedRecords;
+        }
+        awaitDurable(record);
+    }
+
+    /**
+     * Записывает снимок текущего состояния и начинает новый пустой журнал.
+     * Изменения на время сжатия блокируются.
+     *
+     * @throws ContainerException если контейнер закрыт или произошла ошибка ввода-вывода
+     */
+    public void compact() {
+        compact(false);
+    }
+
+    /**
+     * Задает размер журнала, после которого он автоматически сжимается.
+     *
+     * @param bytes порог в байтах
+     * @throws ContainerException если порог меньше заголовка журнала или больше 2 ГБ
+     */
+    public void setCompactionThreshold(long bytes) {
+        if (bytes <= LOG_HEADER_BYTES || bytes > ContainerSnapshot.MAX_FILE_BYTES) {
+            throw new ContainerException("Недопустимый порог сжатия журнала: " + bytes);
+        }
+        compactionBytes = bytes;
+    }
+
+    /**
+     * Возвращает элемент по индексу.
+     *
+     * @param index индекс элемента
+     * @return элемент по указанному индексу
+     * @throws ContainerException если индекс недопустим
+     */
+    public Object get(int index) {
+        synchronized (lock) {
+            return container.get(index);
+        }
+    }
+
+    /**
+     * Возвращает текущее количество элементов.
+     *
+     * @return количество элементов
+     */
+    public int size() {
+        synchronized (lock) {
+            return container.size();
+        }
+    }
+
+    /**
+     * Проверяет, пуст ли контейнер.
+     *
+     * @return true если контейнер пуст
+     */
+    public boolean isEmpty() {
+        synchronized (lock) {
+            return container.isEmpty();
+        }
+    }
+
+    /**
+     * Проверяет наличие элемента в контейнере.
+     *
+     * @param element искомый элемент
+     * @return true если элемент найден
+     */
+    public boolean contains(Object element) {
+        synchronized (lock) {
+            return container.contains(element);
+        }
+    }
+
+    /**
+     * Ищет индекс первого вхождения элемента.
+     *
+     * @param element искомый элемент
+     * @return индекс элемента или -1 если не найден
+     */
+    public int findIndex(Object element) {
+        synchronized (lock) {
+            return container.findIndex(element);
+        }
+    }
+
+    /**
+     * Возвращает массив со всеми элементами контейнера.
+     *
+     * @return массив элементов
+     */
+    public Object[] toArray() {
+        synchronized (lock) {
+            return container.toArray();
+        }
+    }
+
+    /**
+     * @return номер текущего поколения: сколько раз журнал был сжат
+     */
+    public long getGeneration() {
+        synchronized (lock) {
+            return generation;
+        }
+    }
+
+    /**
+     * @return размер текущего журнала в байтах, включая еще не записанные в файл
+     */
+    public long getLogBytes() {
+        return logBytes;
+    }
+
+    /**
+     * @return количество выполненных fsync журнала
+     */
+    public long getSyncs() {
+        return syncs;
+    }
+
+    /**
+     * @return количество изменений, примененных из журнала при открытии
+     */
+    public long getRecoveredRecords() {
+        return recoveredRecords;
+    }
+
+    /**
+     * Сбрасывает журнал на диск и закрывает файл. Повторный вызов ничего не делает.
+     *
+     * @throws ContainerException при ошибке ввода-вывода
+     */
+    @Override
+    public void close() {
+        acquireSync();
+        try {
+            synchronized (lock) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                try {
+                    if (failure == null) {
+                        ByteBuffer batch = pending;
+                        batch.flip();
+                        writeFully(log, batch);
+                        batch.clear();
+                        log.force(false);
+                        durableBytes = logBytes;
+                        durableRecords = appendedRecords;
+                    }
+                    log.close();
+                } catch (IOException e) {
+                    throw new ContainerException("Не удалось закрыть журнал " + logFile(directory, generation), e);
+                }
+            }
+        } finally {
+            releaseSync();
+        }
+    }
+
+    @Override
+    public String toString() {
+        synchronized (lock) {
+            return container.toString();
+        }
+    }
+
+    /**
+     * Дописывает запись с элементом и, если тег еще не встречался
+     * в журнале, предшествующую ей таблицу тега, затем применяет изменение
+     * к контейнеру. Если кодек или контейнер бросили исключение, буфер,
+     * размер журнала и объявленные теги возвращаются к прежнему состоянию,
+     * и ни контейнер, ни журнал не меняются.
+     *
+     * @param op OP_ADD или OP_INSERT
+     * @param index позиция вставки для OP_INSERT, иначе -1
+     * @return порядковый номер изменения
+     */
+    private long appendElement(byte op, int index, int tag, Object element) {
+        int mark = pending.position();
+        long markBytes = logBytes;
+        boolean declared = tag == CodecRegistry.NULL_TAG || declaredTags[tag];
+        try {
+            if (!declared) {
+                boolean[] tags = new boolean[CodecRegistry.MAX_TAG + 1];
+                tags[tag] = true;
+                byte[] table = TagTable.encode(tags, registry);
+                int start = beginRecord(1 + table.length);
+                pending.put(OP_TAG).put(table);
+                endRecord(start);
+                declaredTags[tag] = true;
+            }
+            int valueBytes = tag == CodecRegistry.NULL_TAG ? 0 : registry.encodedSize(tag, element);
+            int start = beginRecord(1 + (index >= 0 ? Integer.BYTES : 0) + 1 + valueBytes);
+            pending.put(op);
+            if (index >= 0) {
+                pending.putInt(index);
+            }
+            pending.put((byte) tag);
+            if (tag != CodecRegistry.NULL_TAG) {
+                registry.write(tag, pending, element);
+            }
+            endRecord(start);
+            if (op == OP_INSERT) {
+                container.add(index, element);
+            } else {
+                container.add(element);
+            }
+        } catch (RuntimeException e) {
+            pending.position(mark);
+            logBytes = markBytes;
+            if (!declared) {
+                declaredTags[tag] = false;
+            }
+            throw e;
+        }
+        return ++appendedRecords;
+    }
+
+    /**
+     * Резервирует в буфере место под запись и возвращает ее начало.
+     * Данные записи пишутся в pending сразу после вызова.
+     */
+    private int beginRecord(int payloadBytes) {
+        int bytes = RECORD_HEADER_BYTES + payloadBytes;
+        if (pending.remaining() < bytes) {
+            int capacity = Math.max(pending.capacity() * 2, pending.position() + bytes);
+            ByteBuffer grown = ByteBuffer.allocate(capacity);
+            pending.flip();
+            grown.put(pending);
+            pending = grown;
+        }
+        int start = pending.position();
+        pending.position(start + RECORD_HEADER_BYTES);
+        return start;
+    }
+
+    /**
+     * Заполняет заголовок записи, данные которой уже в буфере.
+     */
+    private void endRecord(int start) {
+        int end = pending.position();
+        int payloadBytes = end - start - RECORD_HEADER_BYTES;
+        checksum.reset();
+        checksum.update(pending.array(), pending.arrayOffset() + start + RECORD_HEADER_BYTES, payloadBytes);
+        pending.putInt(start, payloadBytes).putInt(start + Integer.BYTES, (int) checksum.getValue());
+        logBytes += end - start;
+    }
+
+    /**
+     * Ждет fsync, если он положен по настройкам, и сжимает журнал,
+     * если тот превысил порог.
+     */
+    private void afterAppend(long record) {
+        if (syncEveryRecords == 1
+                || record - durableRecords >= syncEveryRecords
+                || logBytes - durableBytes >= MAX_PENDING_BYTES
+                || syncIntervalNanos > 0 && System.nanoTime() - lastSyncNanos >= syncIntervalNanos) {
+            awaitDurable(record);
+        }
+        if (logBytes >= compactionBytes) {
+            compact(true);
+        }
+    }
+
+    /**
+     * Возвращается, когда запись с указанным номером подтверждена fsync.
+     * Если файл сейчас никто не пишет, текущий поток становится лидером
+     * и сбрасывает все накопленные записи, в том числе чужие.
+     */
+    private void awaitDurable(long record) {
+        synchronized (syncLock) {
+            while (durableRecords < record) {
+                checkFailure();
+                if (!syncing) {
+                    break;
+                }
+                waitForSync();
+            }
+            if (durableRecords >= record) {
+                return;
+            }
+            syncing = true;
+        }
+        try {
+            flush();
+        } finally {
+            releaseSync();
+        }
+    }
+
+    /**
+     * Передает накопленные записи в файл и выполняет fsync.
+     * Вызывается только лидером; буфер подменяется под монитором контейнера,
+     * поэтому запись в файл не блокирует новые изменения.
+     */
+    private void flush() {
+        ByteBuffer batch;
+        long targetRecords;
+        long targetBytes;
+        FileChannel channel;
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            batch = pending;
+            pending = spare;
+            spare = batch;
+            targetRecords = appendedRecords;
+            targetBytes = logBytes;
+            channel = log;
+        }
+        batch.flip();
+        try {
+            writeFully(channel, batch);
+            channel.force(false);
+        } catch (IOException e) {
+            failure = e;
+            throw failed();
+        } finally {
+            batch.clear();
+        }
+        durableBytes = targetBytes;
+        durableRecords = targetRecords;
+        lastSyncNanos = System.nanoTime();
+        syncs++;
+    }
+
+    /**
+     * Пишет снимок следующего поколения и переключает журнал на новый файл.
+     *
+     * @param onlyIfDue сжимать, только если журнал превысил порог
+     */
+    private void compact(boolean onlyIfDue) {
+        acquireSync();
+        try {
+            synchronized (lock) {
+                if (onlyIfDue && (closed || logBytes < compactionBytes)) {
+                    return;
+                }
+                checkOpen();
+                checkFailure();
+                long next = generation + 1;
+                ContainerSnapshot.write(container, snapshotFile(directory, next), registry);
+                // с этого момента восстановление начнется со снимка next,
+                // поэтому ошибка ниже останавливает прием изменений
+                try {
+                    FileChannel nextLog = createLog(logFile(directory, next), next);
+                    FileChannel previous = log;
+                    log = nextLog;
+                    previous.close();
+                } catch (IOException e) {
+                    failure = e;
+                    throw failed();
+                }
+                deleteQuietly(logFile(directory, generation));
+                deleteQuietly(snapshotFile(directory, generation));
+                generation = next;
+                pending.clear();
+                Arrays.fill(declaredTags, false);
+                logBytes = LOG_HEADER_BYTES;
+                durableBytes = LOG_HEADER_BYTES;
+                durableRecords = appendedRecords;
+            }
+        } finally {
+            releaseSync();
+        }
+    }
+
+    private void acquireSync() {
+        synchronized (syncLock) {
+            while (syncing) {
+                waitForSync();
+            }
+            syncing = true;
+        }
+    }
+
+    private void releaseSync() {
+        synchronized (syncLock) {
+            syncing = false;
+            syncLock.notifyAll();
+        }
+    }
+
+    private void waitForSync() {
+        try {
+            syncLock.wait();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ContainerException("Ожидание записи журнала прервано", e);
+        }
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new ContainerException("Контейнер в каталоге " + directory + " закрыт");
+        }
+        checkFailure();
+    }
+
+    private void checkFailure() {
+        if (failure != null) {
+            throw failed();
+        }
+    }
+
+    private ContainerException failed() {
+        return new ContainerException("Журнал в каталоге " + directory + " недоступен после ошибки записи", failure);
+    }
+
+    /**
+     * Создает пустой журнал поколения и синхронизирует каталог,
+     * чтобы новый файл не пропал при сбое.
+     */
+    private static FileChannel createLog(Path file, long generation) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(LOG_HEADER_BYTES);
+            header.putInt(LOG_MAGIC)
+                .putShort(LOG_VERSION)
+                .putShort((short) 0)
+                .putLong(generation)
+                .flip();
+            writeFully(channel, header);
+            channel.force(true);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        syncDirectory(file.getParent());
+        return channel;
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static void syncDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // не все файловые системы позволяют открыть каталог; файл уже сброшен
+        }
+    }
+
+    /**
+     * Возвращает поколение самого нового снимка в каталоге или 0.
+     */
+    private static long latestSnapshot(Path directory) throws IOException {
+        long latest = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                latest = Math.max(latest, generationOf(file, SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX));
+            }
+        }
+        return latest;
+    }
+
+    /**
+     * Удаляет файлы других поколений и временные файлы прерванной записи снимка.
+     */
+    private static void deleteStaleFiles(Path directory, long generation) throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                long snapshot = generationOf(file, SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX);
+                long log = generationOf(file, LOG_PREFIX, LOG_SUFFIX);
+                boolean stale = snapshot >= 0 && snapshot != generation
+                    || log >= 0 && log != generation
+                    || file.getFileName().toString().startsWith(SNAPSHOT_PREFIX)
+                        && file.getFileName().toString().endsWith(".tmp");
+                if (stale) {
+                    deleteQuietly(file);
+                }
+            }
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            // лишний файл будет удален при следующем открытии
+        }
+    }
+
+    private static long generationOf(Path file, String prefix, String suffix) {
+        String name = file.getFileName().toString();
+        if (!name.startsWith(prefix) || !name.endsWith(suffix)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(name.substring(prefix.length(), name.length() - suffix.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static Path snapshotFile(Path directory, long generation) {
+        return directory.resolve(SNAPSHOT_PREFIX + generation + SNAPSHOT_SUFFIX);
+    }
+
+    private static Path logFile(Path directory, long generation) {
+        return directory.resolve(LOG_PREFIX + generation + LOG_SUFFIX);
+    }
+
+    private static ContainerException corrupted(Path file, String reason) {
+        return new ContainerException("Поврежденный журнал " + file + ": " + reason);
+    }
+
+    /**
+     * Применение журнала к контейнеру, восстановленному из снимка.
+     */
+    private static final class Replay {
+        private final Path file;
+        private final CodecRegistry registry;
+        private final ObjectContainer<Object> container;
+        private final boolean[] declaredTags;
+        private final CRC32C checksum = new CRC32C();
+
+        /**
+         * Количество примененных изменений
+         */
+        long records;
+
+        Replay(Path file, CodecRegistry registry, ObjectContainer<Object> container, boolean[] declaredTags) {
+            this.file = file;
+            this.registry = registry;
+            this.container = container;
+            this.declaredTags = declaredTags;
+        }
+
+        /**
+         * Проверяет заголовок и применяет записи до первой недописанной.
+         *
+         * @return длина целой части журнала в байтах
+         */
+        int run(byte[] bytes, long generation) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            if (buffer.getInt() != LOG_MAGIC) {
+                throw corrupted(file, "неверная сигнатура");
+            }
+            short version = buffer.getShort();
+            if (version != LOG_VERSION) {
+                throw corrupted(file, "неподдерживаемая версия " + version);
+            }
+            buffer.getShort();
+            long fileGeneration = buffer.getLong();
+            if (fileGeneration != generation) {
+                throw corrupted(file, "поколение " + fileGeneration + " вместо " + generation);
+            }
+            int validEnd = LOG_HEADER_BYTES;
+            while (buffer.remaining() >= RECORD_HEADER_BYTES) {
+                int payloadBytes = buffer.getInt();
+                int expected = buffer.getInt();
+                if (payloadBytes <= 0 || payloadBytes > buffer.remaining()) {
+                    break;
+                }
+                checksum.reset();
+                checksum.update(bytes, buffer.position(), payloadBytes);
+                if ((int) checksum.getValue() != expected) {
+                    break;
+                }
+                ByteBuffer payload = buffer.slice();
+                payload.limit(payloadBytes);
+                apply(payload, validEnd);
+                buffer.position(buffer.position() + payloadBytes);
+                validEnd = buffer.position();
+            }
+            return validEnd;
+        }
+
+        private void apply(ByteBuffer payload, int offset) {
+            try {
+                byte op = payload.get();
+                switch (op) {
+                    case OP_ADD:
+                        container.add(readElement(payload, offset));
+                        break;
+                    case OP_INSERT:
+                        int index = payload.getInt();
+                        if (index < 0 || index > container.size()) {
+                            throw corrupted(file, "вставка по индексу " + index + " по смещению " + offset);
+                        }
+                        container.add(index, readElement(payload, offset));
+                        break;
+                    case OP_REMOVE:
+                        int removed = payload.getInt();
+                        if (removed < 0 || removed >= container.size()) {
+                            throw corrupted(file, "удаление по индексу " + removed + " по смещению " + offset);
+                        }
+                        container.remove(removed);
+                        break;
+                    case OP_CLEAR:
+                        container.clear();
+                        break;
+                    case OP_TAG:
+                        boolean[] tags = TagTable.verify(payload, registry, file);
+                        for (int tag = 0; tag < tags.length; tag++) {
+                            declaredTags[tag] |= tags[tag];
+                        }
+                        return;
+                    default:
+                        throw corrupted(file, "неизвестная операция " + op + " по смещению " + offset);
+                }
+            } catch (BufferUnderflowException e) {
+                throw corrupted(file, "запись по смещению " + offset + " короче своих данных");
+            }
+            if (payload.hasRemaining()) {
+                throw corrupted(file, "лишние байты в записи по смещению " + offset);
+            }
+            records++;
+        }
+
+        private Object readElement(ByteBuffer payload, int offset) {
+            int tag = payload.get() & 0xFF;
+            if (tag != CodecRegistry.NULL_TAG && !declaredTags[tag]) {
+                throw corrupted(file, "тег " + tag + " по смещению " + offset + " не объявлен");
+            }
+            return registry.read(tag, payload);
+        }
+    }
+}
@@ -0,0 +1,470 @@
+package com.container.io;
+
+import com.container.codec.CodecRegistry;
+import com.container.codec.TypeCodec;
+import com.container.codec.TypeCodecs;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Тесты для класса DurableContainer без использования JUnit
+ *
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+public class DurableContainerTest {
+
+    private int testCount = 0;
+    private int passedTests = 0;
+    private List<String> failedTests = new ArrayList<>();
+
+    /**
+     * Запуск всех тестов
+     */
+    public static void main(String[] args) {
+        DurableContainerTest tester = new DurableContainerTest();
+        tester.runAllTests();
+    }
+
+    /**
+     * Запускает все тесты и выводит результаты
+     */
+    public void runAllTests() {
+        System.out.println("=== Запуск тестов DurableContainer ===\n");
+
+        testPersistAndReopen();
+        testRecoveryWithoutClose();
+        testBatchedSync();
+        testTornTail();
+        testCorruptedHeader();
+        testCompaction();
+        testGroupCommit();
+        testRegistryMismatch();
+        testInvalidOperations();
+        testFailingCodec();
+
+        System.out.println("\n=== Результаты тестов ===");
+        System.out.println("Пройдено: " + passedTests + " из " + testCount + " тестов");
+
+        if (passedTests == testCount) {
+            System.out.println(" Все тесты прошли успешно!");
+        } else {
+            System.out.println(" Не все тесты прошли");
+            System.out.println("\n=== Проваленные тесты ===");
+            for (String failedTest : failedTests) {
+                System.out.println(" " + failedTest);
+            }
+        }
+    }
+
+    private void assertTrue(boolean condition, String message) {
+        testCount++;
+        if (condition) {
+            passedTests++;
+            System.out.println("прошли " + message);
+        } else {
+            failedTests.add(message);
+            System.out.println("не прошли " + message);
+        }
+    }
+
+    private void assertFalse(boolean condition, String message) {
+        assertTrue(!condition, message);
+    }
+
+    private void assertEquals(Object expected, Object actual, String message) {
+        testCount++;
+        boolean isEqual = (expected == null) ? actual == null : expected.equals(actual);
+        if (isEqual) {
+            passedTests++;
+            System.out.println("прошли " + message);
+        } else {
+            failedTests.add(message + " (ожидалось: " + expected + ", получено: " + actual + ")");
+            System.out.println("не прошли " + message + " (ожидалось: " + expected + ", получено: " + actual + ")");
+        }
+    }
+
+    private void assertThrows(Runnable code, String expectedMessage, String testName) {
+        testCount++;
+        try {
+            code.run();
+            failedTests.add(testName + " (ожидалось исключение)");
+            System.out.println("не прошли " + testName + " (ожидалось исключение)");
+        } catch (Exception e) {
+            if (e.getMessage().contains(expectedMessage)) {
+                passedTests++;
+                System.out.println("прошли " + testName);
+            } else {
+                failedTests.add(testName + " (неверное сообщение исключения: " + e.getMessage() + ")");
+                System.out.println("не прошли " + testName + " (неверное сообщение исключения: " + e.getMessage() + ")");
+            }
+        }
+    }
+
+    private Path tempDirectory() {
+        try {
+            return Files.createTempDirectory("durable");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void deleteDirectory(Path directory) {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private List<String> fileNames(Path directory) {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString()).sorted().collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private long fileSize(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeAt(Path file, byte[] bytes, long position) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(bytes), position);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void truncate(Path file, long size) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(size);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void testPersistAndReopen() {
+        Path directory = tempDirectory();
+        try (DurableContainer container = DurableContainer.open(directory, CodecRegistry.standard())) {
+            assertTrue(container.isEmpty(), "testPersistAndReopen - новый каталог пуст");
+            container.add("Иванов Петр");
+            container.add(20);
+            container.add(null);
+            container.add(4.5);
+            container.add(0, "ФИИТ-2023");
+            assertEquals(20, container.remove(2), "testPersistAndReopen - remove возвращает элемент");
+        }
+        assertEquals(List.of("log-0.wal"), fileNames(directory), "testPersistAndReopen - только журнал");
+
+        try (DurableContainer reopened = DurableContainer.open(directory, CodecRegistry.standard())) {
+            assertEquals("[ФИИТ-2023, Иванов Петр, null, 4.5]", reopened.toString(),
+                        "testPersistAndReopen - содержимое восстановлено");
+            assertEquals(6L, reopened.getRecoveredRecords(), "testPersistAndReopen - применено изменений");
+            assertEquals(Double.class, reopened.get(3).getClass(), "testPersistAndReopen - тип Double");
+            reopened.clear();
+            reopened.add("после очистки");
+        }
+
+        try (DurableContainer reopened = DurableContainer.open(directory, CodecRegistry.standard())) {
+            assertEquals(1, reopened.size(), "testPersistAndReopen - clear записан в журнал");
+            assertEquals(0, reopened.findIndex("после очистки"), "testPersistAndReopen - добавление после clear");
+        }
+        deleteDirectory(directory);
+    }
+
+    public void testRecoveryWithoutClose() {
+        Path directory = tempDirectory();
+        DurableContainer crashed = DurableContainer.open(directory, CodecRegistry.standard());
+        for (int i = 0; i < 100; i++) {
+            crashed.add("элемент-" + i);
+        }
+        crashed.remove(0);
+
+        // процесс "упал": контейнер не закрыт, журнал открывается заново
+        try (DurableContainer recovered = DurableContainer.open(directory, CodecRegistry.standard())) {
+            assertEquals(99, recovered.size(), "testRecoveryWithoutClose - подтвержденные изменения на месте");
+            assertEquals("элемент-1", recovered.get(0), "testRecoveryWithoutClose - удаление применено");
+            assertEquals(101L, recovered.getRecoveredRecords(), "testRecoveryWithoutClose - применено изменений");
+        }
+        crashed.close();
+        deleteDirectory(directory);
+    }
+
+    public void testBatchedSync() {
+        Path directory = tempDirectory();
+        DurableContainer crashed = DurableContainer.open(directory, CodecRegistry.standard(), 100, 0);
+        for (int i = 0; i < 1050; i++) {
+            crashed.add(i);
+        }
+        assertEquals(10L, crashed.getSyncs(), "testBatchedSync - fsync раз в 100 записей");
+
+        try (DurableContainer recovered = DurableContainer.open(directory, CodecRegistry.standard())) {
+            assertEquals(1000, recovered.size(), "testBatchedSync - неподтвержденная пачка потеряна");
+            assertEquals(999, recovered.get(999), "testBatchedSync - последний подтвержденный элемент");
+        }
+
+        crashed.sync();
+        assertEquals(11L, crashed.getSyncs(), "testBatchedSync - явный sync");
+        try (DurableContainer recovered = DurableContainer.open(directory, CodecRegistry.standard())) {
+            assertEquals(1050, recovered.size(), "testBatchedSync - после sync все на месте");
+        }
+        crashed.close();
+
+        Path timed = tempDirectory();
+        try (DurableContainer container = DurableContainer.open(timed, CodecRegistry.standard(), 1_000_000, 1)) {
+            container.add(1);
+            sleep(5);
+            container.add(2);
+            assertTrue(container.getSyncs() >= 1, "testBatchedSync - fsync по времени");
+        }
+        deleteDirectory(directory);
+        deleteDirectory(timed);
+    }
+
+    public void testTornTail() {
+        Path directory = tempDirectory();
+        Path log = directory.resolve("log-0.wal");
+        try (DurableContainer container = DurableContainer.open(directory, CodecRegistry.standard())) {
+            container.add("первый");
+            container.add("второй");
+        }
+        long intact = fileSize(log);
+        try (DurableContainer container = DurableContainer.open(directory, CodecRegistry.standard())) {
+            container.add("недописанный");
+        }
+        truncate(log, fileSize(log) - 3);
+
+        try (DurableContainer recovered = DurableContainer.open(directory, CodecRegistry.standard())) {
+            assertEquals("[первый, второй]", recovered.toString(), "testTornTail - оборванная запись отброшена");
+            assertEquals(intact, fileSize(log), "testTornTail - журнал усечен");
+            recovered.add("третий");
+        }
+        try (DurableContainer recovered = DurableContainer.open(directory, CodecRegistry.standard())) {
+            assertEquals("[первый, второй, третий]", recovered.toString(),
+                        "testTornTail - запись после усечения");
+        }
+
+        long beforeGarbage = fileSize(log);
+        writeAt(log, new byte[] {0, 0, 0, 5, 1, 2, 3, 4, 1, 7, 7, 7, 7}, beforeGarbage);
+        try (DurableContainer recovered = DurableContainer.open(directory, CodecRegistry.standard())) {
+            assertEquals(3, recovered.size(), "testTornTail - запись с неверной суммой отброшена");
+            assertEquals(beforeGarbage, fileSize(log), "testTornTail - мусор в конце удален");
+        }
+        deleteDirectory(directory);
+    }
+
+    public void testCorruptedHeader() {
+        Path directory = tempDirectory();
+        try (DurableContainer container = DurableContainer.open(directory, CodecRegistry.standard())) {
+            container.add("строка");
+        }
+        writeAt(directory.resolve("log-0.wal"), new byte[] {42}, 0);
+        assertThrows(() -> DurableContainer.open(directory, CodecRegistry.standard()),
+                    "неверная сигнатура", "testCorruptedHeader - поврежденная сигнатура");
+
+        truncate(directory.resolve("log-0.wal"), 5);
+        try (DurableContainer container = DurableContainer.open(directory, CodecRegistry.standard())) {
+            assertTrue(container.isEmpty(), "testCorruptedHeader - оборванный заголовок пересоздан");
+        }
+        deleteDirectory(directory);
+    }
+
+    public void testCompaction() {
+        Path directory = tempDirectory();
+        try (DurableContainer container = DurableContainer.open(directory, CodecRegistry.standard(), 64, 0)) {
+            container.setCompactionThreshold(4096);
+            for (int i = 0; i < 2000; i++) {
+                container.add("строка-" + i);
+                if (i % 3 == 0) {
+                    container.remove(0);
+                }
+            }
+            assertTrue(container.getGeneration() > 0, "testCompaction - журнал сжимался");
+            assertTrue(container.getLogBytes() < 4096, "testCompaction - журнал меньше порога");
+            long generation = container.getGeneration();
+            assertEquals(List.of("log-" + generation + ".wal", "snapshot-" + generation + ".ocs"),
+                        fileNames(directory), "testCompaction - файлы прошлых поколений удалены");
+
+            container.compact();
+            assertEquals(generation + 1, container.getGeneration(), "testCompaction - явное сжатие");
+            container.add(1.5);
+        }
+
+        try (DurableContainer reopened = DurableContainer.open(directory, CodecRegistry.standard())) {
+            assertEquals(1334, reopened.size(), "testCompaction - размер после восстановления");
+            assertEquals("строка-667", reopened.get(0), "testCompaction - первый элемент");
+            assertEquals(1.5, reopened.get(1333), "testCompaction - запись после снимка");
+            assertEquals(1L, reopened.getRecoveredRecords(), "testCompaction - журнал применен поверх снимка");
+        }
+
+        // сбой между записью снимка и созданием нового журнала
+        Path stale = directory.resolve("log-0.wal");
+        writeAt(stale, new byte[] {1, 2, 3}, 0);
+        try (DurableContainer reopened = DurableContainer.open(directory, CodecRegistry.standard())) {
+            assertEquals(1334, reopened.size(), "testCompaction - старое поколение игнорируется");
+        }
+        assertFalse(Files.exists(stale), "testCompaction - файл старого поколения удален при открытии");
+        deleteDirectory(directory);
+    }
+
+    public void testGroupCommit() {
+        Path directory = tempDirectory();
+        int threads = 8;
+        int perThread = 500;
+        try (DurableContainer container = DurableContainer.open(directory, CodecRegistry.standard())) {
+            List<Thread> workers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int base = t * perThread;
+                Thread worker = new Thread(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        container.add(base + i);
+                    }
+                });
+                workers.add(worker);
+                worker.start();
+            }
+            for (Thread worker : workers) {
+                join(worker);
+            }
+            assertEquals(threads * perThread, container.size(), "testGroupCommit - все изменения применены");
+            assertTrue(container.getSyncs() <= threads * perThread,
+                      "testGroupCommit - не больше одного fsync на изменение");
+        }
+
+        try (DurableContainer reopened = DurableContainer.open(directory, CodecRegistry.standard())) {
+            assertEquals(threads * perThread, reopened.size(), "testGroupCommit - все изменения восстановлены");
+            boolean[] seen = new boolean[threads * perThread];
+            for (Object element : reopened.toArray()) {
+                seen[(Integer) element] = true;
+            }
+            boolean all = true;
+            for (boolean value : seen) {
+                all &= value;
+            }
+            assertTrue(all, "testGroupCommit - каждый элемент ровно на месте");
+        }
+        deleteDirectory(directory);
+    }
+
+    public void testRegistryMismatch() {
+        Path directory = tempDirectory();
+        try (DurableContainer container = DurableContainer.open(directory, CodecRegistry.standard())) {
+            container.add("строка");
+        }
+        CodecRegistry swapped = new CodecRegistry()
+            .register(1, TypeCodecs.INTEGER);
+        assertThrows(() -> DurableContainer.open(directory, swapped),
+                    "обозначает java.lang.String", "testRegistryMismatch - другой тип под тегом");
+
+        try (DurableContainer container = DurableContainer.open(directory, CodecRegistry.standard())) {
+            container.compact();
+        }
+        assertThrows(() -> DurableContainer.open(directory, swapped),
+                    "обозначает java.lang.String", "testRegistryMismatch - другой тип в снимке");
+        deleteDirectory(directory);
+    }
+
+    public void testInvalidOperations() {
+        Path directory = tempDirectory();
+        DurableContainer container = DurableContainer.open(directory, CodecRegistry.standard());
+        container.add("строка");
+        assertThrows(() -> container.add(5, "x"), "Недопустимый индекс", "testInvalidOperations - вставка за пределы");
+        assertThrows(() -> container.remove(3), "Индекс за пределами", "testInvalidOperations - удаление за пределы");
+        assertThrows(() -> container.add(new StringBuilder("sb")), "Нет кодека",
+                    "testInvalidOperations - тип без кодека");
+        assertThrows(() -> container.setCompactionThreshold(8), "порог сжатия",
+                    "testInvalidOperations - слишком малый порог");
+        assertEquals(1, container.size(), "testInvalidOperations - контейнер не изменился");
+        container.close();
+        container.close();
+        assertThrows(() -> container.add("x"), "закрыт", "testInvalidOperations - добавление после close");
+
+        try (DurableContainer reopened = DurableContainer.open(directory, CodecRegistry.standard())) {
+            assertEquals(1L, reopened.getRecoveredRecords(), "testInvalidOperations - ошибки не попали в журнал");
+        }
+        assertThrows(() -> DurableContainer.open(directory, CodecRegistry.standard(), 0, 0),
+                    "Недопустимые параметры", "testInvalidOperations - syncEveryRecords = 0");
+        deleteDirectory(directory);
+    }
+
+    public void testFailingCodec() {
+        TypeCodec<Long> failing = new TypeCodec<Long>() {
+            @Override
+            public Class<Long> type() {
+                return Long.class;
+            }
+
+            @Override
+            public int encodedSize(Long value) {
+                return Long.BYTES;
+            }
+
+            @Override
+            public void write(ByteBuffer buffer, Long value) {
+                buffer.putShort((short) 0x7F7F);
+                throw new IllegalStateException("кодек не смог записать " + value);
+            }
+
+            @Override
+            public Long read(ByteBuffer buffer) {
+                return buffer.getLong();
+            }
+        };
+        CodecRegistry registry = CodecRegistry.standard().register(10, failing);
+        Path directory = tempDirectory();
+        DurableContainer crashed = DurableContainer.open(directory, registry);
+        crashed.add("до");
+        assertThrows(() -> crashed.add(1L), "кодек не смог записать", "testFailingCodec - ошибка кодека при add");
+        assertThrows(() -> crashed.add(0, 2L), "кодек не смог записать", "testFailingCodec - ошибка кодека при вставке");
+        assertEquals(1, crashed.size(), "testFailingCodec - контейнер не изменился");
+        crashed.add("после");
+        crashed.add(1, "вставка");
+
+        try (DurableContainer recovered = DurableContainer.open(directory, registry)) {
+            assertEquals("[до, вставка, после]", recovered.toString(),
+                        "testFailingCodec - подтвержденные изменения восстановлены");
+            assertEquals(3L, recovered.getRecoveredRecords(), "testFailingCodec - неудачные изменения не в журнале");
+        }
+        crashed.close();
+        deleteDirectory(directory);
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void join(Thread thread) {
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Runnable {
+        void run();
+    }
+}
@@ -0,0 +1,185 @@
+package com.container.io;
+
+import com.container.ObjectContainer;
+import com.container.codec.CodecRegistry;
+import com.container.exceptions.ContainerException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.zip.CRC32C;
+
+/**
+ * Снимок контейнера, отображенный в память, с декодированием элементов
+ * при первом обращении. Открытие читает только заголовок и таблицу тегов,
+ * поэтому не зависит от количества элементов (кроме проверки контрольной
+ * суммы, если она включена). Декодированные элементы запоминаются.
+ * <p>
+ * Создается через ContainerSnapshot.open. Не потокобезопасен.
+ * Отображение освобождается сборщиком мусора вместе с объектом снимка.
+ *
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+public final class MappedSnapshot {
+
+    /**
+     * Отметка еще не декодированного элемента
+     */
+    private static final Object NOT_DECODED = new Object();
+
+    private final Path file;
+    private final CodecRegistry registry;
+    private final int size;
+
+    /**
+     * Таблица смещений записей
+     */
+    private final ByteBuffer offsets;
+
+    /**
+     * Область данных; позиция используется для чтения очередной записи
+     */
+    private final ByteBuffer data;
+
+    /**
+     * Декодированные элементы, создается при первом обращении
+     */
+    private Object[] decoded;
+
+    /**
+     * Количество декодированных элементов
+     */
+    private int decodedCount;
+
+    /**
+     * Разбирает заголовок и таблицу тегов отображенного файла.
+     *
+     * @param file путь к файлу, для сообщений об ошибках
+     * @param buffer отображение всего файла
+     * @param registry кодеки типов элементов
+     * @param verifyChecksum проверять ли CRC32C
+     * @throws ContainerException если файл поврежден или не совпадает с реестром
+     */
+    MappedSnapshot(Path file, ByteBuffer buffer, CodecRegistry registry, boolean verifyChecksum) {
+        this.file = file;
+        this.registry = registry;
+        if (buffer.getInt(0) != ContainerSnapshot.MAGIC) {
+            throw ContainerSnapshot.corrupted(file, "неверная сигнатура");
+        }
+        short version = buffer.getShort(4);
+        if (version != ContainerSnapshot.VERSION) {
+            throw ContainerSnapshot.corrupted(file, "неподдерживаемая версия формата " + version);
+        }
+        this.size = buffer.getInt(8);
+        int tagTableBytes = buffer.getInt(12);
+        long dataBytes = buffer.getLong(16);
+        long checksum = buffer.getLong(24);
+
+        long offsetsStart = ContainerSnapshot.HEADER_BYTES + (long) tagTableBytes;
+        long dataStart = offsetsStart + (long) size * Integer.BYTES;
+        if (size < 0 || tagTableBytes < Short.BYTES || dataBytes < size
+                || dataStart + dataBytes != buffer.capacity()) {
+            throw ContainerSnapshot.corrupted(file, "размеры в заголовке не совпадают с длиной файла");
+        }
+        if (verifyChecksum) {
+            CRC32C crc = new CRC32C();
+            crc.update(slice(buffer, ContainerSnapshot.HEADER_BYTES, buffer.capacity()));
+            if (crc.getValue() != checksum) {
+                throw ContainerSnapshot.corrupted(file, "контрольная сумма не совпадает");
+            }
+        }
+        TagTable.verify(slice(buffer, ContainerSnapshot.HEADER_BYTES, (int) offsetsStart), registry, file);
+        this.offsets = slice(buffer, (int) offsetsStart, (int) dataStart);
+        this.data = slice(buffer, (int) dataStart, buffer.capacity());
+    }
+
+    /**
+     * Возвращает количество элементов снимка.
+     *
+     * @return количество элементов
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Возвращает элемент по индексу, декодируя его при первом обращении.
+     *
+     * @param index индекс элемента
+     * @return элемент
+     * @throws ContainerException если индекс недопустим или запись повреждена
+     */
+    public Object get(int index) {
+        if (index < 0 || index >= size) {
+            throw ContainerException.indexOutOfRange(index, size);
+        }
+        if (decoded == null) {
+            decoded = new Object[size];
+            Arrays.fill(decoded, NOT_DECODED);
+        }
+        Object element = decoded[index];
+        if (element == NOT_DECODED) {
+            element = decodeAt(offsets.getInt(index * Integer.BYTES));
+            decoded[index] = element;
+            decodedCount++;
+        }
+        return element;
+    }
+
+    /**
+     * Возвращает количество уже декодированных элементов.
+     *
+     * @return количество элементов, к которым обращались
+     */
+    public int decodedCount() {
+        return decodedCount;
+    }
+
+    /**
+     * Создает контейнер со всеми элементами снимка.
+     * Если к элементам еще не обращались, данные декодируются одним
+     * последовательным проходом без таблицы смещений.
+     *
+     * @return новый контейнер
+     * @throws ContainerException если запись повреждена
+     */
+    public ObjectContainer<Object> toContainer() {
+        ObjectContainer<Object> container = new ObjectContainer<>(Math.max(size, 1));
+        if (decodedCount == 0) {
+            data.position(0);
+            for (int i = 0; i < size; i++) {
+                container.add(decodeAt(data.position()));
+            }
+        } else {
+            for (int i = 0; i < size; i++) {
+                container.add(get(i));
+            }
+        }
+        return container;
+    }
+
+    /**
+     * Декодирует запись с указанного смещения области данных.
+     * После вызова позиция области данных стоит за концом записи.
+     *
+     * @param offset смещение записи
+     * @return элемент
+     * @throws ContainerException если запись повреждена
+     */
+    private Object decodeAt(int offset) {
+        try {
+            data.position(offset);
+            int tag = data.get() & 0xFF;
+            return registry.read(tag, data);
+        } catch (BufferUnderflowException | IllegalArgumentException | NegativeArraySizeException e) {
+            throw ContainerSnapshot.corrupted(file, "запись выходит за пределы данных");
+        }
+    }
+
+    private static ByteBuffer slice(ByteBuffer buffer, int from, int to) {
+        ByteBuffer view = buffer.duplicate();
+        view.position(from).limit(to);
+        return view.slice();
+    }
+}
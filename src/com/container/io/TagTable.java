@@ -0,0 +1,86 @@
+package com.container.io;
+
+import com.container.codec.CodecRegistry;
+import com.container.exceptions.ContainerException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+/**
+ * Таблица тегов типов в двоичных файлах контейнеров.
+ * Хранит для каждого встречающегося тега имя класса, который он обозначал
+ * при записи, чтобы при чтении сверить его с реестром кодеков.
+ * Формат: количество записей (2 байта), затем для каждой записи тег (1 байт),
+ * длина имени класса (2 байта) и имя в UTF-8.
+ *
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+final class TagTable {
+
+    private TagTable() {
+    }
+
+    /**
+     * Кодирует таблицу для отмеченных тегов.
+     *
+     * @param usedTags отметки встречающихся тегов, индекс - тег
+     * @param registry реестр кодеков
+     * @return байты таблицы
+     */
+    static byte[] encode(boolean[] usedTags, CodecRegistry registry) {
+        byte[][] names = new byte[usedTags.length][];
+        int count = 0;
+        int bytes = Short.BYTES;
+        for (int tag = CodecRegistry.NULL_TAG + 1; tag < usedTags.length; tag++) {
+            if (usedTags[tag]) {
+                names[tag] = registry.codec(tag).type().getName().getBytes(StandardCharsets.UTF_8);
+                bytes += 1 + Short.BYTES + names[tag].length;
+                count++;
+            }
+        }
+        ByteBuffer table = ByteBuffer.allocate(bytes);
+        table.putShort((short) count);
+        for (int tag = CodecRegistry.NULL_TAG + 1; tag < usedTags.length; tag++) {
+            if (names[tag] != null) {
+                table.put((byte) tag).putShort((short) names[tag].length).put(names[tag]);
+            }
+        }
+        return table.array();
+    }
+
+    /**
+     * Читает таблицу и сверяет ее с реестром.
+     *
+     * @param table буфер, позиция которого стоит на начале таблицы
+     * @param registry реестр кодеков
+     * @param file путь к файлу, для сообщений об ошибках
+     * @return отметки тегов, перечисленных в таблице
+     * @throws ContainerException если таблица повреждена, тег не зарегистрирован
+     *         или обозначает другой тип
+     */
+    static boolean[] verify(ByteBuffer table, CodecRegistry registry, Path file) {
+        boolean[] usedTags = new boolean[CodecRegistry.MAX_TAG + 1];
+        try {
+            int count = table.getShort() & 0xFFFF;
+            for (int i = 0; i < count; i++) {
+                int tag = table.get() & 0xFF;
+                byte[] name = new byte[table.getShort() & 0xFFFF];
+                table.get(name);
+                String typeName = new String(name, StandardCharsets.UTF_8);
+                String registered = registry.codec(tag).type().getName();
+                if (!registered.equals(typeName)) {
+                    throw new ContainerException(
+                        "Тег " + tag + " в файле " + file + " обозначает " + typeName
+                            + ", а в реестре - " + registered
+                    );
+                }
+                usedTags[tag] = true;
+            }
+        } catch (BufferUnderflowException e) {
+            throw new ContainerException("Поврежденный файл " + file + ": таблица тегов выходит за пределы");
+        }
+        return usedTags;
+    }
+}
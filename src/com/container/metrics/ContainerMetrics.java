@@ -0,0 +1,47 @@
+package com.container.metrics;
+
+/**
+ * Приемник событий контейнера для сбора метрик.
+ * Подключается к ObjectContainer через setMetrics; пока приемник не задан,
+ * контейнер не вызывает никаких методов и не выделяет память под события.
+ * Методы вызываются синхронно из изменяющей операции, поэтому реализация
+ * должна быть быстрой и не обращаться к контейнеру.
+ *
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+public interface ContainerMetrics {
+
+    /**
+     * Вызывается после добавления элементов.
+     *
+     * @param count количество добавленных элементов
+     * @param shifted количество элементов, сдвинутых вправо для освобождения места
+     */
+    void inserted(int count, int shifted);
+
+    /**
+     * Вызывается после удаления элементов.
+     *
+     * @param count количество удаленных элементов
+     * @param shifted количество элементов, сдвинутых влево на место удаленных
+     */
+    void removed(int count, int shifted);
+
+    /**
+     * Вызывается после замены внутреннего массива массивом другой емкости.
+     *
+     * @param oldCapacity прежняя емкость
+     * @param newCapacity новая емкость
+     * @param copied количество скопированных элементов
+     */
+    void resized(int oldCapacity, int newCapacity, int copied);
+
+    /**
+     * Вызывается после линейного поиска элемента.
+     *
+     * @param length количество просмотренных элементов
+     * @param found true если элемент найден
+     */
+    void scanned(int length, boolean found);
+}
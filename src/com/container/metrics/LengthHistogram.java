@@ -0,0 +1,125 @@
+package com.container.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Потокобезопасная гистограмма длин с корзинами по степеням двойки.
+ * Корзина 0 считает нулевые длины, корзина k (k &gt;= 1) - длины
+ * в диапазоне [2^(k-1), 2^k). Запись значения выполняется за O(1) без блокировок.
+ *
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+public final class LengthHistogram {
+
+    /**
+     * Количество корзин: ноль и по одной на каждый бит длины типа int
+     */
+    public static final int BUCKETS = Integer.SIZE + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder sum = new LongAdder();
+
+    /**
+     * Учитывает значение.
+     *
+     * @param length неотрицательная длина
+     */
+    public void record(int length) {
+        counts.incrementAndGet(bucket(length));
+        sum.add(length);
+    }
+
+    /**
+     * Возвращает количество учтенных значений.
+     *
+     * @return количество значений
+     */
+    public long count() {
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            total += counts.get(i);
+        }
+        return total;
+    }
+
+    /**
+     * Возвращает сумму учтенных значений.
+     *
+     * @return сумма значений
+     */
+    public long sum() {
+        return sum.sum();
+    }
+
+    /**
+     * Возвращает копию счетчиков по корзинам.
+     *
+     * @return массив длиной BUCKETS
+     */
+    public long[] buckets() {
+        long[] snapshot = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = counts.get(i);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Оценивает перцентиль сверху: возвращает верхнюю границу корзины,
+     * в которую попадает перцентиль.
+     *
+     * @param percentile перцентиль в диапазоне 0 - 100
+     * @return верхняя граница длины или 0, если значений нет
+     */
+    public long percentile(double percentile) {
+        long[] snapshot = buckets();
+        long total = 0;
+        for (long bucketCount : snapshot) {
+            total += bucketCount;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(total * Math.min(Math.max(percentile, 0), 100) / 100);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += snapshot[i];
+            if (seen >= Math.max(rank, 1)) {
+                return upperBound(i);
+            }
+        }
+        return upperBound(BUCKETS - 1);
+    }
+
+    /**
+     * Обнуляет гистограмму.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0);
+        }
+        sum.reset();
+    }
+
+    /**
+     * Возвращает номер корзины для длины.
+     *
+     * @param length неотрицательная длина
+     * @return номер корзины
+     */
+    static int bucket(int length) {
+        return Integer.SIZE - Integer.numberOfLeadingZeros(length);
+    }
+
+    /**
+     * Возвращает наибольшую длину, попадающую в корзину.
+     *
+     * @param bucket номер корзины
+     * @return верхняя граница включительно
+     */
+    static long upperBound(int bucket) {
+        return bucket == 0 ? 0 : (1L << bucket) - 1;
+    }
+}
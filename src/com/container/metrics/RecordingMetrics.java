@@ -0,0 +1,292 @@
+package com.container.metrics;
+
+import com.container.exceptions.ContainerException;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Реализация ContainerMetrics, которая накапливает счетчики и гистограммы,
+ * публикует их через JMX и записывает события JFR о заменах массива
+ * (com.container.Resize) и поисках (com.container.Scan, по умолчанию выключено).
+ * <p>
+ * Счетчики основаны на LongAdder, поэтому один экземпляр можно подключить
+ * к нескольким контейнерам, в том числе используемым из разных потоков.
+ *
+ * <pre>
+ * RecordingMetrics metrics = new RecordingMetrics("orders");
+ * metrics.registerMBean();
+ * container.setMetrics(metrics);
+ * </pre>
+ *
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+public class RecordingMetrics implements ContainerMetrics, RecordingMetricsMBean {
+
+    /**
+     * Домен имен JMX
+     */
+    public static final String JMX_DOMAIN = "com.container";
+
+    private final String name;
+
+    private final LongAdder insertOperations = new LongAdder();
+    private final LongAdder insertedElements = new LongAdder();
+    private final LongAdder removeOperations = new LongAdder();
+    private final LongAdder removedElements = new LongAdder();
+    private final LongAdder copiedElements = new LongAdder();
+    private final LongAdder growEvents = new LongAdder();
+    private final LongAdder shrinkEvents = new LongAdder();
+    private final LongAdder scanMisses = new LongAdder();
+    private final LengthHistogram shiftLengths = new LengthHistogram();
+    private final LengthHistogram scanLengths = new LengthHistogram();
+
+    private volatile int lastOldCapacity;
+    private volatile int lastNewCapacity;
+
+    /**
+     * Имя зарегистрированного MBean или null
+     */
+    private ObjectName objectName;
+
+    /**
+     * Создает приемник метрик.
+     *
+     * @param name имя для JMX и событий JFR, например назначение контейнера
+     * @throws ContainerException если name равно null
+     */
+    public RecordingMetrics(String name) {
+        if (name == null) {
+            throw new ContainerException("Имя метрик не может быть null");
+        }
+        this.name = name;
+    }
+
+    /**
+     * Возвращает имя приемника метрик.
+     *
+     * @return имя
+     */
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public void inserted(int count, int shifted) {
+        insertOperations.increment();
+        insertedElements.add(count);
+        recordShift(shifted);
+    }
+
+    @Override
+    public void removed(int count, int shifted) {
+        removeOperations.increment();
+        removedElements.add(count);
+        recordShift(shifted);
+    }
+
+    @Override
+    public void resized(int oldCapacity, int newCapacity, int copied) {
+        if (newCapacity > oldCapacity) {
+            growEvents.increment();
+        } else {
+            shrinkEvents.increment();
+        }
+        copiedElements.add(copied);
+        lastOldCapacity = oldCapacity;
+        lastNewCapacity = newCapacity;
+
+        ResizeEvent event = new ResizeEvent();
+        if (event.shouldCommit()) {
+            event.container = name;
+            event.oldCapacity = oldCapacity;
+            event.newCapacity = newCapacity;
+            event.copied = copied;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void scanned(int length, boolean found) {
+        scanLengths.record(length);
+        if (!found) {
+            scanMisses.increment();
+        }
+
+        ScanEvent event = new ScanEvent();
+        if (event.shouldCommit()) {
+            event.container = name;
+            event.length = length;
+            event.found = found;
+            event.commit();
+        }
+    }
+
+    /**
+     * Регистрирует приемник в платформенном MBeanServer под именем
+     * com.container:type=ContainerMetrics,name=&lt;имя&gt;.
+     *
+     * @return имя зарегистрированного MBean
+     * @throws ContainerException если MBean с таким именем уже зарегистрирован
+     */
+    public synchronized ObjectName registerMBean() {
+        if (objectName == null) {
+            try {
+                ObjectName candidate = new ObjectName(
+                    JMX_DOMAIN + ":type=ContainerMetrics,name=" + ObjectName.quote(name)
+                );
+                ManagementFactory.getPlatformMBeanServer().registerMBean(this, candidate);
+                objectName = candidate;
+            } catch (JMException e) {
+                throw new ContainerException("Не удалось зарегистрировать метрики " + name + " в JMX", e);
+            }
+        }
+        return objectName;
+    }
+
+    /**
+     * Снимает регистрацию MBean, если она была.
+     */
+    public synchronized void unregisterMBean() {
+        if (objectName != null) {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            try {
+                if (server.isRegistered(objectName)) {
+                    server.unregisterMBean(objectName);
+                }
+            } catch (JMException e) {
+                throw new ContainerException("Не удалось снять регистрацию метрик " + name + " в JMX", e);
+            }
+            objectName = null;
+        }
+    }
+
+    @Override
+    public long getInsertOperations() {
+        return insertOperations.sum();
+    }
+
+    @Override
+    public long getInsertedElements() {
+        return insertedElements.sum();
+    }
+
+    @Override
+    public long getRemoveOperations() {
+        return removeOperations.sum();
+    }
+
+    @Override
+    public long getRemovedElements() {
+        return removedElements.sum();
+    }
+
+    @Override
+    public long getShiftedElements() {
+        return shiftLengths.sum();
+    }
+
+    @Override
+    public long getCopiedElements() {
+        return copiedElements.sum() + shiftLengths.sum();
+    }
+
+    @Override
+    public long getGrowEvents() {
+        return growEvents.sum();
+    }
+
+    @Override
+    public long getShrinkEvents() {
+        return shrinkEvents.sum();
+    }
+
+    @Override
+    public int getLastOldCapacity() {
+        return lastOldCapacity;
+    }
+
+    @Override
+    public int getLastNewCapacity() {
+        return lastNewCapacity;
+    }
+
+    @Override
+    public long getScans() {
+        return scanLengths.count();
+    }
+
+    @Override
+    public long getScanMisses() {
+        return scanMisses.sum();
+    }
+
+    @Override
+    public long getScannedElements() {
+        return scanLengths.sum();
+    }
+
+    @Override
+    public long getScanLengthP50() {
+        return scanLengths.percentile(50);
+    }
+
+    @Override
+    public long getScanLengthP99() {
+        return scanLengths.percentile(99);
+    }
+
+    @Override
+    public long[] getScanLengthHistogram() {
+        return scanLengths.buckets();
+    }
+
+    @Override
+    public long[] getShiftLengthHistogram() {
+        return shiftLengths.buckets();
+    }
+
+    /**
+     * Возвращает гистограмму длин поиска.
+     *
+     * @return гистограмма
+     */
+    public LengthHistogram scanLengths() {
+        return scanLengths;
+    }
+
+    /**
+     * Возвращает гистограмму длин сдвига при вставках и удалениях.
+     * Учитываются только операции, которые сдвигали элементы.
+     *
+     * @return гистограмма
+     */
+    public LengthHistogram shiftLengths() {
+        return shiftLengths;
+    }
+
+    @Override
+    public void reset() {
+        insertOperations.reset();
+        insertedElements.reset();
+        removeOperations.reset();
+        removedElements.reset();
+        copiedElements.reset();
+        growEvents.reset();
+        shrinkEvents.reset();
+        scanMisses.reset();
+        shiftLengths.reset();
+        scanLengths.reset();
+        lastOldCapacity = 0;
+        lastNewCapacity = 0;
+    }
+
+    private void recordShift(int shifted) {
+        if (shifted > 0) {
+            shiftLengths.record(shifted);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.container.metrics;
+
+/**
+ * Интерфейс управления RecordingMetrics для JMX.
+ * Гистограммы экспортируются как массивы счетчиков по корзинам
+ * (см. LengthHistogram) и как оценки перцентилей.
+ *
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+public interface RecordingMetricsMBean {
+
+    /**
+     * @return количество операций добавления
+     */
+    long getInsertOperations();
+
+    /**
+     * @return количество добавленных элементов
+     */
+    long getInsertedElements();
+
+    /**
+     * @return количество операций удаления
+     */
+    long getRemoveOperations();
+
+    /**
+     * @return количество удаленных элементов
+     */
+    long getRemovedElements();
+
+    /**
+     * @return количество элементов, сдвинутых вставками и удалениями
+     */
+    long getShiftedElements();
+
+    /**
+     * @return количество элементов, скопированных сдвигами и заменами массива
+     */
+    long getCopiedElements();
+
+    /**
+     * @return количество увеличений внутреннего массива
+     */
+    long getGrowEvents();
+
+    /**
+     * @return количество уменьшений внутреннего массива
+     */
+    long getShrinkEvents();
+
+    /**
+     * @return емкость до последней замены массива или 0
+     */
+    int getLastOldCapacity();
+
+    /**
+     * @return емкость после последней замены массива или 0
+     */
+    int getLastNewCapacity();
+
+    /**
+     * @return количество линейных поисков
+     */
+    long getScans();
+
+    /**
+     * @return количество поисков, не нашедших элемент
+     */
+    long getScanMisses();
+
+    /**
+     * @return общее количество просмотренных при поиске элементов
+     */
+    long getScannedElements();
+
+    /**
+     * @return оценка 50-го перцентиля длины поиска
+     */
+    long getScanLengthP50();
+
+    /**
+     * @return оценка 99-го перцентиля длины поиска
+     */
+    long getScanLengthP99();
+
+    /**
+     * @return счетчики длин поиска по корзинам
+     */
+    long[] getScanLengthHistogram();
+
+    /**
+     * @return счетчики длин сдвига по корзинам
+     */
+    long[] getShiftLengthHistogram();
+
+    /**
+     * Обнуляет все счетчики.
+     */
+    void reset();
+}
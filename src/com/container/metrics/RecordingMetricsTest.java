@@ -0,0 +1,209 @@
+package com.container.metrics;
+
+import com.container.ObjectContainer;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Тесты для метрик контейнера без использования JUnit
+ *
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+public class RecordingMetricsTest {
+
+    private int testCount = 0;
+    private int passedTests = 0;
+    private List<String> failedTests = new ArrayList<>();
+
+    /**
+     * Запуск всех тестов
+     */
+    public static void main(String[] args) {
+        RecordingMetricsTest tester = new RecordingMetricsTest();
+        tester.runAllTests();
+    }
+
+    /**
+     * Запускает все тесты и выводит результаты
+     */
+    public void runAllTests() {
+        System.out.println("=== Запуск тестов RecordingMetrics ===\n");
+
+        testHistogram();
+        testReset();
+        testMBean();
+        testFlightRecorderEvents();
+
+        System.out.println("\n=== Результаты тестов ===");
+        System.out.println("Пройдено: " + passedTests + " из " + testCount + " тестов");
+
+        if (passedTests == testCount) {
+            System.out.println(" Все тесты прошли успешно!");
+        } else {
+            System.out.println(" Не все тесты прошли");
+            System.out.println("\n=== Проваленные тесты ===");
+            for (String failedTest : failedTests) {
+                System.out.println(" " + failedTest);
+            }
+        }
+    }
+
+    private void assertTrue(boolean condition, String message) {
+        testCount++;
+        if (condition) {
+            passedTests++;
+            System.out.println("прошли " + message);
+        } else {
+            failedTests.add(message);
+            System.out.println("не прошли " + message);
+        }
+    }
+
+    private void assertFalse(boolean condition, String message) {
+        assertTrue(!condition, message);
+    }
+
+    private void assertEquals(Object expected, Object actual, String message) {
+        testCount++;
+        boolean isEqual = (expected == null) ? actual == null : expected.equals(actual);
+        if (isEqual) {
+            passedTests++;
+            System.out.println("прошли " + message);
+        } else {
+            failedTests.add(message + " (ожидалось: " + expected + ", получено: " + actual + ")");
+            System.out.println("не прошли " + message + " (ожидалось: " + expected + ", получено: " + actual + ")");
+        }
+    }
+
+    private void assertThrows(Runnable code, String expectedMessage, String testName) {
+        testCount++;
+        try {
+            code.run();
+            failedTests.add(testName + " (ожидалось исключение)");
+            System.out.println("не прошли " + testName + " (ожидалось исключение)");
+        } catch (Exception e) {
+            if (e.getMessage().contains(expectedMessage)) {
+                passedTests++;
+                System.out.println("прошли " + testName);
+            } else {
+                failedTests.add(testName + " (неверное сообщение исключения: " + e.getMessage() + ")");
+                System.out.println("не прошли " + testName + " (неверное сообщение исключения: " + e.getMessage() + ")");
+            }
+        }
+    }
+
+    public void testHistogram() {
+        LengthHistogram histogram = new LengthHistogram();
+        histogram.record(0);
+        histogram.record(1);
+        histogram.record(5);
+        histogram.record(7);
+        histogram.record(1000);
+
+        long[] buckets = histogram.buckets();
+        assertEquals(1L, buckets[0], "testHistogram - корзина нуля");
+        assertEquals(1L, buckets[1], "testHistogram - корзина [1, 2)");
+        assertEquals(2L, buckets[3], "testHistogram - корзина [4, 8)");
+        assertEquals(1L, buckets[10], "testHistogram - корзина [512, 1024)");
+        assertEquals(5L, histogram.count(), "testHistogram - количество");
+        assertEquals(1013L, histogram.sum(), "testHistogram - сумма");
+        assertEquals(7L, histogram.percentile(50), "testHistogram - медиана");
+        assertEquals(1023L, histogram.percentile(99), "testHistogram - 99-й перцентиль");
+        assertEquals(0L, new LengthHistogram().percentile(50), "testHistogram - пустая гистограмма");
+    }
+
+    public void testReset() {
+        RecordingMetrics metrics = new RecordingMetrics("testReset");
+        metrics.inserted(3, 2);
+        metrics.resized(10, 15, 10);
+        metrics.scanned(4, false);
+        metrics.reset();
+
+        assertEquals(0L, metrics.getInsertedElements(), "testReset - добавленные элементы");
+        assertEquals(0L, metrics.getCopiedElements(), "testReset - скопированные элементы");
+        assertEquals(0L, metrics.getScans(), "testReset - поиски");
+        assertEquals(0, metrics.getLastNewCapacity(), "testReset - емкость");
+    }
+
+    public void testMBean() {
+        RecordingMetrics metrics = new RecordingMetrics("testMBean");
+        ObjectName name = metrics.registerMBean();
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectContainer<Object> container = new ObjectContainer<>();
+            container.setMetrics(metrics);
+            container.add("а");
+            container.add(0, "б");
+
+            assertEquals("com.container", name.getDomain(), "testMBean - домен");
+            assertEquals(2L, server.getAttribute(name, "InsertOperations"), "testMBean - атрибут InsertOperations");
+            assertEquals(1L, server.getAttribute(name, "ShiftedElements"), "testMBean - атрибут ShiftedElements");
+            assertTrue(server.getAttribute(name, "ScanLengthHistogram") instanceof long[], "testMBean - гистограмма");
+            server.invoke(name, "reset", null, null);
+            assertEquals(0L, metrics.getInsertOperations(), "testMBean - операция reset");
+            assertTrue(metrics.registerMBean().equals(name), "testMBean - повторная регистрация");
+        } catch (JMException e) {
+            assertTrue(false, "testMBean - ошибка JMX: " + e);
+        } finally {
+            metrics.unregisterMBean();
+        }
+        assertFalse(server.isRegistered(name), "testMBean - регистрация снята");
+    }
+
+    public void testFlightRecorderEvents() {
+        RecordingMetrics metrics = new RecordingMetrics("testFlightRecorderEvents");
+        ObjectContainer<Object> container = new ObjectContainer<>(2);
+        container.setMetrics(metrics);
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable("com.container.Resize");
+            recording.enable("com.container.Scan");
+            recording.start();
+            for (int i = 0; i < 5; i++) {
+                container.add(i);
+            }
+            container.findIndex(4);
+            recording.stop();
+            Path dump = Files.createTempFile("metrics", ".jfr");
+            try {
+                recording.dump(dump);
+                events = RecordingFile.readAllEvents(dump);
+            } finally {
+                Files.deleteIfExists(dump);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        int resizes = 0;
+        int scans = 0;
+        for (RecordedEvent event : events) {
+            if (event.getEventType().getName().equals("com.container.Resize")
+                    && "testFlightRecorderEvents".equals(event.getString("container"))) {
+                resizes++;
+            } else if (event.getEventType().getName().equals("com.container.Scan")) {
+                scans++;
+                assertEquals(5, event.getInt("length"), "testFlightRecorderEvents - длина поиска");
+            }
+        }
+        assertEquals(3, resizes, "testFlightRecorderEvents - события расширения");
+        assertEquals(1, scans, "testFlightRecorderEvents - событие поиска");
+    }
+
+    @FunctionalInterface
+    private interface Runnable {
+        void run();
+    }
+}
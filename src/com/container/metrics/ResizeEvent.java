@@ -0,0 +1,34 @@
+package com.container.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Событие JFR о замене внутреннего массива контейнера.
+ * Записывается RecordingMetrics, если событие включено в записи JFR.
+ *
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+@Name("com.container.Resize")
+@Label("Container Resize")
+@Category("Object Container")
+@Description("Замена внутреннего массива ObjectContainer массивом другой емкости")
+@StackTrace(true)
+final class ResizeEvent extends jdk.jfr.Event {
+
+    @Label("Container")
+    String container;
+
+    @Label("Old Capacity")
+    int oldCapacity;
+
+    @Label("New Capacity")
+    int newCapacity;
+
+    @Label("Copied Elements")
+    int copied;
+}
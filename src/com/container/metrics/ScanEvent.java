@@ -0,0 +1,34 @@
+package com.container.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Событие JFR о линейном поиске в контейнере.
+ * Поиск выполняется часто, поэтому событие по умолчанию выключено
+ * и включается в настройках записи JFR.
+ *
+ * @author Bilovus Olga
+ * @version 1.0
+ */
+@Name("com.container.Scan")
+@Label("Container Scan")
+@Category("Object Container")
+@Description("Линейный поиск элемента в ObjectContainer")
+@Enabled(false)
+@StackTrace(false)
+final class ScanEvent extends jdk.jfr.Event {
+
+    @Label("Container")
+    String container;
+
+    @Label("Scanned Elements")
+    int length;
+
+    @Label("Found")
+    boolean found;
+}